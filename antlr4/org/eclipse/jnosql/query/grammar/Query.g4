@@ -1,19 +1,23 @@
 grammar Query;
 
-select: 'select' fields 'from' entity where? skip? limit? order? EOF;
+select: 'select' fields 'from' entity where? group? skip? limit? order? EOF;
 delete: 'delete' deleteFields? 'from' entity where? EOF;
 insert: 'insert' entity (conditions | json) ttl? EOF;
-update: 'update' entity (conditions | json) EOF;
+update: 'update' entity (conditions | json | set where?) EOF;
 get: 'get' keys EOF;
 del: 'del' keys EOF;
 put: 'put' '{' key ',' value (',' ttl)?  '}' EOF;
 
-fields: star | name (',' name)*;
+fields: star | field (',' field)*;
+field: aggregate | name;
+aggregate: aggregate_function (star | name) ')';
+aggregate_function: 'count(' | 'sum(' | 'avg(' | 'min(' | 'max(';
 deleteFields: name (',' name)*;
 conditions: '(' changes ')';
 star: '*';
 skip: 'skip' INT;
 limit: 'limit' INT;
+group: 'group' 'by' name (',' name)*;
 order: 'order' 'by' orderName (orderName)*;
 orderName: name | name asc | name desc;
 where: 'where' condition (and condition| or condition)* ;
@@ -35,6 +39,10 @@ ttl: INT unit;
 unit: 'day' | 'hour' | 'minute' | 'second' | 'millisecond' | 'nanosecond';
 changes: change (',' change)*;
 change: name '=' value;
+set: 'set' assignment (',' assignment)*;
+assignment: change | increment | unset;
+increment: name '+=' value;
+unset: 'unset' name;
 key: value;
 keys: value (','value)*;
 value: ( number | string | bool | array | function | parameter | json);
@@ -17,11 +17,14 @@
 module org.eclipse.jnosql.communication.core {
     requires microprofile.config.api;
     requires jakarta.json;
+    requires java.management;
     exports org.eclipse.jnosql.communication;
+    exports org.eclipse.jnosql.communication.metrics;
     opens org.eclipse.jnosql.communication;
     opens org.eclipse.jnosql.communication.reader;
     opens org.eclipse.jnosql.communication.writer;
     uses org.eclipse.jnosql.communication.TypeReferenceReader;
+    uses org.eclipse.jnosql.communication.metrics.MetricsRecorder;
     uses org.eclipse.jnosql.communication.ValueReader;
     uses org.eclipse.jnosql.communication.ValueWriter;
     provides org.eclipse.jnosql.communication.TypeReferenceReader with org.eclipse.jnosql.communication.reader.ListTypeReferenceReader,
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Represents an aggregate of a query, an {@link AggregateFunction} applied to an element, such as {@code sum(price)}.
+ * The {@link AggregateFunction#COUNT} is the only one that does not require an element name, it represents
+ * {@code count(*)}.
+ *
+ * @param function the aggregate function
+ * @param name     the element name, or {@code null} to count the entities
+ */
+public record Aggregate(AggregateFunction function, String name) {
+
+    /**
+     * Validates the aggregate.
+     *
+     * @throws NullPointerException     when the function is null
+     * @throws IllegalArgumentException when the name is null and the function is not {@link AggregateFunction#COUNT}
+     */
+    public Aggregate {
+        Objects.requireNonNull(function, "function is required");
+        if (name == null && function != AggregateFunction.COUNT) {
+            throw new IllegalArgumentException("The name is required to the aggregate function " + function);
+        }
+        name = name == null ? null : NameDictionary.lookup(name);
+    }
+
+    /**
+     * Returns the name of the aggregate at the result, the function in lower case followed by the element name
+     * within parentheses, e.g.: {@code sum(price)} and {@code count(*)}.
+     *
+     * @return the result name
+     */
+    public String alias() {
+        return function.name().toLowerCase(Locale.US) + '(' + (name == null ? "*" : name) + ')';
+    }
+
+    /**
+     * Creates an aggregate that counts the entities.
+     *
+     * @return the aggregate
+     */
+    public static Aggregate count() {
+        return new Aggregate(AggregateFunction.COUNT, null);
+    }
+
+    /**
+     * Creates an aggregate that counts the non-null values of the element.
+     *
+     * @param name the element name
+     * @return the aggregate
+     * @throws NullPointerException when the name is null
+     */
+    public static Aggregate count(String name) {
+        return new Aggregate(AggregateFunction.COUNT, Objects.requireNonNull(name, "name is required"));
+    }
+
+    /**
+     * Creates an aggregate that sums the values of the element.
+     *
+     * @param name the element name
+     * @return the aggregate
+     * @throws NullPointerException when the name is null
+     */
+    public static Aggregate sum(String name) {
+        return new Aggregate(AggregateFunction.SUM, Objects.requireNonNull(name, "name is required"));
+    }
+
+    /**
+     * Creates an aggregate with the average of the values of the element.
+     *
+     * @param name the element name
+     * @return the aggregate
+     * @throws NullPointerException when the name is null
+     */
+    public static Aggregate avg(String name) {
+        return new Aggregate(AggregateFunction.AVG, Objects.requireNonNull(name, "name is required"));
+    }
+
+    /**
+     * Creates an aggregate with the lowest value of the element.
+     *
+     * @param name the element name
+     * @return the aggregate
+     * @throws NullPointerException when the name is null
+     */
+    public static Aggregate min(String name) {
+        return new Aggregate(AggregateFunction.MIN, Objects.requireNonNull(name, "name is required"));
+    }
+
+    /**
+     * Creates an aggregate with the highest value of the element.
+     *
+     * @param name the element name
+     * @return the aggregate
+     * @throws NullPointerException when the name is null
+     */
+    public static Aggregate max(String name) {
+        return new Aggregate(AggregateFunction.MAX, Objects.requireNonNull(name, "name is required"));
+    }
+}
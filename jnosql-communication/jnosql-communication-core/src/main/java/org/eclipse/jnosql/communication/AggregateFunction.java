@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+/**
+ * Represents the functions that summarize the values of an element over a group of entities.
+ * The null values are ignored by every function, except {@link AggregateFunction#COUNT} without an element name,
+ * which counts the entities.
+ *
+ * @see Aggregate
+ */
+public enum AggregateFunction {
+    /**
+     * Represents the number of entities, or of non-null values when there is an element name.
+     */
+    COUNT,
+    /**
+     * Represents the sum of the numeric values.
+     */
+    SUM,
+    /**
+     * Represents the arithmetic mean of the numeric values.
+     */
+    AVG,
+    /**
+     * Represents the lowest value.
+     */
+    MIN,
+    /**
+     * Represents the highest value.
+     */
+    MAX
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+/**
+ * A {@link Value} that keeps a {@code boolean} unboxed; there are only the {@link #TRUE} and {@link #FALSE} instances.
+ */
+final class BooleanValue extends PrimitiveValue {
+
+    static final BooleanValue TRUE = new BooleanValue(true);
+
+    static final BooleanValue FALSE = new BooleanValue(false);
+
+    private final boolean value;
+
+    private BooleanValue(boolean value) {
+        this.value = value;
+    }
+
+    static BooleanValue of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    @Override
+    public Object get() {
+        return value;
+    }
+
+    @Override
+    public boolean getBoolean() {
+        return value;
+    }
+
+    @Override
+    Object read(Class<?> type) {
+        if (type == Boolean.class || type == boolean.class || type == Object.class) {
+            return value;
+        } else if (type == String.class || type == CharSequence.class) {
+            return Boolean.toString(value);
+        }
+        return null;
+    }
+
+    @Override
+    Class<?> type() {
+        return Boolean.class;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+/**
+ * A {@link Value} that keeps an {@code int} unboxed.
+ */
+final class IntValue extends PrimitiveValue {
+
+    private final int value;
+
+    IntValue(int value) {
+        this.value = value;
+    }
+
+    @Override
+    public Object get() {
+        return value;
+    }
+
+    @Override
+    public long getLong() {
+        return value;
+    }
+
+    @Override
+    public int getInt() {
+        return value;
+    }
+
+    @Override
+    public double getDouble() {
+        return value;
+    }
+
+    @Override
+    public boolean getBoolean() {
+        return value != 0;
+    }
+
+    @Override
+    Object read(Class<?> type) {
+        if (type == Integer.class || type == int.class || type == Object.class || type == Number.class) {
+            return value;
+        } else if (type == Long.class || type == long.class) {
+            return (long) value;
+        } else if (type == Double.class || type == double.class) {
+            return (double) value;
+        } else if (type == String.class || type == CharSequence.class) {
+            return Integer.toString(value);
+        }
+        return null;
+    }
+
+    @Override
+    Class<?> type() {
+        return Integer.class;
+    }
+}
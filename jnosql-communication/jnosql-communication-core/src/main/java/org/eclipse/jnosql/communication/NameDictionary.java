@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A global dictionary of the entity and element names, so every entity, element, query and mapping that refers to
+ * the same name shares a single {@link String} instance, and comparing two names usually stops at the identity
+ * check of {@link String#equals(Object)}.
+ * Only the mapping registers names, with {@link #intern(String)}, when it builds the entity and field metadata; the
+ * entities, elements and queries use {@link #lookup(String)}, which never inserts, so documents with arbitrary keys
+ * cannot grow the dictionary. It is also bounded by {@link #MAX_SIZE}; once it is full, the new names are returned as
+ * they are.
+ */
+public final class NameDictionary {
+
+    /**
+     * The maximum number of names the dictionary keeps.
+     */
+    public static final int MAX_SIZE = 16_384;
+
+    private static final ConcurrentHashMap<String, String> NAMES = new ConcurrentHashMap<>();
+
+    private NameDictionary() {
+    }
+
+    /**
+     * Returns the canonical instance of the name, registering it when it is new and the dictionary is not full.
+     *
+     * @param name the name
+     * @return the canonical instance or the name itself when the dictionary is full
+     * @throws NullPointerException when name is null
+     */
+    public static String intern(String name) {
+        Objects.requireNonNull(name, "name is required");
+        String current = NAMES.get(name);
+        if (current != null) {
+            return current;
+        }
+        if (NAMES.size() >= MAX_SIZE) {
+            return name;
+        }
+        current = NAMES.putIfAbsent(name, name);
+        return current == null ? name : current;
+    }
+
+    /**
+     * Returns the canonical instance of the name when it is registered, without registering it.
+     *
+     * @param name the name
+     * @return the canonical instance or the name itself when it is not registered
+     * @throws NullPointerException when name is null
+     */
+    public static String lookup(String name) {
+        Objects.requireNonNull(name, "name is required");
+        return NAMES.getOrDefault(name, name);
+    }
+
+    /**
+     * @return the number of names at the dictionary
+     */
+    public static int size() {
+        return NAMES.size();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Objects;
+
+/**
+ * The base of the {@link Value} implementations specialized to a single type, such as {@link LongValue}.
+ * They keep the value unboxed and convert it to the matching and widening types without going through the
+ * {@link ValueReader} providers; any other type falls back to them.
+ */
+abstract class PrimitiveValue implements Value {
+
+    private static final ValueReader SERVICE_PROVIDER = ValueReaderDecorator.getInstance();
+
+    private static final TypeReferenceReader REFERENCE_READER = TypeReferenceReaderDecorator.getInstance();
+
+    /**
+     * Converts the value to the type without the {@link ValueReader} providers.
+     *
+     * @param type the type
+     * @return the converted value or {@code null} when the type requires the providers
+     */
+    abstract Object read(Class<?> type);
+
+    /**
+     * @return the wrapper type of the value
+     */
+    abstract Class<?> type();
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        Object value = read(type);
+        if (value != null) {
+            return (T) value;
+        }
+        return SERVICE_PROVIDER.read(type, get());
+    }
+
+    @Override
+    public <T> T get(TypeSupplier<T> supplier) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        if (REFERENCE_READER.test(supplier)) {
+            return REFERENCE_READER.convert(supplier, get());
+        }
+        throw new UnsupportedOperationException("The type " + supplier + " is not supported");
+    }
+
+    @Override
+    public boolean isInstanceOf(Class<?> typeClass) {
+        Objects.requireNonNull(typeClass, "typeClass is required");
+        return typeClass.isAssignableFrom(type());
+    }
+
+    @Override
+    public boolean isNull() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Value that)) {
+            return false;
+        }
+        return Objects.equals(get(), that.get());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(get());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[value=" + get() + ']';
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+/**
+ * A {@link Value} specialized to {@link String}, it parses the numbers and booleans without the {@link ValueReader}
+ * providers.
+ */
+final class StringValue extends PrimitiveValue {
+
+    private final String value;
+
+    StringValue(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public Object get() {
+        return value;
+    }
+
+    @Override
+    public long getLong() {
+        return Long.parseLong(value);
+    }
+
+    @Override
+    public int getInt() {
+        return Integer.parseInt(value);
+    }
+
+    @Override
+    public double getDouble() {
+        return Double.parseDouble(value);
+    }
+
+    @Override
+    public boolean getBoolean() {
+        return Boolean.parseBoolean(value);
+    }
+
+    @Override
+    Object read(Class<?> type) {
+        if (type == String.class || type == CharSequence.class || type == Object.class) {
+            return value;
+        }
+        return null;
+    }
+
+    @Override
+    Class<?> type() {
+        return String.class;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+/**
+ * Represents how a conditional update changes an element of every entity that matches the condition.
+ */
+public enum UpdateOperator {
+    /**
+     * Represents the replacement of the element value.
+     */
+    SET,
+    /**
+     * Represents the addition of a number to the element value, a missing or null element starts from the number.
+     */
+    INCREMENT,
+    /**
+     * Represents the removal of the element.
+     */
+    UNSET
+}
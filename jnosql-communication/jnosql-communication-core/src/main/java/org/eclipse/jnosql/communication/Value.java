@@ -17,6 +17,7 @@
 package org.eclipse.jnosql.communication;
 
 
+import java.util.Objects;
 
 /**
  * It represents an information unit that is to/from a database.
@@ -78,9 +79,55 @@ public interface Value {
      */
     boolean isNull();
 
+    /**
+     * Returns the value as a {@code long}, the specialized values return it without boxing.
+     *
+     * @return the value converted to {@code long}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default long getLong() {
+        return Objects.requireNonNull(get(long.class), "value is null");
+    }
+
+    /**
+     * Returns the value as an {@code int}, the specialized values return it without boxing.
+     *
+     * @return the value converted to {@code int}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default int getInt() {
+        return Objects.requireNonNull(get(int.class), "value is null");
+    }
+
+    /**
+     * Returns the value as a {@code double}, the specialized values return it without boxing.
+     *
+     * @return the value converted to {@code double}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default double getDouble() {
+        return Objects.requireNonNull(get(double.class), "value is null");
+    }
+
+    /**
+     * Returns the value as a {@code boolean}, the specialized values return it without boxing.
+     *
+     * @return the value converted to {@code boolean}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default boolean getBoolean() {
+        return Objects.requireNonNull(get(boolean.class), "value is null");
+    }
+
 
     /**
      * Creates a new {@link Value} instance.
+     * The {@link Long}, {@link Integer}, {@link Double}, {@link Boolean} and {@link String} values use
+     * implementations specialized to their type.
      *
      * @param value - the information to {@link Value}
      * @return a {@link Value} instance within a value informed, or {@link DefaultValue#NULL} if the value is null
@@ -88,10 +135,60 @@ public interface Value {
     static Value of(Object value) {
         if(value == null) {
             return DefaultValue.NULL;
+        } else if (value instanceof String text) {
+            return new StringValue(text);
+        } else if (value instanceof Long number) {
+            return new LongValue(number);
+        } else if (value instanceof Integer number) {
+            return new IntValue(number);
+        } else if (value instanceof Double number) {
+            return new DoubleValue(number);
+        } else if (value instanceof Boolean bool) {
+            return BooleanValue.of(bool);
         }
         return new DefaultValue(value);
     }
 
+    /**
+     * Creates a {@link Value} that keeps the {@code long} without boxing.
+     *
+     * @param value the value
+     * @return a {@link Value} instance
+     */
+    static Value ofLong(long value) {
+        return new LongValue(value);
+    }
+
+    /**
+     * Creates a {@link Value} that keeps the {@code int} without boxing.
+     *
+     * @param value the value
+     * @return a {@link Value} instance
+     */
+    static Value ofInt(int value) {
+        return new IntValue(value);
+    }
+
+    /**
+     * Creates a {@link Value} that keeps the {@code double} without boxing.
+     *
+     * @param value the value
+     * @return a {@link Value} instance
+     */
+    static Value ofDouble(double value) {
+        return new DoubleValue(value);
+    }
+
+    /**
+     * Creates a {@link Value} from a {@code boolean}.
+     *
+     * @param value the value
+     * @return a {@link Value} instance
+     */
+    static Value ofBoolean(boolean value) {
+        return BooleanValue.of(value);
+    }
+
     /**
      * Creates and returns a {@link Value} instance representing a null value.
      * This method provides a convenient way to obtain a {@link Value} instance that encapsulates a null value.
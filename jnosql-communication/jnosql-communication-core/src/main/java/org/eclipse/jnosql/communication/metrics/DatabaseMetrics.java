@@ -0,0 +1,235 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The measurements of the calls to a database, kept per entity and {@link Operation}: the number of calls and
+ * errors, the rows and elements written or read, and a {@link LatencyHistogram} to break the latency down into
+ * percentiles. The metrics decorators of the database and bucket managers record them; {@link #register()} exposes
+ * them as a JMX MXBean, and every {@link MetricsRecorder} loaded by the {@link ServiceLoader} receives each
+ * measurement as well.
+ */
+public final class DatabaseMetrics implements DatabaseMetricsMXBean {
+
+    private final String database;
+
+    private final List<MetricsRecorder> recorders;
+
+    private final Map<Key, Statistics> statistics = new ConcurrentHashMap<>();
+
+    private volatile ObjectName objectName;
+
+    private DatabaseMetrics(String database, List<MetricsRecorder> recorders) {
+        this.database = database;
+        this.recorders = recorders;
+    }
+
+    @Override
+    public String getDatabase() {
+        return database;
+    }
+
+    /**
+     * Records the latency of a database call.
+     *
+     * @param entity    the entity name or, at the key-value databases, the bucket name
+     * @param operation the operation
+     * @param nanos     the latency in nanoseconds
+     * @param failed    whether the call threw an exception
+     */
+    public void latency(String entity, Operation operation, long nanos, boolean failed) {
+        Statistics current = current(entity, operation);
+        current.histogram.record(nanos);
+        if (failed) {
+            current.errors.increment();
+        }
+        for (MetricsRecorder recorder : recorders) {
+            recorder.latency(database, current.key.entity(), operation, nanos, failed);
+        }
+    }
+
+    /**
+     * Records the number of rows and elements written or read by a database call.
+     *
+     * @param entity    the entity name or, at the key-value databases, the bucket name
+     * @param operation the operation
+     * @param rows      the number of entities or values
+     * @param elements  the number of elements of the entities
+     */
+    public void rows(String entity, Operation operation, long rows, long elements) {
+        Statistics current = current(entity, operation);
+        current.rows.add(rows);
+        current.elements.add(elements);
+        for (MetricsRecorder recorder : recorders) {
+            recorder.rows(database, current.key.entity(), operation, rows, elements);
+        }
+    }
+
+    /**
+     * Returns the statistics of an operation on an entity.
+     *
+     * @param entity    the entity name
+     * @param operation the operation
+     * @return the statistics or {@link Optional#empty()} when there is no measurement
+     */
+    public Optional<OperationStatistics> statistics(String entity, Operation operation) {
+        return Optional.ofNullable(statistics.get(new Key(name(entity), operation))).map(Statistics::snapshot);
+    }
+
+    @Override
+    public List<OperationStatistics> getOperations() {
+        return statistics.values().stream()
+                .sorted(Comparator.comparing((Statistics s) -> s.key.entity()).thenComparing(s -> s.key.operation()))
+                .map(Statistics::snapshot)
+                .toList();
+    }
+
+    @Override
+    public void reset() {
+        statistics.clear();
+    }
+
+    /**
+     * Registers these metrics at the platform MBean server as
+     * {@code org.eclipse.jnosql:type=DatabaseMetrics,name=<database>}, replacing the metrics registered before with
+     * the same database name.
+     *
+     * @return this instance
+     * @throws CommunicationException when the MBean server refuses the registration
+     */
+    public DatabaseMetrics register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName("org.eclipse.jnosql:type=DatabaseMetrics,name=" + ObjectName.quote(database));
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+            this.objectName = name;
+            return this;
+        } catch (JMException exception) {
+            throw new CommunicationException("It was not possible to register the metrics of the database " + database, exception);
+        }
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server, when they were registered.
+     */
+    public void unregister() {
+        ObjectName name = this.objectName;
+        if (name == null) {
+            return;
+        }
+        this.objectName = null;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException exception) {
+            throw new CommunicationException("It was not possible to unregister the metrics of the database " + database, exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DatabaseMetrics{" +
+                "database='" + database + '\'' +
+                ", operations=" + statistics.size() +
+                '}';
+    }
+
+    /**
+     * Creates the metrics of a database with the {@link MetricsRecorder} implementations loaded by the
+     * {@link ServiceLoader}.
+     *
+     * @param database the database name
+     * @return a new {@link DatabaseMetrics} instance
+     * @throws NullPointerException when the database is null
+     */
+    public static DatabaseMetrics of(String database) {
+        Objects.requireNonNull(database, "database is required");
+        List<MetricsRecorder> recorders = ServiceLoader.load(MetricsRecorder.class).stream()
+                .map(ServiceLoader.Provider::get)
+                .toList();
+        return new DatabaseMetrics(database, recorders);
+    }
+
+    /**
+     * Creates the metrics of a database with the given {@link MetricsRecorder} implementations.
+     *
+     * @param database  the database name
+     * @param recorders the recorders
+     * @return a new {@link DatabaseMetrics} instance
+     * @throws NullPointerException when either database or recorders is null
+     */
+    public static DatabaseMetrics of(String database, List<MetricsRecorder> recorders) {
+        Objects.requireNonNull(database, "database is required");
+        Objects.requireNonNull(recorders, "recorders is required");
+        return new DatabaseMetrics(database, List.copyOf(recorders));
+    }
+
+    private Statistics current(String entity, Operation operation) {
+        Key key = new Key(name(entity), operation);
+        Statistics current = statistics.get(key);
+        if (current == null) {
+            current = statistics.computeIfAbsent(key, Statistics::new);
+        }
+        return current;
+    }
+
+    private static String name(String entity) {
+        return entity == null ? "" : entity;
+    }
+
+    private record Key(String entity, Operation operation) {
+    }
+
+    private static final class Statistics {
+
+        private final Key key;
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private final LongAdder errors = new LongAdder();
+
+        private final LongAdder rows = new LongAdder();
+
+        private final LongAdder elements = new LongAdder();
+
+        private Statistics(Key key) {
+            this.key = key;
+        }
+
+        private OperationStatistics snapshot() {
+            return new OperationStatistics(key.entity(), key.operation(), errors.sum(), rows.sum(), elements.sum(), histogram);
+        }
+    }
+}
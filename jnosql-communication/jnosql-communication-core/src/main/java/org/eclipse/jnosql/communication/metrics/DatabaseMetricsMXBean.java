@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import java.util.List;
+
+/**
+ * The JMX interface of {@link DatabaseMetrics}, registered as
+ * {@code org.eclipse.jnosql:type=DatabaseMetrics,name=<database>}.
+ */
+public interface DatabaseMetricsMXBean {
+
+    /**
+     * Returns the database name.
+     *
+     * @return the database name
+     */
+    String getDatabase();
+
+    /**
+     * Returns the statistics of each entity and operation.
+     *
+     * @return the statistics
+     */
+    List<OperationStatistics> getOperations();
+
+    /**
+     * Removes every measurement.
+     */
+    void reset();
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent latency histogram, in nanoseconds, with log-linear buckets in the style of HdrHistogram: each power of
+ * two is split into {@value #SUB_BUCKETS} buckets, so a percentile is at most about 3% above the recorded value while
+ * the histogram keeps a fixed array of counters whatever the number of records. Values above about 73 minutes are
+ * recorded as the highest trackable value.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int MAX_EXPONENT = 42;
+
+    private static final long HIGHEST_TRACKABLE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray((MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS);
+
+    private final LongAdder sum = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0L);
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds, a negative value is recorded as zero
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0L), HIGHEST_TRACKABLE);
+        counts.incrementAndGet(index(value));
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return the number of records
+     */
+    public long count() {
+        long count = 0;
+        for (int index = 0; index < counts.length(); index++) {
+            count += counts.get(index);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the mean latency in nanoseconds.
+     *
+     * @return the mean or zero when there is no record
+     */
+    public long mean() {
+        long count = count();
+        return count == 0 ? 0L : sum.sum() / count;
+    }
+
+    /**
+     * Returns the highest recorded latency in nanoseconds.
+     *
+     * @return the highest latency or zero when there is no record
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Returns the latency, in nanoseconds, at or below which the given percentage of the records are.
+     *
+     * @param percentile the percentile, from 0 to 100, e.g.: 99.9
+     * @return the latency or zero when there is no record
+     * @throws IllegalArgumentException when the percentile is not between 0 and 100
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100: " + percentile);
+        }
+        long count = count();
+        if (count == 0) {
+            return 0L;
+        }
+        long target = Math.max(1L, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int index = 0; index < counts.length(); index++) {
+            seen += counts.get(index);
+            if (seen >= target) {
+                return Math.min(highestValue(index), max());
+            }
+        }
+        return max();
+    }
+
+    /**
+     * Removes every record.
+     */
+    public void reset() {
+        for (int index = 0; index < counts.length(); index++) {
+            counts.set(index, 0L);
+        }
+        sum.reset();
+        max.reset();
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    static long highestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
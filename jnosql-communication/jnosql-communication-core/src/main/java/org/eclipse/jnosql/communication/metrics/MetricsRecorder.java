@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+/**
+ * A service provider that receives every measurement of {@link DatabaseMetrics}, to report them to a metrics library
+ * such as Micrometer or OpenTelemetry. The implementations are loaded by the {@link java.util.ServiceLoader} when the
+ * metrics are created; they run at the caller thread of the database call, so they should be fast and not throw.
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Receives the latency of a database call.
+     *
+     * @param database  the database name
+     * @param entity    the entity name or, at the key-value databases, the bucket name
+     * @param operation the operation
+     * @param nanos     the latency in nanoseconds
+     * @param failed    whether the call threw an exception
+     */
+    void latency(String database, String entity, Operation operation, long nanos, boolean failed);
+
+    /**
+     * Receives the number of rows, entities or values, and elements written or read by a database call. The rows
+     * of a select arrive when its stream ends or closes.
+     *
+     * @param database  the database name
+     * @param entity    the entity name or, at the key-value databases, the bucket name
+     * @param operation the operation
+     * @param rows      the number of entities or values
+     * @param elements  the number of elements of the entities
+     */
+    default void rows(String database, String entity, Operation operation, long rows, long elements) {
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+/**
+ * The database operations measured by {@link DatabaseMetrics}.
+ */
+public enum Operation {
+    /**
+     * Represents the insert of entities.
+     */
+    INSERT,
+    /**
+     * Represents the update of entities, either by entity or by condition.
+     */
+    UPDATE,
+    /**
+     * Represents the select of entities, including the existence checks and the cursor pages.
+     */
+    SELECT,
+    /**
+     * Represents the aggregate queries.
+     */
+    AGGREGATE,
+    /**
+     * Represents the delete of entities or keys.
+     */
+    DELETE,
+    /**
+     * Represents the count of entities.
+     */
+    COUNT,
+    /**
+     * Represents the read of values by key.
+     */
+    GET,
+    /**
+     * Represents the write of values by key.
+     */
+    PUT
+}
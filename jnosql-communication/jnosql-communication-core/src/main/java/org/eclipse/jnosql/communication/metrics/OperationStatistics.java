@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+/**
+ * A snapshot of the measurements of an operation on an entity. The latencies are in nanoseconds.
+ */
+public final class OperationStatistics {
+
+    private final String entity;
+
+    private final Operation operation;
+
+    private final long count;
+
+    private final long errors;
+
+    private final long rows;
+
+    private final long elements;
+
+    private final long mean;
+
+    private final long p50;
+
+    private final long p90;
+
+    private final long p99;
+
+    private final long p999;
+
+    private final long max;
+
+    OperationStatistics(String entity, Operation operation, long errors, long rows, long elements,
+                        LatencyHistogram histogram) {
+        this.entity = entity;
+        this.operation = operation;
+        this.count = histogram.count();
+        this.errors = errors;
+        this.rows = rows;
+        this.elements = elements;
+        this.mean = histogram.mean();
+        this.p50 = histogram.percentile(50);
+        this.p90 = histogram.percentile(90);
+        this.p99 = histogram.percentile(99);
+        this.p999 = histogram.percentile(99.9);
+        this.max = histogram.max();
+    }
+
+    /**
+     * Returns the entity name or, at the key-value databases, the bucket name.
+     *
+     * @return the entity name or, at the key-value databases, the bucket name
+     */
+    public String getEntity() {
+        return entity;
+    }
+
+    /**
+     * Returns the operation.
+     *
+     * @return the operation
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the number of calls.
+     *
+     * @return the number of calls
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the number of calls that threw an exception.
+     *
+     * @return the number of calls that threw an exception
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns the number of entities or values written or read.
+     *
+     * @return the number of entities or values written or read
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of elements of the entities written or read.
+     *
+     * @return the number of elements of the entities written or read
+     */
+    public long getElements() {
+        return elements;
+    }
+
+    /**
+     * Returns the mean latency.
+     *
+     * @return the mean latency
+     */
+    public long getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the median latency.
+     *
+     * @return the median latency
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * Returns the 90th percentile latency.
+     *
+     * @return the 90th percentile latency
+     */
+    public long getP90() {
+        return p90;
+    }
+
+    /**
+     * Returns the 99th percentile latency.
+     *
+     * @return the 99th percentile latency
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    /**
+     * Returns the 99.9th percentile latency.
+     *
+     * @return the 99.9th percentile latency
+     */
+    public long getP999() {
+        return p999;
+    }
+
+    /**
+     * Returns the highest latency.
+     *
+     * @return the highest latency
+     */
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationStatistics{" +
+                "entity='" + entity + '\'' +
+                ", operation=" + operation +
+                ", count=" + count +
+                ", errors=" + errors +
+                ", rows=" + rows +
+                ", elements=" + elements +
+                ", p50=" + p50 +
+                ", p99=" + p99 +
+                ", max=" + max +
+                '}';
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+/**
+ * This package contains the metrics of the database calls: the latency histograms, rows and elements per entity and
+ * operation recorded by the metrics decorators of the database and bucket managers, their JMX exposure, and the
+ * {@link org.eclipse.jnosql.communication.metrics.MetricsRecorder} SPI to report them to a metrics library.
+ */
+package org.eclipse.jnosql.communication.metrics;
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AggregateTest {
+
+    @Test
+    void shouldReturnErrorWhenFunctionIsNull() {
+        assertThatThrownBy(() -> new Aggregate(null, "age"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenNameIsMissing() {
+        assertThatThrownBy(() -> new Aggregate(AggregateFunction.SUM, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Aggregate.max(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnAlias() {
+        assertThat(Aggregate.count().alias()).isEqualTo("count(*)");
+        assertThat(Aggregate.count("salary").alias()).isEqualTo("count(salary)");
+        assertThat(Aggregate.sum("salary").alias()).isEqualTo("sum(salary)");
+        assertThat(Aggregate.avg("age").alias()).isEqualTo("avg(age)");
+        assertThat(Aggregate.min("age").alias()).isEqualTo("min(age)");
+        assertThat(Aggregate.max("age").alias()).isEqualTo("max(age)");
+    }
+}
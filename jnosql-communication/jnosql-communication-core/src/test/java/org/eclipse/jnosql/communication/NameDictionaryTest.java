@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NameDictionaryTest {
+
+    @Test
+    void shouldReturnErrorWhenNameIsNull() {
+        assertThatThrownBy(() -> NameDictionary.intern(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnTheCanonicalInstance() {
+        String name = NameDictionary.intern(new String("nickname"));
+        String other = NameDictionary.intern(new String("nickname"));
+        assertThat(other).isSameAs(name).isEqualTo("nickname");
+    }
+
+    @Test
+    void shouldLookupWithoutRegistering() {
+        String name = new String("unregistered-" + UUID.randomUUID());
+        assertThat(NameDictionary.lookup(name)).isSameAs(name);
+        assertThat(NameDictionary.lookup(new String(name))).isNotSameAs(name);
+    }
+
+    @Test
+    void shouldLookupTheCanonicalInstance() {
+        String name = NameDictionary.intern(new String("nickname"));
+        assertThat(NameDictionary.lookup(new String("nickname"))).isSameAs(name);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrimitiveValueTest {
+
+    @Test
+    void shouldCreateSpecializedValues() {
+        assertThat(Value.of(10L)).isInstanceOf(LongValue.class);
+        assertThat(Value.of(10)).isInstanceOf(IntValue.class);
+        assertThat(Value.of(10.5)).isInstanceOf(DoubleValue.class);
+        assertThat(Value.of(true)).isSameAs(Value.ofBoolean(true));
+        assertThat(Value.of("text")).isInstanceOf(StringValue.class);
+        assertThat(Value.of(BigDecimal.ONE)).isInstanceOf(DefaultValue.class);
+    }
+
+    @Test
+    void shouldKeepTheOriginalType() {
+        assertThat(Value.ofLong(10L).get()).isEqualTo(10L);
+        assertThat(Value.ofInt(10).get()).isEqualTo(10);
+        assertThat(Value.ofDouble(10.5).get()).isEqualTo(10.5);
+        assertThat(Value.ofBoolean(false).get()).isEqualTo(false);
+        assertThat(Value.of("text").get()).isEqualTo("text");
+    }
+
+    @Test
+    void shouldConvertToMatchingAndWideningTypes() {
+        Value value = Value.ofInt(10);
+        assertThat(value.get(int.class)).isEqualTo(10);
+        assertThat(value.get(Integer.class)).isEqualTo(10);
+        assertThat(value.get(long.class)).isEqualTo(10L);
+        assertThat(value.get(Double.class)).isEqualTo(10D);
+        assertThat(value.get(Number.class)).isEqualTo(10);
+        assertThat(value.get(String.class)).isEqualTo("10");
+        assertThat(Value.ofLong(10L).get(double.class)).isEqualTo(10D);
+        assertThat(Value.ofBoolean(true).get(String.class)).isEqualTo("true");
+    }
+
+    @Test
+    void shouldFallBackToReaders() {
+        assertThat(Value.ofLong(10L).get(Short.class)).isEqualTo((short) 10);
+        assertThat(Value.ofDouble(10.9).get(Integer.class)).isEqualTo(10);
+        assertThat(Value.ofBoolean(true).get(AtomicBoolean.class)).isTrue();
+        assertThat(Value.of("10").get(Long.class)).isEqualTo(10L);
+        assertThat(Value.ofLong(10L).get(new TypeReference<List<String>>() {
+        })).containsExactly("10");
+        assertThatThrownBy(() -> Value.ofLong(10L).get((Class<?>) null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnUnboxedValues() {
+        assertThat(Value.ofLong(10L).getInt()).isEqualTo(10);
+        assertThat(Value.ofInt(10).getLong()).isEqualTo(10L);
+        assertThat(Value.ofDouble(10.5).getLong()).isEqualTo(10L);
+        assertThat(Value.ofInt(1).getBoolean()).isTrue();
+        assertThat(Value.of("10").getInt()).isEqualTo(10);
+        assertThat(Value.of("true").getBoolean()).isTrue();
+        assertThat(Value.of(new BigDecimal("10.5")).getDouble()).isEqualTo(10.5);
+        assertThatThrownBy(() -> Value.ofNull().getLong()).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldCheckInstance() {
+        Value value = Value.ofLong(10L);
+        assertThat(value.isInstanceOf(Long.class)).isTrue();
+        assertThat(value.isInstanceOf(Number.class)).isTrue();
+        assertThat(value.isInstanceOf(Integer.class)).isFalse();
+        assertThat(value.isNull()).isFalse();
+    }
+
+    @Test
+    void shouldBeEqualsToDefaultValue() {
+        Value value = Value.ofLong(10L);
+        Value defaultValue = new DefaultValue(10L);
+        assertThat(value).isEqualTo(defaultValue).hasSameHashCodeAs(defaultValue);
+        assertThat(defaultValue).isEqualTo(value);
+        assertThat(Value.of("text")).isEqualTo(new DefaultValue("text")).hasSameHashCodeAs(new DefaultValue("text"));
+        assertThat(Value.ofInt(10)).isNotEqualTo(value);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseMetricsTest {
+
+    private final DatabaseMetrics metrics = DatabaseMetrics.of("test", List.of());
+
+    @AfterEach
+    void tearDown() {
+        metrics.unregister();
+    }
+
+    @Test
+    void shouldReturnErrorWhenDatabaseIsNull() {
+        assertThatThrownBy(() -> DatabaseMetrics.of(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> DatabaseMetrics.of("test", null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldRecordPerEntityAndOperation() {
+        metrics.latency("Person", Operation.INSERT, 1_000, false);
+        metrics.latency("Person", Operation.INSERT, 3_000, true);
+        metrics.rows("Person", Operation.INSERT, 2, 8);
+        metrics.latency("Book", Operation.SELECT, 500, false);
+
+        OperationStatistics insert = metrics.statistics("Person", Operation.INSERT).orElseThrow();
+        assertThat(insert.getCount()).isEqualTo(2L);
+        assertThat(insert.getErrors()).isEqualTo(1L);
+        assertThat(insert.getRows()).isEqualTo(2L);
+        assertThat(insert.getElements()).isEqualTo(8L);
+        assertThat(insert.getMean()).isEqualTo(2_000L);
+        assertThat(insert.getMax()).isEqualTo(3_000L);
+        assertThat(insert.getP99()).isEqualTo(3_000L);
+
+        assertThat(metrics.statistics("Person", Operation.SELECT)).isEmpty();
+        assertThat(metrics.getOperations()).extracting(OperationStatistics::getEntity)
+                .containsExactly("Book", "Person");
+    }
+
+    @Test
+    void shouldReset() {
+        metrics.latency("Person", Operation.COUNT, 10, false);
+        metrics.reset();
+        assertThat(metrics.getOperations()).isEmpty();
+    }
+
+    @Test
+    void shouldNotifyRecorders() {
+        List<String> events = new ArrayList<>();
+        MetricsRecorder recorder = new MetricsRecorder() {
+            @Override
+            public void latency(String database, String entity, Operation operation, long nanos, boolean failed) {
+                events.add(database + ":" + entity + ":" + operation + ":" + nanos);
+            }
+
+            @Override
+            public void rows(String database, String entity, Operation operation, long rows, long elements) {
+                events.add(database + ":" + entity + ":" + operation + ":" + rows + "/" + elements);
+            }
+        };
+        DatabaseMetrics recorded = DatabaseMetrics.of("db", List.of(recorder));
+        recorded.latency(null, Operation.GET, 7, false);
+        recorded.rows("Person", Operation.SELECT, 3, 9);
+        assertThat(events).containsExactly("db::GET:7", "db:Person:SELECT:3/9");
+    }
+
+    @Test
+    void shouldRegisterAtJmx() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("org.eclipse.jnosql:type=DatabaseMetrics,name=" + ObjectName.quote("test"));
+        metrics.latency("Person", Operation.UPDATE, 100, false);
+
+        assertThat(metrics.register()).isSameAs(metrics);
+        assertThat(server.isRegistered(name)).isTrue();
+        assertThat(server.getAttribute(name, "Database")).isEqualTo("test");
+        assertThat(server.getAttribute(name, "Operations")).isNotNull();
+
+        metrics.unregister();
+        assertThat(server.isRegistered(name)).isFalse();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldReturnZeroWhenEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.mean()).isZero();
+        assertThat(histogram.max()).isZero();
+        assertThat(histogram.percentile(99)).isZero();
+    }
+
+    @Test
+    void shouldReturnErrorWhenPercentileIsInvalid() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThatThrownBy(() -> histogram.percentile(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> histogram.percentile(100.1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRecordExactValuesBelowSubBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+        assertThat(histogram.count()).isEqualTo(10L);
+        assertThat(histogram.percentile(50)).isEqualTo(5L);
+        assertThat(histogram.percentile(100)).isEqualTo(10L);
+        assertThat(histogram.max()).isEqualTo(10L);
+        assertThat(histogram.mean()).isEqualTo(5L);
+    }
+
+    @Test
+    void shouldKeepPercentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+        assertThat(histogram.percentile(50)).isBetween(50_000_000L, 50_000_000L * 33 / 32);
+        assertThat(histogram.percentile(99)).isBetween(99_000_000L, 99_000_000L * 33 / 32);
+        assertThat(histogram.percentile(100)).isEqualTo(100_000_000L);
+    }
+
+    @Test
+    void shouldFindTheBucketOfEveryValue() {
+        for (long value : new long[]{0, 1, 31, 32, 33, 63, 64, 1_000, 123_456_789L, 1L << 40}) {
+            int index = LatencyHistogram.index(value);
+            assertThat(LatencyHistogram.highestValue(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.highestValue(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    void shouldClampNegativeAndHugeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+        assertThat(histogram.count()).isEqualTo(2L);
+        assertThat(histogram.percentile(50)).isZero();
+        assertThat(histogram.max()).isPositive().isLessThan(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        histogram.reset();
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.max()).isZero();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
+import org.eclipse.jnosql.communication.metrics.Operation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * A {@link BucketManager} decorator that records, at the {@link DatabaseMetrics}, the latency of every put, get and
+ * delete under the bucket name, and the number of entries written or found.
+ * The manager is only decorated when the metrics are enabled, so there is no cost otherwise.
+ *
+ * @see DatabaseMetrics
+ */
+public final class MetricsBucketManager implements BucketManager {
+
+    private final BucketManager manager;
+
+    private final DatabaseMetrics metrics;
+
+    private MetricsBucketManager(BucketManager manager, DatabaseMetrics metrics) {
+        this.manager = manager;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the metrics that this manager records.
+     *
+     * @return the metrics
+     */
+    public DatabaseMetrics metrics() {
+        return metrics;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        measure(Operation.PUT, () -> {
+            manager.put(key, value);
+            return null;
+        });
+        metrics.rows(name(), Operation.PUT, 1, 0);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        measure(Operation.PUT, () -> {
+            manager.put(entity);
+            return null;
+        });
+        metrics.rows(name(), Operation.PUT, 1, 0);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        measure(Operation.PUT, () -> {
+            manager.put(entity, ttl);
+            return null;
+        });
+        metrics.rows(name(), Operation.PUT, 1, 0);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        List<KeyValueEntity> values = toList(entities);
+        measure(Operation.PUT, () -> {
+            manager.put(values);
+            return null;
+        });
+        metrics.rows(name(), Operation.PUT, values.size(), 0);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        List<KeyValueEntity> values = toList(entities);
+        measure(Operation.PUT, () -> {
+            manager.put(values, ttl);
+            return null;
+        });
+        metrics.rows(name(), Operation.PUT, values.size(), 0);
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Optional<Value> value = measure(Operation.GET, () -> manager.get(key));
+        metrics.rows(name(), Operation.GET, value.isPresent() ? 1 : 0, 0);
+        return value;
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        List<Value> values = measure(Operation.GET, () -> toList(manager.get(keys)));
+        metrics.rows(name(), Operation.GET, values.size(), 0);
+        return values;
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        measure(Operation.DELETE, () -> {
+            manager.delete(key);
+            return null;
+        });
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        measure(Operation.DELETE, () -> {
+            manager.delete(keys);
+            return null;
+        });
+    }
+
+    @Override
+    public void close() {
+        try {
+            manager.close();
+        } finally {
+            metrics.unregister();
+        }
+    }
+
+    private <T> T measure(Operation operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.get();
+            failed = false;
+            return result;
+        } finally {
+            metrics.latency(name(), operation, System.nanoTime() - start, failed);
+        }
+    }
+
+    private static <T> List<T> toList(Iterable<T> values) {
+        Objects.requireNonNull(values, "values is required");
+        List<T> list = new ArrayList<>();
+        values.forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Decorates the manager, unless it already records metrics.
+     *
+     * @param manager the manager
+     * @param metrics the metrics to record
+     * @return the measured manager
+     * @throws NullPointerException when either manager or metrics is null
+     */
+    public static BucketManager of(BucketManager manager, DatabaseMetrics metrics) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(metrics, "metrics is required");
+        if (manager instanceof MetricsBucketManager) {
+            return manager;
+        }
+        return new MetricsBucketManager(manager, metrics);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
+import org.eclipse.jnosql.communication.metrics.Operation;
+import org.eclipse.jnosql.communication.metrics.OperationStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricsBucketManagerTest {
+
+    private final BucketManager delegate = Mockito.mock(BucketManager.class);
+
+    private final DatabaseMetrics metrics = DatabaseMetrics.of("test", List.of());
+
+    private final BucketManager manager = MetricsBucketManager.of(delegate, metrics);
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(delegate.name()).thenReturn("users");
+    }
+
+    @Test
+    void shouldNotDecorateTwice() {
+        assertThat(MetricsBucketManager.of(manager, metrics)).isSameAs(manager);
+        assertThatThrownBy(() -> MetricsBucketManager.of(null, metrics)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldRecordPut() {
+        manager.put("ada", "Ada");
+        manager.put(List.of(KeyValueEntity.of("ada", "Ada"), KeyValueEntity.of("alan", "Alan")));
+
+        OperationStatistics put = statistics(Operation.PUT);
+        assertThat(put.getCount()).isEqualTo(2L);
+        assertThat(put.getRows()).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldRecordGet() {
+        Mockito.when(delegate.get("ada")).thenReturn(Optional.of(Value.of("Ada")));
+        Mockito.when(delegate.get("alan")).thenReturn(Optional.empty());
+
+        assertThat(manager.get("ada")).isPresent();
+        assertThat(manager.get("alan")).isEmpty();
+
+        OperationStatistics get = statistics(Operation.GET);
+        assertThat(get.getCount()).isEqualTo(2L);
+        assertThat(get.getRows()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRecordErrors() {
+        Mockito.doThrow(new IllegalStateException("down")).when(delegate).delete("ada");
+
+        assertThatThrownBy(() -> manager.delete("ada")).isInstanceOf(IllegalStateException.class);
+
+        assertThat(statistics(Operation.DELETE).getErrors()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldCloseDelegate() {
+        manager.close();
+        Mockito.verify(delegate).close();
+    }
+
+    private OperationStatistics statistics(Operation operation) {
+        return metrics.statistics("users", operation).orElseThrow();
+    }
+}
@@ -14,7 +14,9 @@ package org.eclipse.jnosql.communication.query;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.Aggregate;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -24,7 +26,12 @@ import java.util.Optional;
  * The default implementation of {@link SelectQuery}
  */
 record DefaultSelectQuery(String entity, List<String> fields, List<Sort<?>> orderBy, long skip,
-                               long limit, Where condition) implements SelectQuery {
+                               long limit, Where condition, List<Aggregate> aggregates,
+                               List<String> groupBy) implements SelectQuery {
+
+    DefaultSelectQuery(String entity, List<String> fields, List<Sort<?>> orderBy, long skip, long limit, Where condition) {
+        this(entity, fields, orderBy, skip, limit, condition, Collections.emptyList(), Collections.emptyList());
+    }
 
 
     @Override
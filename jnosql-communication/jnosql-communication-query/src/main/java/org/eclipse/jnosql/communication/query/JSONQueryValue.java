@@ -15,9 +15,11 @@ package org.eclipse.jnosql.communication.query;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
 import org.eclipse.jnosql.query.grammar.QueryParser;
 
 import java.io.StringReader;
+import java.util.Collections;
 import java.util.Objects;
 
 
@@ -26,6 +28,8 @@ import java.util.Objects;
  */
 public final class JSONQueryValue implements QueryValue<JsonObject> {
 
+    private static final JsonReaderFactory READER_FACTORY = Json.createReaderFactory(Collections.emptyMap());
+
     private final JsonObject value;
 
     JSONQueryValue(JsonObject value) {
@@ -42,7 +46,7 @@ public final class JSONQueryValue implements QueryValue<JsonObject> {
     }
 
     public static JSONQueryValue of(QueryParser.JsonContext context) {
-        try (JsonReader jsonReader = Json.createReader(new StringReader(context.getText()))) {
+        try (JsonReader jsonReader = READER_FACTORY.createReader(new StringReader(context.getText()))) {
             return new JSONQueryValue(jsonReader.readObject());
         }
     }
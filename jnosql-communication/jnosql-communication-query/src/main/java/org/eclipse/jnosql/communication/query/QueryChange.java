@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.eclipse.jnosql.communication.UpdateOperator;
+
+/**
+ * A change at the <b>SET</b> clause of an <b>UPDATE</b> statement, e.g., {@code name = "Ada"}, {@code age += 1} or {@code unset nickname}.
+ *
+ * @param name     the element name
+ * @param operator the operator applied to the element
+ * @param value    the value, null when the operator is {@link UpdateOperator#UNSET}
+ */
+public record QueryChange(String name, UpdateOperator operator, QueryValue<?> value) {
+
+    @Override
+    public String toString() {
+        return switch (operator) {
+            case SET -> name + " = " + value;
+            case INCREMENT -> name + " += " + value;
+            case UNSET -> "unset " + name;
+        };
+    }
+}
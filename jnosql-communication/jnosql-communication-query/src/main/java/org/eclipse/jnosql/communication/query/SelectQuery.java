@@ -13,7 +13,9 @@
 package org.eclipse.jnosql.communication.query;
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.Aggregate;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -64,4 +66,23 @@ public interface SelectQuery extends Query {
      * @return the list of orders
      */
     List<Sort<?>> orderBy();
+
+    /**
+     * Retrieves the aggregates of this query, such as {@code count(*)} and {@code sum(price)}. When the query has
+     * either aggregates or {@link #groupBy()}, it returns one entry per group instead of the entities.
+     *
+     * @return the list of aggregates, otherwise an empty list
+     */
+    default List<Aggregate> aggregates() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Retrieves the fields that group the entities of an aggregate query.
+     *
+     * @return the list of fields, otherwise an empty list
+     */
+    default List<String> groupBy() {
+        return Collections.emptyList();
+    }
 }
@@ -16,9 +16,14 @@ package org.eclipse.jnosql.communication.query;
 import org.antlr.v4.runtime.tree.ParseTree;
 import jakarta.data.Sort;
 import jakarta.data.Direction;
+import org.eclipse.jnosql.communication.Aggregate;
+import org.eclipse.jnosql.communication.AggregateFunction;
+import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.query.grammar.QueryParser;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -36,6 +41,12 @@ public final class SelectQueryConverter extends AbstractWhereSupplier implements
 
     private List<Sort<?>> sorts = emptyList();
 
+    private List<Aggregate> aggregates = emptyList();
+
+    private List<String> groupBy = emptyList();
+
+    private boolean star;
+
     private long skip;
 
     private long limit;
@@ -43,7 +54,23 @@ public final class SelectQueryConverter extends AbstractWhereSupplier implements
 
     @Override
     public void exitFields(QueryParser.FieldsContext ctx) {
-        this.fields = ctx.name().stream().map(QueryParser.NameContext::getText).collect(toList());
+        this.star = ctx.star() != null;
+        List<String> names = new ArrayList<>();
+        List<Aggregate> functions = new ArrayList<>();
+        for (QueryParser.FieldContext field : ctx.field()) {
+            if (field.aggregate() == null) {
+                names.add(field.name().getText());
+            } else {
+                functions.add(aggregate(field.aggregate()));
+            }
+        }
+        this.fields = names;
+        this.aggregates = functions;
+    }
+
+    @Override
+    public void exitGroup(QueryParser.GroupContext ctx) {
+        this.groupBy = ctx.name().stream().map(QueryParser.NameContext::getText).collect(toList());
     }
 
     @Override
@@ -70,7 +97,16 @@ public final class SelectQueryConverter extends AbstractWhereSupplier implements
     @Override
     public DefaultSelectQuery apply(String query) {
         runQuery(query);
-        return new DefaultSelectQuery(entity, fields, sorts, skip, limit, where);
+        if (!aggregates.isEmpty() || !groupBy.isEmpty()) {
+            if (star) {
+                throw new QueryException("An aggregate query cannot select all the fields: " + query);
+            }
+            List<String> notGrouped = fields.stream().filter(f -> !groupBy.contains(f)).toList();
+            if (!notGrouped.isEmpty()) {
+                throw new QueryException("The fields " + notGrouped + " must be either at the group by or within an aggregate function: " + query);
+            }
+        }
+        return new DefaultSelectQuery(entity, fields, sorts, skip, limit, where, aggregates, groupBy);
     }
 
     @Override
@@ -78,6 +114,15 @@ public final class SelectQueryConverter extends AbstractWhereSupplier implements
         return QueryParser::select;
     }
 
+    private Aggregate aggregate(QueryParser.AggregateContext context) {
+        String function = context.aggregate_function().getText();
+        AggregateFunction type = AggregateFunction.valueOf(function.substring(0, function.length() - 1).toUpperCase(Locale.US));
+        if (context.star() != null && type != AggregateFunction.COUNT) {
+            throw new QueryException("The aggregate function " + function + "*) requires a field name");
+        }
+        return new Aggregate(type, context.star() == null ? context.name().getText() : null);
+    }
+
     private Sort<?> sort(QueryParser.OrderNameContext context) {
         String text = context.name().getText();
         Direction type = context.desc() == null? Direction.ASC: Direction.DESC;
@@ -27,10 +27,20 @@ public final class UpdateQuery implements Query {
 
     private final JSONQueryValue value;
 
+    private final List<QueryChange> changes;
+
+    private final Where where;
+
     UpdateQuery(String entity, List<DefaultQueryCondition> conditions, JSONQueryValue value) {
+        this(entity, conditions, value, Collections.emptyList(), null);
+    }
+
+    UpdateQuery(String entity, List<DefaultQueryCondition> conditions, JSONQueryValue value, List<QueryChange> changes, Where where) {
         this.entity = entity;
         this.conditions = conditions;
         this.value = value;
+        this.changes = changes;
+        this.where = where;
     }
 
     /**
@@ -61,6 +71,24 @@ public final class UpdateQuery implements Query {
         return Optional.ofNullable(value);
     }
 
+    /**
+     * Returns the changes of the <b>SET</b> clause, e.g., {@code update Person set age += 1 where name = "Ada"}.
+     * When it is not empty, the query updates every entity that matches {@link UpdateQuery#where()} instead of
+     * replacing the entity given at {@link UpdateQuery#conditions()} or {@link UpdateQuery#value()}.
+     * @return the changes or an empty list
+     */
+    public List<QueryChange> changes() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * The condition of a query with the <b>SET</b> clause
+     * @return the where condition or {@link Optional#empty()} to update every entity
+     */
+    public Optional<Where> where() {
+        return Optional.ofNullable(where);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -70,17 +98,21 @@ public final class UpdateQuery implements Query {
             return false;
         }
         return Objects.equals(entity, that.entity) &&
-                Objects.equals(conditions, that.conditions);
+                Objects.equals(conditions, that.conditions) &&
+                Objects.equals(changes, that.changes) &&
+                Objects.equals(where, that.where);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(entity, conditions);
+        return Objects.hash(entity, conditions, changes, where);
     }
 
     @Override
     public String toString() {
-        if (conditions.isEmpty() && value != null) {
+        if (!changes.isEmpty()) {
+            return "update " + entity + " set " + changes + (where == null ? "" : " " + where);
+        } else if (conditions.isEmpty() && value != null) {
             return "update " + entity + ' ' + value;
         } else {
             return "update " + entity + " (" + conditions + ") ";
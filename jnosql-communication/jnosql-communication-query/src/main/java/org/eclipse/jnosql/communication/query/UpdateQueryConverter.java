@@ -13,6 +13,7 @@ package org.eclipse.jnosql.communication.query;
 
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.UpdateOperator;
 import org.eclipse.jnosql.query.grammar.QueryParser;
 
 import java.util.Collections;
@@ -24,7 +25,7 @@ import static java.util.stream.Collectors.toList;
 /**
  * A provider to {@link UpdateQuery}, this provider converts text into {@link UpdateQuery}
  */
-public final class UpdateQueryConverter extends AbstractSupplier implements Function<String, UpdateQuery>  {
+public final class UpdateQueryConverter extends AbstractWhereSupplier implements Function<String, UpdateQuery>  {
 
     private String entity;
 
@@ -32,6 +33,8 @@ public final class UpdateQueryConverter extends AbstractSupplier implements Func
 
     private JSONQueryValue value;
 
+    private List<QueryChange> changes = Collections.emptyList();
+
     @Override
     Function<QueryParser, ParseTree> getParserTree() {
         return QueryParser::update;
@@ -52,6 +55,22 @@ public final class UpdateQueryConverter extends AbstractSupplier implements Func
         this.value = JSONQueryValue.of(ctx);
     }
 
+    @Override
+    public void exitSet(QueryParser.SetContext ctx) {
+        this.changes = ctx.assignment().stream().map(this::getChange).toList();
+    }
+
+    private QueryChange getChange(QueryParser.AssignmentContext ctx) {
+        if (ctx.change() != null) {
+            QueryParser.ChangeContext change = ctx.change();
+            return new QueryChange(change.name().getText(), UpdateOperator.SET, ValueConverter.get(change.value()));
+        } else if (ctx.increment() != null) {
+            QueryParser.IncrementContext increment = ctx.increment();
+            return new QueryChange(increment.name().getText(), UpdateOperator.INCREMENT, ValueConverter.get(increment.value()));
+        }
+        return new QueryChange(ctx.unset().name().getText(), UpdateOperator.UNSET, null);
+    }
+
     private DefaultQueryCondition getCondition(QueryParser.ChangeContext changeContext) {
         String name = changeContext.name().getText();
         QueryValue<?> queryValue = ValueConverter.get(changeContext.value());
@@ -62,6 +81,6 @@ public final class UpdateQueryConverter extends AbstractSupplier implements Func
     @Override
     public UpdateQuery apply(String query) {
         runQuery(query);
-        return new UpdateQuery(entity, conditions, value);
+        return new UpdateQuery(entity, conditions, value, changes, where);
     }
 }
@@ -12,7 +12,9 @@
 
 package org.eclipse.jnosql.communication.query;
 
+import org.eclipse.jnosql.communication.Aggregate;
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
 import jakarta.data.Sort;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -704,6 +706,47 @@ class SelectQueryConverterTest {
         assertThat(result).isTrue();
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select count(*) from God where age > 10"})
+    void shouldReturnParserAggregateQuery(String query) {
+        DefaultSelectQuery selectQuery = selectQueryConverter.apply(query);
+
+        assertEquals("God", selectQuery.entity());
+        assertTrue(selectQuery.fields().isEmpty());
+        assertTrue(selectQuery.groupBy().isEmpty());
+        assertThat(selectQuery.aggregates()).containsExactly(Aggregate.count());
+        assertTrue(selectQuery.where().isPresent());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select city, count(*), sum(salary), avg(age), min(age), max(age) from God group by city limit 5 order by city"})
+    void shouldReturnParserGroupByQuery(String query) {
+        DefaultSelectQuery selectQuery = selectQueryConverter.apply(query);
+
+        assertEquals("God", selectQuery.entity());
+        assertThat(selectQuery.fields()).containsExactly("city");
+        assertThat(selectQuery.groupBy()).containsExactly("city");
+        assertThat(selectQuery.aggregates()).containsExactly(Aggregate.count(), Aggregate.sum("salary"),
+                Aggregate.avg("age"), Aggregate.min("age"), Aggregate.max("age"));
+        assertEquals(5, selectQuery.limit());
+        assertThat(selectQuery.orderBy().stream().map(Sort::property).collect(toList())).containsExactly("city");
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select count, sum from God"})
+    void shouldKeepFunctionNamesAsFields(String query) {
+        DefaultSelectQuery selectQuery = selectQueryConverter.apply(query);
+
+        assertThat(selectQuery.fields()).containsExactly("count", "sum");
+        assertTrue(selectQuery.aggregates().isEmpty());
+    }
+
+    @ParameterizedTest(name = "Should return an error to the query {0}")
+    @ValueSource(strings = {"select name, count(*) from God group by city", "select * from God group by city",
+            "select sum(*) from God"})
+    void shouldReturnErrorWhenAggregateQueryIsInvalid(String query) {
+        Assertions.assertThrows(QueryException.class, () -> new SelectQueryConverter().apply(query));
+    }
 
     private DefaultSelectQuery checkSelectFromStart(String query) {
         DefaultSelectQuery selectQuery = selectQueryConverter.apply(query);
@@ -14,6 +14,7 @@ package org.eclipse.jnosql.communication.query;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.UpdateOperator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -180,6 +181,49 @@ class UpdateQueryConverterTest {
         assertEquals("London", address.getString("city"));
     }
 
+    @Test
+    void shouldParseSetWithWhere() {
+        UpdateQuery updateQuery = checkUpdateFromStart("update God set name = \"Diana\", age += 1, unset nickname where power > 10");
+        assertTrue(updateQuery.conditions().isEmpty());
+        assertTrue(updateQuery.value().isEmpty());
+        List<QueryChange> changes = updateQuery.changes();
+        assertEquals(3, changes.size());
+
+        assertEquals("name", changes.get(0).name());
+        assertEquals(UpdateOperator.SET, changes.get(0).operator());
+        assertEquals("Diana", StringQueryValue.class.cast(changes.get(0).value()).get());
+
+        assertEquals("age", changes.get(1).name());
+        assertEquals(UpdateOperator.INCREMENT, changes.get(1).operator());
+        assertEquals(1L, NumberQueryValue.class.cast(changes.get(1).value()).get());
+
+        assertEquals("nickname", changes.get(2).name());
+        assertEquals(UpdateOperator.UNSET, changes.get(2).operator());
+        Assertions.assertNull(changes.get(2).value());
+
+        QueryCondition condition = updateQuery.where().orElseThrow().condition();
+        assertEquals("power", condition.name());
+        assertEquals(Condition.GREATER_THAN, condition.condition());
+        assertEquals(10L, NumberQueryValue.class.cast(condition.value()).get());
+    }
+
+    @Test
+    void shouldParseSetWithoutWhere() {
+        UpdateQuery updateQuery = checkUpdateFromStart("update God set active = @active");
+        assertEquals(1, updateQuery.changes().size());
+        QueryChange change = updateQuery.changes().get(0);
+        assertEquals(UpdateOperator.SET, change.operator());
+        assertEquals("active", DefaultQueryValue.class.cast(change.value()).get());
+        assertTrue(updateQuery.where().isEmpty());
+    }
+
+    @Test
+    void shouldNotHaveChangesWhenReplacingEntity() {
+        UpdateQuery updateQuery = checkUpdateFromStart("update God (name = \"Diana\")");
+        assertTrue(updateQuery.changes().isEmpty());
+        assertTrue(updateQuery.where().isEmpty());
+    }
+
     private UpdateQuery checkUpdateFromStart(String query) {
         UpdateQuery updateQuery = update.apply(query);
         assertEquals("God", updateQuery.entity());
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Aggregate;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a query that summarizes the entities instead of returning them, such as
+ * {@code select city, count(*), avg(age) from Person where active = true group by city}.
+ * The {@link SelectQuery#name()} and {@link SelectQuery#condition()} of the query select the entities to aggregate,
+ * whereas its {@link SelectQuery#sorts()}, {@link SelectQuery#skip()} and {@link SelectQuery#limit()} apply to
+ * the groups, and its {@link SelectQuery#columns()} are ignored.
+ *
+ * <p>Each group is a {@link CommunicationEntity} with the query name, an element per {@link #groupBy()} name
+ * and an element per aggregate named by {@link Aggregate#alias()}, e.g.: {@code count(*)}. Without
+ * {@link #groupBy()}, the result is a single group even when no entity matches.</p>
+ *
+ * @param query      the query that selects the entities
+ * @param groupBy    the element names that group the entities
+ * @param aggregates the aggregates of each group
+ * @see DatabaseManager#aggregate(AggregateQuery)
+ */
+public record AggregateQuery(SelectQuery query, List<String> groupBy, List<Aggregate> aggregates) {
+
+    /**
+     * Validates the aggregate query.
+     *
+     * @throws NullPointerException     when any parameter is null
+     * @throws IllegalArgumentException when there is neither group by nor aggregate
+     */
+    public AggregateQuery {
+        Objects.requireNonNull(query, "query is required");
+        groupBy = List.copyOf(Objects.requireNonNull(groupBy, "groupBy is required"));
+        aggregates = List.copyOf(Objects.requireNonNull(aggregates, "aggregates is required"));
+        if (groupBy.isEmpty() && aggregates.isEmpty()) {
+            throw new IllegalArgumentException("An aggregate query requires either a group by or an aggregate");
+        }
+    }
+
+    /**
+     * The name of the entity to aggregate.
+     *
+     * @return the entity name
+     */
+    public String name() {
+        return query.name();
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Aggregate;
+import org.eclipse.jnosql.communication.AggregateFunction;
+import org.eclipse.jnosql.communication.CommunicationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.eclipse.jnosql.communication.semistructured.ConditionValues.INCOMPARABLE;
+
+/**
+ * The in-memory implementation of {@link DatabaseManager#aggregate(AggregateQuery)}. It streams the entities that
+ * match the condition, reading only the grouped and aggregated elements, and folds each one into the accumulators
+ * of its group, so the memory grows with the number of groups instead of the number of entities.
+ */
+final class Aggregator {
+
+    private static final Object ENTITY = new Object();
+
+    private final AggregateQuery query;
+
+    private final List<Function<CommunicationEntity, Object>> keys;
+
+    private final List<Function<CommunicationEntity, Object>> values;
+
+    private final Map<List<Object>, Group> groups = new LinkedHashMap<>();
+
+    private Aggregator(AggregateQuery query) {
+        this.query = query;
+        this.keys = query.groupBy().stream().map(CriteriaPredicates::reader).toList();
+        this.values = query.aggregates().stream()
+                .map(a -> a.name() == null ? (Function<CommunicationEntity, Object>) e -> ENTITY : CriteriaPredicates.reader(a.name()))
+                .toList();
+    }
+
+    static Stream<CommunicationEntity> aggregate(AggregateQuery query, DatabaseManager manager) {
+        SelectQuery select = query.query();
+        SelectQuery source = new DefaultSelectQuery(0, 0, select.name(), columns(query), Collections.emptyList(),
+                select.condition().orElse(null));
+        return aggregate(query, manager.select(source));
+    }
+
+    static Stream<CommunicationEntity> aggregate(AggregateQuery query, Stream<CommunicationEntity> entities) {
+        Aggregator aggregator = new Aggregator(query);
+        try (entities) {
+            entities.forEach(aggregator::accept);
+        }
+        return aggregator.result();
+    }
+
+    private static List<String> columns(AggregateQuery query) {
+        Set<String> columns = new LinkedHashSet<>(query.groupBy());
+        for (Aggregate aggregate : query.aggregates()) {
+            if (aggregate.name() == null) {
+                return Collections.emptyList();
+            }
+            columns.add(aggregate.name());
+        }
+        return new ArrayList<>(columns);
+    }
+
+    private void accept(CommunicationEntity entity) {
+        List<Object> key = new ArrayList<>(keys.size());
+        for (Function<CommunicationEntity, Object> reader : keys) {
+            key.add(ConditionValues.normalize(reader.apply(entity)));
+        }
+        Group group = groups.get(key);
+        if (group == null) {
+            group = new Group(entity);
+            groups.put(key, group);
+        }
+        for (int index = 0; index < values.size(); index++) {
+            group.accumulators[index].accept(values.get(index).apply(entity));
+        }
+    }
+
+    private Stream<CommunicationEntity> result() {
+        if (groups.isEmpty() && keys.isEmpty()) {
+            groups.put(Collections.emptyList(), new Group(null));
+        }
+        Stream<CommunicationEntity> entities = groups.values().stream().map(Group::toEntity);
+        SelectQuery select = query.query();
+        if (!select.sorts().isEmpty()) {
+            entities = entities.sorted(CriteriaPredicates.comparator(select.sorts()));
+        }
+        if (select.skip() > 0) {
+            entities = entities.skip(select.skip());
+        }
+        if (select.limit() > 0) {
+            entities = entities.limit(select.limit());
+        }
+        return entities;
+    }
+
+    private final class Group {
+
+        private final List<Object> key;
+
+        private final Accumulator[] accumulators;
+
+        private Group(CommunicationEntity first) {
+            this.key = new ArrayList<>(keys.size());
+            if (first != null) {
+                keys.forEach(reader -> key.add(reader.apply(first)));
+            }
+            this.accumulators = query.aggregates().stream().map(Accumulator::new).toArray(Accumulator[]::new);
+        }
+
+        private CommunicationEntity toEntity() {
+            CommunicationEntity entity = CommunicationEntity.of(query.name());
+            for (int index = 0; index < key.size(); index++) {
+                entity.add(query.groupBy().get(index), key.get(index));
+            }
+            for (Accumulator accumulator : accumulators) {
+                entity.add(accumulator.aggregate.alias(), accumulator.result());
+            }
+            return entity;
+        }
+    }
+
+    private static final class Accumulator {
+
+        private final Aggregate aggregate;
+
+        private long count;
+
+        private long longSum;
+
+        private double doubleSum;
+
+        private BigDecimal decimalSum;
+
+        private boolean floating;
+
+        private Object extreme;
+
+        private Accumulator(Aggregate aggregate) {
+            this.aggregate = aggregate;
+        }
+
+        private void accept(Object value) {
+            if (value == null) {
+                return;
+            }
+            count++;
+            switch (aggregate.function()) {
+                case SUM, AVG -> add(value);
+                case MIN -> keep(value, -1);
+                case MAX -> keep(value, 1);
+                default -> {
+                    // the count only needs the number of values
+                }
+            }
+        }
+
+        private void add(Object value) {
+            if (!(value instanceof Number number)) {
+                throw new CommunicationException("The aggregate " + aggregate.alias() + " requires numbers, but it has: " + value);
+            }
+            if (decimalSum == null && !floating && isIntegral(number)) {
+                try {
+                    longSum = Math.addExact(longSum, number.longValue());
+                    return;
+                } catch (ArithmeticException exception) {
+                    decimalSum = BigDecimal.valueOf(longSum);
+                }
+            } else if (decimalSum == null && (floating || number instanceof Double || number instanceof Float)
+                    && !(number instanceof BigDecimal || number instanceof BigInteger)) {
+                if (!floating) {
+                    floating = true;
+                    doubleSum = longSum;
+                }
+                doubleSum += number.doubleValue();
+                return;
+            }
+            if (decimalSum == null) {
+                decimalSum = floating ? new BigDecimal(doubleSum) : BigDecimal.valueOf(longSum);
+            }
+            decimalSum = decimalSum.add(toDecimal(number));
+        }
+
+        private void keep(Object value, int signal) {
+            if (extreme == null) {
+                extreme = value;
+                return;
+            }
+            int comparison = ConditionValues.compare(value, ConditionValues.normalize(extreme));
+            if (comparison == INCOMPARABLE) {
+                throw new CommunicationException("The aggregate " + aggregate.alias() + " cannot compare " + value + " with " + extreme);
+            }
+            if (Integer.signum(comparison) == signal) {
+                extreme = value;
+            }
+        }
+
+        private Object result() {
+            AggregateFunction function = aggregate.function();
+            if (function == AggregateFunction.COUNT) {
+                return count;
+            } else if (function == AggregateFunction.MIN || function == AggregateFunction.MAX) {
+                return extreme;
+            } else if (count == 0) {
+                return null;
+            } else if (function == AggregateFunction.SUM) {
+                return decimalSum != null ? decimalSum : floating ? (Object) doubleSum : (Object) longSum;
+            } else if (decimalSum != null) {
+                return decimalSum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128);
+            }
+            return (floating ? doubleSum : (double) longSum) / count;
+        }
+
+        private static boolean isIntegral(Number number) {
+            return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+        }
+
+        private static BigDecimal toDecimal(Number number) {
+            if (number instanceof BigDecimal decimal) {
+                return decimal;
+            } else if (number instanceof BigInteger integer) {
+                return new BigDecimal(integer);
+            } else if (isIntegral(number)) {
+                return BigDecimal.valueOf(number.longValue());
+            }
+            return new BigDecimal(number.toString());
+        }
+    }
+}
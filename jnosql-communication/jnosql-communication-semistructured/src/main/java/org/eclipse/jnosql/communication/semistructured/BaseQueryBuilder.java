@@ -12,7 +12,6 @@ package org.eclipse.jnosql.communication.semistructured;
 
 
 import static java.util.Arrays.asList;
-import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 abstract class BaseQueryBuilder {
@@ -23,7 +22,7 @@ abstract class BaseQueryBuilder {
 
     protected boolean and;
 
-    protected CriteriaCondition condition;
+    protected final CriteriaConditionBuilder condition = CriteriaCondition.builder();
 
     protected <T> void eqImpl(T value) {
         requireNonNull(value, "value is required");
@@ -79,14 +78,10 @@ abstract class BaseQueryBuilder {
 
         CriteriaCondition criteriaCondition = getColumnCondition(newCondition);
 
-        if (nonNull(condition)) {
-            if (and) {
-                this.condition = condition.and(criteriaCondition);
-            } else {
-                this.condition = condition.or(criteriaCondition);
-            }
+        if (and) {
+            condition.and(criteriaCondition);
         } else {
-            this.condition = criteriaCondition;
+            condition.or(criteriaCondition);
         }
         this.negate = false;
         this.name = null;
@@ -12,6 +12,7 @@
 package org.eclipse.jnosql.communication.semistructured;
 
 
+import org.eclipse.jnosql.communication.NameDictionary;
 import org.eclipse.jnosql.communication.TypeSupplier;
 import org.eclipse.jnosql.communication.Value;
 
@@ -45,12 +46,17 @@ import static java.util.stream.Collectors.toList;
  */
 public class CommunicationEntity {
 
-    private final Map<String, Element> elements = new HashMap<>();
+    private final Map<String, Element> elements;
 
     private final String name;
 
     CommunicationEntity(String name) {
-        this.name = name;
+        this(name, new HashMap<>());
+    }
+
+    CommunicationEntity(String name, Map<String, Element> elements) {
+        this.name = name == null ? null : NameDictionary.lookup(name);
+        this.elements = elements;
     }
 
 
@@ -281,17 +287,15 @@ public class CommunicationEntity {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof CommunicationEntity that)) {
             return false;
         }
-        CommunicationEntity that = (CommunicationEntity) o;
-        return Objects.equals(elements, that.elements) &&
-                Objects.equals(name, that.name);
+        return Objects.equals(name, that.name) && size() == that.size() && containsAll(that);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(elements, name);
+        return 31 * elementsHashCode() + Objects.hashCode(name);
     }
 
     @Override
@@ -313,6 +317,23 @@ public class CommunicationEntity {
         return new CommunicationEntity(requireNonNull(name, "name is required"));
     }
 
+    /**
+     * Creates a new compact instance of CommunicationEntity with the specified name. It has the same behavior as
+     * {@link #of(String)}, but it keeps the values in an array indexed by the element names shared by all the
+     * compact entities with the same name, and it creates each {@link Element} when it is read. It fits large result
+     * sets of entities with the same elements, e.g.: when a driver reads rows or documents.
+     *
+     * <p>The {@link #elements()}, {@link #values()} and {@link #elementNames()} are unmodifiable views
+     * of the entity instead of copies.</p>
+     *
+     * @param name the name of the communication entity
+     * @return a new compact CommunicationEntity instance
+     * @throws NullPointerException if the provided name is {@code null}
+     */
+    public static CommunicationEntity compact(String name) {
+        return new CompactCommunicationEntity(requireNonNull(name, "name is required"));
+    }
+
     /**
      * Creates a new instance of CommunicationEntity with the specified name and elements.
      *
@@ -327,8 +348,49 @@ public class CommunicationEntity {
         return communicationEntity;
     }
 
+    /**
+     * Checks whether every element of this entity is at the other entity with an equal value, without creating
+     * a map of either entity, so entities compare whatever their representation.
+     *
+     * @param other the other entity
+     * @return {@code true} if the other entity has every element of this entity
+     */
+    boolean containsAll(CommunicationEntity other) {
+        for (Element element : elements.values()) {
+            if (!other.contains(element.name(), element.get())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether this entity has the element with a value equal to the given one
+     *
+     * @param name  the element name
+     * @param value the element value, as returned by {@link Element#get()}
+     * @return {@code true} if the element exists with an equal value
+     */
+    boolean contains(String name, Object value) {
+        Element element = elements.get(name);
+        return element != null && Objects.equals(element.get(), value);
+    }
+
+    /**
+     * Returns the hash code of the elements, the same for every representation with the same elements.
+     *
+     * @return the sum of the name and value hash codes of the elements
+     */
+    int elementsHashCode() {
+        int hash = 0;
+        for (Element element : elements.values()) {
+            hash += element.name().hashCode() ^ Objects.hashCode(element.get());
+        }
+        return hash;
+    }
+
     @SuppressWarnings("unchecked")
-    private Object convert(Object value) {
+    static Object convert(Object value) {
         if (value instanceof Element) {
             Element element = Element.class.cast(value);
             return Collections.singletonMap(element.name(), convert(element.get()));
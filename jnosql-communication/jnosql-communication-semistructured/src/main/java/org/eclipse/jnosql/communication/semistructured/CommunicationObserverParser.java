@@ -10,6 +10,8 @@
  */
 package org.eclipse.jnosql.communication.semistructured;
 
+import java.util.Optional;
+
 /**
  * An observer for a parser; this observer allows checking both the name of an entity and the fields.
  * This observer might be used for the mapping process.
@@ -45,4 +47,15 @@ public interface CommunicationObserverParser {
         return field;
     }
 
+    /**
+     * Fires an event for the element that identifies each entity, such as the id.
+     *
+     * @param entity the entity name
+     * @return the key element name, or {@link Optional#empty()} when it is unknown
+     * @throws NullPointerException when the entity is null
+     */
+    default Optional<String> fireKey(String entity) {
+        return Optional.empty();
+    }
+
 }
@@ -32,8 +32,12 @@ public final class CommunicationPreparedStatement {
 
     private final SelectQuery selectQuery;
 
+    private final AggregateQuery aggregateQuery;
+
     private final DeleteQuery deleteQuery;
 
+    private final UpdateQuery updateQuery;
+
     private final PreparedStatementType type;
 
     private final Params params;
@@ -48,7 +52,9 @@ public final class CommunicationPreparedStatement {
 
     private CommunicationPreparedStatement(CommunicationEntity entity,
                                            SelectQuery selectQuery,
+                                           AggregateQuery aggregateQuery,
                                            DeleteQuery deleteQuery,
+                                           UpdateQuery updateQuery,
                                            PreparedStatementType type,
                                            Params params,
                                            String query,
@@ -57,7 +63,9 @@ public final class CommunicationPreparedStatement {
                                            DatabaseManager manager) {
         this.entity = entity;
         this.selectQuery = selectQuery;
+        this.aggregateQuery = aggregateQuery;
         this.deleteQuery = deleteQuery;
+        this.updateQuery = updateQuery;
         this.type = type;
         this.params = params;
         this.query = query;
@@ -97,6 +105,9 @@ public final class CommunicationPreparedStatement {
             case SELECT -> {
                 return manager.select(selectQuery);
             }
+            case AGGREGATE -> {
+                return manager.aggregate(aggregateQuery);
+            }
             case DELETE -> {
                 manager.delete(deleteQuery);
                 return Stream.empty();
@@ -104,6 +115,9 @@ public final class CommunicationPreparedStatement {
             case UPDATE -> {
                 return Stream.of(manager.update(entity));
             }
+            case BULK_UPDATE -> {
+                return Stream.of(Updater.result(updateQuery.name(), manager.update(updateQuery)));
+            }
             case INSERT -> {
                 if (Objects.isNull(duration)) {
                     return Stream.of(manager.insert(entity));
@@ -137,7 +151,28 @@ public final class CommunicationPreparedStatement {
     }
 
     enum PreparedStatementType {
-        SELECT, DELETE, UPDATE, INSERT
+        SELECT, AGGREGATE, DELETE, UPDATE, BULK_UPDATE, INSERT
+    }
+
+    /**
+     * Checks whether the statement is an aggregate query, whose result has an entity per group, as described at
+     * {@link AggregateQuery}, instead of the stored entities.
+     *
+     * @return {@code true} when the statement is an aggregate query
+     */
+    public boolean isAggregate() {
+        return type == PreparedStatementType.AGGREGATE;
+    }
+
+    /**
+     * Checks whether the statement updates every entity that matches a condition, as described at
+     * {@link UpdateQuery}; its result is a single entity with the number of updated entities at the
+     * {@code count} element.
+     *
+     * @return {@code true} when the statement is a conditional update
+     */
+    public boolean isBulkUpdate() {
+        return type == PreparedStatementType.BULK_UPDATE;
     }
 
 
@@ -151,8 +186,19 @@ public final class CommunicationPreparedStatement {
             Params params,
             String query,
             DatabaseManager manager) {
-        return new CommunicationPreparedStatement(null, selectQuery,
-                null, PreparedStatementType.SELECT, params, query,
+        return new CommunicationPreparedStatement(null, selectQuery, null,
+                null, null, PreparedStatementType.SELECT, params, query,
+                params.getParametersNames(), null, manager);
+
+    }
+
+    static CommunicationPreparedStatement aggregate(
+            AggregateQuery aggregateQuery,
+            Params params,
+            String query,
+            DatabaseManager manager) {
+        return new CommunicationPreparedStatement(null, null, aggregateQuery,
+                null, null, PreparedStatementType.AGGREGATE, params, query,
                 params.getParametersNames(), null, manager);
 
     }
@@ -162,8 +208,8 @@ public final class CommunicationPreparedStatement {
                                                  String query,
                                                  DatabaseManager manager) {
 
-        return new CommunicationPreparedStatement(null, null,
-                deleteQuery, PreparedStatementType.DELETE, params, query,
+        return new CommunicationPreparedStatement(null, null, null,
+                deleteQuery, null, PreparedStatementType.DELETE, params, query,
                 params.getParametersNames(), null, manager);
 
     }
@@ -173,8 +219,8 @@ public final class CommunicationPreparedStatement {
                                                  String query,
                                                  Duration duration,
                                                  DatabaseManager manager) {
-        return new CommunicationPreparedStatement(entity, null,
-                null, PreparedStatementType.INSERT, params, query,
+        return new CommunicationPreparedStatement(entity, null, null,
+                null, null, PreparedStatementType.INSERT, params, query,
                 params.getParametersNames(), duration, manager);
 
     }
@@ -183,8 +229,18 @@ public final class CommunicationPreparedStatement {
                                                  Params params,
                                                  String query,
                                                  DatabaseManager manager) {
-        return new CommunicationPreparedStatement(entity, null,
-                null, PreparedStatementType.UPDATE, params, query,
+        return new CommunicationPreparedStatement(entity, null, null,
+                null, null, PreparedStatementType.UPDATE, params, query,
+                params.getParametersNames(), null, manager);
+
+    }
+
+    static CommunicationPreparedStatement update(UpdateQuery updateQuery,
+                                                 Params params,
+                                                 String query,
+                                                 DatabaseManager manager) {
+        return new CommunicationPreparedStatement(null, null, null,
+                null, updateQuery, PreparedStatementType.BULK_UPDATE, params, query,
                 params.getParametersNames(), null, manager);
 
     }
@@ -0,0 +1,418 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.TypeSupplier;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link CommunicationEntity} that keeps its values in an array, instead of a map of {@link Element}. The element
+ * names come from the {@link EntitySchema} of its name: the entity keeps the schema slots it uses in ascending order
+ * next to their values, so the arrays grow with the elements of this entity instead of the whole schema.
+ * A value added as an object is kept as it is, and the {@link Value} and {@link Element} instances are created when
+ * they are read. The element names beyond the schema bound are kept in a map.
+ */
+final class CompactCommunicationEntity extends CommunicationEntity {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private static final int[] NO_SLOTS = new int[0];
+
+    private final EntitySchema schema;
+
+    private int[] slots;
+
+    private Object[] values;
+
+    private int count;
+
+    private Map<String, Object> overflow;
+
+    CompactCommunicationEntity(String name) {
+        super(name, null);
+        this.schema = EntitySchema.of(name);
+        this.slots = NO_SLOTS;
+        this.values = EMPTY;
+    }
+
+    @Override
+    public void add(Element element) {
+        Objects.requireNonNull(element, "Column is required");
+        put(element.name(), element.value());
+    }
+
+    @Override
+    public void add(String name, Object value) {
+        requireNonNull(name, "name is required");
+        if (value == null) {
+            put(name, Value.ofNull());
+        } else if (value instanceof Value) {
+            put(name, Value.of(value));
+        } else {
+            put(name, value);
+        }
+    }
+
+    @Override
+    public void add(String name, Value value) {
+        requireNonNull(name, "name is required");
+        put(name, value == null ? Value.ofNull() : value);
+    }
+
+    @Override
+    public void addNull(String name) {
+        requireNonNull(name, "name is required");
+        put(name, Value.ofNull());
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        Cursor cursor = new Cursor();
+        while (cursor.next()) {
+            map.put(cursor.name(), convert(value(cursor.value()).get()));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public List<Element> elements() {
+        return new AbstractList<>() {
+            @Override
+            public Element get(int index) {
+                Objects.checkIndex(index, size());
+                if (index < count) {
+                    return Element.of(schema.name(slots[index]), values[index]);
+                }
+                Iterator<Element> iterator = iterator();
+                for (int position = 0; position < index; position++) {
+                    iterator.next();
+                }
+                return iterator.next();
+            }
+
+            @Override
+            public Iterator<Element> iterator() {
+                return new ViewIterator<>() {
+                    @Override
+                    Element map(Cursor cursor) {
+                        return Element.of(cursor.name(), cursor.value());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return CompactCommunicationEntity.this.size();
+            }
+        };
+    }
+
+    @Override
+    public boolean remove(String name) {
+        requireNonNull(name, "name is required");
+        int slot = schema.slot(name);
+        if (slot >= 0) {
+            int index = index(slot);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(slots, index + 1, slots, index, count - index - 1);
+            System.arraycopy(values, index + 1, values, index, count - index - 1);
+            values[--count] = null;
+            return true;
+        }
+        return overflow != null && overflow.remove(name) != null;
+    }
+
+    @Override
+    public Optional<Element> find(String columnName) {
+        requireNonNull(columnName, "columnName is required");
+        Object value = raw(columnName);
+        return value == null ? Optional.empty() : Optional.of(Element.of(columnName, value));
+    }
+
+    @Override
+    public <T> Optional<T> find(String elementName, Class<T> type) {
+        Objects.requireNonNull(elementName, "elementName is required");
+        Objects.requireNonNull(type, "type is required");
+        Object value = raw(elementName);
+        return value == null ? Optional.empty() : Optional.ofNullable(value(value).get(type));
+    }
+
+    @Override
+    public <T> Optional<T> find(String elementName, TypeSupplier<T> type) {
+        Objects.requireNonNull(elementName, "elementName is required");
+        Objects.requireNonNull(type, "type is required");
+        Object value = raw(elementName);
+        return value == null ? Optional.empty() : Optional.ofNullable(value(value).get(type));
+    }
+
+    @Override
+    public int size() {
+        return overflow == null ? count : count + overflow.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public CommunicationEntity copy() {
+        CompactCommunicationEntity entity = new CompactCommunicationEntity(name());
+        if (count > 0) {
+            entity.slots = Arrays.copyOf(slots, count);
+            entity.values = Arrays.copyOf(values, count);
+            entity.count = count;
+        }
+        entity.overflow = overflow == null ? null : new LinkedHashMap<>(overflow);
+        return entity;
+    }
+
+    @Override
+    public Set<String> elementNames() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new ViewIterator<>() {
+                    @Override
+                    String map(Cursor cursor) {
+                        return cursor.name();
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object name) {
+                return name instanceof String text && raw(text) != null;
+            }
+
+            @Override
+            public int size() {
+                return CompactCommunicationEntity.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Collection<Value> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Value> iterator() {
+                return new ViewIterator<>() {
+                    @Override
+                    Value map(Cursor cursor) {
+                        return value(cursor.value());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return CompactCommunicationEntity.this.size();
+            }
+        };
+    }
+
+    @Override
+    public boolean contains(String name) {
+        requireNonNull(name, "name is required");
+        return raw(name) != null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, 0, count, null);
+        overflow = null;
+        count = 0;
+    }
+
+    @Override
+    boolean containsAll(CommunicationEntity other) {
+        for (int index = 0; index < count; index++) {
+            if (!other.contains(schema.name(slots[index]), unwrap(values[index]))) {
+                return false;
+            }
+        }
+        if (overflow != null) {
+            for (Map.Entry<String, Object> entry : overflow.entrySet()) {
+                if (!other.contains(entry.getKey(), unwrap(entry.getValue()))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    boolean contains(String name, Object value) {
+        Object current = raw(name);
+        return current != null && Objects.equals(unwrap(current), value);
+    }
+
+    @Override
+    int elementsHashCode() {
+        int hash = 0;
+        for (int index = 0; index < count; index++) {
+            hash += schema.name(slots[index]).hashCode() ^ Objects.hashCode(unwrap(values[index]));
+        }
+        if (overflow != null) {
+            for (Map.Entry<String, Object> entry : overflow.entrySet()) {
+                hash += entry.getKey().hashCode() ^ Objects.hashCode(unwrap(entry.getValue()));
+            }
+        }
+        return hash;
+    }
+
+    private void put(String name, Object value) {
+        int slot = schema.add(name);
+        if (slot < 0) {
+            if (overflow == null) {
+                overflow = new LinkedHashMap<>();
+            }
+            overflow.put(name, value);
+            return;
+        }
+        int index = index(slot);
+        if (index >= 0) {
+            values[index] = value;
+            return;
+        }
+        index = -(index + 1);
+        if (count == slots.length) {
+            int capacity = Math.max(4, count + (count >> 1));
+            slots = Arrays.copyOf(slots, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        System.arraycopy(slots, index, slots, index + 1, count - index);
+        System.arraycopy(values, index, values, index + 1, count - index);
+        slots[index] = slot;
+        values[index] = value;
+        count++;
+    }
+
+    private int index(int slot) {
+        return Arrays.binarySearch(slots, 0, count, slot);
+    }
+
+    private Object raw(String name) {
+        int slot = schema.slot(name);
+        if (slot >= 0) {
+            int index = index(slot);
+            return index < 0 ? null : values[index];
+        }
+        return overflow == null ? null : overflow.get(name);
+    }
+
+    private static Value value(Object value) {
+        return value instanceof Value current ? current : Value.of(value);
+    }
+
+    private static Object unwrap(Object value) {
+        return value instanceof Value current ? current.get() : value;
+    }
+
+    /**
+     * Walks the present values, first the slots and then the overflow.
+     */
+    private final class Cursor {
+
+        private final int[] positions = slots;
+
+        private final Object[] items = values;
+
+        private final int limit = count;
+
+        private final Iterator<Map.Entry<String, Object>> entries = overflow == null ? null
+                : overflow.entrySet().iterator();
+
+        private int index = -1;
+
+        private String name;
+
+        private Object value;
+
+        boolean next() {
+            if (++index < limit) {
+                name = schema.name(positions[index]);
+                value = items[index];
+                return true;
+            }
+            if (entries != null && entries.hasNext()) {
+                Map.Entry<String, Object> entry = entries.next();
+                name = entry.getKey();
+                value = entry.getValue();
+                return true;
+            }
+            return false;
+        }
+
+        String name() {
+            return name;
+        }
+
+        Object value() {
+            return value;
+        }
+    }
+
+    private abstract class ViewIterator<T> implements Iterator<T> {
+
+        private final Cursor cursor = new Cursor();
+
+        private boolean ready;
+
+        private boolean more;
+
+        @Override
+        public boolean hasNext() {
+            if (!ready) {
+                more = cursor.next();
+                ready = true;
+            }
+            return more;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            return map(cursor);
+        }
+
+        abstract T map(Cursor cursor);
+    }
+}
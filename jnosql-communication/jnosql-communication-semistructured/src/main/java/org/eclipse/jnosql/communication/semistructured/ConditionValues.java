@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Value;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and compares the values of the {@link CriteriaCondition} operands in memory. The numbers are compared by
+ * their numeric value whatever their type, the enums by their name and any other value compared with a
+ * {@link String} by its {@link Object#toString()}.
+ */
+final class ConditionValues {
+
+    /**
+     * The result of {@link #compare(Object, Object)} when the values cannot be compared.
+     */
+    static final int INCOMPARABLE = Integer.MIN_VALUE;
+
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private ConditionValues() {
+    }
+
+    static List<Object> operands(Object value) {
+        Object operand = unwrap(value);
+        if (!(operand instanceof Iterable<?> iterable)) {
+            throw new IllegalArgumentException("The condition requires an iterable, but it has: " + operand);
+        }
+        List<Object> values = new ArrayList<>();
+        for (Object item : iterable) {
+            Object unwrapped = unwrap(item);
+            if (unwrapped instanceof Iterable<?> params) {
+                params.forEach(p -> values.add(unwrap(p)));
+            } else {
+                values.add(unwrapped);
+            }
+        }
+        return values;
+    }
+
+    static Object unwrap(Object value) {
+        return value instanceof Value wrapped ? wrapped.get() : value;
+    }
+
+    static boolean isEqual(Object actual, Object expected) {
+        if (actual == null) {
+            return false;
+        }
+        if (actual == expected || actual.equals(expected)) {
+            return true;
+        }
+        Object value = normalize(actual);
+        if (value.equals(expected)) {
+            return true;
+        }
+        return (value instanceof String || expected instanceof String)
+                && !(value instanceof Number && expected instanceof Number)
+                && value.toString().equals(expected.toString());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compare(Object actual, Object expected) {
+        if (actual == null || expected == null) {
+            return INCOMPARABLE;
+        }
+        Object value = normalize(actual);
+        if (value instanceof Long first && expected instanceof Long second) {
+            return Long.compare(first, second);
+        } else if (value instanceof Number first && expected instanceof Number second) {
+            BigDecimal left = toDecimal(first);
+            BigDecimal right = toDecimal(second);
+            return left == null || right == null ? INCOMPARABLE : left.compareTo(right);
+        } else if (value instanceof Number || expected instanceof Number) {
+            return INCOMPARABLE;
+        } else if (value.getClass() != expected.getClass()
+                && (value instanceof String || expected instanceof String)) {
+            return value.toString().compareTo(expected.toString());
+        } else if (value instanceof Comparable comparable) {
+            try {
+                return Integer.signum(comparable.compareTo(expected));
+            } catch (ClassCastException exception) {
+                return INCOMPARABLE;
+            }
+        }
+        return INCOMPARABLE;
+    }
+
+    static Object normalize(Object value) {
+        if (value == null || value instanceof Long || value instanceof String) {
+            return value;
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof Number number) {
+            BigDecimal decimal = toDecimal(number);
+            if (decimal == null) {
+                return value;
+            }
+            decimal = decimal.stripTrailingZeros();
+            if (decimal.scale() <= 0 && decimal.compareTo(MIN_LONG) >= 0 && decimal.compareTo(MAX_LONG) <= 0) {
+                return decimal.longValueExact();
+            }
+            return decimal;
+        } else if (value instanceof Enum<?> constant) {
+            return constant.name();
+        } else if (value instanceof Character character) {
+            return character.toString();
+        }
+        return value;
+    }
+
+    private static BigDecimal toDecimal(Number number) {
+        if (number instanceof BigDecimal decimal) {
+            return decimal;
+        } else if (number instanceof Long || number instanceof Integer || number instanceof Short
+                || number instanceof Byte) {
+            return BigDecimal.valueOf(number.longValue());
+        } else if (number instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        } else if (number instanceof Double || number instanceof Float) {
+            double value = number.doubleValue();
+            return Double.isFinite(value) ? new BigDecimal(number.toString()) : null;
+        }
+        try {
+            return new BigDecimal(number.toString());
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+}
@@ -146,7 +146,7 @@ public final class CriteriaCondition {
 
     @Override
     public int hashCode() {
-        return Objects.hash(element, condition, readOnly);
+        return Objects.hash(element, condition);
     }
 
     @Override
@@ -169,6 +169,16 @@ public final class CriteriaCondition {
         return new CriteriaCondition(condition.element(), condition.condition(), true);
     }
 
+    /**
+     * Creates a {@link CriteriaConditionBuilder} that appends the conditions with AND or OR in O(n), instead of
+     * copying them at every {@link #and(CriteriaCondition)} or {@link #or(CriteriaCondition)} call.
+     *
+     * @return a new {@link CriteriaConditionBuilder} instance
+     */
+    public static CriteriaConditionBuilder builder() {
+        return new CriteriaConditionBuilder();
+    }
+
     static CriteriaCondition of(Element element, Condition condition) {
         return new CriteriaCondition(Objects.requireNonNull(element, "Column is required"), condition);
     }
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Builds a {@link CriteriaCondition} appending one condition after another with AND or OR, from the left to the
+ * right, as {@code a.and(b).or(c)} does. Whereas {@link CriteriaCondition#and(CriteriaCondition)} and
+ * {@link CriteriaCondition#or(CriteriaCondition)} copy the conditions at every call, the builder appends them to a
+ * single list while the operator does not change, so building a condition of n terms takes O(n).
+ * <p>Example:</p>
+ * <pre>{@code
+ * CriteriaCondition condition = CriteriaCondition.builder()
+ *         .and(CriteriaCondition.eq("name", "Ada"))
+ *         .and(CriteriaCondition.gte("age", 18))
+ *         .or(CriteriaCondition.eq("admin", true))
+ *         .build().orElseThrow();
+ * }</pre>
+ *
+ * @see CriteriaCondition#builder()
+ */
+public final class CriteriaConditionBuilder {
+
+    private List<CriteriaCondition> conditions = new ArrayList<>();
+
+    private Condition operator;
+
+    CriteriaConditionBuilder() {
+    }
+
+    /**
+     * Appends the condition with {@link Condition#AND}; when it is the first one, it becomes the condition itself.
+     *
+     * @param condition the condition
+     * @return this builder
+     * @throws NullPointerException when condition is null
+     */
+    public CriteriaConditionBuilder and(CriteriaCondition condition) {
+        return append(Condition.AND, condition);
+    }
+
+    /**
+     * Appends the condition with {@link Condition#OR}; when it is the first one, it becomes the condition itself.
+     *
+     * @param condition the condition
+     * @return this builder
+     * @throws NullPointerException when condition is null
+     */
+    public CriteriaConditionBuilder or(CriteriaCondition condition) {
+        return append(Condition.OR, condition);
+    }
+
+    /**
+     * Checks whether no condition was appended.
+     *
+     * @return {@code true} when there is no condition
+     */
+    public boolean isEmpty() {
+        return conditions.isEmpty();
+    }
+
+    /**
+     * Creates the condition, the builder keeps the conditions, so it can go on appending them.
+     *
+     * @return the condition or {@link Optional#empty()} when there is no condition
+     */
+    public Optional<CriteriaCondition> build() {
+        if (conditions.isEmpty()) {
+            return Optional.empty();
+        } else if (operator == null) {
+            return Optional.of(conditions.get(0));
+        }
+        return Optional.of(CriteriaCondition.of(Element.of(operator.getNameField(), new ArrayList<>(conditions)),
+                operator));
+    }
+
+    private CriteriaConditionBuilder append(Condition condition, CriteriaCondition criteria) {
+        Objects.requireNonNull(criteria, "condition is required");
+        if (conditions.isEmpty()) {
+            conditions.add(criteria);
+        } else if (operator == null) {
+            CriteriaCondition first = conditions.get(0);
+            if (first.condition() == condition) {
+                conditions = new ArrayList<>(first.element().get(new TypeReference<List<CriteriaCondition>>() {
+                }));
+            }
+            conditions.add(criteria);
+            operator = condition;
+        } else if (operator == condition) {
+            conditions.add(criteria);
+        } else {
+            CriteriaCondition current = CriteriaCondition.of(Element.of(operator.getNameField(), conditions), operator);
+            conditions = new ArrayList<>();
+            conditions.add(current);
+            conditions.add(criteria);
+            operator = condition;
+        }
+        return this;
+    }
+}
@@ -0,0 +1,509 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.eclipse.jnosql.communication.semistructured.ConditionValues.INCOMPARABLE;
+import static org.eclipse.jnosql.communication.semistructured.ConditionValues.operands;
+import static org.eclipse.jnosql.communication.semistructured.ConditionValues.unwrap;
+
+/**
+ * Rewrites a {@link CriteriaCondition} to an equivalent one that is smaller and friendlier to the database indexes,
+ * before the query reaches the {@link DatabaseManager}:
+ * <ul>
+ *     <li>{@code NOT(NOT(a))} becomes {@code a};</li>
+ *     <li>the nested AND of AND, or OR of OR, become a single AND or OR, and the repeated conditions are removed;</li>
+ *     <li>the OR of EQUALS, or IN, on the same element becomes a single IN;</li>
+ *     <li>the ranges on the same element are merged in the narrowest one, {@code a >= x AND a <= y} becomes
+ *     {@code a BETWEEN x AND y}, and an EQUALS drops the ranges and IN it satisfies.</li>
+ * </ul>
+ * When the condition can never match, e.g.: {@code a = 1 AND a = 2} or {@code a > 10 AND a < 5}, the normalization
+ * returns {@link Optional#empty()}, so the caller can skip the database call. The ranges are merged only on numbers,
+ * compared by their numeric value whatever their type, and on dates; the text is left as it is, since its order and
+ * equality depend on the database collation.
+ * <p>
+ * The rewrite assumes every element holds a single value. On a multi-valued element, such as an array or a
+ * collection, each condition may match a different item, so {@code tags = 1 AND tags = 2} or
+ * {@code scores > 10 AND scores < 5} can match an entity, and the IN that an AND intersects, or that a range
+ * filters, can drop matches. Do not normalize the queries of entities that filter on multi-valued elements.
+ *
+ * @see NormalizedDatabaseManager
+ */
+public final class CriteriaNormalizer {
+
+    /**
+     * The condition that never matches, an OR without conditions.
+     */
+    private static final CriteriaCondition NONE = CriteriaCondition.or();
+
+    private CriteriaNormalizer() {
+    }
+
+    /**
+     * Normalizes the condition.
+     *
+     * @param condition the condition
+     * @return the normalized condition, the condition itself when there is nothing to change, or
+     * {@link Optional#empty()} when the condition never matches
+     * @throws NullPointerException when condition is null
+     */
+    public static Optional<CriteriaCondition> normalize(CriteriaCondition condition) {
+        Objects.requireNonNull(condition, "condition is required");
+        CriteriaCondition normalized = simplify(condition);
+        if (normalized == NONE) {
+            return Optional.empty();
+        }
+        return Optional.of(normalized.equals(condition) ? condition : normalized);
+    }
+
+    /**
+     * Normalizes the condition of the query.
+     *
+     * @param query the query
+     * @return the query with the normalized condition, the query itself when there is nothing to change, or
+     * {@link Optional#empty()} when the query never matches
+     * @throws NullPointerException when query is null
+     */
+    public static Optional<SelectQuery> normalize(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        CriteriaCondition condition = query.condition().orElse(null);
+        if (condition == null) {
+            return Optional.of(query);
+        }
+        return normalize(condition).map(c -> c == condition ? query : new DefaultSelectQuery(query.limit(),
+                query.skip(), query.name(), query.columns(), query.sorts(), c));
+    }
+
+    /**
+     * Normalizes the condition of the query.
+     *
+     * @param query the query
+     * @return the query with the normalized condition, the query itself when there is nothing to change, or
+     * {@link Optional#empty()} when the query never matches
+     * @throws NullPointerException when query is null
+     */
+    public static Optional<DeleteQuery> normalize(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        CriteriaCondition condition = query.condition().orElse(null);
+        if (condition == null) {
+            return Optional.of(query);
+        }
+        return normalize(condition).map(c -> c == condition ? query
+                : new DefaultDeleteQuery(query.name(), c, query.columns()));
+    }
+
+    /**
+     * Normalizes the condition of the query.
+     *
+     * @param query the query
+     * @return the query with the normalized condition, the query itself when there is nothing to change, or
+     * {@link Optional#empty()} when the query never matches
+     * @throws NullPointerException when query is null
+     */
+    public static Optional<UpdateQuery> normalize(UpdateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        CriteriaCondition condition = query.condition().orElse(null);
+        if (condition == null) {
+            return Optional.of(query);
+        }
+        return normalize(condition).map(c -> c == condition ? query
+                : new DefaultUpdateQuery(query.name(), query.changes(), c, query.key().orElse(null)));
+    }
+
+    private static CriteriaCondition simplify(CriteriaCondition condition) {
+        switch (condition.condition()) {
+            case NOT -> {
+                return not(condition);
+            }
+            case AND -> {
+                return and(condition);
+            }
+            case OR -> {
+                return or(condition);
+            }
+            case BETWEEN -> {
+                List<Object> values = operands(condition.element().get());
+                int comparison = values.size() == 2 ? order(values.get(0), values.get(1)) : INCOMPARABLE;
+                return comparison != INCOMPARABLE && comparison > 0 ? NONE : condition;
+            }
+            case IN -> {
+                return operands(condition.element().get()).isEmpty() ? NONE : condition;
+            }
+            default -> {
+                return condition;
+            }
+        }
+    }
+
+    private static CriteriaCondition not(CriteriaCondition condition) {
+        CriteriaCondition negated = condition.element().get(CriteriaCondition.class);
+        if (negated.condition() == Condition.NOT) {
+            return simplify(negated.element().get(CriteriaCondition.class));
+        }
+        CriteriaCondition simplified = simplify(negated);
+        if (simplified == NONE || simplified == negated) {
+            return condition;
+        } else if (simplified.condition() == Condition.NOT) {
+            return simplified.element().get(CriteriaCondition.class);
+        }
+        return CriteriaCondition.of(Element.of(Condition.NOT.getNameField(), simplified), Condition.NOT);
+    }
+
+    private static CriteriaCondition and(CriteriaCondition condition) {
+        List<CriteriaCondition> conditions = conditions(condition);
+        Set<CriteriaCondition> terms = new LinkedHashSet<>();
+        for (CriteriaCondition term : conditions) {
+            CriteriaCondition simplified = simplify(term);
+            if (simplified == NONE) {
+                return NONE;
+            } else if (simplified.condition() == Condition.AND) {
+                terms.addAll(conditions(simplified));
+            } else {
+                terms.add(simplified);
+            }
+        }
+        List<CriteriaCondition> merged = mergeRanges(new ArrayList<>(terms));
+        if (merged == null) {
+            return NONE;
+        }
+        return compose(Condition.AND, condition, conditions, merged);
+    }
+
+    private static CriteriaCondition or(CriteriaCondition condition) {
+        List<CriteriaCondition> conditions = conditions(condition);
+        Set<CriteriaCondition> terms = new LinkedHashSet<>();
+        for (CriteriaCondition term : conditions) {
+            CriteriaCondition simplified = simplify(term);
+            if (simplified == NONE) {
+                continue;
+            } else if (simplified.condition() == Condition.OR) {
+                terms.addAll(conditions(simplified));
+            } else {
+                terms.add(simplified);
+            }
+        }
+        if (terms.isEmpty()) {
+            return NONE;
+        }
+        return compose(Condition.OR, condition, conditions, foldIn(new ArrayList<>(terms)));
+    }
+
+    private static CriteriaCondition compose(Condition operator, CriteriaCondition condition,
+                                             List<CriteriaCondition> original, List<CriteriaCondition> terms) {
+        if (terms.size() == 1) {
+            return terms.get(0);
+        } else if (terms.isEmpty() || terms.equals(original)) {
+            return condition;
+        }
+        return CriteriaCondition.of(Element.of(operator.getNameField(), terms), operator);
+    }
+
+    private static List<CriteriaCondition> foldIn(List<CriteriaCondition> terms) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (CriteriaCondition term : terms) {
+            if (isFoldable(term)) {
+                counts.merge(term.element().name(), 1, Integer::sum);
+            }
+        }
+        if (counts.values().stream().noneMatch(count -> count > 1)) {
+            return terms;
+        }
+        Map<String, Set<Object>> values = new LinkedHashMap<>();
+        for (CriteriaCondition term : terms) {
+            String name = term.element().name();
+            if (isFoldable(term) && counts.get(name) > 1) {
+                Set<Object> items = values.computeIfAbsent(name, k -> new LinkedHashSet<>());
+                if (term.condition() == Condition.EQUALS) {
+                    items.add(unwrap(term.element().get()));
+                } else {
+                    items.addAll(operands(term.element().get()));
+                }
+            }
+        }
+        List<CriteriaCondition> folded = new ArrayList<>();
+        for (CriteriaCondition term : terms) {
+            String name = term.element().name();
+            if (!isFoldable(term) || counts.get(name) == 1) {
+                folded.add(term);
+            } else if (values.containsKey(name)) {
+                folded.add(CriteriaCondition.in(Element.of(name, new ArrayList<>(values.remove(name)))));
+            }
+        }
+        return folded;
+    }
+
+    private static boolean isFoldable(CriteriaCondition condition) {
+        if (condition.condition() == Condition.IN) {
+            return operands(condition.element().get()).stream().allMatch(CriteriaNormalizer::isScalar);
+        }
+        return condition.condition() == Condition.EQUALS && isScalar(unwrap(condition.element().get()));
+    }
+
+    private static boolean isScalar(Object value) {
+        return value != null && !(value instanceof Iterable) && !(value instanceof Map) && !(value instanceof Element);
+    }
+
+    private static List<CriteriaCondition> mergeRanges(List<CriteriaCondition> terms) {
+        Map<String, List<CriteriaCondition>> ranges = new HashMap<>();
+        for (CriteriaCondition term : terms) {
+            if (isRange(term)) {
+                ranges.computeIfAbsent(term.element().name(), k -> new ArrayList<>()).add(term);
+            }
+        }
+        if (ranges.values().stream().noneMatch(r -> r.size() > 1)) {
+            return terms;
+        }
+        List<CriteriaCondition> merged = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (CriteriaCondition term : terms) {
+            if (!isRange(term)) {
+                merged.add(term);
+            } else if (names.add(term.element().name())) {
+                List<CriteriaCondition> range = new Range(term.element().name()).merge(ranges.get(term.element().name()));
+                if (range == null) {
+                    return null;
+                }
+                merged.addAll(range);
+            }
+        }
+        return merged;
+    }
+
+    private static boolean isRange(CriteriaCondition condition) {
+        return switch (condition.condition()) {
+            case GREATER_THAN, GREATER_EQUALS_THAN, LESSER_THAN, LESSER_EQUALS_THAN, BETWEEN -> true;
+            case EQUALS, IN -> isFoldable(condition);
+            default -> false;
+        };
+    }
+
+    /**
+     * Compares the numbers and the dates, whose order does not depend on the database.
+     *
+     * @return the comparison or {@link ConditionValues#INCOMPARABLE}
+     */
+    private static int order(Object value, Object other) {
+        Object first = ConditionValues.normalize(value);
+        Object second = ConditionValues.normalize(other);
+        if (isOrdered(first) && isOrdered(second)
+                && (first instanceof Number ? second instanceof Number : first.getClass() == second.getClass())) {
+            return ConditionValues.compare(first, second);
+        }
+        return INCOMPARABLE;
+    }
+
+    private static boolean isOrdered(Object value) {
+        return value instanceof Number || value instanceof Temporal || value instanceof Date;
+    }
+
+    private static List<CriteriaCondition> conditions(CriteriaCondition condition) {
+        return condition.element().get(new TypeReference<List<CriteriaCondition>>() {
+        });
+    }
+
+    private record Bound(Object value, boolean inclusive) {
+
+        private Condition lower() {
+            return inclusive ? Condition.GREATER_EQUALS_THAN : Condition.GREATER_THAN;
+        }
+
+        private Condition upper() {
+            return inclusive ? Condition.LESSER_EQUALS_THAN : Condition.LESSER_THAN;
+        }
+    }
+
+    /**
+     * Merges the conditions of a single element that an AND combines.
+     */
+    private static final class Range {
+
+        private final String name;
+
+        private boolean incomparable;
+
+        private Range(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return the merged conditions, the conditions themselves when they are not comparable or null when they
+         * never match
+         */
+        private List<CriteriaCondition> merge(List<CriteriaCondition> terms) {
+            if (terms.size() == 1) {
+                return terms;
+            }
+            CriteriaCondition equals = null;
+            List<Object> in = null;
+            Bound lower = null;
+            Bound upper = null;
+            for (CriteriaCondition term : terms) {
+                Object value = term.element().get();
+                switch (term.condition()) {
+                    case EQUALS -> {
+                        if (equals == null) {
+                            equals = term;
+                        } else if (compare(unwrap(value), unwrap(equals.element().get())) != 0) {
+                            return incomparable ? terms : null;
+                        }
+                    }
+                    case IN -> in = in == null ? operands(value) : intersect(in, operands(value));
+                    case GREATER_THAN -> lower = narrow(lower, new Bound(unwrap(value), false), 1);
+                    case GREATER_EQUALS_THAN -> lower = narrow(lower, new Bound(unwrap(value), true), 1);
+                    case LESSER_THAN -> upper = narrow(upper, new Bound(unwrap(value), false), -1);
+                    case LESSER_EQUALS_THAN -> upper = narrow(upper, new Bound(unwrap(value), true), -1);
+                    case BETWEEN -> {
+                        List<Object> values = operands(value);
+                        lower = narrow(lower, new Bound(values.get(0), true), 1);
+                        upper = narrow(upper, new Bound(values.get(1), true), -1);
+                    }
+                    default -> {
+                        return terms;
+                    }
+                }
+            }
+            if (incomparable) {
+                return terms;
+            }
+            if (lower != null && upper != null) {
+                int comparison = order(lower.value(), upper.value());
+                if (comparison == INCOMPARABLE) {
+                    return terms;
+                } else if (comparison > 0 || (comparison == 0 && !(lower.inclusive() && upper.inclusive()))) {
+                    return null;
+                }
+            }
+            if (equals != null) {
+                Object value = unwrap(equals.element().get());
+                if (in != null) {
+                    if (!isOrdered(ConditionValues.normalize(value)) || !in.stream().map(ConditionValues::normalize)
+                            .allMatch(CriteriaNormalizer::isOrdered)) {
+                        return terms;
+                    } else if (in.stream().noneMatch(v -> order(value, v) == 0)) {
+                        return null;
+                    }
+                }
+                Boolean within = within(value, lower, upper);
+                if (within == null) {
+                    return terms;
+                }
+                return within ? List.of(equals) : null;
+            }
+            if (in != null) {
+                List<Object> values = new ArrayList<>();
+                for (Object value : in) {
+                    Boolean within = within(value, lower, upper);
+                    if (within == null) {
+                        return terms;
+                    } else if (within) {
+                        values.add(value);
+                    }
+                }
+                if (values.isEmpty()) {
+                    return null;
+                }
+                return List.of(values.size() == 1 ? CriteriaCondition.eq(Element.of(name, values.get(0)))
+                        : CriteriaCondition.in(Element.of(name, values)));
+            }
+            return bounds(lower, upper);
+        }
+
+        private List<CriteriaCondition> bounds(Bound lower, Bound upper) {
+            if (lower == null) {
+                return List.of(CriteriaCondition.of(Element.of(name, upper.value()), upper.upper()));
+            } else if (upper == null) {
+                return List.of(CriteriaCondition.of(Element.of(name, lower.value()), lower.lower()));
+            } else if (order(lower.value(), upper.value()) == 0) {
+                return List.of(CriteriaCondition.eq(Element.of(name, lower.value())));
+            } else if (lower.inclusive() && upper.inclusive()) {
+                return List.of(CriteriaCondition.between(Element.of(name, List.of(lower.value(), upper.value()))));
+            }
+            return List.of(CriteriaCondition.of(Element.of(name, lower.value()), lower.lower()),
+                    CriteriaCondition.of(Element.of(name, upper.value()), upper.upper()));
+        }
+
+        /**
+         * @param direction 1 to keep the greatest bound, -1 to keep the least one
+         */
+        private Bound narrow(Bound current, Bound bound, int direction) {
+            if (current == null) {
+                return bound;
+            }
+            int comparison = compare(bound.value(), current.value());
+            if (comparison == INCOMPARABLE) {
+                return current;
+            } else if (comparison == 0) {
+                return current.inclusive() ? bound : current;
+            }
+            return comparison * direction > 0 ? bound : current;
+        }
+
+        private int compare(Object value, Object other) {
+            int comparison = order(value, other);
+            if (comparison == INCOMPARABLE) {
+                incomparable = true;
+            }
+            return comparison;
+        }
+
+        private List<Object> intersect(List<Object> values, List<Object> others) {
+            Set<Object> normalized = new HashSet<>();
+            others.forEach(o -> normalized.add(ConditionValues.normalize(o)));
+            if (!normalized.stream().allMatch(CriteriaNormalizer::isOrdered)
+                    || !values.stream().map(ConditionValues::normalize).allMatch(CriteriaNormalizer::isOrdered)) {
+                incomparable = true;
+                return values;
+            }
+            return values.stream().filter(v -> normalized.contains(ConditionValues.normalize(v))).toList();
+        }
+
+        /**
+         * @return whether the value is within the bounds, or null when it is not comparable
+         */
+        private static Boolean within(Object value, Bound lower, Bound upper) {
+            if (lower != null) {
+                int comparison = order(value, lower.value());
+                if (comparison == INCOMPARABLE) {
+                    return null;
+                } else if (comparison < 0 || (comparison == 0 && !lower.inclusive())) {
+                    return false;
+                }
+            }
+            if (upper != null) {
+                int comparison = order(value, upper.value());
+                if (comparison == INCOMPARABLE) {
+                    return null;
+                }
+                return comparison < 0 || (comparison == 0 && upper.inclusive());
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,412 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.eclipse.jnosql.communication.semistructured.ConditionValues.INCOMPARABLE;
+import static org.eclipse.jnosql.communication.semistructured.ConditionValues.normalize;
+import static org.eclipse.jnosql.communication.semistructured.ConditionValues.operands;
+import static org.eclipse.jnosql.communication.semistructured.ConditionValues.unwrap;
+
+/**
+ * Evaluates the query parts against {@link CommunicationEntity} instances in memory, e.g.: at test doubles, caches,
+ * embedded engines or to filter what a database cannot.
+ * <p>{@link #compile(CriteriaCondition)} reads the {@link CriteriaCondition} tree once and returns a reusable
+ * {@link Predicate}: the LIKE patterns are compiled, the IN values are hashed and the AND and OR operands run
+ * ordered by their estimated selectivity and cost, so the cheapest operand that decides the result runs first.</p>
+ * <p>The numbers are compared by their numeric value whatever their type, so {@code 30L} matches
+ * {@code BigDecimal.valueOf(30)}; enums are compared by their name and any other value compared with a
+ * {@link String} by its {@link Object#toString()}. A name with dots, such as {@code address.city}, reaches the
+ * sub-documents when the entity has no element with that name. A missing element or a null value only matches
+ * the equality with null, and the negation of any other condition.</p>
+ */
+public final class CriteriaPredicates {
+
+    private static final Object MISSING = new Object();
+
+    private static final Pattern PATH = Pattern.compile("\\.");
+
+    private CriteriaPredicates() {
+    }
+
+    /**
+     * Compiles the condition to a reusable {@link Predicate}.
+     *
+     * @param condition the condition
+     * @return the predicate that tests whether an entity matches the condition
+     * @throws NullPointerException          when condition is null
+     * @throws IllegalArgumentException      when an IN or BETWEEN value is not an iterable, or LIKE has no text
+     * @throws UnsupportedOperationException when the condition is not supported
+     */
+    public static Predicate<CommunicationEntity> compile(CriteriaCondition condition) {
+        Objects.requireNonNull(condition, "condition is required");
+        return compiled(condition).predicate();
+    }
+
+    /**
+     * Creates a {@link Comparator} that sorts the entities as the {@link SelectQuery#sorts()}, the first sort has more
+     * precedence than the next one. The null and missing values come last on ascending order.
+     *
+     * @param sorts the sorts
+     * @return the comparator
+     * @throws NullPointerException when sorts is null
+     */
+    public static Comparator<CommunicationEntity> comparator(List<Sort<?>> sorts) {
+        Objects.requireNonNull(sorts, "sorts is required");
+        Comparator<CommunicationEntity> comparator = (first, second) -> 0;
+        for (Sort<?> sort : sorts) {
+            Path path = new Path(sort.property());
+            boolean ignoreCase = sort.ignoreCase();
+            Comparator<CommunicationEntity> current = (first, second) ->
+                    compareSorted(path.resolve(first), path.resolve(second), ignoreCase);
+            comparator = comparator.thenComparing(sort.isAscending() ? current : current.reversed());
+        }
+        return comparator;
+    }
+
+    /**
+     * Creates a function that reads the value of the element by name, reaching the sub-documents as
+     * {@link #compile(CriteriaCondition)} does.
+     *
+     * @param name the element name
+     * @return the function that returns the value, or {@code null} when the element is missing
+     */
+    static Function<CommunicationEntity, Object> reader(String name) {
+        Path path = new Path(name);
+        return entity -> {
+            Object value = path.resolve(entity);
+            return value == MISSING ? null : unwrap(value);
+        };
+    }
+
+    /**
+     * Compiles a LIKE pattern, where {@code %} matches any sequence of characters and {@code _} a single one.
+     * The patterns without wildcards, or with {@code %} only at the edges, skip the regular expression.
+     *
+     * @param pattern the pattern
+     * @return the predicate that tests whether a text matches the pattern
+     * @throws NullPointerException when pattern is null
+     */
+    public static Predicate<String> like(String pattern) {
+        Objects.requireNonNull(pattern, "pattern is required");
+        if (isPlain(pattern)) {
+            return pattern::equals;
+        }
+        int start = pattern.startsWith("%") ? 1 : 0;
+        int end = pattern.length() > start && pattern.endsWith("%") ? pattern.length() - 1 : pattern.length();
+        String body = pattern.substring(start, end);
+        if (isPlain(body)) {
+            if (start == 1 && end < pattern.length()) {
+                return text -> text.contains(body);
+            } else if (start == 1) {
+                return text -> text.endsWith(body);
+            }
+            return text -> text.startsWith(body);
+        }
+        Pattern regex = Pattern.compile(toRegex(pattern), Pattern.DOTALL);
+        return text -> regex.matcher(text).matches();
+    }
+
+    /**
+     * Converts a LIKE pattern to a regular expression that matches the whole text, e.g.: to push the pattern down to
+     * a database that evaluates regular expressions.
+     *
+     * @param pattern the pattern
+     * @return the regular expression
+     * @throws NullPointerException when pattern is null
+     */
+    public static String regex(String pattern) {
+        Objects.requireNonNull(pattern, "pattern is required");
+        return "(?s)^" + toRegex(pattern) + '$';
+    }
+
+    private static Compiled compiled(CriteriaCondition condition) {
+        Condition operator = condition.condition();
+        Element element = condition.element();
+        switch (operator) {
+            case EQUALS -> {
+                return equalsTo(new Path(element.name()), element.get());
+            }
+            case GREATER_THAN -> {
+                return range(element, value -> value > 0);
+            }
+            case GREATER_EQUALS_THAN -> {
+                return range(element, value -> value >= 0);
+            }
+            case LESSER_THAN -> {
+                return range(element, value -> value < 0);
+            }
+            case LESSER_EQUALS_THAN -> {
+                return range(element, value -> value <= 0);
+            }
+            case BETWEEN -> {
+                return between(element);
+            }
+            case IN -> {
+                return in(element);
+            }
+            case LIKE -> {
+                return like(element);
+            }
+            case NOT -> {
+                Compiled negated = compiled(element.get(CriteriaCondition.class));
+                return new Compiled(negated.predicate().negate(), 1 - negated.selectivity(), negated.cost());
+            }
+            case AND -> {
+                return and(conditions(element));
+            }
+            case OR -> {
+                return or(conditions(element));
+            }
+            default -> throw new UnsupportedOperationException("There is not support to the condition " + operator);
+        }
+    }
+
+    private static Compiled equalsTo(Path path, Object value) {
+        Object expected = normalize(unwrap(value));
+        if (expected == null) {
+            return new Compiled(entity -> {
+                Object actual = path.resolve(entity);
+                return actual == null || actual == MISSING;
+            }, 0.1, 1);
+        }
+        return new Compiled(entity -> isEqual(path.resolve(entity), expected), 0.05, 1);
+    }
+
+    private static Compiled range(Element element, IntPredicate matcher) {
+        Path path = new Path(element.name());
+        Object bound = normalize(unwrap(element.get()));
+        return new Compiled(entity -> {
+            int comparison = compare(path.resolve(entity), bound);
+            return comparison != INCOMPARABLE && matcher.test(comparison);
+        }, 0.33, 1);
+    }
+
+    private static Compiled between(Element element) {
+        Path path = new Path(element.name());
+        List<Object> values = operands(element.get());
+        if (values.size() != 2) {
+            throw new IllegalArgumentException("The between condition requires two values, but it has: " + values);
+        }
+        Object lower = normalize(values.get(0));
+        Object upper = normalize(values.get(1));
+        return new Compiled(entity -> {
+            Object actual = path.resolve(entity);
+            int low = compare(actual, lower);
+            if (low == INCOMPARABLE || low < 0) {
+                return false;
+            }
+            int high = compare(actual, upper);
+            return high != INCOMPARABLE && high <= 0;
+        }, 0.25, 2);
+    }
+
+    private static Compiled in(Element element) {
+        Path path = new Path(element.name());
+        Set<Object> values = new HashSet<>();
+        for (Object value : operands(element.get())) {
+            values.add(normalize(value));
+        }
+        boolean hasText = values.stream().anyMatch(String.class::isInstance);
+        return new Compiled(entity -> {
+            Object actual = path.resolve(entity);
+            if (actual == MISSING) {
+                return false;
+            }
+            Object value = normalize(actual);
+            if (values.contains(value)) {
+                return true;
+            }
+            return hasText && value != null && !(value instanceof String) && values.contains(value.toString());
+        }, Math.min(0.05 * values.size(), 0.5), 1);
+    }
+
+    private static Compiled like(Element element) {
+        Path path = new Path(element.name());
+        Object pattern = unwrap(element.get());
+        if (pattern == null) {
+            throw new IllegalArgumentException("The like condition requires a pattern at the element: " + element.name());
+        }
+        String text = pattern.toString();
+        Predicate<String> like = like(text);
+        boolean regex = !isPlain(text) && !isPlain(text.replaceAll("^%|%$", ""));
+        return new Compiled(entity -> path.resolve(entity) instanceof CharSequence actual && like.test(actual.toString()),
+                isPlain(text) ? 0.05 : 0.2, regex ? 4 : 1);
+    }
+
+    private static Compiled and(List<Compiled> operands) {
+        List<Compiled> ordered = new ArrayList<>(operands);
+        ordered.sort(Comparator.comparingDouble(c -> c.cost() / Math.max(1 - c.selectivity(), 1E-6)));
+        Predicate<CommunicationEntity>[] predicates = predicates(ordered);
+        double selectivity = 1;
+        double cost = 0;
+        for (Compiled operand : ordered) {
+            selectivity *= operand.selectivity();
+            cost += operand.cost();
+        }
+        return new Compiled(entity -> {
+            for (Predicate<CommunicationEntity> predicate : predicates) {
+                if (!predicate.test(entity)) {
+                    return false;
+                }
+            }
+            return true;
+        }, selectivity, cost);
+    }
+
+    private static Compiled or(List<Compiled> operands) {
+        List<Compiled> ordered = new ArrayList<>(operands);
+        ordered.sort(Comparator.comparingDouble(c -> c.cost() / Math.max(c.selectivity(), 1E-6)));
+        Predicate<CommunicationEntity>[] predicates = predicates(ordered);
+        double rejected = 1;
+        double cost = 0;
+        for (Compiled operand : ordered) {
+            rejected *= 1 - operand.selectivity();
+            cost += operand.cost();
+        }
+        return new Compiled(entity -> {
+            for (Predicate<CommunicationEntity> predicate : predicates) {
+                if (predicate.test(entity)) {
+                    return true;
+                }
+            }
+            return false;
+        }, 1 - rejected, cost);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<CommunicationEntity>[] predicates(List<Compiled> operands) {
+        return operands.stream().map(Compiled::predicate).toArray(Predicate[]::new);
+    }
+
+    private static List<Compiled> conditions(Element element) {
+        return element.get(new TypeReference<List<CriteriaCondition>>() {
+        }).stream().map(CriteriaPredicates::compiled).toList();
+    }
+
+    private static boolean isEqual(Object actual, Object expected) {
+        return actual != MISSING && ConditionValues.isEqual(actual, expected);
+    }
+
+    private static int compare(Object actual, Object expected) {
+        return actual == MISSING ? INCOMPARABLE : ConditionValues.compare(actual, expected);
+    }
+
+    private static int compareSorted(Object first, Object second, boolean ignoreCase) {
+        boolean firstEmpty = first == null || first == MISSING;
+        boolean secondEmpty = second == null || second == MISSING;
+        if (firstEmpty || secondEmpty) {
+            return Boolean.compare(firstEmpty, secondEmpty);
+        }
+        if (ignoreCase && first instanceof String left && second instanceof String right) {
+            return String.CASE_INSENSITIVE_ORDER.compare(left, right);
+        }
+        int comparison = compare(first, normalize(second));
+        if (comparison == INCOMPARABLE) {
+            return first.toString().compareTo(second.toString());
+        }
+        return comparison;
+    }
+
+
+    private static boolean isPlain(String pattern) {
+        return pattern.indexOf('%') < 0 && pattern.indexOf('_') < 0;
+    }
+
+    private static String toRegex(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char character : pattern.toCharArray()) {
+            if (character == '%' || character == '_') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(character == '%' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return regex.toString();
+    }
+
+    private record Compiled(Predicate<CommunicationEntity> predicate, double selectivity, double cost) {
+    }
+
+    /**
+     * The element name, read as is or, when it has dots and the entity does not have it, as a path through the
+     * sub-documents.
+     */
+    private static final class Path {
+
+        private final String name;
+
+        private final String[] segments;
+
+        private Path(String name) {
+            this.name = name;
+            this.segments = name.indexOf('.') > 0 ? PATH.split(name) : null;
+        }
+
+        private Object resolve(CommunicationEntity entity) {
+            Optional<Element> element = entity.find(name);
+            if (element.isPresent()) {
+                return element.get().get();
+            } else if (segments == null) {
+                return MISSING;
+            }
+            Object current = entity.find(segments[0]).map(Element::get).orElse(MISSING);
+            for (int index = 1; index < segments.length && current != MISSING; index++) {
+                current = child(current, segments[index]);
+            }
+            return current;
+        }
+
+        private static Object child(Object value, String segment) {
+            if (value instanceof Element element) {
+                return element.name().equals(segment) ? element.get() : MISSING;
+            } else if (value instanceof Map<?, ?> map) {
+                return map.containsKey(segment) ? map.get(segment) : MISSING;
+            } else if (value instanceof Iterable<?> iterable) {
+                for (Object item : iterable) {
+                    Object child = child(item, segment);
+                    if (child != MISSING) {
+                        return child;
+                    }
+                }
+            }
+            return MISSING;
+        }
+    }
+}
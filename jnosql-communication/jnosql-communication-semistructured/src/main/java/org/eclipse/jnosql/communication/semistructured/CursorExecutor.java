@@ -14,14 +14,10 @@
  */
 package org.eclipse.jnosql.communication.semistructured;
 
-import jakarta.data.Sort;
 import jakarta.data.page.CursoredPage;
 import jakarta.data.page.PageRequest;
 import jakarta.data.page.impl.CursoredPageRecord;
-import org.eclipse.jnosql.communication.CommunicationException;
-import org.eclipse.jnosql.communication.TypeReference;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -41,7 +37,7 @@ enum CursorExecutor {
                 return new CursoredPageRecord<>(entities, Collections.emptyList(), -1, (PageRequest<CommunicationEntity>) pageRequest,
                         null, null);
             } else {
-                PageRequest.Cursor cursor = getCursor(query.sorts(), last);
+                PageRequest.Cursor cursor = CursorPlan.of(query.sorts()).cursor(last);
                 PageRequest<CommunicationEntity> afterCursor = PageRequest.<CommunicationEntity>ofSize(pageRequest.size()).afterCursor(cursor);
 
                 return new CursoredPageRecord<>(entities, List.of(cursor), -1, (PageRequest<CommunicationEntity>)
@@ -55,8 +51,9 @@ enum CursorExecutor {
         @Override
         public CursoredPage<CommunicationEntity> cursor(SelectQuery query, PageRequest<?> pageRequest, DatabaseManager template) {
 
+            var plan = CursorPlan.of(query.sorts());
             var cursor = pageRequest.cursor().orElseThrow();
-            var condition = condition(query, cursor);
+            var condition = plan.after(cursor, keysetCondition(template));
 
             var select = updateQuery(pageRequest.size(), query, condition);
 
@@ -66,40 +63,20 @@ enum CursorExecutor {
                 return new CursoredPageRecord<>(entities, Collections.emptyList(), -1, (PageRequest<CommunicationEntity>) pageRequest,
                         null, null);
             } else {
-                var nextCursor = getCursor(query.sorts(), last);
+                var nextCursor = plan.cursor(last);
                 var afterCursor = PageRequest.<CommunicationEntity>ofSize(pageRequest.size()).afterCursor(nextCursor);
                 return new CursoredPageRecord<>(entities, List.of(cursor, nextCursor), -1, (PageRequest<CommunicationEntity>)
                         pageRequest, afterCursor, null);
             }
         }
 
-        private static CriteriaCondition condition(SelectQuery query, PageRequest.Cursor cursor) {
-            CriteriaCondition condition = null;
-            CriteriaCondition previousCondition = null;
-            List<Sort<?>> sorts = query.sorts();
-            checkCursorKeySizes(cursor, sorts);
-            for (int index = 0; index < sorts.size(); index++) {
-                Sort<?> sort = sorts.get(index);
-                Object key = cursor.get(index);
-                if(condition == null) {
-                    condition = CriteriaCondition.gt(sort.property(), key);
-                    previousCondition = CriteriaCondition.eq(sort.property(), key);
-                } else {
-                    condition = condition.or(previousCondition.and(CriteriaCondition.gt(sort.property(), key)));
-                    previousCondition = previousCondition.and(CriteriaCondition.eq(sort.property(), key));
-                }
-
-            }
-            return condition;
-        }
-
-
     }, CURSOR_PREVIOUS {
         @SuppressWarnings("unchecked")
         @Override
         public CursoredPage<CommunicationEntity> cursor(SelectQuery query, PageRequest<?> pageRequest, DatabaseManager template) {
+            var plan = CursorPlan.of(query.sorts());
             var cursor = pageRequest.cursor().orElseThrow();
-            var condition = condition(query, cursor);
+            var condition = plan.before(cursor, keysetCondition(template));
 
             var select = updateQuery(pageRequest.size(), query, condition);
 
@@ -109,7 +86,7 @@ enum CursorExecutor {
                 return new CursoredPageRecord<>(entities, Collections.emptyList(), -1, (PageRequest<CommunicationEntity>) pageRequest,
                         null, null);
             } else {
-                var beforeCursor = getCursor(query.sorts(), last);
+                var beforeCursor = plan.cursor(last);
                 var beforeRequest = PageRequest.<CommunicationEntity>ofSize(pageRequest.size()).beforeCursor(beforeCursor);
 
                 return new CursoredPageRecord<>(entities, List.of(beforeCursor, cursor), -1, (PageRequest<CommunicationEntity>)
@@ -117,25 +94,6 @@ enum CursorExecutor {
             }
         }
 
-        private static CriteriaCondition condition(SelectQuery query, PageRequest.Cursor cursor) {
-            CriteriaCondition condition = null;
-            CriteriaCondition previousCondition = null;
-            List<Sort<?>> sorts = query.sorts();
-            checkCursorKeySizes(cursor, sorts);
-            for (int index = 0; index < sorts.size(); index++) {
-                Sort<?> sort = sorts.get(index);
-                Object key = cursor.get(index);
-                if(condition == null) {
-                    condition = CriteriaCondition.lt(sort.property(), key);
-                    previousCondition = CriteriaCondition.eq(sort.property(), key);
-                } else {
-                    condition = condition.or(previousCondition.and(CriteriaCondition.lt(sort.property(), key)));
-                    previousCondition = previousCondition.and(CriteriaCondition.eq(sort.property(), key));
-                }
-
-            }
-            return condition;
-        }
     };
 
     abstract CursoredPage<CommunicationEntity> cursor(SelectQuery query, PageRequest<?> pageRequest, DatabaseManager template);
@@ -150,34 +108,9 @@ enum CursorExecutor {
 
     }
 
-    private static PageRequest.Cursor getCursor(List<Sort<?>> sorts, CommunicationEntity entity) {
-        List<Object> keys = new ArrayList<>(sorts.size());
-        for (Sort<?> sort : sorts) {
-            String[] names = sort.property().split("\\.");
-            keys.add(value(names, entity));
-        }
-        return PageRequest.Cursor.forKey(keys.toArray());
-    }
-
-    private static Object value(String[] names, CommunicationEntity entity) {
-        Element element = entity.find(names[0])
-                .orElseThrow(() -> new CommunicationException("The sort name does not exist in the entity: " + names[0]));
-        return value(names, element, 0);
-
-    }
-
-    private static Object value(String[] names, Element element, int index) {
-        if (names.length == 1) {
-            return element.get();
-        }
-        List<Element> elements = element.get(new TypeReference<>() {});
-        Element subElement = elements.stream().filter(e -> e.name().equals(names[index + 1]))
-                .findFirst().orElseThrow(() -> new CommunicationException("The sort name does not exist in the entity: " + names[index]));
-        if (names.length == index + 2) {
-            return subElement.get();
-        } else {
-            return value(names, subElement, index + 1);
-        }
+    private static KeysetCondition keysetCondition(DatabaseManager template) {
+        KeysetCondition form = template.keysetCondition();
+        return form == null ? KeysetCondition.EXPANDED : form;
     }
 
     private static DefaultSelectQuery updateQuery(int pageRequest, SelectQuery query, CriteriaCondition condition) {
@@ -185,11 +118,4 @@ enum CursorExecutor {
                 query.condition().map(c -> CriteriaCondition.and(c, condition))
                         .orElse(condition));
     }
-
-    private static void checkCursorKeySizes(PageRequest.Cursor cursor, List<Sort<?>> sorts) {
-        if(sorts.size() != cursor.size()) {
-            throw new IllegalArgumentException("The cursor size is different from the sort size. Cursor: "
-                    + cursor.size() + " Sort: " + sorts.size());
-        }
-    }
 }
@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.TypeReference;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * The keyset plan of a cursor-based pagination, compiled once per sort shape: the sort properties and their
+ * paths, split once, to both read the cursor keys from an entity and write the keyset condition.
+ */
+final class CursorPlan {
+
+    private static final int CACHE_LIMIT = 512;
+
+    private static final Map<List<Sort<?>>, CursorPlan> CACHE = new ConcurrentHashMap<>();
+
+    private final String[] properties;
+
+    private final String[][] paths;
+
+    private CursorPlan(String[] properties, String[][] paths) {
+        this.properties = properties;
+        this.paths = paths;
+    }
+
+    /**
+     * Reads the cursor keys from the entity
+     *
+     * @param entity the entity
+     * @return the {@link PageRequest.Cursor}
+     * @throws CommunicationException when a sort property does not exist in the entity
+     */
+    PageRequest.Cursor cursor(CommunicationEntity entity) {
+        Object[] keys = new Object[paths.length];
+        for (int index = 0; index < paths.length; index++) {
+            keys[index] = value(paths[index], entity);
+        }
+        return PageRequest.Cursor.forKey(keys);
+    }
+
+    /**
+     * Creates the condition that returns the entities after the cursor.
+     *
+     * @param cursor the cursor
+     * @param form   the condition form
+     * @return the keyset condition
+     * @throws IllegalArgumentException when the cursor size is different from the sort size
+     */
+    CriteriaCondition after(PageRequest.Cursor cursor, KeysetCondition form) {
+        return condition(cursor, form, CriteriaCondition::gt);
+    }
+
+    /**
+     * Creates the condition that returns the entities before the cursor.
+     *
+     * @param cursor the cursor
+     * @param form   the condition form
+     * @return the keyset condition
+     * @throws IllegalArgumentException when the cursor size is different from the sort size
+     */
+    CriteriaCondition before(PageRequest.Cursor cursor, KeysetCondition form) {
+        return condition(cursor, form, CriteriaCondition::lt);
+    }
+
+    private CriteriaCondition condition(PageRequest.Cursor cursor, KeysetCondition form,
+                                        BiFunction<String, Object, CriteriaCondition> comparison) {
+        if (properties.length != cursor.size()) {
+            throw new IllegalArgumentException("The cursor size is different from the sort size. Cursor: "
+                    + cursor.size() + " Sort: " + properties.length);
+        }
+        if (properties.length == 1) {
+            return comparison.apply(properties[0], cursor.get(0));
+        }
+        if (KeysetCondition.COMPACT.equals(form)) {
+            return compact(cursor, comparison);
+        }
+        return expanded(cursor, comparison);
+    }
+
+    private CriteriaCondition expanded(PageRequest.Cursor cursor,
+                                       BiFunction<String, Object, CriteriaCondition> comparison) {
+        CriteriaCondition[] disjunction = new CriteriaCondition[properties.length];
+        disjunction[0] = comparison.apply(properties[0], cursor.get(0));
+        for (int index = 1; index < properties.length; index++) {
+            CriteriaCondition[] conjunction = new CriteriaCondition[index + 1];
+            for (int equal = 0; equal < index; equal++) {
+                conjunction[equal] = CriteriaCondition.eq(properties[equal], cursor.get(equal));
+            }
+            conjunction[index] = comparison.apply(properties[index], cursor.get(index));
+            disjunction[index] = CriteriaCondition.and(conjunction);
+        }
+        return CriteriaCondition.or(disjunction);
+    }
+
+    private CriteriaCondition compact(PageRequest.Cursor cursor,
+                                      BiFunction<String, Object, CriteriaCondition> comparison) {
+        int last = properties.length - 1;
+        CriteriaCondition condition = comparison.apply(properties[last], cursor.get(last));
+        for (int index = last - 1; index >= 0; index--) {
+            Object key = cursor.get(index);
+            condition = CriteriaCondition.or(comparison.apply(properties[index], key),
+                    CriteriaCondition.and(CriteriaCondition.eq(properties[index], key), condition));
+        }
+        return condition;
+    }
+
+    /**
+     * Returns the plan to the sorts, compiling it at the first call.
+     *
+     * @param sorts the query sorts
+     * @return the {@link CursorPlan} instance
+     */
+    static CursorPlan of(List<Sort<?>> sorts) {
+        Objects.requireNonNull(sorts, "sorts is required");
+        CursorPlan plan = CACHE.get(sorts);
+        if (plan == null) {
+            if (CACHE.size() >= CACHE_LIMIT) {
+                CACHE.clear();
+            }
+            plan = CACHE.computeIfAbsent(List.copyOf(sorts), CursorPlan::compile);
+        }
+        return plan;
+    }
+
+    private static CursorPlan compile(List<Sort<?>> sorts) {
+        String[] properties = new String[sorts.size()];
+        String[][] paths = new String[sorts.size()][];
+        for (int index = 0; index < properties.length; index++) {
+            properties[index] = sorts.get(index).property();
+            paths[index] = properties[index].split("\\.");
+        }
+        return new CursorPlan(properties, paths);
+    }
+
+    private static Object value(String[] names, CommunicationEntity entity) {
+        Element element = entity.find(names[0])
+                .orElseThrow(() -> new CommunicationException("The sort name does not exist in the entity: " + names[0]));
+        for (int index = 1; index < names.length; index++) {
+            String name = names[index];
+            List<Element> elements = element.get(new TypeReference<>() {});
+            int parent = index - 1;
+            element = elements.stream().filter(e -> e.name().equals(name))
+                    .findFirst().orElseThrow(() -> new CommunicationException("The sort name does not exist in the entity: "
+                            + names[parent]));
+        }
+        return element.get();
+    }
+}
@@ -183,6 +183,44 @@ public interface DatabaseManager extends AutoCloseable {
         return this.select(DefaultSelectQuery.countBy(query)).count();
     }
 
+    /**
+     * Summarizes the entities in the database that match the query condition, returning one entity per group with the
+     * grouped elements and the aggregates, as described at {@link AggregateQuery}.
+     * The default implementation streams the matching entities and computes the aggregates in memory, keeping only
+     * the accumulators of each group; drivers whose databases compute aggregates should override it to push the
+     * query down, so only the groups leave the database.
+     *
+     * @param query the aggregate query
+     * @return a stream with an entity per group
+     * @throws NullPointerException          when the query is null
+     * @throws org.eclipse.jnosql.communication.CommunicationException when an aggregate cannot use the values, e.g.: the sum of a text
+     * @throws UnsupportedOperationException if the database does not support any operation specified in the query
+     */
+    default Stream<CommunicationEntity> aggregate(AggregateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return Aggregator.aggregate(query, this);
+    }
+
+    /**
+     * Changes every entity in the database that matches the query condition, as described at {@link UpdateQuery},
+     * returning how many entities were updated.
+     * The default implementation selects the matching entities, applies the changes in memory and writes them back
+     * with {@link DatabaseManager#update(Iterable)} in batches, paging by the {@link UpdateQuery#key()} when it is
+     * present; drivers whose databases update by condition should override it, so the entities do not leave the
+     * database.
+     *
+     * @param query the update query
+     * @return the number of updated entities
+     * @throws NullPointerException          when the query is null
+     * @throws UpdateException               when a batch fails, with the number of entities written before it
+     * @throws org.eclipse.jnosql.communication.CommunicationException when an increment meets a value that is not a number
+     * @throws UnsupportedOperationException if the database does not support any operation specified in the query
+     */
+    default long update(UpdateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return Updater.update(query, this);
+    }
+
     /**
      * Checks if an entity matching the specified query exists in the database.
      *
@@ -277,6 +315,18 @@ public interface DatabaseManager extends AutoCloseable {
         return executor.cursor(query, pageRequest, this);
     }
 
+    /**
+     * Returns the form of the keyset condition that {@link #selectCursor(SelectQuery, PageRequest)} appends to the
+     * query to resume the pagination from the cursor. The default is {@link KeysetCondition#EXPANDED};
+     * drivers whose databases evaluate nested AND/OR predicates natively can return
+     * {@link KeysetCondition#COMPACT}, which grows linearly with the number of sort keys.
+     *
+     * @return the {@link KeysetCondition}
+     */
+    default KeysetCondition keysetCondition() {
+        return KeysetCondition.EXPANDED;
+    }
+
     /**
      * Returns the number of entities in the database.
      *
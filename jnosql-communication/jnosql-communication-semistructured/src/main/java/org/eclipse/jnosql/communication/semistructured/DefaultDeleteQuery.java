@@ -12,6 +12,8 @@ package org.eclipse.jnosql.communication.semistructured;
 
 
 
+import org.eclipse.jnosql.communication.NameDictionary;
+
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -25,6 +27,12 @@ import static java.util.Optional.ofNullable;
 record DefaultDeleteQuery(String name, CriteriaCondition criteriaCondition, List<String> columns)
         implements DeleteQuery {
 
+    DefaultDeleteQuery {
+        name = name == null ? null : NameDictionary.lookup(name);
+        if (!columns.isEmpty()) {
+            columns = columns.stream().map(NameDictionary::lookup).toList();
+        }
+    }
 
     @Override
     public Optional<CriteriaCondition> condition() {
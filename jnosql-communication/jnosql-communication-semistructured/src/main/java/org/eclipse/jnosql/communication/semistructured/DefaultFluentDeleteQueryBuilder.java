@@ -125,7 +125,7 @@ class DefaultFluentDeleteQueryBuilder extends BaseQueryBuilder implements Entity
 
     @Override
     public DeleteQuery build() {
-        return new DefaultDeleteQuery(entity, condition, columns);
+        return new DefaultDeleteQuery(entity, condition.build().orElse(null), columns);
     }
 
     @Override
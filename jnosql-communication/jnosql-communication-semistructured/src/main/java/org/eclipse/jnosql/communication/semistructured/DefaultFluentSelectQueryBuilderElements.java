@@ -12,6 +12,7 @@ package org.eclipse.jnosql.communication.semistructured;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.NameDictionary;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery.SelectFrom;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery.SelectLimit;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery.SelectNameCondition;
@@ -170,20 +171,20 @@ class DefaultFluentSelectQueryBuilderElements extends BaseQueryBuilder implement
 
     @Override
     public SelectNameOrder asc() {
-        this.sorts.add(Sort.asc(name));
+        this.sorts.add(Sort.asc(NameDictionary.lookup(name)));
         return this;
     }
 
     @Override
     public SelectNameOrder desc() {
-        this.sorts.add(Sort.desc(name));
+        this.sorts.add(Sort.desc(NameDictionary.lookup(name)));
         return this;
     }
 
 
     @Override
     public SelectQuery build() {
-        return new DefaultSelectQuery(limit, skip, entity, columns, sorts, condition);
+        return new DefaultSelectQuery(limit, skip, entity, columns, sorts, condition.build().orElse(null));
     }
 
     @Override
@@ -13,6 +13,7 @@ package org.eclipse.jnosql.communication.semistructured;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.NameDictionary;
 
 import java.util.Collections;
 import java.util.List;
@@ -29,6 +30,12 @@ record DefaultSelectQuery(long limit, long skip, String name,
                           List<String> columns, List<Sort<?>> sorts, CriteriaCondition criteriaCondition)
         implements SelectQuery {
 
+    DefaultSelectQuery {
+        name = name == null ? null : NameDictionary.lookup(name);
+        if (!columns.isEmpty()) {
+            columns = columns.stream().map(NameDictionary::lookup).toList();
+        }
+    }
 
     @Override
     public Optional<CriteriaCondition> condition() {
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.NameDictionary;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * The default implementation of {@link UpdateQuery}
+ */
+record DefaultUpdateQuery(String name, List<ElementChange> changes, CriteriaCondition criteriaCondition,
+                          String keyName) implements UpdateQuery {
+
+    DefaultUpdateQuery {
+        name = NameDictionary.lookup(name);
+        changes = List.copyOf(changes);
+    }
+
+    @Override
+    public Optional<CriteriaCondition> condition() {
+        return ofNullable(criteriaCondition);
+    }
+
+    @Override
+    public Optional<String> key() {
+        return ofNullable(keyName);
+    }
+
+    @Override
+    public UpdateQuery withKey(String key) {
+        Objects.requireNonNull(key, "key is required");
+        return new DefaultUpdateQuery(name, changes, criteriaCondition, key);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.UpdateQuery.UpdateQueryBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+final class DefaultUpdateQueryBuilder implements UpdateQueryBuilder {
+
+    private final String entity;
+
+    private final List<ElementChange> changes = new ArrayList<>();
+
+    private CriteriaCondition condition;
+
+    private String key;
+
+    DefaultUpdateQueryBuilder(String entity) {
+        this.entity = Objects.requireNonNull(entity, "entity is required");
+    }
+
+    @Override
+    public UpdateQueryBuilder set(String name, Object value) {
+        this.changes.add(ElementChange.set(name, value));
+        return this;
+    }
+
+    @Override
+    public UpdateQueryBuilder increment(String name, Number value) {
+        this.changes.add(ElementChange.increment(name, value));
+        return this;
+    }
+
+    @Override
+    public UpdateQueryBuilder unset(String name) {
+        this.changes.add(ElementChange.unset(name));
+        return this;
+    }
+
+    @Override
+    public UpdateQueryBuilder where(CriteriaCondition condition) {
+        this.condition = Objects.requireNonNull(condition, "condition is required");
+        return this;
+    }
+
+    @Override
+    public UpdateQueryBuilder key(String name) {
+        this.key = Objects.requireNonNull(name, "name is required");
+        return this;
+    }
+
+    @Override
+    public UpdateQuery build() {
+        if (changes.isEmpty()) {
+            throw new IllegalStateException("The update query requires at least one change");
+        }
+        return new DefaultUpdateQuery(entity, changes, condition, key);
+    }
+
+    @Override
+    public long update(DatabaseManager manager) {
+        Objects.requireNonNull(manager, "manager is required");
+        return manager.update(build());
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultUpdateQueryBuilder{" +
+                "entity='" + entity + '\'' +
+                ", changes=" + changes +
+                ", condition=" + condition +
+                ", key='" + key + '\'' +
+                '}';
+    }
+}
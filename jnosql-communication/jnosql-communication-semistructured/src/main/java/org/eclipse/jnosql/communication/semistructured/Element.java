@@ -12,6 +12,7 @@ package org.eclipse.jnosql.communication.semistructured;
 
 import org.eclipse.jnosql.communication.Entry;
 import org.eclipse.jnosql.communication.TypeSupplier;
+import org.eclipse.jnosql.communication.NameDictionary;
 import org.eclipse.jnosql.communication.Value;
 
 import java.util.Objects;
@@ -64,7 +65,7 @@ public interface Element extends Entry {
      */
     static <V> Element of(String name, V value) {
         Objects.requireNonNull(name, "name is required");
-        return new DefaultElement(name, getValue(value));
+        return new DefaultElement(NameDictionary.lookup(name), getValue(value));
     }
 
     private static Value getValue(Object value) {
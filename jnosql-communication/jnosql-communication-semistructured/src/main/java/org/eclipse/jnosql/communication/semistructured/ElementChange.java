@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.UpdateOperator;
+
+import java.util.Objects;
+
+/**
+ * A change that an {@link UpdateQuery} applies to every entity that matches its condition.
+ *
+ * @param element  the element name and value; the value is ignored when the operator is {@link UpdateOperator#UNSET}
+ * @param operator the operator applied to the element
+ */
+public record ElementChange(Element element, UpdateOperator operator) {
+
+    public ElementChange {
+        Objects.requireNonNull(element, "element is required");
+        Objects.requireNonNull(operator, "operator is required");
+    }
+
+    /**
+     * Returns the element name.
+     *
+     * @return the element name
+     */
+    public String name() {
+        return element.name();
+    }
+
+    /**
+     * Creates a change that replaces the element value.
+     *
+     * @param name  the element name
+     * @param value the new value
+     * @return a {@link UpdateOperator#SET} change
+     * @throws NullPointerException when the name is null
+     */
+    public static ElementChange set(String name, Object value) {
+        return new ElementChange(Element.of(name, value), UpdateOperator.SET);
+    }
+
+    /**
+     * Creates a change that adds a number to the element value.
+     *
+     * @param name  the element name
+     * @param value the number to add, a negative number subtracts
+     * @return a {@link UpdateOperator#INCREMENT} change
+     * @throws NullPointerException when either name or value is null
+     */
+    public static ElementChange increment(String name, Number value) {
+        Objects.requireNonNull(value, "value is required");
+        return new ElementChange(Element.of(name, value), UpdateOperator.INCREMENT);
+    }
+
+    /**
+     * Creates a change that removes the element.
+     *
+     * @param name the element name
+     * @return a {@link UpdateOperator#UNSET} change
+     * @throws NullPointerException when the name is null
+     */
+    public static ElementChange unset(String name) {
+        return new ElementChange(Element.of(name, null), UpdateOperator.UNSET);
+    }
+}
@@ -0,0 +1,546 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Value;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A versioned binary form of {@link CommunicationEntity}, to cache, spill or ship entities between processes.
+ * <p>
+ * The payload starts with the {@link #VERSION} byte and the entity name, followed by the elements. Each element name
+ * is written once: the first occurrence adds it to the payload dictionary, and the next ones, at any depth, refer to
+ * it by index. Each value starts with a type tag; the integral numbers are zigzag varints, the temporal types are
+ * their epoch fields, and the sub-elements, iterables, arrays and maps are nested. The supported types are
+ * {@code null}, {@link String}, {@link Boolean}, {@link Character}, the primitive wrappers, {@link BigDecimal},
+ * {@link BigInteger}, the atomic numbers, the {@code java.time} types read at
+ * {@code org.eclipse.jnosql.communication.reader}, {@link Date}, {@link UUID}, {@code byte[]}, enums, {@link Element},
+ * {@link Iterable}, object arrays and {@link Map}. The iterables and arrays decode as {@link List}, the maps as
+ * {@link LinkedHashMap}, and the atomic numbers as {@link Integer} and {@link Long}.
+ * <p>
+ * Decoding reads straight from the {@link ByteBuffer}, heap or direct, without copying it first.
+ */
+public final class EntityCodec {
+
+    /**
+     * The format version, the first byte of every payload.
+     */
+    public static final byte VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte SHORT = 5;
+    private static final byte BYTE = 6;
+    private static final byte DOUBLE = 7;
+    private static final byte FLOAT = 8;
+    private static final byte STRING = 9;
+    private static final byte CHAR = 10;
+    private static final byte BIG_DECIMAL = 11;
+    private static final byte BIG_INTEGER = 12;
+    private static final byte LOCAL_DATE = 13;
+    private static final byte LOCAL_TIME = 14;
+    private static final byte LOCAL_DATE_TIME = 15;
+    private static final byte INSTANT = 16;
+    private static final byte OFFSET_DATE_TIME = 17;
+    private static final byte OFFSET_TIME = 18;
+    private static final byte ZONED_DATE_TIME = 19;
+    private static final byte YEAR = 20;
+    private static final byte YEAR_MONTH = 21;
+    private static final byte DATE = 22;
+    private static final byte UUID_VALUE = 23;
+    private static final byte BYTES = 24;
+    private static final byte ENUM = 25;
+    private static final byte ELEMENT = 26;
+    private static final byte ELEMENTS = 27;
+    private static final byte LIST = 28;
+    private static final byte MAP = 29;
+
+    private EntityCodec() {
+    }
+
+    /**
+     * Encodes the entity.
+     *
+     * @param entity the entity
+     * @return the payload
+     * @throws NullPointerException   when the entity is null
+     * @throws CommunicationException when a value type is not supported
+     */
+    public static byte[] encode(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        Output output = new Output();
+        output.write(VERSION);
+        output.writeString(entity.name());
+        output.writeVarint(entity.size());
+        for (Element element : entity.elements()) {
+            output.writeElement(element);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Decodes an entity from the payload.
+     *
+     * @param payload the payload
+     * @return the entity
+     * @throws NullPointerException   when the payload is null
+     * @throws CommunicationException when the payload is malformed or from an unknown version
+     */
+    public static CommunicationEntity decode(byte[] payload) {
+        Objects.requireNonNull(payload, "payload is required");
+        return decode(ByteBuffer.wrap(payload));
+    }
+
+    /**
+     * Decodes an entity from the buffer, starting at its position; the position moves past the entity, so the
+     * buffer may hold several entities in a row.
+     *
+     * @param buffer the buffer
+     * @return the entity
+     * @throws NullPointerException   when the buffer is null
+     * @throws CommunicationException when the payload is malformed or from an unknown version
+     */
+    public static CommunicationEntity decode(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer is required");
+        try {
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new CommunicationException("The payload version " + version + " is not supported");
+            }
+            Input input = new Input(buffer);
+            CommunicationEntity entity = CommunicationEntity.compact(input.readString());
+            int size = input.readSize();
+            for (int index = 0; index < size; index++) {
+                entity.add(input.readElement());
+            }
+            return entity;
+        } catch (BufferUnderflowException | IllegalArgumentException | ClassCastException
+                 | DateTimeException exception) {
+            throw new CommunicationException("The payload is malformed", exception);
+        }
+    }
+
+    private static final class Output {
+
+        private final Map<String, Integer> names = new HashMap<>();
+
+        private byte[] bytes = new byte[256];
+
+        private int size;
+
+        void writeElement(Element element) {
+            writeName(element.name());
+            writeValue(element.get());
+        }
+
+        void writeName(String name) {
+            Integer index = names.get(name);
+            if (index == null) {
+                names.put(name, names.size());
+                writeVarint(0);
+                writeString(name);
+            } else {
+                writeVarint(index + 1L);
+            }
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        void writeValue(Object value) {
+            if (value == null) {
+                write(NULL);
+            } else if (value instanceof Value current) {
+                writeValue(current.get());
+            } else if (value instanceof String text) {
+                write(STRING);
+                writeString(text);
+            } else if (value instanceof Integer number) {
+                write(INT);
+                writeVarint(zigzag(number));
+            } else if (value instanceof Long number) {
+                write(LONG);
+                writeVarint(zigzag(number));
+            } else if (value instanceof Double number) {
+                write(DOUBLE);
+                writeLong(Double.doubleToRawLongBits(number));
+            } else if (value instanceof Boolean bool) {
+                write(bool ? TRUE : FALSE);
+            } else if (value instanceof Element element) {
+                write(ELEMENT);
+                writeElement(element);
+            } else if (value instanceof Iterable<?> iterable) {
+                writeIterable(iterable);
+            } else if (value instanceof Object[] array) {
+                writeIterable(Arrays.asList(array));
+            } else if (value instanceof Map<?, ?> map) {
+                write(MAP);
+                writeVarint(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeName(String.valueOf(entry.getKey()));
+                    writeValue(entry.getValue());
+                }
+            } else if (value instanceof Short number) {
+                write(SHORT);
+                writeVarint(zigzag(number));
+            } else if (value instanceof Byte number) {
+                write(BYTE);
+                write(number);
+            } else if (value instanceof Float number) {
+                write(FLOAT);
+                writeInt(Float.floatToRawIntBits(number));
+            } else if (value instanceof Character character) {
+                write(CHAR);
+                writeVarint(character);
+            } else if (value instanceof BigDecimal decimal) {
+                write(BIG_DECIMAL);
+                writeVarint(zigzag(decimal.scale()));
+                writeBytes(decimal.unscaledValue().toByteArray());
+            } else if (value instanceof BigInteger integer) {
+                write(BIG_INTEGER);
+                writeBytes(integer.toByteArray());
+            } else if (value instanceof AtomicInteger number) {
+                writeValue(number.get());
+            } else if (value instanceof AtomicLong number) {
+                writeValue(number.get());
+            } else if (value instanceof LocalDate date) {
+                write(LOCAL_DATE);
+                writeVarint(zigzag(date.toEpochDay()));
+            } else if (value instanceof LocalTime time) {
+                write(LOCAL_TIME);
+                writeVarint(time.toNanoOfDay());
+            } else if (value instanceof LocalDateTime dateTime) {
+                write(LOCAL_DATE_TIME);
+                writeDateTime(dateTime);
+            } else if (value instanceof Instant instant) {
+                write(INSTANT);
+                writeVarint(zigzag(instant.getEpochSecond()));
+                writeVarint(instant.getNano());
+            } else if (value instanceof OffsetDateTime dateTime) {
+                write(OFFSET_DATE_TIME);
+                writeDateTime(dateTime.toLocalDateTime());
+                writeVarint(zigzag(dateTime.getOffset().getTotalSeconds()));
+            } else if (value instanceof OffsetTime time) {
+                write(OFFSET_TIME);
+                writeVarint(time.toLocalTime().toNanoOfDay());
+                writeVarint(zigzag(time.getOffset().getTotalSeconds()));
+            } else if (value instanceof ZonedDateTime dateTime) {
+                write(ZONED_DATE_TIME);
+                writeDateTime(dateTime.toLocalDateTime());
+                writeVarint(zigzag(dateTime.getOffset().getTotalSeconds()));
+                writeString(dateTime.getZone().getId());
+            } else if (value instanceof Year year) {
+                write(YEAR);
+                writeVarint(zigzag(year.getValue()));
+            } else if (value instanceof YearMonth yearMonth) {
+                write(YEAR_MONTH);
+                writeVarint(zigzag(yearMonth.getYear()));
+                write((byte) yearMonth.getMonthValue());
+            } else if (value instanceof Date date) {
+                write(DATE);
+                writeVarint(zigzag(date.getTime()));
+            } else if (value instanceof UUID uuid) {
+                write(UUID_VALUE);
+                writeLong(uuid.getMostSignificantBits());
+                writeLong(uuid.getLeastSignificantBits());
+            } else if (value instanceof byte[] array) {
+                write(BYTES);
+                writeBytes(array);
+            } else if (value instanceof Enum constant) {
+                write(ENUM);
+                writeString(constant.getDeclaringClass().getName());
+                writeString(constant.name());
+            } else {
+                throw new CommunicationException("The type " + value.getClass().getName()
+                        + " is not supported by the binary codec");
+            }
+        }
+
+        private void writeIterable(Iterable<?> iterable) {
+            List<Object> values = new ArrayList<>();
+            boolean elements = true;
+            for (Object item : iterable) {
+                values.add(item);
+                elements = elements && item instanceof Element;
+            }
+            write(elements && !values.isEmpty() ? ELEMENTS : LIST);
+            writeVarint(values.size());
+            for (Object item : values) {
+                if (elements) {
+                    writeElement((Element) item);
+                } else {
+                    writeValue(item);
+                }
+            }
+        }
+
+        private void writeDateTime(LocalDateTime dateTime) {
+            writeVarint(zigzag(dateTime.toLocalDate().toEpochDay()));
+            writeVarint(dateTime.toLocalTime().toNanoOfDay());
+        }
+
+        void writeString(String text) {
+            writeBytes(text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void writeBytes(byte[] array) {
+            writeVarint(array.length);
+            ensure(array.length);
+            System.arraycopy(array, 0, bytes, size, array.length);
+            size += array.length;
+        }
+
+        void writeVarint(long value) {
+            ensure(10);
+            long current = value;
+            while ((current & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((current & 0x7F) | 0x80);
+                current >>>= 7;
+            }
+            bytes[size++] = (byte) current;
+        }
+
+        void writeLong(long value) {
+            ensure(Long.BYTES);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeInt(int value) {
+            ensure(Integer.BYTES);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void write(byte value) {
+            ensure(1);
+            bytes[size++] = value;
+        }
+
+        private void ensure(int length) {
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private static long zigzag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    private static final class Input {
+
+        private final ByteBuffer buffer;
+
+        private final List<String> names = new ArrayList<>();
+
+        Input(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        Element readElement() {
+            String name = readName();
+            return Element.of(name, readValue());
+        }
+
+        String readName() {
+            long index = readVarint();
+            if (index == 0) {
+                String name = readString();
+                names.add(name);
+                return name;
+            }
+            if (index < 0 || index > names.size()) {
+                throw new IllegalArgumentException("The name index " + index + " is not in the dictionary");
+            }
+            return names.get((int) index - 1);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Object readValue() {
+            byte tag = buffer.get();
+            return switch (tag) {
+                case NULL -> null;
+                case TRUE -> Boolean.TRUE;
+                case FALSE -> Boolean.FALSE;
+                case INT -> (int) readZigzag();
+                case LONG -> readZigzag();
+                case SHORT -> (short) readZigzag();
+                case BYTE -> buffer.get();
+                case DOUBLE -> Double.longBitsToDouble(buffer.getLong());
+                case FLOAT -> Float.intBitsToFloat(buffer.getInt());
+                case STRING -> readString();
+                case CHAR -> (char) readVarint();
+                case BIG_DECIMAL -> readDecimal();
+                case BIG_INTEGER -> new BigInteger(readBytes());
+                case LOCAL_DATE -> LocalDate.ofEpochDay(readZigzag());
+                case LOCAL_TIME -> LocalTime.ofNanoOfDay(readVarint());
+                case LOCAL_DATE_TIME -> readDateTime();
+                case INSTANT -> Instant.ofEpochSecond(readZigzag(), readVarint());
+                case OFFSET_DATE_TIME -> OffsetDateTime.of(readDateTime(), readOffset());
+                case OFFSET_TIME -> OffsetTime.of(LocalTime.ofNanoOfDay(readVarint()), readOffset());
+                case ZONED_DATE_TIME -> readZonedDateTime();
+                case YEAR -> Year.of((int) readZigzag());
+                case YEAR_MONTH -> YearMonth.of((int) readZigzag(), buffer.get());
+                case DATE -> new Date(readZigzag());
+                case UUID_VALUE -> new UUID(buffer.getLong(), buffer.getLong());
+                case BYTES -> readBytes();
+                case ENUM -> Enum.valueOf((Class) enumType(readString()), readString());
+                case ELEMENT -> readElement();
+                case ELEMENTS -> readElements();
+                case LIST -> readList();
+                case MAP -> readMap();
+                default -> throw new IllegalArgumentException("The type tag " + tag + " is unknown");
+            };
+        }
+
+        private LocalDateTime readDateTime() {
+            LocalDate date = LocalDate.ofEpochDay(readZigzag());
+            return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readVarint()));
+        }
+
+        private ZoneOffset readOffset() {
+            return ZoneOffset.ofTotalSeconds((int) readZigzag());
+        }
+
+        private ZonedDateTime readZonedDateTime() {
+            LocalDateTime dateTime = readDateTime();
+            ZoneOffset offset = readOffset();
+            return ZonedDateTime.ofLocal(dateTime, ZoneId.of(readString()), offset);
+        }
+
+        private BigDecimal readDecimal() {
+            int scale = (int) readZigzag();
+            return new BigDecimal(new BigInteger(readBytes()), scale);
+        }
+
+        private List<Element> readElements() {
+            int size = readSize();
+            List<Element> elements = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                elements.add(readElement());
+            }
+            return elements;
+        }
+
+        private List<Object> readList() {
+            int size = readSize();
+            List<Object> values = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                values.add(readValue());
+            }
+            return values;
+        }
+
+        private Map<String, Object> readMap() {
+            int size = readSize();
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (int index = 0; index < size; index++) {
+                String key = readName();
+                map.put(key, readValue());
+            }
+            return map;
+        }
+
+        String readString() {
+            int length = readSize();
+            if (buffer.hasArray()) {
+                String text = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                        StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                return text;
+            }
+            byte[] array = new byte[length];
+            buffer.get(array);
+            return new String(array, StandardCharsets.UTF_8);
+        }
+
+        byte[] readBytes() {
+            byte[] array = new byte[readSize()];
+            buffer.get(array);
+            return array;
+        }
+
+        int readSize() {
+            long size = readVarint();
+            if (size < 0 || size > buffer.remaining()) {
+                throw new IllegalArgumentException("The size " + size + " is invalid");
+            }
+            return (int) size;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte current = buffer.get();
+                value |= (long) (current & 0x7F) << shift;
+                if ((current & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("The varint is malformed");
+        }
+
+        long readZigzag() {
+            long value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private static Class<?> enumType(String name) {
+            try {
+                ClassLoader loader = Thread.currentThread().getContextClassLoader();
+                return Class.forName(name, false, loader == null ? EntityCodec.class.getClassLoader() : loader);
+            } catch (ClassNotFoundException exception) {
+                throw new CommunicationException("The enum type " + name + " was not found", exception);
+            }
+        }
+    }
+}
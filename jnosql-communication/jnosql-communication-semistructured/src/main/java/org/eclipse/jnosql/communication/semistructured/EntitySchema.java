@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.NameDictionary;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The element names seen for an entity name, shared by all the {@link CompactCommunicationEntity} instances with
+ * that name: each element name has a fixed slot, so an entity keeps its values in an array instead of a map.
+ * A schema only grows, and it is bounded by {@link #MAX_SLOTS}; the names beyond it are not interned.
+ */
+final class EntitySchema {
+
+    /**
+     * The maximum number of element names per schema.
+     */
+    static final int MAX_SLOTS = 256;
+
+    private static final Map<String, EntitySchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    private final Map<String, Integer> slots = new ConcurrentHashMap<>();
+
+    private volatile String[] names = new String[0];
+
+    private EntitySchema() {
+    }
+
+    /**
+     * Returns the slot of the element name
+     *
+     * @param name the element name
+     * @return the slot or -1 when the name is not in the schema
+     */
+    int slot(String name) {
+        Integer slot = slots.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Returns the slot of the element name, adding it to the schema when it is new
+     *
+     * @param name the element name
+     * @return the slot or -1 when the schema is full
+     */
+    int add(String name) {
+        Integer slot = slots.get(name);
+        if (slot != null) {
+            return slot;
+        }
+        synchronized (this) {
+            slot = slots.get(name);
+            if (slot != null) {
+                return slot;
+            }
+            String[] current = names;
+            if (current.length >= MAX_SLOTS) {
+                return -1;
+            }
+            String[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = NameDictionary.lookup(name);
+            names = next;
+            slots.put(name, current.length);
+            return current.length;
+        }
+    }
+
+    /**
+     * Returns the element name of the slot
+     *
+     * @param slot the slot
+     * @return the element name
+     */
+    String name(int slot) {
+        return names[slot];
+    }
+
+    /**
+     * Returns the number of slots
+     *
+     * @return the number of element names
+     */
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * Returns the shared schema of the entity name
+     *
+     * @param entity the entity name
+     * @return the schema
+     */
+    static EntitySchema of(String entity) {
+        return SCHEMAS.computeIfAbsent(entity, e -> new EntitySchema());
+    }
+}
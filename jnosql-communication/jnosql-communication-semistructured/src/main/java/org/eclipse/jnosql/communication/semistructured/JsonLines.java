@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Value;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Converts a {@link CommunicationEntity} from and to a single line JSON object, the unit of the newline-delimited
+ * JSON (NDJSON) format.
+ * The elements become the object attributes: a sub-element or a list of sub-elements becomes a nested object, the
+ * other iterables become arrays, the numbers, booleans and strings keep their JSON type, and any other value is
+ * written with its {@link Object#toString()}. Reading follows the query JSON rules, where numbers are
+ * {@link BigDecimal} and null attributes are ignored.
+ */
+public final class JsonLines {
+
+    private static final JsonReaderFactory READER_FACTORY = Json.createReaderFactory(Collections.emptyMap());
+
+    private static final JsonGeneratorFactory GENERATOR_FACTORY = Json.createGeneratorFactory(Collections.emptyMap());
+
+    private JsonLines() {
+    }
+
+    /**
+     * Reads a JSON object line as a {@link CommunicationEntity}.
+     *
+     * @param entity the entity name
+     * @param line   the JSON object
+     * @return the {@link CommunicationEntity} instance
+     * @throws NullPointerException   when there is a null parameter
+     * @throws CommunicationException when the line is not a JSON object
+     */
+    public static CommunicationEntity read(String entity, String line) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(line, "line is required");
+        try (JsonReader reader = READER_FACTORY.createReader(new StringReader(line))) {
+            JsonObject json = reader.readObject();
+            CommunicationEntity communication = CommunicationEntity.compact(entity);
+            communication.addAll(JsonObjects.getColumns(json));
+            return communication;
+        } catch (JsonException exception) {
+            throw new CommunicationException("The line is not a valid JSON object: " + line, exception);
+        }
+    }
+
+    /**
+     * Writes the {@link CommunicationEntity} elements as a JSON object in a single line without the line break.
+     *
+     * @param entity the entity
+     * @return the JSON object
+     * @throws NullPointerException when the entity is null
+     */
+    public static String write(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = GENERATOR_FACTORY.createGenerator(writer)) {
+            generator.writeStartObject();
+            for (Element element : entity.elements()) {
+                generator.writeKey(element.name());
+                write(generator, element.get());
+            }
+            generator.writeEnd();
+        }
+        return writer.toString();
+    }
+
+    private static void write(JsonGenerator generator, Object value) {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Value current) {
+            write(generator, current.get());
+        } else if (value instanceof Element element) {
+            generator.writeStartObject();
+            generator.writeKey(element.name());
+            write(generator, element.get());
+            generator.writeEnd();
+        } else if (value instanceof Map<?, ?> map) {
+            generator.writeStartObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                generator.writeKey(String.valueOf(entry.getKey()));
+                write(generator, entry.getValue());
+            }
+            generator.writeEnd();
+        } else if (value instanceof Iterable<?> iterable) {
+            writeIterable(generator, iterable);
+        } else if (value instanceof Object[] array) {
+            writeIterable(generator, Arrays.asList(array));
+        } else if (value instanceof String text) {
+            generator.write(text);
+        } else if (value instanceof Boolean bool) {
+            generator.write(bool);
+        } else if (value instanceof Number number) {
+            writeNumber(generator, number);
+        } else {
+            generator.write(value.toString());
+        }
+    }
+
+    private static void writeIterable(JsonGenerator generator, Iterable<?> iterable) {
+        if (isElements(iterable)) {
+            generator.writeStartObject();
+            for (Object item : iterable) {
+                Element element = (Element) item;
+                generator.writeKey(element.name());
+                write(generator, element.get());
+            }
+        } else {
+            generator.writeStartArray();
+            for (Object item : iterable) {
+                write(generator, item);
+            }
+        }
+        generator.writeEnd();
+    }
+
+    private static boolean isElements(Iterable<?> iterable) {
+        boolean empty = true;
+        for (Object item : iterable) {
+            if (!(item instanceof Element)) {
+                return false;
+            }
+            empty = false;
+        }
+        return !empty;
+    }
+
+    private static void writeNumber(JsonGenerator generator, Number number) {
+        if (number instanceof BigDecimal decimal) {
+            generator.write(decimal);
+        } else if (number instanceof BigInteger integer) {
+            generator.write(integer);
+        } else if (number instanceof Long || number instanceof Integer
+                || number instanceof Short || number instanceof Byte) {
+            generator.write(number.longValue());
+        } else if (number instanceof Double || number instanceof Float) {
+            if (Double.isFinite(number.doubleValue())) {
+                generator.write(new BigDecimal(number.toString()));
+            } else {
+                generator.write(number.toString());
+            }
+        } else {
+            generator.write(new BigDecimal(number.toString()));
+        }
+    }
+}
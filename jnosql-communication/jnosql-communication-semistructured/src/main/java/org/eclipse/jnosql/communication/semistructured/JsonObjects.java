@@ -11,22 +11,64 @@
 package org.eclipse.jnosql.communication.semistructured;
 
 
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
-import jakarta.json.bind.Jsonb;
-import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Converts a parsed {@link JsonObject} to {@link Element} walking the {@link JsonValue} tree, so the payload is
+ * parsed only once. It follows {@link Elements#of(Map)}: the null attributes are ignored, a nested object becomes
+ * the list of its elements, or the element itself when it has a single one, and the numbers keep their precision
+ * as {@link java.math.BigDecimal}.
+ */
 final class JsonObjects {
 
-    private static final Jsonb JSON = JsonbBuilder.create();
-
     private JsonObjects() {
     }
 
     static List<Element> getColumns(JsonObject jsonObject) {
-        Map<String, Object> map = JSON.fromJson(jsonObject.toString(), Map.class);
-        return Elements.of(map);
+        List<Element> elements = new ArrayList<>(jsonObject.size());
+        for (Map.Entry<String, JsonValue> entry : jsonObject.entrySet()) {
+            JsonValue value = entry.getValue();
+            if (value != null && value.getValueType() != JsonValue.ValueType.NULL) {
+                elements.add(Element.of(entry.getKey(), getValue(value)));
+            }
+        }
+        return elements;
+    }
+
+    private static Object getValue(JsonValue value) {
+        return switch (value.getValueType()) {
+            case OBJECT -> getObject(value.asJsonObject());
+            case ARRAY -> getArray(value.asJsonArray());
+            case STRING -> ((JsonString) value).getString();
+            case NUMBER -> ((JsonNumber) value).bigDecimalValue();
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case NULL -> null;
+        };
+    }
+
+    private static Object getObject(JsonObject jsonObject) {
+        List<Element> elements = getColumns(jsonObject);
+        if (elements.size() == 1) {
+            return elements.get(0);
+        }
+        return elements;
+    }
+
+    private static List<Object> getArray(JsonArray array) {
+        List<Object> values = new ArrayList<>(array.size());
+        for (JsonValue item : array) {
+            values.add(getValue(item));
+        }
+        return values;
     }
 
 }
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+/**
+ * Defines how {@link DatabaseManager#selectCursor(SelectQuery, jakarta.data.page.PageRequest)} writes the
+ * keyset condition that resumes a cursor-based pagination after, or before, the cursor keys.
+ * <p>Given the sort keys {@code a, b, c} and the cursor {@code x, y, z}:</p>
+ * <ul>
+ *     <li>{@link #EXPANDED}: {@code a > x OR (a = x AND b > y) OR (a = x AND b = y AND c > z)}</li>
+ *     <li>{@link #COMPACT}: {@code a > x OR (a = x AND (b > y OR (b = y AND c > z)))}</li>
+ * </ul>
+ * Both are equivalent; the expanded form grows quadratically with the number of sort keys,
+ * whereas the compact one grows linearly.
+ *
+ * @see DatabaseManager#keysetCondition()
+ */
+public enum KeysetCondition {
+
+    /**
+     * A disjunction of conjunctions, one per sort key; it is the default form.
+     */
+    EXPANDED,
+    /**
+     * The nested composite comparison, for databases that evaluate nested AND/OR predicates natively.
+     */
+    COMPACT
+}
@@ -0,0 +1,332 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
+import org.eclipse.jnosql.communication.metrics.Operation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link DatabaseManager} decorator that records, at the {@link DatabaseMetrics}, the latency of every call per
+ * entity and {@link Operation}, and the entities and elements it writes or reads. The latency of a select or an
+ * aggregate is the time until its stream ends or closes, since most databases fetch the rows while the stream is
+ * consumed; its rows are counted meanwhile and recorded at the same time. A stream that is neither consumed to the
+ * end nor closed is not recorded. A batch of entities is recorded under the name of its first entity.
+ * The manager is only decorated when the metrics are enabled, so there is no cost otherwise.
+ *
+ * @see DatabaseMetrics
+ */
+public final class MetricsDatabaseManager implements DatabaseManager {
+
+    private final DatabaseManager manager;
+
+    private final DatabaseMetrics metrics;
+
+    private MetricsDatabaseManager(DatabaseManager manager, DatabaseMetrics metrics) {
+        this.manager = manager;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the metrics that this manager records.
+     *
+     * @return the metrics
+     */
+    public DatabaseMetrics metrics() {
+        return metrics;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        CommunicationEntity result = measure(entity.name(), Operation.INSERT, () -> manager.insert(entity));
+        metrics.rows(entity.name(), Operation.INSERT, 1, entity.size());
+        return result;
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        CommunicationEntity result = measure(entity.name(), Operation.INSERT, () -> manager.insert(entity, ttl));
+        metrics.rows(entity.name(), Operation.INSERT, 1, entity.size());
+        return result;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        List<CommunicationEntity> values = toList(entities);
+        Iterable<CommunicationEntity> result = measure(name(values), Operation.INSERT, () -> manager.insert(values));
+        rows(values, Operation.INSERT);
+        return result;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
+        List<CommunicationEntity> values = toList(entities);
+        Iterable<CommunicationEntity> result = measure(name(values), Operation.INSERT, () -> manager.insert(values, ttl));
+        rows(values, Operation.INSERT);
+        return result;
+    }
+
+    @Override
+    public CommunicationEntity update(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        CommunicationEntity result = measure(entity.name(), Operation.UPDATE, () -> manager.update(entity));
+        metrics.rows(entity.name(), Operation.UPDATE, 1, entity.size());
+        return result;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
+        List<CommunicationEntity> values = toList(entities);
+        Iterable<CommunicationEntity> result = measure(name(values), Operation.UPDATE, () -> manager.update(values));
+        rows(values, Operation.UPDATE);
+        return result;
+    }
+
+    @Override
+    public long update(UpdateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        long result = measure(query.name(), Operation.UPDATE, () -> manager.update(query));
+        metrics.rows(query.name(), Operation.UPDATE, result, 0);
+        return result;
+    }
+
+    @Override
+    public void delete(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        measure(query.name(), Operation.DELETE, () -> {
+            manager.delete(query);
+            return null;
+        });
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return read(query.name(), Operation.SELECT, () -> manager.select(query));
+    }
+
+    @Override
+    public Stream<CommunicationEntity> aggregate(AggregateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return read(query.name(), Operation.AGGREGATE, () -> manager.aggregate(query));
+    }
+
+    @Override
+    public long count(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return measure(query.name(), Operation.COUNT, () -> manager.count(query));
+    }
+
+    @Override
+    public boolean exists(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return measure(query.name(), Operation.SELECT, () -> manager.exists(query));
+    }
+
+    @Override
+    public CursoredPage<CommunicationEntity> selectCursor(SelectQuery query, PageRequest<?> pageRequest) {
+        Objects.requireNonNull(query, "query is required");
+        CursoredPage<CommunicationEntity> page = measure(query.name(), Operation.SELECT,
+                () -> manager.selectCursor(query, pageRequest));
+        rows(page.content(), Operation.SELECT);
+        return page;
+    }
+
+    @Override
+    public KeysetCondition keysetCondition() {
+        return manager.keysetCondition();
+    }
+
+    @Override
+    public long count(String entity) {
+        return measure(entity, Operation.COUNT, () -> manager.count(entity));
+    }
+
+    @Override
+    public void close() {
+        try {
+            manager.close();
+        } finally {
+            metrics.unregister();
+        }
+    }
+
+    private <T> T measure(String entity, Operation operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.get();
+            failed = false;
+            return result;
+        } finally {
+            metrics.latency(entity, operation, System.nanoTime() - start, failed);
+        }
+    }
+
+    private Stream<CommunicationEntity> read(String entity, Operation operation, Supplier<Stream<CommunicationEntity>> call) {
+        long start = System.nanoTime();
+        Stream<CommunicationEntity> stream;
+        try {
+            stream = call.get();
+        } catch (RuntimeException exception) {
+            metrics.latency(entity, operation, System.nanoTime() - start, true);
+            throw exception;
+        }
+        RowSpliterator rows = new RowSpliterator(stream.spliterator(), entity, operation, start);
+        return StreamSupport.stream(rows, false).onClose(() -> rows.report(false)).onClose(stream::close);
+    }
+
+    private void rows(List<CommunicationEntity> entities, Operation operation) {
+        long elements = 0;
+        for (CommunicationEntity entity : entities) {
+            elements += entity.size();
+        }
+        metrics.rows(name(entities), operation, entities.size(), elements);
+    }
+
+    private static String name(List<CommunicationEntity> entities) {
+        return entities.isEmpty() ? null : entities.get(0).name();
+    }
+
+    private static List<CommunicationEntity> toList(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<CommunicationEntity> values = new ArrayList<>();
+        entities.forEach(values::add);
+        return values;
+    }
+
+    /**
+     * Counts the entities and elements that pass through the stream, recording them and the latency since the call
+     * once when it ends, fails or closes.
+     */
+    private final class RowSpliterator implements Spliterator<CommunicationEntity>, Consumer<CommunicationEntity> {
+
+        private final Spliterator<CommunicationEntity> source;
+
+        private final String entity;
+
+        private final Operation operation;
+
+        private final long start;
+
+        private Consumer<? super CommunicationEntity> action;
+
+        private long rows;
+
+        private long elements;
+
+        private boolean reported;
+
+        private RowSpliterator(Spliterator<CommunicationEntity> source, String entity, Operation operation, long start) {
+            this.source = source;
+            this.entity = entity;
+            this.operation = operation;
+            this.start = start;
+        }
+
+        @Override
+        public void accept(CommunicationEntity communicationEntity) {
+            rows++;
+            elements += communicationEntity.size();
+            action.accept(communicationEntity);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super CommunicationEntity> action) {
+            this.action = action;
+            boolean advanced;
+            try {
+                advanced = source.tryAdvance(this);
+            } catch (RuntimeException exception) {
+                report(true);
+                throw exception;
+            }
+            if (!advanced) {
+                report(false);
+            }
+            return advanced;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super CommunicationEntity> action) {
+            this.action = action;
+            try {
+                source.forEachRemaining(this);
+            } catch (RuntimeException exception) {
+                report(true);
+                throw exception;
+            }
+            report(false);
+        }
+
+        @Override
+        public Spliterator<CommunicationEntity> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & ~(SORTED | SIZED | SUBSIZED);
+        }
+
+        private void report(boolean failed) {
+            if (!reported) {
+                reported = true;
+                metrics.latency(entity, operation, System.nanoTime() - start, failed);
+                metrics.rows(entity, operation, rows, elements);
+            }
+        }
+    }
+
+    /**
+     * Decorates the manager, unless it already records metrics.
+     *
+     * @param manager the manager
+     * @param metrics the metrics to record
+     * @return the measured manager
+     * @throws NullPointerException when either manager or metrics is null
+     */
+    public static DatabaseManager of(DatabaseManager manager, DatabaseMetrics metrics) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(metrics, "metrics is required");
+        if (manager instanceof MetricsDatabaseManager) {
+            return manager;
+        }
+        return new MetricsDatabaseManager(manager, metrics);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import jakarta.data.page.impl.CursoredPageRecord;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DatabaseManager} decorator that normalizes the condition of every {@link SelectQuery} and
+ * {@link DeleteQuery} with the {@link CriteriaNormalizer} before it reaches the manager. When the condition can never
+ * match, the query does not reach the database: the select returns no entity, the count zero, the aggregate
+ * summarizes no entity, the conditional update changes nothing and the delete does nothing. As the
+ * {@link CriteriaNormalizer}, it is only valid when the conditions filter on single-valued elements.
+ *
+ * @see CriteriaNormalizer
+ */
+public final class NormalizedDatabaseManager implements DatabaseManager {
+
+    private final DatabaseManager manager;
+
+    private NormalizedDatabaseManager(DatabaseManager manager) {
+        this.manager = manager;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity) {
+        return manager.insert(entity);
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
+        return manager.insert(entity, ttl);
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        return manager.insert(entities);
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
+        return manager.insert(entities, ttl);
+    }
+
+    @Override
+    public CommunicationEntity update(CommunicationEntity entity) {
+        return manager.update(entity);
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
+        return manager.update(entities);
+    }
+
+    @Override
+    public long update(UpdateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CriteriaNormalizer.normalize(query).map(manager::update).orElse(0L);
+    }
+
+    @Override
+    public void delete(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        CriteriaNormalizer.normalize(query).ifPresent(manager::delete);
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CriteriaNormalizer.normalize(query).map(manager::select).orElseGet(Stream::empty);
+    }
+
+    @Override
+    public Stream<CommunicationEntity> aggregate(AggregateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CriteriaNormalizer.normalize(query.query())
+                .map(q -> manager.aggregate(q == query.query() ? query : new AggregateQuery(q, query.groupBy(), query.aggregates())))
+                .orElseGet(() -> Aggregator.aggregate(query, Stream.empty()));
+    }
+
+    @Override
+    public long count(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CriteriaNormalizer.normalize(query).map(manager::count).orElse(0L);
+    }
+
+    @Override
+    public boolean exists(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CriteriaNormalizer.normalize(query).map(manager::exists).orElse(false);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public CursoredPage<CommunicationEntity> selectCursor(SelectQuery query, PageRequest<?> pageRequest) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(pageRequest, "pageRequest is required");
+        Optional<SelectQuery> normalized = CriteriaNormalizer.normalize(query);
+        if (normalized.isEmpty() && !query.sorts().isEmpty()) {
+            return new CursoredPageRecord<>(Collections.emptyList(), Collections.emptyList(), -1,
+                    (PageRequest<CommunicationEntity>) pageRequest, null, null);
+        }
+        return manager.selectCursor(normalized.orElse(query), pageRequest);
+    }
+
+    @Override
+    public KeysetCondition keysetCondition() {
+        return manager.keysetCondition();
+    }
+
+    @Override
+    public long count(String entity) {
+        return manager.count(entity);
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    /**
+     * Decorates the manager, unless it is already normalized.
+     *
+     * @param manager the manager
+     * @return the normalized manager
+     * @throws NullPointerException when manager is null
+     */
+    public static DatabaseManager of(DatabaseManager manager) {
+        Objects.requireNonNull(manager, "manager is required");
+        if (manager instanceof NormalizedDatabaseManager) {
+            return manager;
+        }
+        return new NormalizedDatabaseManager(manager);
+    }
+}
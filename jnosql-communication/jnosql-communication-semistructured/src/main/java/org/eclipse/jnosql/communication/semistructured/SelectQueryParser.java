@@ -13,6 +13,7 @@ package org.eclipse.jnosql.communication.semistructured;
 
 import jakarta.data.Direction;
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.Aggregate;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.SelectQueryConverter;
@@ -36,8 +37,13 @@ public final class SelectQueryParser implements BiFunction<org.eclipse.jnosql.co
 
     Stream<CommunicationEntity> query(String query, DatabaseManager manager, CommunicationObserverParser observer) {
 
-        SelectQuery selectQuery = getColumnQuery(query, observer);
-        return manager.select(selectQuery);
+        SelectQueryConverter converter = new SelectQueryConverter();
+        org.eclipse.jnosql.communication.query.SelectQuery selectQuery = converter.apply(query);
+        SelectQuery columnQuery = getColumnQuery(selectQuery, observer);
+        if (isAggregate(selectQuery)) {
+            return manager.aggregate(aggregateQuery(columnQuery, selectQuery, observer));
+        }
+        return manager.select(columnQuery);
     }
 
 
@@ -48,6 +54,9 @@ public final class SelectQueryParser implements BiFunction<org.eclipse.jnosql.co
         org.eclipse.jnosql.communication.query.SelectQuery selectQuery = converter.apply(query);
 
         SelectQuery columnQuery = getColumnQuery(params, selectQuery, observer);
+        if (isAggregate(selectQuery)) {
+            return CommunicationPreparedStatement.aggregate(aggregateQuery(columnQuery, selectQuery, observer), params, query, manager);
+        }
         return CommunicationPreparedStatement.select(columnQuery, params, query, manager);
     }
 
@@ -63,10 +72,8 @@ public final class SelectQueryParser implements BiFunction<org.eclipse.jnosql.co
     }
 
 
-    private SelectQuery getColumnQuery(String query, CommunicationObserverParser observer) {
+    private SelectQuery getColumnQuery(org.eclipse.jnosql.communication.query.SelectQuery selectQuery, CommunicationObserverParser observer) {
 
-        SelectQueryConverter converter = new SelectQueryConverter();
-        org.eclipse.jnosql.communication.query.SelectQuery selectQuery = converter.apply(query);
         String columnFamily = observer.fireEntity(selectQuery.entity());
         long limit = selectQuery.limit();
         long skip = selectQuery.skip();
@@ -103,6 +110,22 @@ public final class SelectQueryParser implements BiFunction<org.eclipse.jnosql.co
         return new DefaultSelectQuery(limit, skip, columnFamily, columns, sorts, condition);
     }
 
+    private boolean isAggregate(org.eclipse.jnosql.communication.query.SelectQuery selectQuery) {
+        return !selectQuery.aggregates().isEmpty() || !selectQuery.groupBy().isEmpty();
+    }
+
+    private AggregateQuery aggregateQuery(SelectQuery columnQuery, org.eclipse.jnosql.communication.query.SelectQuery selectQuery,
+                                          CommunicationObserverParser observer) {
+        String columnFamily = columnQuery.name();
+        List<String> groupBy = selectQuery.groupBy().stream()
+                .map(f -> observer.fireField(columnFamily, f))
+                .toList();
+        List<Aggregate> aggregates = selectQuery.aggregates().stream()
+                .map(a -> new Aggregate(a.function(), a.name() == null ? null : observer.fireField(columnFamily, a.name())))
+                .toList();
+        return new AggregateQuery(columnQuery, groupBy, aggregates);
+    }
+
     private Sort<?> toSort(Sort<?> sort, CommunicationObserverParser observer, String entity) {
         return Sort.of(observer.fireField(entity, sort.property()),
                 sort.isAscending()? Direction.ASC: Direction.DESC, false);
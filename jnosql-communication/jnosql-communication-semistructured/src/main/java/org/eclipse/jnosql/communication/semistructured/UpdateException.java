@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+
+/**
+ * The exception of the portable {@link DatabaseManager#update(UpdateQuery)} when a batch fails: the batches before it
+ * are already written, and {@link #updated()} tells how many entities they had.
+ */
+public class UpdateException extends CommunicationException {
+
+    private final long updated;
+
+    /**
+     * Creates the exception
+     *
+     * @param message   the message
+     * @param updated   the number of entities written before the failure
+     * @param exception the failure
+     */
+    public UpdateException(String message, long updated, Throwable exception) {
+        super(message, exception);
+        this.updated = updated;
+    }
+
+    /**
+     * Returns the number of entities written before the failure
+     *
+     * @return the number of updated entities
+     */
+    public long updated() {
+        return updated;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A unit that changes, in a single call, every entity that matches a condition, e.g.: setting the status of the
+ * stale orders or incrementing a counter, without loading the entities in the application.
+ * This instance will be used in:
+ * {@link DatabaseManager#update(UpdateQuery)}
+ */
+public interface UpdateQuery {
+
+    /**
+     * Retrieves the entity name.
+     *
+     * @return the entity name
+     */
+    String name();
+
+    /**
+     * Retrieves the changes, applied in order to each entity.
+     *
+     * @return the changes
+     */
+    List<ElementChange> changes();
+
+    /**
+     * Retrieves the condition.
+     * If empty, {@link Optional#empty()} is true, the query changes every entity.
+     *
+     * @return the condition
+     */
+    Optional<CriteriaCondition> condition();
+
+    /**
+     * Retrieves the element that identifies each entity, such as the id. When it is present, the portable
+     * {@link DatabaseManager#update(UpdateQuery)} pages through the matching entities in the order of this element,
+     * instead of reading every matching entity before the first write.
+     *
+     * @return the key element name
+     */
+    Optional<String> key();
+
+    /**
+     * Returns a copy of this query with the element that identifies each entity.
+     *
+     * @param key the key element name
+     * @return the query with the key
+     * @throws NullPointerException when the key is null
+     * @see #key()
+     */
+    UpdateQuery withKey(String key);
+
+    /**
+     * Starts the creation of an {@link UpdateQuery} using a builder pattern.
+     *
+     * @param entity the entity name
+     * @return an {@link UpdateQueryBuilder} instance
+     * @throws NullPointerException when the entity is null
+     */
+    static UpdateQueryBuilder builder(String entity) {
+        return new DefaultUpdateQueryBuilder(entity);
+    }
+
+    /**
+     * The builder of {@link UpdateQuery}.
+     * It is a mutable and non-thread-safe class.
+     */
+    interface UpdateQueryBuilder {
+
+        /**
+         * Appends a change that replaces the element value.
+         *
+         * @param name  the element name
+         * @param value the new value
+         * @return the {@link UpdateQueryBuilder}
+         * @throws NullPointerException when the name is null
+         */
+        UpdateQueryBuilder set(String name, Object value);
+
+        /**
+         * Appends a change that adds a number to the element value.
+         *
+         * @param name  the element name
+         * @param value the number to add
+         * @return the {@link UpdateQueryBuilder}
+         * @throws NullPointerException when either name or value is null
+         */
+        UpdateQueryBuilder increment(String name, Number value);
+
+        /**
+         * Appends a change that removes the element.
+         *
+         * @param name the element name
+         * @return the {@link UpdateQueryBuilder}
+         * @throws NullPointerException when the name is null
+         */
+        UpdateQueryBuilder unset(String name);
+
+        /**
+         * Either add or replace the condition in the query.
+         *
+         * @param condition the {@link CriteriaCondition} in the query
+         * @return the {@link UpdateQueryBuilder}
+         * @throws NullPointerException when condition is null
+         */
+        UpdateQueryBuilder where(CriteriaCondition condition);
+
+        /**
+         * Defines the element that identifies each entity, such as the id.
+         *
+         * @param name the key element name
+         * @return the {@link UpdateQueryBuilder}
+         * @throws NullPointerException when the name is null
+         * @see UpdateQuery#key()
+         */
+        UpdateQueryBuilder key(String name);
+
+        /**
+         * Validate and create an {@link UpdateQuery} instance.
+         *
+         * @return {@link UpdateQuery}
+         * @throws IllegalStateException when there is no change
+         */
+        UpdateQuery build();
+
+        /**
+         * Executes the {@link DatabaseManager#update(UpdateQuery)}.
+         *
+         * @param manager the entity manager
+         * @return the number of updated entities
+         * @throws NullPointerException  when manager is null
+         * @throws IllegalStateException when there is no change
+         */
+        long update(DatabaseManager manager);
+    }
+}
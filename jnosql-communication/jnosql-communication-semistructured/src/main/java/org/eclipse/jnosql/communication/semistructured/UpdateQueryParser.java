@@ -13,9 +13,10 @@ package org.eclipse.jnosql.communication.semistructured;
 
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.UpdateOperator;
 import org.eclipse.jnosql.communication.query.JSONQueryValue;
+import org.eclipse.jnosql.communication.query.QueryChange;
 import org.eclipse.jnosql.communication.query.QueryCondition;
-import org.eclipse.jnosql.communication.query.UpdateQuery;
 import org.eclipse.jnosql.communication.query.UpdateQueryConverter;
 
 import java.util.List;
@@ -29,10 +30,18 @@ final class UpdateQueryParser extends ConditionQueryParser {
     Stream<CommunicationEntity> query(String query, DatabaseManager manager, CommunicationObserverParser observer) {
 
         UpdateQueryConverter converter = new UpdateQueryConverter();
-        UpdateQuery updateQuery = converter.apply(query);
+        org.eclipse.jnosql.communication.query.UpdateQuery updateQuery = converter.apply(query);
 
         Params params = Params.newParams();
 
+        if (isBulk(updateQuery)) {
+            UpdateQuery bulkQuery = getBulkQuery(params, updateQuery, observer);
+            if (params.isNotEmpty()) {
+                throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
+            }
+            return Stream.of(Updater.result(bulkQuery.name(), manager.update(bulkQuery)));
+        }
+
         CommunicationEntity entity = getEntity(params, updateQuery, observer);
 
         if (params.isNotEmpty()) {
@@ -47,7 +56,11 @@ final class UpdateQueryParser extends ConditionQueryParser {
         Params params = Params.newParams();
 
         UpdateQueryConverter converter = new UpdateQueryConverter();
-        UpdateQuery updateQuery = converter.apply(query);
+        org.eclipse.jnosql.communication.query.UpdateQuery updateQuery = converter.apply(query);
+
+        if (isBulk(updateQuery)) {
+            return CommunicationPreparedStatement.update(getBulkQuery(params, updateQuery, observer), params, query, manager);
+        }
 
         CommunicationEntity entity = getEntity(params, updateQuery, observer);
 
@@ -55,13 +68,36 @@ final class UpdateQueryParser extends ConditionQueryParser {
     }
 
 
-    private CommunicationEntity getEntity(Params params, UpdateQuery updateQuery, CommunicationObserverParser observer) {
+    private boolean isBulk(org.eclipse.jnosql.communication.query.UpdateQuery updateQuery) {
+        return !updateQuery.changes().isEmpty();
+    }
+
+    private UpdateQuery getBulkQuery(Params params, org.eclipse.jnosql.communication.query.UpdateQuery updateQuery,
+                                     CommunicationObserverParser observer) {
+        String columnFamily = observer.fireEntity(updateQuery.entity());
+        List<ElementChange> changes = updateQuery.changes().stream()
+                .map(c -> getChange(c, params, observer, columnFamily))
+                .toList();
+        CriteriaCondition condition = updateQuery.where()
+                .map(c -> Conditions.getCondition(c, params, observer, columnFamily))
+                .orElse(null);
+        return new DefaultUpdateQuery(columnFamily, changes, condition, observer.fireKey(columnFamily).orElse(null));
+    }
+
+    private ElementChange getChange(QueryChange change, Params params, CommunicationObserverParser observer, String columnFamily) {
+        String name = observer.fireField(columnFamily, change.name());
+        Object value = change.operator() == UpdateOperator.UNSET ? null : Values.get(change.value(), params);
+        return new ElementChange(Element.of(name, value), change.operator());
+    }
+
+    private CommunicationEntity getEntity(Params params, org.eclipse.jnosql.communication.query.UpdateQuery updateQuery,
+                                          CommunicationObserverParser observer) {
         String columnFamily = observer.fireEntity(updateQuery.entity());
 
         return getEntity(new UpdateQueryConditionSupplier(updateQuery), columnFamily, params, observer);
     }
 
-    private record UpdateQueryConditionSupplier(UpdateQuery query) implements ConditionQuerySupplier {
+    private record UpdateQueryConditionSupplier(org.eclipse.jnosql.communication.query.UpdateQuery query) implements ConditionQuerySupplier {
 
 
         @Override
@@ -0,0 +1,189 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.CommunicationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The portable implementation of {@link DatabaseManager#update(UpdateQuery)}. It selects the entities that match
+ * the condition, applies the changes in memory and writes them back with {@link DatabaseManager#update(Iterable)}
+ * in batches of {@value #BATCH_SIZE}.
+ * <p>When the query has a {@link UpdateQuery#key()} that the changes do not touch, it reads one batch at a time,
+ * ordered by the key and after the last key of the previous batch, so a change to an element of the condition
+ * cannot make it skip or revisit an entity. Otherwise, it reads every matching entity before the first write.</p>
+ * <p>The batches are not atomic: when a write fails, the {@link UpdateException} tells how many entities were
+ * written before it.</p>
+ */
+final class Updater {
+
+    static final int BATCH_SIZE = 100;
+
+    static final String COUNT = "count";
+
+    private Updater() {
+    }
+
+    static long update(UpdateQuery query, DatabaseManager manager) {
+        Optional<String> key = query.key()
+                .filter(name -> query.changes().stream().noneMatch(change -> change.name().equals(name)));
+        if (key.isEmpty()) {
+            return updateAll(query, manager);
+        }
+        long count = 0;
+        Object last = null;
+        while (true) {
+            List<CommunicationEntity> batch;
+            try (Stream<CommunicationEntity> stream = manager.select(page(query, key.orElseThrow(), last))) {
+                batch = stream.toList();
+            } catch (RuntimeException exception) {
+                throw failure(query, count, exception);
+            }
+            if (batch.isEmpty()) {
+                return count;
+            }
+            last = keyOf(batch.get(batch.size() - 1), key.orElseThrow());
+            count = write(query, manager, batch, count);
+            if (batch.size() < BATCH_SIZE) {
+                return count;
+            }
+        }
+    }
+
+    private static long updateAll(UpdateQuery query, DatabaseManager manager) {
+        SelectQuery select = new DefaultSelectQuery(0, 0, query.name(), Collections.emptyList(),
+                Collections.emptyList(), query.condition().orElse(null));
+        List<CommunicationEntity> entities;
+        try (Stream<CommunicationEntity> stream = manager.select(select)) {
+            entities = stream.toList();
+        }
+        long count = 0;
+        for (int start = 0; start < entities.size(); start += BATCH_SIZE) {
+            count = write(query, manager, entities.subList(start, Math.min(start + BATCH_SIZE, entities.size())), count);
+        }
+        return count;
+    }
+
+    private static SelectQuery page(UpdateQuery query, String key, Object last) {
+        CriteriaCondition condition = query.condition().orElse(null);
+        if (last != null) {
+            CriteriaCondition after = CriteriaCondition.gt(key, last);
+            condition = condition == null ? after : CriteriaCondition.and(condition, after);
+        }
+        return new DefaultSelectQuery(BATCH_SIZE, 0, query.name(), Collections.emptyList(),
+                List.of(Sort.asc(key)), condition);
+    }
+
+    private static Object keyOf(CommunicationEntity entity, String key) {
+        return entity.find(key).map(Element::get)
+                .orElseThrow(() -> new CommunicationException("The entity " + entity.name()
+                        + " does not have the key element " + key + " to page through the update"));
+    }
+
+    private static long write(UpdateQuery query, DatabaseManager manager, List<CommunicationEntity> batch,
+                              long count) {
+        try {
+            batch.forEach(entity -> apply(query.changes(), entity));
+            manager.update(new ArrayList<>(batch));
+        } catch (RuntimeException exception) {
+            throw failure(query, count, exception);
+        }
+        return count + batch.size();
+    }
+
+    private static UpdateException failure(UpdateQuery query, long count, RuntimeException exception) {
+        return new UpdateException("The update of " + query.name() + " stopped after " + count
+                + " entities were written: " + exception.getMessage(), count, exception);
+    }
+
+    /**
+     * Returns the result of an update statement at the query language: an entity with the number of updated
+     * entities at the {@value #COUNT} element.
+     */
+    static CommunicationEntity result(String name, long count) {
+        return CommunicationEntity.of(name, List.of(Element.of(COUNT, count)));
+    }
+
+    static void apply(List<ElementChange> changes, CommunicationEntity entity) {
+        for (ElementChange change : changes) {
+            switch (change.operator()) {
+                case SET -> entity.add(change.element());
+                case UNSET -> entity.remove(change.name());
+                case INCREMENT -> {
+                    Object current = entity.find(change.name()).map(Element::get).orElse(null);
+                    entity.add(change.name(), increment(change.name(), current, change.element().get()));
+                }
+                default -> throw new UnsupportedOperationException("There is no support to the operator: " + change.operator());
+            }
+        }
+    }
+
+    private static Object increment(String name, Object current, Object value) {
+        if (!(value instanceof Number delta)) {
+            throw new CommunicationException("The increment of " + name + " requires a number, but it was: " + value);
+        }
+        if (current == null) {
+            return delta;
+        }
+        if (!(current instanceof Number number)) {
+            throw new CommunicationException("The element " + name + " cannot be incremented, it is not a number: " + current);
+        }
+        if (isIntegral(number) && isIntegral(delta)) {
+            try {
+                long sum = Math.addExact(number.longValue(), delta.longValue());
+                if (number instanceof Integer && sum == (int) sum) {
+                    return Integer.valueOf((int) sum);
+                }
+                return Long.valueOf(sum);
+            } catch (ArithmeticException overflow) {
+                return BigInteger.valueOf(number.longValue()).add(BigInteger.valueOf(delta.longValue()));
+            }
+        }
+        if (number instanceof BigInteger integer && (isIntegral(delta) || delta instanceof BigInteger)) {
+            return integer.add(delta instanceof BigInteger other ? other : BigInteger.valueOf(delta.longValue()));
+        }
+        if (isBig(number) || isBig(delta)) {
+            return decimal(number).add(decimal(delta));
+        }
+        return number.doubleValue() + delta.doubleValue();
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+
+    private static boolean isBig(Number number) {
+        return number instanceof BigDecimal || number instanceof BigInteger;
+    }
+
+    private static BigDecimal decimal(Number number) {
+        if (number instanceof BigDecimal decimal) {
+            return decimal;
+        } else if (number instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        } else if (isIntegral(number)) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        return BigDecimal.valueOf(number.doubleValue());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Aggregate;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class AggregatorTest {
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private DatabaseManager manager;
+
+    @Test
+    void shouldCountAllEntities() {
+        Mockito.when(manager.select(Mockito.any(SelectQuery.class))).thenReturn(people());
+        SelectQuery query = SelectQuery.select().from("Person").where("age").gt(10).build();
+
+        List<Map<String, Object>> result = aggregate(new AggregateQuery(query, List.of(), List.of(Aggregate.count())));
+
+        assertThat(result).containsExactly(Map.of("count(*)", 4L));
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(manager).select(captor.capture());
+        assertThat(captor.getValue().condition()).isEqualTo(query.condition());
+    }
+
+    @Test
+    void shouldReturnSingleGroupWhenThereIsNoEntity() {
+        Mockito.when(manager.select(Mockito.any(SelectQuery.class))).thenReturn(Stream.empty());
+        SelectQuery query = SelectQuery.select().from("Person").build();
+
+        List<Map<String, Object>> result = aggregate(new AggregateQuery(query, List.of(),
+                List.of(Aggregate.count(), Aggregate.sum("age"))));
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0)).containsEntry("count(*)", 0L).containsEntry("sum(age)", null);
+    }
+
+    @Test
+    void shouldGroupBy() {
+        Mockito.when(manager.select(Mockito.any(SelectQuery.class))).thenReturn(people());
+        SelectQuery query = SelectQuery.select().from("Person").orderBy("city").asc().build();
+
+        List<Map<String, Object>> result = aggregate(new AggregateQuery(query, List.of("city"),
+                List.of(Aggregate.count(), Aggregate.count("salary"), Aggregate.sum("age"), Aggregate.avg("age"),
+                        Aggregate.min("name"), Aggregate.max("age"))));
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0)).containsEntry("city", "Lisbon").containsEntry("count(*)", 1L)
+                .containsEntry("count(salary)", 0L).containsEntry("sum(age)", 30L)
+                .containsEntry("avg(age)", 30D).containsEntry("min(name)", "Otavio").containsEntry("max(age)", 30);
+        assertThat(result.get(1)).containsEntry("city", "London").containsEntry("count(*)", 3L)
+                .containsEntry("count(salary)", 2L).containsEntry("sum(age)", 90L)
+                .containsEntry("avg(age)", 30D).containsEntry("min(name)", "Ada").containsEntry("max(age)", 36L);
+    }
+
+    @Test
+    void shouldSumDecimals() {
+        Mockito.when(manager.select(Mockito.any(SelectQuery.class))).thenReturn(people());
+        SelectQuery query = SelectQuery.select().from("Person").build();
+
+        List<Map<String, Object>> result = aggregate(new AggregateQuery(query, List.of(), List.of(Aggregate.sum("salary"))));
+
+        assertThat(result).containsExactly(Map.of("sum(salary)", new BigDecimal("3000.50")));
+    }
+
+    @Test
+    void shouldApplySkipAndLimitToGroups() {
+        Mockito.when(manager.select(Mockito.any(SelectQuery.class))).thenReturn(people());
+        SelectQuery query = SelectQuery.select().from("Person").orderBy("city").desc().skip(1).limit(1).build();
+
+        List<Map<String, Object>> result = aggregate(new AggregateQuery(query, List.of("city"), List.of()));
+
+        assertThat(result).containsExactly(Map.of("city", "Lisbon"));
+    }
+
+    @Test
+    void shouldReturnErrorWhenSumIsNotNumber() {
+        Mockito.when(manager.select(Mockito.any(SelectQuery.class))).thenReturn(people());
+        SelectQuery query = SelectQuery.select().from("Person").build();
+        AggregateQuery aggregateQuery = new AggregateQuery(query, List.of(), List.of(Aggregate.sum("name")));
+
+        assertThatThrownBy(() -> manager.aggregate(aggregateQuery)).isInstanceOf(CommunicationException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNoAggregateNorGroup() {
+        SelectQuery query = SelectQuery.select().from("Person").build();
+        assertThatThrownBy(() -> new AggregateQuery(query, List.of(), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Map<String, Object>> aggregate(AggregateQuery query) {
+        return manager.aggregate(query).map(CommunicationEntity::toMap).toList();
+    }
+
+    private Stream<CommunicationEntity> people() {
+        return Stream.of(person("Ada", 36L, "London", new BigDecimal("1000.25")),
+                person("Grace", 24, "London", new BigDecimal("2000.25")),
+                person("Otavio", 30, "Lisbon", null),
+                person("Poliana", 30, "London", null));
+    }
+
+    private static CommunicationEntity person(String name, Object age, String city, BigDecimal salary) {
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        entity.add("name", name);
+        entity.add("age", age);
+        entity.add("city", city);
+        if (salary != null) {
+            entity.add("salary", salary);
+        }
+        return entity;
+    }
+}
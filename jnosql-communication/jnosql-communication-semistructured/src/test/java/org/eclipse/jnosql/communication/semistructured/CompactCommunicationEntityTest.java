@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactCommunicationEntityTest {
+
+    @Test
+    void shouldReturnErrorWhenNameIsNull() {
+        assertThatThrownBy(() -> CommunicationEntity.compact(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldBehaveAsDefaultEntity() {
+        CommunicationEntity compact = CommunicationEntity.compact("person");
+        CommunicationEntity entity = CommunicationEntity.of("person");
+        for (CommunicationEntity current : List.of(compact, entity)) {
+            current.add("name", "Ada");
+            current.add("age", 36);
+            current.add(Element.of("city", Value.of("London")));
+            current.addNull("nickname");
+        }
+        assertThat(compact).isEqualTo(entity).hasSameHashCodeAs(entity);
+        assertThat(entity).isEqualTo(compact);
+        assertThat(compact.size()).isEqualTo(4);
+        assertThat(compact.toMap()).isEqualTo(entity.toMap());
+        assertThat(compact.elements()).containsExactlyInAnyOrderElementsOf(entity.elements());
+        assertThat(compact.values()).containsExactlyInAnyOrderElementsOf(entity.values());
+        assertThat(compact.elementNames()).containsExactlyInAnyOrderElementsOf(entity.elementNames());
+    }
+
+    @Test
+    void shouldFind() {
+        CommunicationEntity entity = CommunicationEntity.compact("person");
+        entity.add("age", "36");
+        entity.add("phones", List.of("1", "2"));
+        assertThat(entity.find("age")).contains(Element.of("age", "36"));
+        assertThat(entity.find("age", Integer.class)).contains(36);
+        assertThat(entity.find("phones", new TypeReference<List<String>>() {
+        })).contains(List.of("1", "2"));
+        assertThat(entity.find("missing")).isEmpty();
+        assertThat(entity.find("missing", String.class)).isEmpty();
+        assertThat(entity.contains("age")).isTrue();
+        assertThat(entity.contains("missing")).isFalse();
+    }
+
+    @Test
+    void shouldReplaceAndRemove() {
+        CommunicationEntity entity = CommunicationEntity.compact("person");
+        entity.add("name", "Ada");
+        entity.add("name", "Grace");
+        assertThat(entity.size()).isEqualTo(1);
+        assertThat(entity.find("name", String.class)).contains("Grace");
+        assertThat(entity.remove("name")).isTrue();
+        assertThat(entity.remove("name")).isFalse();
+        assertThat(entity.isEmpty()).isTrue();
+        entity.add("name", "Ada");
+        entity.clear();
+        assertThat(entity.elements()).isEmpty();
+    }
+
+    @Test
+    void shouldShareSchemaBetweenEntities() {
+        CommunicationEntity first = CommunicationEntity.compact("book");
+        first.add("title", "Effective Java");
+        CommunicationEntity second = CommunicationEntity.compact("book");
+        second.add("year", 2001);
+        second.add("title", "Clean Code");
+        EntitySchema schema = EntitySchema.of("book");
+        assertThat(schema.slot("title")).isZero();
+        assertThat(schema.slot("year")).isEqualTo(1);
+        assertThat(first.elementNames()).containsExactly("title");
+        assertThat(second.elements()).containsExactly(Element.of("title", "Clean Code"), Element.of("year", 2001));
+    }
+
+    @Test
+    void shouldKeepNamesBeyondSchemaBound() {
+        CommunicationEntity entity = CommunicationEntity.compact("wide");
+        for (int index = 0; index <= EntitySchema.MAX_SLOTS; index++) {
+            entity.add("field" + index, index);
+        }
+        assertThat(entity.size()).isEqualTo(EntitySchema.MAX_SLOTS + 1);
+        assertThat(entity.find("field" + EntitySchema.MAX_SLOTS, Integer.class)).contains(EntitySchema.MAX_SLOTS);
+        assertThat(entity.elements()).hasSize(EntitySchema.MAX_SLOTS + 1);
+        assertThat(entity.remove("field" + EntitySchema.MAX_SLOTS)).isTrue();
+        assertThat(entity.size()).isEqualTo(EntitySchema.MAX_SLOTS);
+    }
+
+    @Test
+    void shouldKeepOnlyTheUsedSlots() {
+        CommunicationEntity wide = CommunicationEntity.compact("sparse");
+        for (int index = 0; index < 200; index++) {
+            wide.add("field" + index, index);
+        }
+        CommunicationEntity entity = CommunicationEntity.compact("sparse");
+        entity.add("field199", 199);
+        entity.add("field3", 3);
+        entity.add("field50", 50);
+        assertThat(entity.elements()).containsExactly(Element.of("field3", 3), Element.of("field50", 50),
+                Element.of("field199", 199));
+        assertThat(entity.elements().get(2)).isEqualTo(Element.of("field199", 199));
+        assertThat(entity.remove("field50")).isTrue();
+        assertThat(entity.find("field199", Integer.class)).contains(199);
+        assertThat(entity.find("field50")).isEmpty();
+        assertThat(entity.elementNames()).containsExactly("field3", "field199");
+    }
+
+    @Test
+    void shouldNotBeEqualWhenElementsDiffer() {
+        CommunicationEntity compact = CommunicationEntity.compact("person");
+        compact.add("name", "Ada");
+        compact.addNull("nickname");
+        CommunicationEntity entity = CommunicationEntity.of("person");
+        entity.add("name", "Ada");
+        entity.add("nickname", "Countess");
+        assertThat(compact).isNotEqualTo(entity);
+        assertThat(entity).isNotEqualTo(compact);
+        entity.remove("nickname");
+        assertThat(compact).isNotEqualTo(entity);
+        entity.addNull("nickname");
+        assertThat(compact).isEqualTo(entity).hasSameHashCodeAs(entity);
+        assertThat(compact).isNotEqualTo(CommunicationEntity.compact("other"));
+    }
+
+    @Test
+    void shouldCopy() {
+        CommunicationEntity entity = CommunicationEntity.compact("person");
+        entity.add("name", "Ada");
+        CommunicationEntity copy = entity.copy();
+        copy.add("age", 36);
+        assertThat(entity.size()).isEqualTo(1);
+        assertThat(copy.size()).isEqualTo(2);
+        assertThat(copy.find("name", String.class)).contains("Ada");
+    }
+
+    @Test
+    void shouldReturnUnmodifiableViews() {
+        CommunicationEntity entity = CommunicationEntity.compact("person");
+        entity.add("name", "Ada");
+        assertThatThrownBy(() -> entity.elements().add(Element.of("age", 36)))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> entity.elementNames().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(entity.toMap()).isEqualTo(Map.of("name", "Ada"));
+    }
+}
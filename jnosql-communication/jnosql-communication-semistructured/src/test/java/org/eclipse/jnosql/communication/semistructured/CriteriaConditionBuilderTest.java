@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.and;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.eq;
+
+class CriteriaConditionBuilderTest {
+
+    @Test
+    void shouldReturnEmptyWhenThereIsNoCondition() {
+        CriteriaConditionBuilder builder = CriteriaCondition.builder();
+        assertThat(builder.isEmpty()).isTrue();
+        assertThat(builder.build()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnTheSingleCondition() {
+        CriteriaCondition name = eq("name", "Ada");
+        assertThat(CriteriaCondition.builder().or(name).build()).containsSame(name);
+    }
+
+    @Test
+    void shouldBuildTheSameTreeAsChainedConditions() {
+        CriteriaCondition a = eq("a", 1);
+        CriteriaCondition b = eq("b", 2);
+        CriteriaCondition c = eq("c", 3);
+        CriteriaCondition d = eq("d", 4);
+        CriteriaCondition expected = a.and(b).and(c).or(d).and(a);
+
+        CriteriaConditionBuilder builder = CriteriaCondition.builder().and(a).and(b).and(c).or(d).and(a);
+        assertThat(builder.isEmpty()).isFalse();
+        assertThat(builder.build()).contains(expected);
+    }
+
+    @Test
+    void shouldFlattenTheFirstCondition() {
+        CriteriaCondition first = and(eq("a", 1), eq("b", 2));
+        CriteriaCondition c = eq("c", 3);
+        assertThat(CriteriaCondition.builder().and(first).and(c).build()).contains(first.and(c));
+    }
+
+    @Test
+    void shouldReturnErrorWhenConditionIsNull() {
+        assertThatThrownBy(() -> CriteriaCondition.builder().and(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> CriteriaCondition.builder().or(null)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.and;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.between;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.eq;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.gt;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.gte;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.in;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.lt;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.lte;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.not;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.or;
+
+class CriteriaNormalizerTest {
+
+    @Test
+    void shouldReturnSameInstanceWhenUnchanged() {
+        CriteriaCondition condition = eq("name", "Ada");
+        assertThat(CriteriaNormalizer.normalize(condition)).containsSame(condition);
+    }
+
+    @Test
+    void shouldRemoveDoubleNegation() {
+        CriteriaCondition condition = eq("name", "Ada");
+        CriteriaCondition negation = CriteriaCondition.of(Element.of("_NOT", condition), Condition.NOT);
+        CriteriaCondition doubleNegation = CriteriaCondition.of(Element.of("_NOT", negation), Condition.NOT);
+        assertThat(CriteriaNormalizer.normalize(doubleNegation)).contains(condition);
+    }
+
+    @Test
+    void shouldFlattenAndRemoveDuplicates() {
+        CriteriaCondition name = eq("name", "Ada");
+        CriteriaCondition age = eq("age", 36);
+        CriteriaCondition city = eq("city", "London");
+        assertThat(CriteriaNormalizer.normalize(and(and(name, age), city, name)))
+                .contains(and(name, age, city));
+    }
+
+    @Test
+    void shouldFoldEqualsIntoIn() {
+        CriteriaCondition city = eq("city", "London");
+        assertThat(CriteriaNormalizer.normalize(or(eq("age", 1), eq("age", 2), city, in("age", List.of(3, 1)))))
+                .contains(or(in("age", List.of(1, 2, 3)), city));
+    }
+
+    @Test
+    void shouldMergeRangesIntoBetween() {
+        assertThat(CriteriaNormalizer.normalize(and(gte("age", 10), lte("age", 20), gt("age", 5))))
+                .contains(between("age", List.of(10, 20)));
+    }
+
+    @Test
+    void shouldMergeEqualBoundsIntoEquals() {
+        LocalDate date = LocalDate.of(2020, 1, 1);
+        assertThat(CriteriaNormalizer.normalize(and(gte("birthday", date), lte("birthday", date))))
+                .contains(eq("birthday", date));
+    }
+
+    @Test
+    void shouldKeepOpenRanges() {
+        CriteriaCondition condition = and(gt("age", 10), lt("age", 20), eq("city", "London"));
+        assertThat(CriteriaNormalizer.normalize(condition)).contains(condition);
+    }
+
+    @Test
+    void shouldFilterInByRange() {
+        assertThat(CriteriaNormalizer.normalize(and(in("age", List.of(1, 5, 30)), gt("age", 2))))
+                .contains(in("age", List.of(5, 30)));
+        assertThat(CriteriaNormalizer.normalize(and(in("age", List.of(1, 5)), in("age", List.of(5, 9)))))
+                .contains(eq("age", 5));
+    }
+
+    @Test
+    void shouldReturnEmptyWhenContradiction() {
+        assertThat(CriteriaNormalizer.normalize(and(gt("age", 10), lt("age", 5)))).isEmpty();
+        assertThat(CriteriaNormalizer.normalize(and(eq("age", 1), eq("age", 2L)))).isEmpty();
+        assertThat(CriteriaNormalizer.normalize(and(eq("age", 25), between("age", List.of(10, 20))))).isEmpty();
+        assertThat(CriteriaNormalizer.normalize(between("age", List.of(20, 10)))).isEmpty();
+    }
+
+    @Test
+    void shouldAssumeSingleValuedElements() {
+        assertThat(CriteriaNormalizer.normalize(and(eq("scores", 1), eq("scores", 2)))).isEmpty();
+        assertThat(CriteriaNormalizer.normalize(and(gt("scores", 10), lt("scores", 5)))).isEmpty();
+        assertThat(CriteriaNormalizer.normalize(and(in("scores", List.of(1, 5)), in("scores", List.of(9, 5)))))
+                .contains(eq("scores", 5));
+    }
+
+    @Test
+    void shouldRemoveContradictionFromOr() {
+        CriteriaCondition city = eq("city", "London");
+        assertThat(CriteriaNormalizer.normalize(or(and(gt("age", 10), lt("age", 5)), city))).contains(city);
+    }
+
+    @Test
+    void shouldKeepNegatedContradiction() {
+        CriteriaCondition condition = not(and(gt("age", 10), lt("age", 5)));
+        assertThat(CriteriaNormalizer.normalize(condition)).contains(condition);
+    }
+
+    @Test
+    void shouldNotCompareText() {
+        CriteriaCondition condition = and(eq("name", "Ada"), eq("name", "Grace"));
+        assertThat(CriteriaNormalizer.normalize(condition)).contains(condition);
+    }
+
+    @Test
+    void shouldNormalizeSelectQuery() {
+        SelectQuery query = SelectQuery.select().from("Person").where("name").eq("Ada").build();
+        assertThat(CriteriaNormalizer.normalize(query)).containsSame(query);
+
+        SelectQuery contradiction = SelectQuery.select().from("Person").where("age").gt(10).and("age").lt(5).build();
+        assertThat(CriteriaNormalizer.normalize(contradiction)).isEmpty();
+
+        SelectQuery range = SelectQuery.select().from("Person").where("age").gte(10).and("age").lte(20).limit(5).build();
+        Optional<SelectQuery> normalized = CriteriaNormalizer.normalize(range);
+        assertThat(normalized).isPresent();
+        assertThat(normalized.get().limit()).isEqualTo(5);
+        assertThat(normalized.get().condition()).contains(between("age", List.of(10, 20)));
+    }
+
+    @Test
+    void shouldNormalizeDeleteQuery() {
+        DeleteQuery query = DeleteQuery.delete().from("Person").build();
+        assertThat(CriteriaNormalizer.normalize(query)).containsSame(query);
+
+        DeleteQuery contradiction = DeleteQuery.delete().from("Person").where("age").eq(1).and("age").eq(2).build();
+        assertThat(CriteriaNormalizer.normalize(contradiction)).isEmpty();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.and;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.between;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.eq;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.gt;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.gte;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.in;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.like;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.lt;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.lte;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.not;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.or;
+
+class CriteriaPredicatesTest {
+
+    private CommunicationEntity ada;
+
+    @BeforeEach
+    void setUp() {
+        ada = CommunicationEntity.of("Person");
+        ada.add("name", "Ada Lovelace");
+        ada.add("age", BigDecimal.valueOf(36));
+        ada.addNull("nickname");
+        ada.add("address", List.of(Element.of("city", "London"), Element.of("zip", 123)));
+    }
+
+    @Test
+    void shouldReturnErrorWhenConditionIsNull() {
+        assertThatThrownBy(() -> CriteriaPredicates.compile(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldCompareNumbersByValue() {
+        assertThat(matches(eq("age", 36L))).isTrue();
+        assertThat(matches(eq("age", 36.0))).isTrue();
+        assertThat(matches(eq("age", 35))).isFalse();
+    }
+
+    @Test
+    void shouldCompareRanges() {
+        assertThat(matches(gt("age", 35.5))).isTrue();
+        assertThat(matches(gte("age", 36))).isTrue();
+        assertThat(matches(lt("age", 36))).isFalse();
+        assertThat(matches(lte("age", 36))).isTrue();
+        assertThat(matches(between("age", List.of(30, 40)))).isTrue();
+        assertThat(matches(between("age", List.of(37, 40)))).isFalse();
+    }
+
+    @Test
+    void shouldMatchIn() {
+        assertThat(matches(in("age", List.of(1, 36)))).isTrue();
+        assertThat(matches(in("name", List.of("Grace Hopper", "Ada Lovelace")))).isTrue();
+        assertThat(matches(in("name", List.of("Grace Hopper")))).isFalse();
+    }
+
+    @Test
+    void shouldMatchLike() {
+        assertThat(matches(like("name", "Ada%"))).isTrue();
+        assertThat(matches(like("name", "%Love%"))).isTrue();
+        assertThat(matches(like("name", "%lace"))).isTrue();
+        assertThat(matches(like("name", "A_a %lace"))).isTrue();
+        assertThat(matches(like("name", "ada%"))).isFalse();
+        assertThat(matches(like("age", "3%"))).isFalse();
+    }
+
+    @Test
+    void shouldCompileLikePattern() {
+        Predicate<String> like = CriteriaPredicates.like("a.c_");
+        assertThat(like.test("a.cd")).isTrue();
+        assertThat(like.test("abcd")).isFalse();
+        assertThat(CriteriaPredicates.like("%").test("anything")).isTrue();
+    }
+
+    @Test
+    void shouldConvertLikePatternToRegex() {
+        String regex = CriteriaPredicates.regex("a.c_%");
+        assertThat("a.cde").matches(regex);
+        assertThat("abcde").doesNotMatch(regex);
+        assertThat(Pattern.compile(regex).matcher("xa.cd").find()).isFalse();
+    }
+
+    @Test
+    void shouldMatchSubDocument() {
+        assertThat(matches(eq("address.city", "London"))).isTrue();
+        assertThat(matches(eq("address.zip", 123L))).isTrue();
+        assertThat(matches(eq("address.country", "UK"))).isFalse();
+    }
+
+    @Test
+    void shouldMatchNullAndMissing() {
+        assertThat(matches(eq(Element.of("nickname", null)))).isTrue();
+        assertThat(matches(eq(Element.of("missing", null)))).isTrue();
+        assertThat(matches(gt("missing", 1))).isFalse();
+        assertThat(matches(not(gt("missing", 1)))).isTrue();
+    }
+
+    @Test
+    void shouldCombineConditions() {
+        assertThat(matches(and(eq("name", "Ada Lovelace"), gt("age", 30)))).isTrue();
+        assertThat(matches(and(eq("name", "Ada Lovelace"), gt("age", 40)))).isFalse();
+        assertThat(matches(or(eq("name", "Grace Hopper"), in("age", List.of(36))))).isTrue();
+        assertThat(matches(not(and(eq("name", "Ada Lovelace"), gt("age", 40))))).isTrue();
+    }
+
+    @Test
+    void shouldSort() {
+        CommunicationEntity grace = CommunicationEntity.of("Person");
+        grace.add("name", "grace Hopper");
+        grace.add("age", 12);
+        CommunicationEntity alan = CommunicationEntity.of("Person");
+        alan.add("name", "Alan Turing");
+        List<CommunicationEntity> entities = new ArrayList<>(List.of(ada, grace, alan));
+
+        entities.sort(CriteriaPredicates.comparator(List.of(Sort.asc("age"))));
+        assertThat(entities).containsExactly(grace, ada, alan);
+
+        entities.sort(CriteriaPredicates.comparator(List.of(Sort.desc("age"))));
+        assertThat(entities).containsExactly(alan, ada, grace);
+
+        entities.sort(CriteriaPredicates.comparator(List.of(Sort.ascIgnoreCase("name"))));
+        assertThat(entities).containsExactly(ada, alan, grace);
+    }
+
+    private boolean matches(CriteriaCondition condition) {
+        return CriteriaPredicates.compile(condition).test(ada);
+    }
+}
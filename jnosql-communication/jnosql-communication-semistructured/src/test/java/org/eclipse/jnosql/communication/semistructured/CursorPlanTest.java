@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class CursorPlanTest {
+
+    private static final List<Sort<?>> SORTS = List.of(Sort.asc("name"), Sort.asc("age"), Sort.asc("id"));
+
+    @Test
+    void shouldCachePlanBySorts() {
+        var plan = CursorPlan.of(SORTS);
+        assertThat(CursorPlan.of(List.of(Sort.asc("name"), Sort.asc("age"), Sort.asc("id")))).isSameAs(plan);
+        assertThat(CursorPlan.of(List.of(Sort.asc("name")))).isNotSameAs(plan);
+    }
+
+    @Test
+    void shouldReturnErrorWhenSortsIsNull() {
+        assertThatThrownBy(() -> CursorPlan.of(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReadCursor() {
+        var entity = CommunicationEntity.of("person");
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        entity.add("id", "1");
+        entity.add("address", List.of(Element.of("street", "Paulista Avenue")));
+
+        assertSoftly(soft -> {
+            soft.assertThat(CursorPlan.of(SORTS).cursor(entity).elements().toArray())
+                    .containsExactly("Ada", 10, "1");
+            soft.assertThat(CursorPlan.of(List.of(Sort.asc("address.street"))).cursor(entity).elements().toArray())
+                    .containsExactly("Paulista Avenue");
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenCursorPropertyDoesNotExist() {
+        var entity = CommunicationEntity.of("person");
+        entity.add("address", List.of(Element.of("street", "Paulista Avenue")));
+
+        var plan = CursorPlan.of(List.of(Sort.asc("address.city")));
+        assertThatThrownBy(() -> plan.cursor(entity)).isInstanceOf(CommunicationException.class);
+        var missing = CursorPlan.of(List.of(Sort.asc("name")));
+        assertThatThrownBy(() -> missing.cursor(entity)).isInstanceOf(CommunicationException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenCursorSizeIsDifferent() {
+        var cursor = PageRequest.Cursor.forKey("Ada", 10);
+        assertThatThrownBy(() -> CursorPlan.of(SORTS).after(cursor, KeysetCondition.EXPANDED))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCreateSingleKeyCondition() {
+        var plan = CursorPlan.of(List.of(Sort.asc("name")));
+        var cursor = PageRequest.Cursor.forKey("Ada");
+        assertSoftly(soft -> {
+            soft.assertThat(plan.after(cursor, KeysetCondition.COMPACT)).isEqualTo(CriteriaCondition.gt("name", "Ada"));
+            soft.assertThat(plan.before(cursor, KeysetCondition.EXPANDED)).isEqualTo(CriteriaCondition.lt("name", "Ada"));
+        });
+    }
+
+    @Test
+    void shouldCreateExpandedCondition() {
+        var cursor = PageRequest.Cursor.forKey("Ada", 10, "1");
+        var condition = CursorPlan.of(SORTS).after(cursor, KeysetCondition.EXPANDED);
+        assertSoftly(soft -> {
+            soft.assertThat(condition.condition()).isEqualTo(Condition.OR);
+            soft.assertThat(conditions(condition)).containsExactly(
+                    CriteriaCondition.gt("name", "Ada"),
+                    CriteriaCondition.eq("name", "Ada").and(CriteriaCondition.gt("age", 10)),
+                    CriteriaCondition.eq("name", "Ada").and(CriteriaCondition.eq("age", 10))
+                            .and(CriteriaCondition.gt("id", "1")));
+        });
+    }
+
+    @Test
+    void shouldCreateCompactCondition() {
+        var cursor = PageRequest.Cursor.forKey("Ada", 10, "1");
+        var condition = CursorPlan.of(SORTS).before(cursor, KeysetCondition.COMPACT);
+        var expected = CriteriaCondition.or(CriteriaCondition.lt("name", "Ada"),
+                CriteriaCondition.and(CriteriaCondition.eq("name", "Ada"),
+                        CriteriaCondition.or(CriteriaCondition.lt("age", 10),
+                                CriteriaCondition.and(CriteriaCondition.eq("age", 10),
+                                        CriteriaCondition.lt("id", "1")))));
+        assertThat(condition).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldUseKeysetConditionOfManager() {
+        var manager = Mockito.mock(DatabaseManager.class, Mockito.CALLS_REAL_METHODS);
+        var entity = CommunicationEntity.of("person");
+        entity.add("name", "Poliana");
+        entity.add("age", 35);
+        Mockito.when(manager.keysetCondition()).thenReturn(KeysetCondition.COMPACT);
+        Mockito.when(manager.select(Mockito.any(SelectQuery.class))).thenReturn(Stream.of(entity));
+        SelectQuery query = SelectQuery.select().from("person").orderBy("name").asc().orderBy("age").asc().build();
+
+        CursoredPage<CommunicationEntity> page = manager.selectCursor(query, PageRequest.ofSize(10).afterKey("Ada", 20));
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(manager).select(captor.capture());
+        assertSoftly(soft -> {
+            soft.assertThat(captor.getValue().condition()).contains(CriteriaCondition.or(CriteriaCondition.gt("name", "Ada"),
+                    CriteriaCondition.and(CriteriaCondition.eq("name", "Ada"), CriteriaCondition.gt("age", 20))));
+            soft.assertThat(page.nextPageRequest().cursor().orElseThrow().elements().toArray())
+                    .containsExactly("Poliana", 35);
+        });
+    }
+
+    private static List<CriteriaCondition> conditions(CriteriaCondition condition) {
+        return condition.element().get(new TypeReference<>() {
+        });
+    }
+}
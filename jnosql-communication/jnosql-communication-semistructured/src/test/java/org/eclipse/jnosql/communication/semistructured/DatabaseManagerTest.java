@@ -12,9 +12,11 @@
 package org.eclipse.jnosql.communication.semistructured;
 
 import jakarta.data.exceptions.NonUniqueResultException;
+import jakarta.data.Sort;
 import jakarta.data.page.CursoredPage;
 import jakarta.data.page.PageRequest;
 import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.CommunicationException;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.junit.jupiter.api.Test;
@@ -25,8 +27,12 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
@@ -559,4 +565,132 @@ class DatabaseManagerTest {
     }
 
 
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldUpdateByConditionInBatches() {
+        List<CommunicationEntity> entities = IntStream.range(0, 150)
+                .mapToObj(i -> CommunicationEntity.of("person", List.of(Element.of("id", i), Element.of("age", 10),
+                        Element.of("nickname", "n" + i))))
+                .toList();
+        Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class))).thenReturn(entities.stream());
+        ArgumentCaptor<Iterable<CommunicationEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.lenient().when(databaseManager.update(captor.capture())).thenAnswer(i -> i.getArgument(0));
+
+        CriteriaCondition condition = CriteriaCondition.gt(Element.of("age", 5));
+        long updated = UpdateQuery.builder("person").set("status", "ARCHIVED").increment("age", 1).unset("nickname")
+                .where(condition).update(databaseManager);
+
+        ArgumentCaptor<SelectQuery> select = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(databaseManager).select(select.capture());
+        List<CommunicationEntity> written = new ArrayList<>();
+        captor.getAllValues().forEach(b -> b.forEach(written::add));
+        assertSoftly(soft -> {
+            soft.assertThat(updated).isEqualTo(150L);
+            soft.assertThat(select.getValue().condition()).contains(condition);
+            soft.assertThat(captor.getAllValues()).hasSize(2);
+            soft.assertThat(written).hasSize(150);
+            soft.assertThat(written.get(0).find("age").orElseThrow().get()).isEqualTo(11);
+            soft.assertThat(written.get(0).find("status").orElseThrow().get()).isEqualTo("ARCHIVED");
+            soft.assertThat(written.get(0).find("nickname")).isEmpty();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldPageThroughTheUpdateByKey() {
+        List<CommunicationEntity> entities = IntStream.range(0, 150)
+                .mapToObj(i -> CommunicationEntity.of("person", List.of(Element.of("id", i), Element.of("age", 10))))
+                .toList();
+        Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class)))
+                .thenReturn(entities.subList(0, 100).stream(), entities.subList(100, 150).stream());
+        Mockito.lenient().when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(i -> i.getArgument(0));
+
+        CriteriaCondition condition = CriteriaCondition.gt(Element.of("age", 5));
+        long updated = UpdateQuery.builder("person").increment("age", 1).where(condition).key("id")
+                .update(databaseManager);
+
+        ArgumentCaptor<SelectQuery> select = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(databaseManager, Mockito.times(2)).select(select.capture());
+        SelectQuery first = select.getAllValues().get(0);
+        SelectQuery second = select.getAllValues().get(1);
+        assertSoftly(soft -> {
+            soft.assertThat(updated).isEqualTo(150L);
+            soft.assertThat(first.limit()).isEqualTo(Updater.BATCH_SIZE);
+            soft.assertThat(first.sorts()).containsExactly(Sort.asc("id"));
+            soft.assertThat(first.condition()).contains(condition);
+            soft.assertThat(second.condition()).contains(CriteriaCondition.and(condition,
+                    CriteriaCondition.gt("id", 99)));
+        });
+    }
+
+    @Test
+    void shouldReportWrittenEntitiesWhenUpdateFails() {
+        List<CommunicationEntity> entities = IntStream.range(0, 150)
+                .mapToObj(i -> CommunicationEntity.of("person", List.of(Element.of("id", i))))
+                .toList();
+        Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class))).thenReturn(entities.stream());
+        Mockito.lenient().when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(i -> i.getArgument(0))
+                .thenThrow(new IllegalStateException("timeout"));
+
+        UpdateQuery query = UpdateQuery.builder("person").set("active", false).build();
+        UpdateException exception = assertThrows(UpdateException.class, () -> databaseManager.update(query));
+        assertEquals(100L, exception.updated());
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void shouldReadAllMatchesWhenChangesTouchTheKey() {
+        Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class)))
+                .thenReturn(Stream.of(CommunicationEntity.of("person", List.of(Element.of("id", 1)))));
+        Mockito.lenient().when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(i -> i.getArgument(0));
+
+        long updated = databaseManager.update(UpdateQuery.builder("person").increment("id", 1).key("id").build());
+
+        ArgumentCaptor<SelectQuery> select = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(databaseManager).select(select.capture());
+        assertEquals(1L, updated);
+        assertEquals(0L, select.getValue().limit());
+    }
+
+    @Test
+    void shouldIncrementMissingAndWideNumbers() {
+        CommunicationEntity entity = CommunicationEntity.of("person", List.of(Element.of("max", Long.MAX_VALUE),
+                Element.of("price", 1.5D), Element.of("total", BigDecimal.ONE)));
+        Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class))).thenReturn(Stream.of(entity));
+
+        databaseManager.update(UpdateQuery.builder("person").increment("max", 1).increment("price", 1)
+                .increment("total", 1).increment("visits", 1).build());
+
+        assertSoftly(soft -> {
+            soft.assertThat(entity.find("max").orElseThrow().get()).isEqualTo(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE));
+            soft.assertThat(entity.find("price").orElseThrow().get()).isEqualTo(2.5D);
+            soft.assertThat(entity.find("total").orElseThrow().get()).isEqualTo(BigDecimal.valueOf(2));
+            soft.assertThat(entity.find("visits").orElseThrow().get()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenIncrementIsNotNumber() {
+        CommunicationEntity entity = CommunicationEntity.of("person", List.of(Element.of("name", "Ada")));
+        Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class))).thenReturn(Stream.of(entity));
+        UpdateQuery query = UpdateQuery.builder("person").increment("name", 1).build();
+        assertThrows(CommunicationException.class, () -> databaseManager.update(query));
+    }
+
+    @Test
+    void shouldNotUpdateWhenNothingMatches() {
+        Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class))).thenReturn(Stream.empty());
+        long updated = databaseManager.update(UpdateQuery.builder("person").set("active", false).build());
+        assertEquals(0L, updated);
+        Mockito.verify(databaseManager, Mockito.never()).update(Mockito.<Iterable<CommunicationEntity>>any());
+    }
+
+    @Test
+    void shouldReturnErrorWhenUpdateHasNoChanges() {
+        assertThrows(IllegalStateException.class, () -> UpdateQuery.builder("person").build());
+    }
+}
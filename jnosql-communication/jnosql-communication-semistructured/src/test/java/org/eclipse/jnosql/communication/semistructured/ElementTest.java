@@ -12,13 +12,16 @@ package org.eclipse.jnosql.communication.semistructured;
 
 
 import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.NameDictionary;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -49,6 +52,13 @@ class ElementTest {
         assertEquals(DEFAULT_VALUE, element.value());
     }
 
+    @Test
+    void shouldNotRegisterTheName() {
+        String name = new String("unregistered-" + UUID.randomUUID());
+        Element.of(name, DEFAULT_VALUE);
+        assertThat(Element.of(new String(name), DEFAULT_VALUE).name()).isNotSameAs(name);
+    }
+
     @Test
     void shouldBeEquals() {
         assertEquals(Element.of("name", DEFAULT_VALUE), Element.of("name", DEFAULT_VALUE));
@@ -77,4 +87,12 @@ class ElementTest {
         };
         assertEquals(value.get(typeReference), element.get(typeReference));
     }
+
+    @Test
+    void shouldShareTheNameInstance() {
+        NameDictionary.intern("name");
+        Element element = Element.of(new String("name"), "Ada");
+        Element other = Element.of(new String("name"), "Grace");
+        Assertions.assertSame(element.name(), other.name());
+    }
 }
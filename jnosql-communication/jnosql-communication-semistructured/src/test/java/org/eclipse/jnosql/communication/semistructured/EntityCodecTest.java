@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityCodecTest {
+
+    private static final List<Function<Random, Object>> GENERATORS = List.of(
+            Random::nextInt,
+            Random::nextLong,
+            Random::nextDouble,
+            Random::nextBoolean,
+            random -> random.nextFloat(),
+            random -> (short) random.nextInt(),
+            random -> (byte) random.nextInt(),
+            random -> (char) random.nextInt(Character.MAX_VALUE),
+            random -> "text-" + random.nextLong() + "-ação",
+            random -> BigDecimal.valueOf(random.nextLong(), random.nextInt(20) - 10),
+            random -> BigInteger.valueOf(random.nextLong()).pow(3),
+            random -> LocalDate.ofEpochDay(random.nextInt(2_000_000) - 1_000_000),
+            random -> LocalTime.ofNanoOfDay(Math.floorMod(random.nextLong(), 86_400_000_000_000L)),
+            random -> LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(random.nextInt()),
+            random -> Instant.ofEpochSecond(random.nextInt(), random.nextInt(1_000_000_000)),
+            random -> OffsetDateTime.of(LocalDateTime.of(2024, 5, 1, 10, 30),
+                    ZoneOffset.ofHours(random.nextInt(25) - 12)),
+            random -> OffsetTime.of(LocalTime.NOON, ZoneOffset.ofHours(random.nextInt(25) - 12)),
+            random -> ZonedDateTime.of(LocalDateTime.of(2024, 3, 31, 1, 30).plusMinutes(random.nextInt(120)),
+                    ZoneId.of("Europe/Lisbon")),
+            random -> Year.of(random.nextInt(4000)),
+            random -> YearMonth.of(random.nextInt(4000), 1 + random.nextInt(12)),
+            random -> new Date(random.nextLong()),
+            random -> new UUID(random.nextLong(), random.nextLong()),
+            random -> ChronoUnit.values()[random.nextInt(ChronoUnit.values().length)]);
+
+    @Test
+    void shouldRoundTripRandomEntities() {
+        Random random = new Random(42);
+        for (int iteration = 0; iteration < 500; iteration++) {
+            CommunicationEntity entity = CommunicationEntity.of("entity" + random.nextInt(5));
+            int size = random.nextInt(12);
+            for (int index = 0; index < size; index++) {
+                entity.add("field" + random.nextInt(20), value(random, 2));
+            }
+            assertThat(EntityCodec.decode(EntityCodec.encode(entity))).as("iteration %d", iteration)
+                    .isEqualTo(entity);
+        }
+    }
+
+    @Test
+    void shouldRoundTripNestedValues() {
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        entity.add("address", List.of(Element.of("city", "London"), Element.of("zip", 12345)));
+        entity.add("phone", Element.of("mobile", "123"));
+        entity.add("tags", List.of("java", 17, List.of(true, false)));
+        entity.add("map", new LinkedHashMap<>(Map.of("city", "Lisbon")));
+        entity.addNull("nickname");
+
+        CommunicationEntity decoded = EntityCodec.decode(EntityCodec.encode(entity));
+
+        assertThat(decoded).isEqualTo(entity);
+        assertThat(decoded.find("address").orElseThrow().get()).isEqualTo(List.of(Element.of("city", "London"),
+                Element.of("zip", 12345)));
+    }
+
+    @Test
+    void shouldDecodeArraysAsList() {
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        entity.add("names", new String[]{"Ada", "Grace"});
+        entity.add("data", new byte[]{1, 2, 3});
+
+        CommunicationEntity decoded = EntityCodec.decode(EntityCodec.encode(entity));
+
+        assertThat(decoded.find("names").orElseThrow().get()).isEqualTo(List.of("Ada", "Grace"));
+        assertThat((byte[]) decoded.find("data").orElseThrow().get()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void shouldWriteNamesOnce() {
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        List<List<Element>> contacts = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            contacts.add(List.of(Element.of("description", "contact" + index), Element.of("type", index)));
+        }
+        entity.add("contacts", contacts);
+        String payload = new String(EntityCodec.encode(entity), StandardCharsets.ISO_8859_1);
+        assertThat(payload.split("description", -1)).hasSize(2);
+    }
+
+    @Test
+    void shouldBeSmallerThanJson() {
+        CommunicationEntity entity = CommunicationEntity.of("Series");
+        Random random = new Random(7);
+        List<List<Element>> points = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            points.add(List.of(Element.of("timestamp", 1_717_243_200_000L + index * 1_000L),
+                    Element.of("value", random.nextDouble()),
+                    Element.of("quality", random.nextInt(4))));
+        }
+        entity.add("sensor", "temperature");
+        entity.add("points", points);
+
+        assertThat(EntityCodec.encode(entity).length).isLessThan(JsonLines.write(entity).length() / 2);
+    }
+
+    @Test
+    void shouldDecodeSeveralEntitiesFromDirectBuffer() {
+        CommunicationEntity first = CommunicationEntity.of("Person");
+        first.add("name", "Ada");
+        CommunicationEntity second = CommunicationEntity.of("Person");
+        second.add("name", "Grace");
+        byte[] firstPayload = EntityCodec.encode(first);
+        byte[] secondPayload = EntityCodec.encode(second);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(firstPayload.length + secondPayload.length);
+        buffer.put(firstPayload).put(secondPayload).flip();
+
+        assertThat(EntityCodec.decode(buffer)).isEqualTo(first);
+        assertThat(EntityCodec.decode(buffer)).isEqualTo(second);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void shouldReturnErrorWhenPayloadIsInvalid() {
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        entity.add("name", "Ada");
+        byte[] payload = EntityCodec.encode(entity);
+        byte[] unknownVersion = payload.clone();
+        unknownVersion[0] = 2;
+
+        assertThatThrownBy(() -> EntityCodec.decode(Arrays.copyOf(payload, payload.length - 2)))
+                .isInstanceOf(CommunicationException.class);
+        assertThatThrownBy(() -> EntityCodec.decode(unknownVersion)).isInstanceOf(CommunicationException.class)
+                .hasMessageContaining("version");
+        assertThatThrownBy(() -> EntityCodec.decode((byte[]) null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenTypeIsNotSupported() {
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        entity.add("value", new Object());
+        assertThatThrownBy(() -> EntityCodec.encode(entity)).isInstanceOf(CommunicationException.class);
+    }
+
+    private static Object value(Random random, int depth) {
+        int choice = random.nextInt(GENERATORS.size() + (depth > 0 ? 3 : 0) + 1);
+        if (choice < GENERATORS.size()) {
+            return GENERATORS.get(choice).apply(random);
+        } else if (choice == GENERATORS.size()) {
+            return null;
+        } else if (choice == GENERATORS.size() + 1) {
+            return Element.of("sub" + random.nextInt(3), value(random, depth - 1));
+        } else if (choice == GENERATORS.size() + 2) {
+            List<Element> elements = new ArrayList<>();
+            int size = 1 + random.nextInt(4);
+            for (int index = 0; index < size; index++) {
+                elements.add(Element.of("sub" + random.nextInt(3), value(random, depth - 1)));
+            }
+            return elements;
+        }
+        List<Object> values = new ArrayList<>();
+        int size = random.nextInt(4);
+        for (int index = 0; index < size; index++) {
+            values.add(value(random, depth - 1));
+        }
+        return values;
+    }
+}
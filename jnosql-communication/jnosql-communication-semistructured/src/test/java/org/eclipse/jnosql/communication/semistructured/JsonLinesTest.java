@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonLinesTest {
+
+    @Test
+    void shouldWriteEntity() {
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        entity.add("name", "Ada");
+        entity.add("age", 36);
+        entity.add("salary", new BigDecimal("1234.50"));
+        entity.add("active", true);
+        entity.add("birthday", LocalDate.of(1815, 12, 10));
+        entity.add("phones", List.of("1", "2"));
+        entity.add("address", List.of(Element.of("city", "London")));
+        entity.add("tags", Map.of("main", "math"));
+        entity.addNull("nickname");
+
+        String json = JsonLines.write(entity);
+
+        assertThat(json).doesNotContain("\n")
+                .contains("\"name\":\"Ada\"", "\"age\":36", "\"salary\":1234.50", "\"active\":true",
+                        "\"birthday\":\"1815-12-10\"", "\"phones\":[\"1\",\"2\"]",
+                        "\"address\":{\"city\":\"London\"}", "\"tags\":{\"main\":\"math\"}", "\"nickname\":null");
+    }
+
+    @Test
+    void shouldReadEntity() {
+        CommunicationEntity entity = JsonLines.read("Person",
+                "{\"name\":\"Ada\",\"age\":36,\"phones\":[\"1\",\"2\"],\"address\":{\"city\":\"London\"},\"nick\":null}");
+
+        assertThat(entity.name()).isEqualTo("Person");
+        assertThat(entity.size()).isEqualTo(4);
+        assertThat(entity.find("name", String.class)).contains("Ada");
+        assertThat(entity.find("age").orElseThrow().get()).isEqualTo(BigDecimal.valueOf(36));
+        assertThat(entity.find("address").orElseThrow().get()).isEqualTo(Element.of("city", "London"));
+    }
+
+    @Test
+    void shouldRoundTrip() {
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        entity.add("name", "Ada");
+        entity.add("age", BigDecimal.valueOf(36));
+        entity.add("phones", List.of("1", "2"));
+
+        assertThat(JsonLines.read("Person", JsonLines.write(entity))).isEqualTo(entity);
+    }
+
+    @Test
+    void shouldReturnErrorWhenLineIsNotObject() {
+        assertThatThrownBy(() -> JsonLines.read("Person", "[1, 2]")).isInstanceOf(CommunicationException.class);
+        assertThatThrownBy(() -> JsonLines.read("Person", "{\"name\":")).isInstanceOf(CommunicationException.class);
+        assertThatThrownBy(() -> JsonLines.read(null, "{}")).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonObjectsTest {
+
+    @Test
+    void shouldConvertSimpleValues() {
+        JsonObject json = Json.createObjectBuilder()
+                .add("name", "Ada")
+                .add("active", true)
+                .addNull("nickname")
+                .build();
+        List<Element> elements = JsonObjects.getColumns(json);
+        assertThat(elements).containsExactly(Element.of("name", "Ada"), Element.of("active", true));
+    }
+
+    @Test
+    void shouldKeepNumberPrecision() {
+        JsonObject json = Json.createObjectBuilder()
+                .add("amount", new BigDecimal("12345678901234567890.123456789"))
+                .add("age", 12)
+                .build();
+        List<Element> elements = JsonObjects.getColumns(json);
+        assertThat(elements).containsExactly(Element.of("amount", new BigDecimal("12345678901234567890.123456789")),
+                Element.of("age", BigDecimal.valueOf(12)));
+    }
+
+    @Test
+    void shouldConvertNestedObjects() {
+        JsonObject json = Json.createObjectBuilder()
+                .add("address", Json.createObjectBuilder().add("city", "London").add("country", "UK"))
+                .add("phone", Json.createObjectBuilder().add("mobile", "123"))
+                .build();
+        List<Element> elements = JsonObjects.getColumns(json);
+        assertThat(elements).containsExactly(
+                Element.of("address", List.of(Element.of("city", "London"), Element.of("country", "UK"))),
+                Element.of("phone", Element.of("mobile", "123")));
+    }
+
+    @Test
+    void shouldConvertArrays() {
+        JsonObject json = Json.createObjectBuilder()
+                .add("siblings", Json.createArrayBuilder().add("Ana").add("Maria"))
+                .add("contacts", Json.createArrayBuilder()
+                        .add(Json.createObjectBuilder().add("name", "Ana").add("age", 10))
+                        .addNull())
+                .build();
+        List<Element> elements = JsonObjects.getColumns(json);
+        assertThat(elements.get(0)).isEqualTo(Element.of("siblings", List.of("Ana", "Maria")));
+        List<Object> contacts = elements.get(1).get(List.class);
+        assertThat(contacts).hasSize(2).containsNull();
+        assertThat(contacts.get(0)).isEqualTo(List.of(Element.of("name", "Ana"),
+                Element.of("age", BigDecimal.valueOf(10))));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Aggregate;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
+import org.eclipse.jnosql.communication.metrics.Operation;
+import org.eclipse.jnosql.communication.metrics.OperationStatistics;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricsDatabaseManagerTest {
+
+    private final DatabaseManager delegate = Mockito.mock(DatabaseManager.class);
+
+    private final DatabaseMetrics metrics = DatabaseMetrics.of("test", List.of());
+
+    private final DatabaseManager manager = MetricsDatabaseManager.of(delegate, metrics);
+
+    @Test
+    void shouldNotDecorateTwice() {
+        assertThat(MetricsDatabaseManager.of(manager, metrics)).isSameAs(manager);
+        assertThatThrownBy(() -> MetricsDatabaseManager.of(null, metrics)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> MetricsDatabaseManager.of(delegate, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldRecordInsert() {
+        CommunicationEntity entity = CommunicationEntity.of("Person", List.of(Element.of("name", "Ada"),
+                Element.of("age", 36)));
+        Mockito.when(delegate.insert(entity)).thenReturn(entity);
+        Mockito.when(delegate.insert(Mockito.<Iterable<CommunicationEntity>>any())).thenReturn(List.of(entity, entity));
+
+        assertThat(manager.insert(entity)).isSameAs(entity);
+        manager.insert(List.of(entity, entity));
+
+        OperationStatistics insert = statistics("Person", Operation.INSERT);
+        assertThat(insert.getCount()).isEqualTo(2L);
+        assertThat(insert.getRows()).isEqualTo(3L);
+        assertThat(insert.getElements()).isEqualTo(6L);
+    }
+
+    @Test
+    void shouldCountRowsWhenStreamEnds() {
+        CommunicationEntity entity = CommunicationEntity.of("Person", List.of(Element.of("name", "Ada")));
+        Mockito.when(delegate.select(Mockito.any())).thenReturn(Stream.of(entity, entity, entity));
+        SelectQuery query = SelectQuery.select().from("Person").build();
+
+        assertThat(manager.select(query).toList()).hasSize(3);
+
+        OperationStatistics select = statistics("Person", Operation.SELECT);
+        assertThat(select.getCount()).isEqualTo(1L);
+        assertThat(select.getRows()).isEqualTo(3L);
+        assertThat(select.getElements()).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldCountRowsWhenStreamCloses() {
+        CommunicationEntity entity = CommunicationEntity.of("Person", List.of(Element.of("name", "Ada")));
+        Mockito.when(delegate.select(Mockito.any())).thenReturn(Stream.of(entity, entity, entity));
+        SelectQuery query = SelectQuery.select().from("Person").build();
+
+        try (Stream<CommunicationEntity> entities = manager.select(query)) {
+            assertThat(entities.findFirst()).isPresent();
+        }
+
+        assertThat(statistics("Person", Operation.SELECT).getRows()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRecordLatencyUntilStreamEnds() {
+        CommunicationEntity entity = CommunicationEntity.of("Person", List.of(Element.of("name", "Ada")));
+        Mockito.when(delegate.select(Mockito.any())).thenReturn(Stream.of(entity, entity).peek(e -> pause()));
+        SelectQuery query = SelectQuery.select().from("Person").build();
+
+        Stream<CommunicationEntity> entities = manager.select(query);
+        assertThat(metrics.statistics("Person", Operation.SELECT)).isEmpty();
+        assertThat(entities.toList()).hasSize(2);
+
+        OperationStatistics select = statistics("Person", Operation.SELECT);
+        assertThat(select.getCount()).isEqualTo(1L);
+        assertThat(select.getMax()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    void shouldRecordErrorWhenStreamFails() {
+        Mockito.when(delegate.aggregate(Mockito.any())).thenReturn(Stream.generate(() -> {
+            throw new IllegalStateException("down");
+        }));
+        AggregateQuery query = new AggregateQuery(SelectQuery.select().from("Person").build(), List.of(),
+                List.of(Aggregate.count()));
+
+        Stream<CommunicationEntity> entities = manager.aggregate(query);
+        assertThatThrownBy(entities::toList).isInstanceOf(IllegalStateException.class);
+        entities.close();
+
+        OperationStatistics aggregate = statistics("Person", Operation.AGGREGATE);
+        assertThat(aggregate.getCount()).isEqualTo(1L);
+        assertThat(aggregate.getErrors()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRecordErrors() {
+        DeleteQuery query = DeleteQuery.delete().from("Person").build();
+        Mockito.doThrow(new IllegalStateException("down")).when(delegate).delete(query);
+
+        assertThatThrownBy(() -> manager.delete(query)).isInstanceOf(IllegalStateException.class);
+
+        OperationStatistics delete = statistics("Person", Operation.DELETE);
+        assertThat(delete.getCount()).isEqualTo(1L);
+        assertThat(delete.getErrors()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRecordCountAndBulkUpdate() {
+        SelectQuery query = SelectQuery.select().from("Person").build();
+        UpdateQuery update = UpdateQuery.builder("Person").set("active", false).build();
+        Mockito.when(delegate.count(query)).thenReturn(10L);
+        Mockito.when(delegate.update(update)).thenReturn(4L);
+
+        assertThat(manager.count(query)).isEqualTo(10L);
+        assertThat(manager.update(update)).isEqualTo(4L);
+
+        assertThat(statistics("Person", Operation.COUNT).getCount()).isEqualTo(1L);
+        assertThat(statistics("Person", Operation.UPDATE).getRows()).isEqualTo(4L);
+    }
+
+    @Test
+    void shouldCloseDelegate() {
+        manager.close();
+        Mockito.verify(delegate).close();
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private OperationStatistics statistics(String entity, Operation operation) {
+        return metrics.statistics(entity, operation).orElseThrow();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.between;
+
+class NormalizedDatabaseManagerTest {
+
+    private final DatabaseManager delegate = Mockito.mock(DatabaseManager.class);
+
+    private final DatabaseManager manager = NormalizedDatabaseManager.of(delegate);
+
+    @Test
+    void shouldNotDecorateTwice() {
+        assertThat(NormalizedDatabaseManager.of(manager)).isSameAs(manager);
+    }
+
+    @Test
+    void shouldSendNormalizedQuery() {
+        Mockito.when(delegate.select(Mockito.any())).thenReturn(Stream.empty());
+        SelectQuery query = SelectQuery.select().from("Person").where("age").gte(10).and("age").lte(20).build();
+        manager.select(query).toList();
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(delegate).select(captor.capture());
+        assertThat(captor.getValue().condition()).contains(between("age", List.of(10, 20)));
+    }
+
+    @Test
+    void shouldNotCallDatabaseWhenContradiction() {
+        SelectQuery query = SelectQuery.select().from("Person").where("age").gt(10).and("age").lt(5).build();
+        DeleteQuery delete = DeleteQuery.delete().from("Person").where("age").eq(1).and("age").eq(2).build();
+
+        assertThat(manager.select(query)).isEmpty();
+        assertThat(manager.count(query)).isZero();
+        assertThat(manager.exists(query)).isFalse();
+        manager.delete(delete);
+
+        Mockito.verify(delegate, Mockito.never()).select(Mockito.any());
+        Mockito.verify(delegate, Mockito.never()).count(Mockito.any(SelectQuery.class));
+        Mockito.verify(delegate, Mockito.never()).exists(Mockito.any());
+        Mockito.verify(delegate, Mockito.never()).delete(Mockito.any());
+    }
+
+    @Test
+    void shouldNotUpdateWhenContradiction() {
+        CriteriaCondition condition = CriteriaCondition.and(CriteriaCondition.eq(Element.of("age", 1)),
+                CriteriaCondition.eq(Element.of("age", 2)));
+        UpdateQuery query = UpdateQuery.builder("Person").set("active", false).where(condition).build();
+
+        assertThat(manager.update(query)).isZero();
+        Mockito.verify(delegate, Mockito.never()).update(Mockito.any(UpdateQuery.class));
+    }
+}
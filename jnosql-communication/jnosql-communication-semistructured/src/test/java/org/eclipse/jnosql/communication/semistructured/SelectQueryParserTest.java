@@ -12,6 +12,7 @@ package org.eclipse.jnosql.communication.semistructured;
 
 import org.assertj.core.api.Assertions;
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.Aggregate;
 import org.eclipse.jnosql.communication.QueryException;
 import jakarta.data.Sort;
 import jakarta.data.Direction;
@@ -492,6 +493,36 @@ class SelectQueryParserTest {
         assertEquals(12, element.get());
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select city, count(*), sum(salary) from God where age > 10 group by city"})
+    void shouldReturnParserAggregateQuery(String query) {
+        ArgumentCaptor<AggregateQuery> captor = ArgumentCaptor.forClass(AggregateQuery.class);
+        parser.query(query, manager, observer);
+        Mockito.verify(manager).aggregate(captor.capture());
+        Mockito.verify(manager, Mockito.never()).select(Mockito.any());
+        AggregateQuery aggregateQuery = captor.getValue();
+
+        assertEquals("God", aggregateQuery.name());
+        assertThat(aggregateQuery.groupBy()).containsExactly("city");
+        assertThat(aggregateQuery.aggregates()).containsExactly(Aggregate.count(), Aggregate.sum("salary"));
+        assertEquals(CriteriaCondition.gt("age", 10L), aggregateQuery.query().condition().orElseThrow());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select max(age) from God where name = @name"})
+    void shouldExecuteAggregatePrepareStatement(String query) {
+        ArgumentCaptor<AggregateQuery> captor = ArgumentCaptor.forClass(AggregateQuery.class);
+
+        CommunicationPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("name", "Ada");
+        prepare.result();
+        assertTrue(prepare.isAggregate());
+        Mockito.verify(manager).aggregate(captor.capture());
+        AggregateQuery aggregateQuery = captor.getValue();
+        assertThat(aggregateQuery.aggregates()).containsExactly(Aggregate.max("age"));
+        assertEquals("Ada", aggregateQuery.query().condition().orElseThrow().element().get());
+    }
+
     private void checkBaseQuery(SelectQuery selectQuery, long limit, long skip) {
         assertTrue(selectQuery.columns().isEmpty());
         assertTrue(selectQuery.sorts().isEmpty());
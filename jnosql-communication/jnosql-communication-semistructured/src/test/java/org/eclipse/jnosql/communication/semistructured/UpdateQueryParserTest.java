@@ -13,6 +13,8 @@ package org.eclipse.jnosql.communication.semistructured;
 import org.assertj.core.api.Assertions;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.UpdateOperator;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
@@ -20,6 +22,7 @@ import org.mockito.Mockito;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -126,4 +129,63 @@ class UpdateQueryParserTest {
         assertEquals(Element.of("name", "Diana"), entity.find("name").get());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldUpdateByCondition() {
+        ArgumentCaptor<UpdateQuery> captor = ArgumentCaptor.forClass(UpdateQuery.class);
+        Mockito.when(manager.update(Mockito.any(UpdateQuery.class))).thenReturn(2L);
+
+        List<CommunicationEntity> result = parser.query("update God set name = \"Diana\", power += 1, unset nickname where age > 10",
+                manager, observer).toList();
+
+        Mockito.verify(manager).update(captor.capture());
+        UpdateQuery query = captor.getValue();
+        assertEquals("God", query.name());
+        assertThat(query.changes()).containsExactly(ElementChange.set("name", "Diana"),
+                ElementChange.increment("power", 1L), ElementChange.unset("nickname"));
+        assertEquals(CriteriaCondition.gt(Element.of("age", 10L)), query.condition().orElseThrow());
+        assertThat(result).containsExactly(CommunicationEntity.of("God", List.of(Element.of("count", 2L))));
+        Mockito.verify(manager, Mockito.never()).update(Mockito.any(CommunicationEntity.class));
+    }
+
+    @Test
+    void shouldUpdateByConditionWithTheObserverKey() {
+        ArgumentCaptor<UpdateQuery> captor = ArgumentCaptor.forClass(UpdateQuery.class);
+        CommunicationObserverParser keyObserver = new CommunicationObserverParser() {
+            @Override
+            public Optional<String> fireKey(String entity) {
+                return Optional.of("_id");
+            }
+        };
+
+        parser.query("update God set power += 1 where age > 10", manager, keyObserver).toList();
+
+        Mockito.verify(manager).update(captor.capture());
+        assertThat(captor.getValue().key()).contains("_id");
+    }
+
+    @Test
+    void shouldReturnErrorWhenUpdateByConditionHasParams() {
+        assertThrows(QueryException.class, () -> parser.query("update God set name = @name where age > 10", manager, observer));
+    }
+
+    @Test
+    void shouldPrepareUpdateByCondition() {
+        ArgumentCaptor<UpdateQuery> captor = ArgumentCaptor.forClass(UpdateQuery.class);
+        Mockito.when(manager.update(Mockito.any(UpdateQuery.class))).thenReturn(1L);
+
+        CommunicationPreparedStatement prepare = parser.prepare("update God set power += @power where age > @age", manager, observer);
+        assertThat(prepare.isBulkUpdate()).isTrue();
+        assertThrows(QueryException.class, prepare::result);
+        prepare.bind("power", 2);
+        prepare.bind("age", 10);
+        assertThat(prepare.singleResult()).get().extracting(e -> e.find("count").orElseThrow().get()).isEqualTo(1L);
+
+        Mockito.verify(manager).update(captor.capture());
+        UpdateQuery query = captor.getValue();
+        ElementChange change = query.changes().get(0);
+        assertEquals(UpdateOperator.INCREMENT, change.operator());
+        assertEquals(2, change.element().get());
+        assertEquals(10, query.condition().orElseThrow().element().get());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.metadata;
+
+/**
+ * The resource locations of the compile-time class index generated by the jnosql-mapping-processor annotation
+ * processor. Each resource lists one fully qualified class name per line, and a {@link ClassScanner} can read them
+ * instead of scanning the classpath.
+ */
+public final class ClassIndex {
+
+    /**
+     * The resource that lists the classes annotated with {@link jakarta.nosql.Entity}.
+     */
+    public static final String ENTITIES = "META-INF/jnosql/entities";
+
+    /**
+     * The resource that lists the classes annotated with {@link jakarta.nosql.Embeddable}.
+     */
+    public static final String EMBEDDABLES = "META-INF/jnosql/embeddables";
+
+    /**
+     * The resource that lists the interfaces annotated with {@link jakarta.data.repository.Repository}.
+     */
+    public static final String REPOSITORIES = "META-INF/jnosql/repositories";
+
+    /**
+     * The marker resource that lists, one per line, the packages a classpath scan should be narrowed to when there
+     * is no class index.
+     */
+    public static final String PACKAGES = "META-INF/jnosql/packages";
+
+    private ClassIndex() {
+    }
+}
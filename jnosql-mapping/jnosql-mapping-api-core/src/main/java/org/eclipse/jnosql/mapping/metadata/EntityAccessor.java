@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.metadata;
+
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Compile-time generated access to the fields and the default constructor of an entity, an embeddable or a
+ * mapped superclass. The implementations are generated by the jnosql-mapping-processor annotation processor and
+ * registered through the {@link java.util.ServiceLoader} mechanism, so a {@link ClassConverter} can create instances and
+ * read or write fields without reflective calls.
+ *
+ * <p>Every method returns {@link Optional#empty()} when the generated code cannot reach the element,
+ * for example, a private constructor; in that case, the {@link ClassConverter} should fall back to reflection.</p>
+ */
+public interface EntityAccessor {
+
+    /**
+     * Returns the class that this accessor handles.
+     *
+     * @return the class type
+     */
+    Class<?> type();
+
+    /**
+     * Returns the supplier that creates a new instance through the non-arg constructor.
+     *
+     * @return the supplier otherwise {@link Optional#empty()}
+     */
+    Optional<Supplier<Object>> instanceSupplier();
+
+    /**
+     * Returns the reader of a field declared at {@link EntityAccessor#type()}.
+     *
+     * @param field the Java field name
+     * @return the reader otherwise {@link Optional#empty()}
+     * @throws NullPointerException when field is null
+     */
+    Optional<Function<Object, Object>> reader(String field);
+
+    /**
+     * Returns the writer of a field declared at {@link EntityAccessor#type()}.
+     *
+     * @param field the Java field name
+     * @return the writer otherwise {@link Optional#empty()}
+     * @throws NullPointerException when field is null
+     */
+    Optional<BiConsumer<Object, Object>> writer(String field);
+}
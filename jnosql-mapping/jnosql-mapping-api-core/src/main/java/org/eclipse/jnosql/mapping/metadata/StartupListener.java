@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.metadata;
+
+import java.time.Duration;
+
+/**
+ * A listener notified with the time spent at each phase of the mapping startup, such as the class scan and the
+ * entity metadata build. Implementations are loaded from {@link java.util.ServiceLoader}, so registering one at
+ * META-INF/services is enough to export those timings to a metrics system.
+ *
+ * @see StartupPhases
+ */
+@FunctionalInterface
+public interface StartupListener {
+
+    /**
+     * Called once a startup phase finishes
+     *
+     * @param phase   the phase name, e.g.: {@link StartupPhases#CLASSPATH_SCAN}
+     * @param elapsed the time spent at the phase
+     */
+    void onPhase(String phase, Duration elapsed);
+}
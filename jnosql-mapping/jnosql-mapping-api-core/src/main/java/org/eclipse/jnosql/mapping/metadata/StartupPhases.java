@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.metadata;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Measures the mapping startup phases and notifies the {@link StartupListener} implementations.
+ * Each measured phase is also logged at the {@link Level#FINE} level.
+ */
+public final class StartupPhases {
+
+    /**
+     * The phase that reads the class index, {@link ClassIndex}.
+     */
+    public static final String INDEX_SCAN = "scan.index";
+
+    /**
+     * The phase that scans the classpath looking for entities, embeddables and repositories.
+     */
+    public static final String CLASSPATH_SCAN = "scan.classpath";
+
+    /**
+     * The phase that builds the {@link EntityMetadata} from the entities and embeddables.
+     */
+    public static final String METADATA_BUILD = "metadata.build";
+
+    private static final Logger LOGGER = Logger.getLogger(StartupPhases.class.getName());
+
+    private static final List<StartupListener> LISTENERS = ServiceLoader.load(StartupListener.class)
+            .stream().map(ServiceLoader.Provider::get).toList();
+
+    private StartupPhases() {
+    }
+
+    /**
+     * Runs the action and notifies the time spent on it
+     *
+     * @param phase  the phase name
+     * @param action the phase action
+     * @param <T>    the action result type
+     * @return the action result
+     * @throws NullPointerException when either phase or action is null
+     */
+    public static <T> T measure(String phase, Supplier<T> action) {
+        Objects.requireNonNull(phase, "phase is required");
+        Objects.requireNonNull(action, "action is required");
+        long start = System.nanoTime();
+        T result = action.get();
+        notify(phase, Duration.ofNanos(System.nanoTime() - start));
+        return result;
+    }
+
+    /**
+     * Notifies the {@link StartupListener} implementations about a finished phase
+     *
+     * @param phase   the phase name
+     * @param elapsed the time spent at the phase
+     * @throws NullPointerException when either phase or elapsed is null
+     */
+    public static void notify(String phase, Duration elapsed) {
+        Objects.requireNonNull(phase, "phase is required");
+        Objects.requireNonNull(elapsed, "elapsed is required");
+        LOGGER.fine(() -> String.format("The startup phase %s took %d ms", phase, elapsed.toMillis()));
+        for (StartupListener listener : LISTENERS) {
+            try {
+                listener.onPhase(phase, elapsed);
+            } catch (RuntimeException exception) {
+                LOGGER.log(Level.WARNING, "The startup listener " + listener.getClass().getName()
+                        + " failed at the phase " + phase, exception);
+            }
+        }
+    }
+}
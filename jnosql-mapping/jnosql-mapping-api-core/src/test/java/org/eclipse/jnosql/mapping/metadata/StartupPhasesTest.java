@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.metadata;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StartupPhasesTest {
+
+    @BeforeEach
+    void setUp() {
+        RecordStartupListener.PHASES.clear();
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> StartupPhases.measure(null, () -> "value"));
+        assertThrows(NullPointerException.class, () -> StartupPhases.measure("phase", null));
+        assertThrows(NullPointerException.class, () -> StartupPhases.notify(null, Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> StartupPhases.notify("phase", null));
+    }
+
+    @Test
+    void shouldMeasure() {
+        String result = StartupPhases.measure(StartupPhases.CLASSPATH_SCAN, () -> "value");
+        assertThat(result).isEqualTo("value");
+        assertThat(RecordStartupListener.PHASES).containsOnlyKeys(StartupPhases.CLASSPATH_SCAN);
+        assertThat(RecordStartupListener.PHASES.get(StartupPhases.CLASSPATH_SCAN)).isGreaterThanOrEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void shouldNotify() {
+        StartupPhases.notify(StartupPhases.METADATA_BUILD, Duration.ofMillis(10));
+        assertThat(RecordStartupListener.PHASES).containsEntry(StartupPhases.METADATA_BUILD, Duration.ofMillis(10));
+    }
+}
@@ -16,8 +16,10 @@ package org.eclipse.jnosql.mapping.column.configuration;
 
 import jakarta.data.exceptions.MappingException;
 import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
 import org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.MetricsDatabaseManager;
 import org.eclipse.jnosql.mapping.Database;
 import org.eclipse.jnosql.mapping.DatabaseType;
 import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
@@ -34,6 +36,7 @@ import java.util.logging.Logger;
 
 import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.COLUMN_DATABASE;
 import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.COLUMN_PROVIDER;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.METRICS;
 
 @ApplicationScoped
 class ColumnManagerSupplier implements Supplier<DatabaseManager> {
@@ -60,6 +63,9 @@ class ColumnManagerSupplier implements Supplier<DatabaseManager> {
         String db = database.orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
                 + COLUMN_DATABASE.get()));
         DatabaseManager manager = managerFactory.apply(db);
+        if (settings.get(METRICS, Boolean.class).orElse(false)) {
+            manager = MetricsDatabaseManager.of(manager, DatabaseMetrics.of("column." + db).register());
+        }
 
         LOGGER.log(Level.FINEST, "Starting  a DatabaseManager instance using Eclipse MicroProfile Config," +
                 " database name: " + db);
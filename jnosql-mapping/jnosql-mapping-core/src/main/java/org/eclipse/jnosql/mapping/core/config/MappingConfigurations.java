@@ -55,7 +55,86 @@ public enum MappingConfigurations implements Supplier<String> {
     /**
      * Activate the automatic transaction at Graph database. By default it is true.
      */
-    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic");
+    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic"),
+    /**
+     * Define the number of edges handled per traversal and commit when creating edges in bulk at Graph database.
+     * By default it is 1000.
+     */
+    GRAPH_EDGE_BATCH_SIZE("jnosql.graph.edge.batch.size"),
+    /**
+     * Activate the compact entities, that keep the values in an array shared by the entity name, when reading the
+     * vertices at Graph database. By default it is false.
+     */
+    GRAPH_COMPACT_ENTITY("jnosql.graph.compact.entity"),
+    /**
+     * Define the maximum number of threads that build the entity metadata at startup.
+     * By default it is the number of available processors.
+     */
+    METADATA_PARALLELISM("jnosql.metadata.parallelism"),
+    /**
+     * Activate the prefetch of the next page of a cursor-based pagination at the semistructured templates.
+     * By default it is false.
+     */
+    CURSOR_PREFETCH("jnosql.cursor.prefetch"),
+    /**
+     * Define the maximum number of prefetched pages kept in memory per template. By default it is 64.
+     */
+    CURSOR_PREFETCH_PAGES("jnosql.cursor.prefetch.pages"),
+    /**
+     * Define, in seconds, how long a prefetched page is kept before it expires. By default it is 30.
+     */
+    CURSOR_PREFETCH_TTL("jnosql.cursor.prefetch.ttl"),
+    /**
+     * Define the maximum number of threads that prefetch pages per template. By default it is 2.
+     */
+    CURSOR_PREFETCH_THREADS("jnosql.cursor.prefetch.threads"),
+    /**
+     * Activate the query result cache at the semistructured templates to the entities annotated with
+     * {@code org.eclipse.jnosql.mapping.semistructured.QueryCache}. By default it is false.
+     */
+    QUERY_CACHE("jnosql.query.cache"),
+    /**
+     * Define the maximum number of query results kept by the query cache per template. By default it is 1000.
+     */
+    QUERY_CACHE_ENTRIES("jnosql.query.cache.entries"),
+    /**
+     * Define the maximum estimated size, in bytes, of the query results kept by the query cache per template.
+     * By default it is 16777216, 16 MiB.
+     */
+    QUERY_CACHE_BYTES("jnosql.query.cache.bytes"),
+    /**
+     * Activate the second-level cache of entities by id at the semistructured templates to the entities annotated
+     * with {@code org.eclipse.jnosql.mapping.semistructured.Cacheable}. By default it is false.
+     */
+    ENTITY_CACHE("jnosql.entity.cache"),
+    /**
+     * Define the maximum number of entities kept by the local, near, entity cache per template.
+     * By default it is 10000.
+     */
+    ENTITY_CACHE_ENTRIES("jnosql.entity.cache.entries"),
+    /**
+     * Define, in seconds, how long an entity is kept at the near cache in front of an
+     * {@code org.eclipse.jnosql.mapping.semistructured.EntityCache} implementation loaded by the ServiceLoader.
+     * By default it is 5.
+     */
+    ENTITY_CACHE_NEAR_TTL("jnosql.entity.cache.near.ttl"),
+    /**
+     * Activate the single-flight reads at the templates: concurrent identical reads, by id, key or query, share a
+     * single database call. By default it is false.
+     */
+    SINGLE_FLIGHT("jnosql.single.flight"),
+    /**
+     * Activate the normalization of the query conditions at the semistructured templates, which merges the redundant
+     * conditions and skips the database call when a condition never matches. It is only valid when the queries
+     * filter on single-valued elements: on an array or a collection, {@code tags = 1 AND tags = 2} can match, but is
+     * normalized as a condition that never matches. By default it is false.
+     */
+    QUERY_NORMALIZE("jnosql.query.normalize"),
+    /**
+     * Activate the metrics of the database and bucket managers, which record the latency percentiles, the errors and
+     * the rows per entity and operation, exposed through JMX and the MetricsRecorder service. By default it is false.
+     */
+    METRICS("jnosql.metrics");
 
 
     private final String value;
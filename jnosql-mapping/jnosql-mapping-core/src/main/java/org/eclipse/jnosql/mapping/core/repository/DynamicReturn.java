@@ -83,6 +83,41 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
     }
 
 
+    /**
+     * Finds {@link SpecialParameters} from array object, visiting only the parameters that, by the method
+     * signature, might be either a {@link PageRequest}, {@link jakarta.data.Limit}, {@link jakarta.data.Sort}
+     * or {@link jakarta.data.Order}. The parameter positions are computed once per method.
+     *
+     * @param method the method source
+     * @param params the params
+     * @return a {@link SpecialParameters} instance
+     * @throws NullPointerException when method is null
+     */
+    public static SpecialParameters findSpecialParameters(Method method, Object[] params) {
+        requireNonNull(method, "method is required");
+        if (params == null || params.length == 0) {
+            return SpecialParameters.EMPTY;
+        }
+        return SpecialParameterIndex.of(method).special(params);
+    }
+
+    /**
+     * Finds {@link PageRequest} from array object, visiting only the parameters that, by the method
+     * signature, might be a {@link PageRequest}. The parameter positions are computed once per method.
+     *
+     * @param method the method source
+     * @param params the params
+     * @return a {@link PageRequest} or null
+     * @throws NullPointerException when method is null
+     */
+    public static PageRequest findPageRequest(Method method, Object[] params) {
+        requireNonNull(method, "method is required");
+        if (params == null || params.length == 0) {
+            return null;
+        }
+        return SpecialParameterIndex.of(method).pageRequest(params);
+    }
+
     @Override
     public Object execute() {
         return DynamicReturnConverter.INSTANCE.convert(this);
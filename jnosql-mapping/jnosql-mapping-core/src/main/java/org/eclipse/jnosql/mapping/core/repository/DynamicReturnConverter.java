@@ -15,12 +15,15 @@
 package org.eclipse.jnosql.mapping.core.repository;
 
 import org.eclipse.jnosql.mapping.PreparedStatement;
+import org.eclipse.jnosql.mapping.core.repository.returns.NumberRepositoryReturn;
 
 
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -34,6 +37,17 @@ enum DynamicReturnConverter {
 
     private final RepositoryReturn defaultReturn = new DefaultRepositoryReturn();
 
+    private final RepositoryReturn numberReturn = new NumberRepositoryReturn();
+
+    private final List<RepositoryReturn> repositoryReturns = ServiceLoader.load(RepositoryReturn.class)
+            .stream()
+            .map(ServiceLoader.Provider::get)
+            .filter(RepositoryReturn.class::isInstance)
+            .map(RepositoryReturn.class::cast)
+            .toList();
+
+    private final Map<Method, Map<Class<?>, RepositoryReturn>> returns = new ConcurrentHashMap<>();
+
     /**
      * Converts the entity from the Method return type.
      *
@@ -43,17 +57,7 @@ enum DynamicReturnConverter {
      */
     public Object convert(DynamicReturn<?> dynamic) {
 
-        Method method = dynamic.getMethod();
-        Class<?> typeClass = dynamic.typeClass();
-        Class<?> returnType = method.getReturnType();
-
-        RepositoryReturn repositoryReturn = ServiceLoader.load(RepositoryReturn.class)
-                .stream()
-                .map(ServiceLoader.Provider::get)
-                .filter(RepositoryReturn.class::isInstance)
-                .map(RepositoryReturn.class::cast)
-                .filter(r -> r.isCompatible(typeClass, returnType))
-                .findFirst().orElse(defaultReturn);
+        RepositoryReturn repositoryReturn = repositoryReturn(dynamic.getMethod(), dynamic.typeClass());
 
         if (dynamic.hasPagination()) {
             return repositoryReturn.convertPageRequest(dynamic);
@@ -62,6 +66,29 @@ enum DynamicReturnConverter {
         }
     }
 
+    /**
+     * Returns the {@link RepositoryReturn} compatible with the method return, it is resolved once
+     * per method and entity type.
+     *
+     * @param method    the repository method
+     * @param typeClass the entity type
+     * @return the {@link RepositoryReturn} or the default one
+     */
+    RepositoryReturn repositoryReturn(Method method, Class<?> typeClass) {
+        Map<Class<?>, RepositoryReturn> byType = returns.get(method);
+        if (byType == null) {
+            byType = returns.computeIfAbsent(method, m -> new ConcurrentHashMap<>());
+        }
+        RepositoryReturn repositoryReturn = byType.get(typeClass);
+        if (repositoryReturn == null) {
+            Class<?> returnType = method.getReturnType();
+            repositoryReturn = byType.computeIfAbsent(typeClass, t -> repositoryReturns.stream()
+                    .filter(r -> r.isCompatible(t, returnType))
+                    .findFirst().orElse(defaultReturn));
+        }
+        return repositoryReturn;
+    }
+
     /**
      * Reads and execute JNoSQL query from the Method that has the {@link jakarta.data.repository.Query} annotation
      *
@@ -98,6 +125,9 @@ enum DynamicReturnConverter {
                 .withSingleResult(singleSupplier)
                 .build();
 
+        if (numberReturn.isCompatible(typeClass, method.getReturnType())) {
+            return numberReturn.convert(dynamicReturn);
+        }
         return convert(dynamicReturn);
     }
 
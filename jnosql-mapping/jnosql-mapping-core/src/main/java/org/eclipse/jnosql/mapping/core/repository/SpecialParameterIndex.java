@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.repository;
+
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.page.PageRequest;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The positions, per repository {@link Method}, of the parameters that might hold a {@link PageRequest},
+ * {@link Limit}, {@link Sort}, {@link Order} or an {@link Iterable} of sorts. The positions are resolved once
+ * from the declared parameter types, so each call only visits the arguments that can be special.
+ * A parameter whose declared type is a supertype of those types, e.g., {@link Object}, or any interface,
+ * is kept as a candidate, and the argument is checked at runtime.
+ */
+final class SpecialParameterIndex {
+
+    private static final List<Class<?>> SPECIAL_TYPES = List.of(PageRequest.class, Limit.class, Sort.class,
+            Order.class, Iterable.class);
+
+    private static final Map<Method, SpecialParameterIndex> CACHE = new ConcurrentHashMap<>();
+
+    private final int parameterCount;
+
+    private final int[] positions;
+
+    private SpecialParameterIndex(int parameterCount, int[] positions) {
+        this.parameterCount = parameterCount;
+        this.positions = positions;
+    }
+
+    /**
+     * Finds the {@link SpecialParameters} visiting only the candidate positions.
+     *
+     * @param params the method arguments
+     * @return the {@link SpecialParameters} instance
+     */
+    SpecialParameters special(Object[] params) {
+        if (params.length != parameterCount) {
+            return SpecialParameters.of(params);
+        }
+        if (positions.length == 0) {
+            return SpecialParameters.EMPTY;
+        }
+        return SpecialParameters.of(params, positions);
+    }
+
+    /**
+     * Finds the first {@link PageRequest} visiting only the candidate positions.
+     *
+     * @param params the method arguments
+     * @return the {@link PageRequest} or null
+     */
+    PageRequest<?> pageRequest(Object[] params) {
+        if (params.length != parameterCount) {
+            for (Object param : params) {
+                if (param instanceof PageRequest<?> pageRequest) {
+                    return pageRequest;
+                }
+            }
+            return null;
+        }
+        for (int position : positions) {
+            if (params[position] instanceof PageRequest<?> pageRequest) {
+                return pageRequest;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The candidate positions
+     *
+     * @return a copy of the candidate positions
+     */
+    int[] positions() {
+        return positions.clone();
+    }
+
+    /**
+     * Returns the index of the method, computing it at the first call.
+     *
+     * @param method the repository method
+     * @return the {@link SpecialParameterIndex} instance
+     */
+    static SpecialParameterIndex of(Method method) {
+        SpecialParameterIndex index = CACHE.get(method);
+        if (index == null) {
+            index = CACHE.computeIfAbsent(method, SpecialParameterIndex::create);
+        }
+        return index;
+    }
+
+    private static SpecialParameterIndex create(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        int[] positions = new int[types.length];
+        int size = 0;
+        for (int index = 0; index < types.length; index++) {
+            if (isCandidate(types[index])) {
+                positions[size++] = index;
+            }
+        }
+        return new SpecialParameterIndex(types.length, Arrays.copyOf(positions, size));
+    }
+
+    private static boolean isCandidate(Class<?> type) {
+        if (type.isPrimitive() || type.isArray()) {
+            return false;
+        }
+        if (type.isInterface()) {
+            return true;
+        }
+        for (Class<?> special : SPECIAL_TYPES) {
+            if (special.isAssignableFrom(type) || type.isAssignableFrom(special)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
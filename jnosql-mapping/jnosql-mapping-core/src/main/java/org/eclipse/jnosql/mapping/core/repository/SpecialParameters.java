@@ -148,4 +148,38 @@ public final class SpecialParameters {
         }
         return new SpecialParameters(pageRequest, limit, sorts);
     }
+
+    static SpecialParameters of(Object[] parameters, int[] positions) {
+        List<Sort<?>> sorts = null;
+        PageRequest<?> pageRequest = null;
+        Limit limit = null;
+        for (int position : positions) {
+            Object parameter = parameters[position];
+            if (parameter instanceof PageRequest<?> pageRequestInstance) {
+                pageRequest = pageRequestInstance;
+                sorts = sorts(sorts);
+                sorts.addAll(pageRequestInstance.sorts());
+            } else if (parameter instanceof Sort<?> sort) {
+                sorts = sorts(sorts);
+                sorts.add(sort);
+            } else if (parameter instanceof Limit limitInstance) {
+                limit = limitInstance;
+            } else if (parameter instanceof Iterable<?> iterable) {
+                for (Object value : iterable) {
+                    if (value instanceof Sort<?> sortValue) {
+                        sorts = sorts(sorts);
+                        sorts.add(sortValue);
+                    }
+                }
+            }
+        }
+        if (pageRequest == null && limit == null && sorts == null) {
+            return EMPTY;
+        }
+        return new SpecialParameters(pageRequest, limit, sorts == null ? Collections.emptyList() : sorts);
+    }
+
+    private static List<Sort<?>> sorts(List<Sort<?>> sorts) {
+        return sorts == null ? new ArrayList<>() : sorts;
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.repository.returns;
+
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
+import org.eclipse.jnosql.mapping.core.repository.RepositoryReturn;
+
+import java.util.Set;
+
+/**
+ * Returns the single number of a query, such as the number of entities changed by
+ * {@code update Person set active = false where age > @age} or {@code select count(*) from Person},
+ * as the {@code long} or {@code int} of the method; a query without result returns zero.
+ * It applies to the methods with the {@link jakarta.data.repository.Query} annotation only, so it is not loaded
+ * with the other {@link RepositoryReturn} implementations.
+ */
+public class NumberRepositoryReturn implements RepositoryReturn {
+
+    private static final Set<Class<?>> TYPES = Set.of(long.class, Long.class, int.class, Integer.class);
+
+    @Override
+    public boolean isCompatible(Class<?> entity, Class<?> returnType) {
+        return TYPES.contains(returnType) && !entity.equals(returnType);
+    }
+
+    @Override
+    public <T> Object convert(DynamicReturn<T> dynamic) {
+        return toNumber(dynamic.singleResult().orElse(null), dynamic);
+    }
+
+    @Override
+    public <T> Object convertPageRequest(DynamicReturn<T> dynamic) {
+        return toNumber(dynamic.singleResultPagination().orElse(null), dynamic);
+    }
+
+    private static Object toNumber(Object value, DynamicReturn<?> dynamic) {
+        Number number;
+        if (value == null) {
+            number = 0L;
+        } else if (value instanceof Number n) {
+            number = n;
+        } else {
+            throw new DynamicQueryException("The method " + dynamic.getMethod().getName() + " returns a number, but "
+                    + "its query returned: " + value);
+        }
+        Class<?> returnType = dynamic.getMethod().getReturnType();
+        if (int.class.equals(returnType) || Integer.class.equals(returnType)) {
+            return Math.toIntExact(number.longValue());
+        }
+        return number.longValue();
+    }
+}
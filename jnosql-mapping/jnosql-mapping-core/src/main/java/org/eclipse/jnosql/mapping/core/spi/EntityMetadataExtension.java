@@ -20,19 +20,25 @@ import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.nosql.Entity;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.metadata.ClassConverter;
 import org.eclipse.jnosql.mapping.metadata.ClassScanner;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.GroupEntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.StartupPhases;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.METADATA_PARALLELISM;
+
 /**
  * This class is a CDI extension to load all class that has {@link Entity} annotation.
  * This extension will load all Classes and put in a map.
- * Where the key is {@link Class#getName()} and the value is {@link EntityMetadata}
+ * Where the key is {@link Class#getName()} and the value is {@link EntityMetadata}.
+ * The classes are converted in parallel, see {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#METADATA_PARALLELISM}.
  */
 @ApplicationScoped
 public class EntityMetadataExtension implements Extension, GroupEntityMetadata {
@@ -52,32 +58,36 @@ public class EntityMetadataExtension implements Extension, GroupEntityMetadata {
         LOGGER.fine("Starting the scanning process for Entity and Embeddable annotations: ");
 
         ClassScanner scanner = ClassScanner.load();
+        ParallelClassConverter parallelConverter = new ParallelClassConverter(converter, parallelism());
 
-        processEntities(scanner);
-        processEmbeddables(scanner);
+        StartupPhases.measure(StartupPhases.METADATA_BUILD, () -> {
+            processEntities(parallelConverter.apply(scanner.entities()));
+            processEmbeddables(parallelConverter.apply(scanner.embeddables()));
+            return null;
+        });
 
         LOGGER.fine("Finishing the scanning with total of " + classes.size() + " scanned.");
     }
 
-    private void processEntities(ClassScanner scanner) {
-        for (Class<?> entity : scanner.entities()) {
-            EntityMetadata entityMetadata = convertToEntityMetadata(entity);
+    private void processEntities(List<EntityMetadata> entities) {
+        for (EntityMetadata entityMetadata : entities) {
             if (entityMetadata.hasEntityName()) {
                 mappings.put(entityMetadata.name(), entityMetadata);
             }
-            classes.put(entity, entityMetadata);
+            classes.put(entityMetadata.type(), entityMetadata);
         }
     }
 
-    private void processEmbeddables(ClassScanner scanner) {
-        for (Class<?> embeddable : scanner.embeddables()) {
-            EntityMetadata entityMetadata = convertToEntityMetadata(embeddable);
-            classes.put(embeddable, entityMetadata);
+    private void processEmbeddables(List<EntityMetadata> embeddables) {
+        for (EntityMetadata entityMetadata : embeddables) {
+            classes.put(entityMetadata.type(), entityMetadata);
         }
     }
 
-    private EntityMetadata convertToEntityMetadata(Class<?> entityClass) {
-        return converter.apply(entityClass);
+    private static int parallelism() {
+        return MicroProfileSettings.INSTANCE.get(METADATA_PARALLELISM, Integer.class)
+                .filter(parallelism -> parallelism > 0)
+                .orElseGet(() -> Runtime.getRuntime().availableProcessors());
     }
 
     @Override
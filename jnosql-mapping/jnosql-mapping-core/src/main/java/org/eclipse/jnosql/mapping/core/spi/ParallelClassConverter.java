@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.spi;
+
+import org.eclipse.jnosql.mapping.metadata.ClassConverter;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Converts the classes to {@link EntityMetadata} at a bounded {@link ForkJoinPool}, so the reflective field walking
+ * scales with the available cores. The result is sorted by {@link Class#getName()}, thus the registration order does
+ * not depend on either the scan or the thread scheduling.
+ */
+final class ParallelClassConverter {
+
+    private final ClassConverter converter;
+
+    private final int parallelism;
+
+    ParallelClassConverter(ClassConverter converter, int parallelism) {
+        this.converter = Objects.requireNonNull(converter, "converter is required");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be greater than zero, current: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Converts the classes to {@link EntityMetadata}
+     *
+     * @param types the classes
+     * @return the {@link EntityMetadata} sorted by the class name
+     * @throws NullPointerException when types is null
+     */
+    List<EntityMetadata> apply(Collection<Class<?>> types) {
+        Objects.requireNonNull(types, "types is required");
+        List<Class<?>> sorted = types.stream().sorted(Comparator.comparing(Class::getName)).toList();
+        int threads = Math.min(parallelism, sorted.size());
+        if (threads <= 1) {
+            return sorted.stream().map(converter).toList();
+        }
+        ForkJoinPool pool = pool(threads);
+        try {
+            return pool.invoke(ForkJoinTask.adapt(() -> sorted.parallelStream().map(converter).toList()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static ForkJoinPool pool(int threads) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return new ForkJoinPool(threads, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("jnosql-metadata-" + thread.getPoolIndex());
+            thread.setContextClassLoader(loader);
+            return thread;
+        }, null, false);
+    }
+}
@@ -22,6 +22,7 @@ import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -32,6 +33,10 @@ public final class ConverterUtil {
 
     private static final Logger LOGGER = Logger.getLogger(ConverterUtil.class.getName());
 
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(boolean.class, Boolean.class,
+            byte.class, Byte.class, char.class, Character.class, short.class, Short.class,
+            int.class, Integer.class, long.class, Long.class, float.class, Float.class, double.class, Double.class);
+
     private ConverterUtil() {
 
     }
@@ -63,7 +68,7 @@ public final class ConverterUtil {
      * @return tje value converted
      */
     public static Object getValue(Object value, Converters converters, FieldMetadata field) {
-        if (!field.type().equals(value.getClass())) {
+        if (!isSameType(field.type(), value.getClass())) {
             return field.converter()
                     .map(c -> converters.get(field))
                     .map(useConverter(value))
@@ -76,6 +81,10 @@ public final class ConverterUtil {
                 .orElse(value);
     }
 
+    private static boolean isSameType(Class<?> type, Class<?> valueType) {
+        return type.equals(valueType) || type.isPrimitive() && valueType.equals(WRAPPERS.get(type));
+    }
+
     private static Supplier<Object> getSupplier(Object value, Class<?> type) {
         return () -> {
             if (Iterable.class.isAssignableFrom(type)) {
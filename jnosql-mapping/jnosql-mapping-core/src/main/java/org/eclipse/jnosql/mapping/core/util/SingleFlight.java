@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.util;
+
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.SINGLE_FLIGHT;
+
+/**
+ * Deduplicates concurrent identical reads: while a read of a key is in flight, the callers of the same key wait for
+ * its result instead of going to the database, which avoids a thundering herd when a popular key expires or is
+ * requested for the first time. Only in-flight reads are shared; nothing is kept after the read finishes.
+ *
+ * <p>A write should call {@link #forget(Object)} or {@link #forget(Predicate)}, so the reads that start after it do not
+ * attach to a read that started before it.</p>
+ *
+ * @param <K> the key type, it must implement equals and hashCode
+ * @param <V> the result type
+ */
+public final class SingleFlight<K, V> {
+
+    private final boolean enabled;
+
+    private final Map<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    private SingleFlight(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Executes the loader, or waits for the result of the in-flight execution of the same key
+     *
+     * @param key    the key that identifies the read
+     * @param loader the read
+     * @return the result of the read
+     * @throws NullPointerException when there is a null parameter
+     */
+    public V execute(K key, Supplier<V> loader) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(loader, "loader is required");
+        if (!enabled) {
+            executions.increment();
+            return loader.get();
+        }
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> current = calls.putIfAbsent(key, call);
+        if (current != null) {
+            coalesced.increment();
+            return join(current);
+        }
+        executions.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error exception) {
+            call.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * Detaches the in-flight read of the key, so the next callers start a new read
+     *
+     * @param key the key
+     */
+    public void forget(K key) {
+        calls.remove(key);
+    }
+
+    /**
+     * Detaches the in-flight reads of the keys that match the predicate
+     *
+     * @param keys the keys predicate
+     */
+    public void forget(Predicate<? super K> keys) {
+        calls.keySet().removeIf(keys);
+    }
+
+    /**
+     * Checks if the reads are shared
+     *
+     * @return true when it is active
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the statistics of the reads
+     *
+     * @return the statistics
+     */
+    public SingleFlightStatistics statistics() {
+        return new SingleFlightStatistics(executions.sum(), coalesced.sum());
+    }
+
+    /**
+     * Creates a {@link SingleFlight} that is active when the
+     * {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#SINGLE_FLIGHT} configuration is true;
+     * otherwise, each read executes its loader.
+     *
+     * @param <K> the key type
+     * @param <V> the result type
+     * @return a {@link SingleFlight} instance
+     */
+    public static <K, V> SingleFlight<K, V> of() {
+        return of(MicroProfileSettings.INSTANCE.get(SINGLE_FLIGHT, Boolean.class).orElse(false));
+    }
+
+    /**
+     * Creates a {@link SingleFlight}
+     *
+     * @param enabled if the reads are shared
+     * @param <K>     the key type
+     * @param <V>     the result type
+     * @return a {@link SingleFlight} instance
+     */
+    public static <K, V> SingleFlight<K, V> of(boolean enabled) {
+        return new SingleFlight<>(enabled);
+    }
+
+    private static <V> V join(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw exception;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.util;
+
+/**
+ * The statistics of a {@link SingleFlight}.
+ *
+ * @param executions the number of reads that went to the database
+ * @param coalesced  the number of reads that waited for an in-flight read of the same key instead
+ */
+public record SingleFlightStatistics(long executions, long coalesced) {
+
+    /**
+     * The statistics of reads that were never executed.
+     */
+    public static final SingleFlightStatistics EMPTY = new SingleFlightStatistics(0L, 0L);
+}
@@ -91,6 +91,22 @@ class DynamicQueryMethodReturnTest {
         Assertions.assertThrows(NonUniqueResultException.class, dynamicReturn::execute);
     }
 
+    @Test
+    void shouldReturnNumber() throws NoSuchMethodException {
+
+        PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
+        Method method = getMethod(PersonRepository.class, "archive");
+
+        Function<String, Stream<?>> stream = q -> Stream.of(3L);
+        DynamicQueryMethodReturn dynamicReturn = DynamicQueryMethodReturn.builder()
+                .withTypeClass(Person.class)
+                .withMethod(method)
+                .withQueryConverter(stream)
+                .withPrepareConverter(s -> preparedStatement)
+                .build();
+        Assertions.assertEquals(3L, dynamicReturn.execute());
+    }
+
     @Test
     void shouldReturnAnInstance() throws NoSuchMethodException {
 
@@ -285,6 +301,9 @@ class DynamicQueryMethodReturnTest {
 
         @Query("query")
         List<Person> query(@Param("name") String name);
+
+        @Query("query")
+        long archive();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.repository;
+
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.page.PageRequest;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpecialParameterIndexTest {
+
+    @Test
+    void shouldCacheByMethod() throws NoSuchMethodException {
+        Method method = Queries.class.getDeclaredMethod("findByName", String.class, int.class, PageRequest.class);
+        assertThat(SpecialParameterIndex.of(method)).isSameAs(SpecialParameterIndex.of(method));
+    }
+
+    @Test
+    void shouldIgnoreNonSpecialTypes() throws NoSuchMethodException {
+        Method method = Queries.class.getDeclaredMethod("findByAge", String.class, int.class, Long.class);
+        SpecialParameterIndex index = SpecialParameterIndex.of(method);
+        assertThat(index.positions()).isEmpty();
+        assertThat(index.special(new Object[]{"Ada", 10, 1L})).isSameAs(SpecialParameters.EMPTY);
+    }
+
+    @Test
+    void shouldFindPositions() throws NoSuchMethodException {
+        Method method = Queries.class.getDeclaredMethod("findAll", String.class, Limit.class, Sort.class,
+                Order.class, Object.class, CharSequence.class, List.class);
+        assertThat(SpecialParameterIndex.of(method).positions()).containsExactly(1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    void shouldFindPageRequest() throws NoSuchMethodException {
+        Method method = Queries.class.getDeclaredMethod("findByName", String.class, int.class, PageRequest.class);
+        PageRequest<?> pageRequest = PageRequest.ofPage(2).sortBy(Sort.asc("name"));
+        SpecialParameterIndex index = SpecialParameterIndex.of(method);
+        assertThat(index.pageRequest(new Object[]{"Ada", 10, pageRequest})).isEqualTo(pageRequest);
+        SpecialParameters special = index.special(new Object[]{"Ada", 10, pageRequest});
+        assertThat(special.pageRequest()).contains(pageRequest);
+        assertThat(special.sorts()).containsExactly(Sort.asc("name"));
+    }
+
+    @Test
+    void shouldCheckCandidateAtRuntime() throws NoSuchMethodException {
+        Method method = Queries.class.getDeclaredMethod("findAll", String.class, Limit.class, Sort.class,
+                Order.class, Object.class, CharSequence.class, List.class);
+        PageRequest<?> pageRequest = PageRequest.ofPage(1);
+        Object[] params = {"Ada", Limit.of(10), Sort.asc("name"), Order.by(Sort.desc("age")), pageRequest, "Otavio",
+                List.of(Sort.asc("city"), "ignored")};
+        SpecialParameters special = SpecialParameterIndex.of(method).special(params);
+        assertThat(special).isEqualTo(SpecialParameters.of(params));
+        assertThat(special.limit()).contains(Limit.of(10));
+        assertThat(special.pageRequest()).contains(pageRequest);
+        assertThat(special.sorts()).containsExactly(Sort.asc("name"), Sort.desc("age"), Sort.asc("city"));
+    }
+
+    @Test
+    void shouldReturnEmptyWhenCandidatesAreNotSpecial() throws NoSuchMethodException {
+        Method method = Queries.class.getDeclaredMethod("findAll", String.class, Limit.class, Sort.class,
+                Order.class, Object.class, CharSequence.class, List.class);
+        Object[] params = {"Ada", null, null, null, 10, "Otavio", List.of()};
+        assertThat(SpecialParameterIndex.of(method).special(params)).isSameAs(SpecialParameters.EMPTY);
+        assertThat(SpecialParameterIndex.of(method).pageRequest(params)).isNull();
+    }
+
+    @Test
+    void shouldScanAllWhenArgumentsDoNotMatchSignature() throws NoSuchMethodException {
+        Method method = Queries.class.getDeclaredMethod("findByAge", String.class, int.class, Long.class);
+        PageRequest<?> pageRequest = PageRequest.ofPage(1);
+        SpecialParameterIndex index = SpecialParameterIndex.of(method);
+        assertThat(index.pageRequest(new Object[]{pageRequest})).isEqualTo(pageRequest);
+        assertThat(index.special(new Object[]{pageRequest}).pageRequest()).contains(pageRequest);
+    }
+
+    private interface Queries {
+
+        List<String> findByName(String name, int age, PageRequest<?> pageRequest);
+
+        List<String> findByAge(String name, int age, Long id);
+
+        List<String> findAll(String name, Limit limit, Sort<?> sort, Order<?> order, Object value,
+                             CharSequence text, List<?> sorts);
+    }
+}
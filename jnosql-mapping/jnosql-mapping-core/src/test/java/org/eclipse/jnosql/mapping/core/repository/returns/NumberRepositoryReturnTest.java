@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.repository.returns;
+
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.core.entities.Person;
+import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
+import org.eclipse.jnosql.mapping.core.repository.RepositoryReturn;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NumberRepositoryReturnTest {
+
+    private final RepositoryReturn repositoryReturn = new NumberRepositoryReturn();
+
+    @Test
+    void shouldReturnIsCompatible() {
+        Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, long.class));
+        Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, Long.class));
+        Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, int.class));
+        Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, Integer.class));
+        Assertions.assertFalse(repositoryReturn.isCompatible(Long.class, Long.class));
+        Assertions.assertFalse(repositoryReturn.isCompatible(Person.class, Person.class));
+    }
+
+    @Test
+    void shouldReturnLong() throws NoSuchMethodException {
+        DynamicReturn<Object> dynamic = dynamic("archive", Optional.of(3L));
+        assertEquals(3L, repositoryReturn.convert(dynamic));
+    }
+
+    @Test
+    void shouldReturnInt() throws NoSuchMethodException {
+        DynamicReturn<Object> dynamic = dynamic("archiveInt", Optional.of(3L));
+        assertEquals(3, repositoryReturn.convert(dynamic));
+    }
+
+    @Test
+    void shouldReturnZeroWhenThereIsNoResult() throws NoSuchMethodException {
+        DynamicReturn<Object> dynamic = dynamic("archive", Optional.empty());
+        assertEquals(0L, repositoryReturn.convert(dynamic));
+    }
+
+    @Test
+    void shouldReturnErrorWhenResultIsNotNumber() throws NoSuchMethodException {
+        DynamicReturn<Object> dynamic = dynamic("archive", Optional.of("archived"));
+        assertThrows(DynamicQueryException.class, () -> repositoryReturn.convert(dynamic));
+    }
+
+    @SuppressWarnings("unchecked")
+    private DynamicReturn<Object> dynamic(String method, Optional<Object> result) throws NoSuchMethodException {
+        return DynamicReturn.builder()
+                .withClassSource(Person.class)
+                .withSingleResult(() -> result)
+                .withResult(Stream::empty)
+                .withMethodSource(PersonRepository.class.getDeclaredMethod(method))
+                .build();
+    }
+
+    interface PersonRepository {
+
+        long archive();
+
+        int archiveInt();
+    }
+}
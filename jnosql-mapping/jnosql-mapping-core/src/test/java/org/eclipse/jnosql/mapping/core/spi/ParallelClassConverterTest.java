@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.spi;
+
+import org.eclipse.jnosql.mapping.core.entities.Actor;
+import org.eclipse.jnosql.mapping.core.entities.Address;
+import org.eclipse.jnosql.mapping.core.entities.Animal;
+import org.eclipse.jnosql.mapping.core.entities.Book;
+import org.eclipse.jnosql.mapping.core.entities.Director;
+import org.eclipse.jnosql.mapping.core.entities.Job;
+import org.eclipse.jnosql.mapping.core.entities.Movie;
+import org.eclipse.jnosql.mapping.core.entities.Person;
+import org.eclipse.jnosql.mapping.core.entities.Worker;
+import org.eclipse.jnosql.mapping.metadata.ClassConverter;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.MetadataException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelClassConverterTest {
+
+    private static final Set<Class<?>> TYPES = Set.of(Person.class, Movie.class, Worker.class, Director.class,
+            Actor.class, Book.class, Animal.class, Address.class, Job.class);
+
+    private final ClassConverter converter = ClassConverter.load();
+
+    @Test
+    void shouldReturnErrorWhenParameterIsInvalid() {
+        assertThrows(NullPointerException.class, () -> new ParallelClassConverter(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelClassConverter(converter, 0));
+        assertThrows(NullPointerException.class, () -> new ParallelClassConverter(converter, 1).apply(null));
+    }
+
+    @Test
+    void shouldReturnEmpty() {
+        assertThat(new ParallelClassConverter(converter, 4).apply(Collections.emptySet())).isEmpty();
+    }
+
+    @Test
+    void shouldConvertSortedByName() {
+        List<EntityMetadata> entities = new ParallelClassConverter(converter, 4).apply(TYPES);
+        assertThat(entities).extracting(EntityMetadata::type)
+                .containsExactly(Actor.class, Address.class, Animal.class, Book.class, Director.class,
+                        Job.class, Movie.class, Person.class, Worker.class);
+    }
+
+    @Test
+    void shouldConvertAsSequential() {
+        List<EntityMetadata> parallel = new ParallelClassConverter(converter, 4).apply(TYPES);
+        List<EntityMetadata> sequential = new ParallelClassConverter(converter, 1).apply(TYPES);
+        assertThat(parallel).extracting(EntityMetadata::name)
+                .containsExactlyElementsOf(sequential.stream().map(EntityMetadata::name).toList());
+        assertThat(parallel).extracting(e -> e.fields().size())
+                .containsExactlyElementsOf(sequential.stream().map(e -> e.fields().size()).toList());
+    }
+
+    @Test
+    void shouldPropagateError() {
+        ClassConverter error = type -> {
+            throw new MetadataException("error at " + type.getName());
+        };
+        ParallelClassConverter parallelConverter = new ParallelClassConverter(error, 4);
+        assertThrows(MetadataException.class, () -> parallelConverter.apply(TYPES));
+    }
+}
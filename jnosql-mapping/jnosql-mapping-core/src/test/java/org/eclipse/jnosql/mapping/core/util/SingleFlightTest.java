@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    @Test
+    void shouldCoalesceInFlightReads() throws Exception {
+        SingleFlight<String, String> flight = SingleFlight.of(true);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> flight.execute("key", () -> {
+            loads.incrementAndGet();
+            await(latch);
+            return "value";
+        }));
+        waitUntil(() -> loads.get() == 1);
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> flight.execute("key", () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        waitUntil(() -> flight.statistics().coalesced() == 1L);
+        latch.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+        assertThat(flight.statistics()).isEqualTo(new SingleFlightStatistics(1L, 1L));
+    }
+
+    @Test
+    void shouldNotKeepResult() {
+        SingleFlight<String, String> flight = SingleFlight.of(true);
+        AtomicInteger loads = new AtomicInteger();
+        flight.execute("key", () -> "value" + loads.incrementAndGet());
+        assertThat(flight.execute("key", () -> "value" + loads.incrementAndGet())).isEqualTo("value2");
+        assertThat(flight.statistics().coalesced()).isZero();
+    }
+
+    @Test
+    void shouldShareFailure() throws Exception {
+        SingleFlight<String, String> flight = SingleFlight.of(true);
+        CountDownLatch latch = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> flight.execute("key", () -> {
+            await(latch);
+            throw new IllegalStateException("database is down");
+        }));
+        waitUntil(() -> flight.statistics().executions() == 1L);
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> flight.execute("key", () -> "value"));
+        waitUntil(() -> flight.statistics().coalesced() == 1L);
+        latch.countDown();
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(flight.execute("key", () -> "value")).isEqualTo("value");
+    }
+
+    @Test
+    void shouldForgetInFlightRead() throws Exception {
+        SingleFlight<String, String> flight = SingleFlight.of(true);
+        CountDownLatch latch = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> flight.execute("key", () -> {
+            await(latch);
+            return "old";
+        }));
+        waitUntil(() -> flight.statistics().executions() == 1L);
+        flight.forget("key");
+        assertThat(flight.execute("key", () -> "new")).isEqualTo("new");
+        latch.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("old");
+        assertThat(flight.statistics().coalesced()).isZero();
+    }
+
+    @Test
+    void shouldExecuteEachReadWhenDisabled() {
+        SingleFlight<String, String> flight = SingleFlight.of(false);
+        flight.execute("key", () -> "value");
+        flight.execute("key", () -> "value");
+        assertThat(flight.isEnabled()).isFalse();
+        assertThat(flight.statistics()).isEqualTo(new SingleFlightStatistics(2L, 0L));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1L);
+        }
+    }
+}
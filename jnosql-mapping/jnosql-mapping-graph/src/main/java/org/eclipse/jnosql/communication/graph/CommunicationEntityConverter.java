@@ -16,16 +16,22 @@ package org.eclipse.jnosql.communication.graph;
 
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 
 import java.util.function.Function;
 
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.GRAPH_COMPACT_ENTITY;
+
 public enum CommunicationEntityConverter implements Function<Vertex, CommunicationEntity>{
     INSTANCE;
 
+    private final boolean compact = MicroProfileSettings.INSTANCE.get(GRAPH_COMPACT_ENTITY, String.class)
+            .map(Boolean::valueOf)
+            .orElse(false);
 
     @Override
     public CommunicationEntity apply(Vertex vertex) {
-        var entity = CommunicationEntity.of(vertex.label());
+        var entity = compact ? CommunicationEntity.compact(vertex.label()) : CommunicationEntity.of(vertex.label());
         vertex.properties().forEachRemaining(p -> entity.add(p.key(), p.value()));
         entity.add(DefaultGraphDatabaseManager.ID_PROPERTY, vertex.id());
         return entity;
@@ -19,7 +19,6 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.eclipse.jnosql.communication.CommunicationException;
-import org.eclipse.jnosql.communication.ValueUtil;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
@@ -67,10 +66,7 @@ public class DefaultGraphDatabaseManager implements GraphDatabaseManager {
     public CommunicationEntity insert(CommunicationEntity entity) {
 
         Objects.requireNonNull(entity, "entity is required");
-        Vertex vertex = graph.addVertex(entity.name());
-        entity.elements().forEach(e -> vertex.property(e.name(), ValueUtil.convert(e.value())));
-        entity.add(ID_PROPERTY, vertex.id());
-        vertex.property(ID_PROPERTY, vertex.id());
+        GraphVertexUtil.insert(graph, entity);
         GraphTransactionUtil.transaction(graph);
         return entity;
     }
@@ -100,8 +96,7 @@ public class DefaultGraphDatabaseManager implements GraphDatabaseManager {
             if(!vertices.hasNext()) {
                 throw new EmptyResultException("The entity does not exist with the id: " + id);
             }
-            Vertex vertex = vertices.next();
-            entity.elements().forEach(e -> vertex.property(e.name(), ValueUtil.convert(e.value())));
+            GraphVertexUtil.update(vertices.next(), entity);
         });
         GraphTransactionUtil.transaction(graph);
         return entity;
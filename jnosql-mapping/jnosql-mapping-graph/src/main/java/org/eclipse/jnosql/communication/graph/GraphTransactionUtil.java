@@ -83,6 +83,15 @@ public final class GraphTransactionUtil {
                 .orElse(true);
     }
 
+    /**
+     * Checks if the current thread has a locked transaction, e.g.: inside a method annotated with Transactional.
+     *
+     * @return true if the current transaction is locked, false otherwise
+     */
+    public static boolean isLocked() {
+        return THREAD_LOCAL.get() != null;
+    }
+
     /**
      * Checks if the current transaction is not locked.
      *
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.graph;
+
+import jakarta.data.exceptions.EmptyResultException;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.communication.ValueUtil;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import static org.eclipse.jnosql.communication.graph.DefaultGraphDatabaseManager.ID_PROPERTY;
+
+/**
+ * Utility class that writes a {@link CommunicationEntity} as a {@link Vertex}, it is shared by the
+ * {@link DefaultGraphDatabaseManager} and the mapping layer when it writes straight at the {@link Graph}.
+ */
+public final class GraphVertexUtil {
+
+    private GraphVertexUtil() {
+    }
+
+    /**
+     * Adds a vertex with the entity elements as properties, then sets the vertex id at both the vertex and the
+     * entity, at the {@link DefaultGraphDatabaseManager#ID_PROPERTY} property.
+     *
+     * @param graph  the graph instance
+     * @param entity the entity to insert
+     * @return the vertex added
+     */
+    public static Vertex insert(Graph graph, CommunicationEntity entity) {
+        Vertex vertex = graph.addVertex(entity.name());
+        update(vertex, entity);
+        entity.add(ID_PROPERTY, vertex.id());
+        vertex.property(ID_PROPERTY, vertex.id());
+        return vertex;
+    }
+
+    /**
+     * Writes the entity elements as properties of the vertex
+     *
+     * @param vertex the vertex
+     * @param entity the entity
+     */
+    public static void update(Vertex vertex, CommunicationEntity entity) {
+        entity.elements().forEach(e -> vertex.property(e.name(), ValueUtil.convert(e.value())));
+    }
+
+    /**
+     * Returns the vertex id of an entity to update
+     *
+     * @param entity the entity
+     * @return the value at the {@link DefaultGraphDatabaseManager#ID_PROPERTY} property
+     * @throws EmptyResultException when the entity has no id, so there is no vertex to update
+     */
+    public static Object id(CommunicationEntity entity) {
+        return entity.find(ID_PROPERTY).map(Element::get)
+                .orElseThrow(() -> new EmptyResultException("The entity does not have the id to update: "
+                        + entity.name()));
+    }
+}
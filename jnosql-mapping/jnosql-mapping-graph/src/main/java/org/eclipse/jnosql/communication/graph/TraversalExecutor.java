@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.communication.graph;
 
 import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.TextP;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -22,6 +23,7 @@ import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.ValueUtil;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.CriteriaPredicates;
 import org.eclipse.jnosql.communication.semistructured.Element;
 
 import java.util.List;
@@ -63,6 +65,9 @@ final class TraversalExecutor {
             case IN -> {
                 return __.has(name, P.within(ValueUtil.convertToList(element.value())));
             }
+            case LIKE -> {
+                return __.has(name, like(String.valueOf(value)));
+            }
             case NOT -> {
                 var notCondition = element.value().get(CriteriaCondition.class);
                 return __.not(getPredicate(notCondition));
@@ -83,4 +88,30 @@ final class TraversalExecutor {
                     throw new UnsupportedOperationException("There is not support to the type " + operator + " in graph");
         }
     }
+
+    /**
+     * Converts the LIKE pattern to the {@link TextP} predicates, so the traversal is still serializable to a remote
+     * Gremlin server; the patterns with wildcards in the middle become a regular expression.
+     */
+    private static P<String> like(String pattern) {
+        if (isPlain(pattern)) {
+            return P.eq(pattern);
+        }
+        int start = pattern.startsWith("%") ? 1 : 0;
+        int end = pattern.length() > start && pattern.endsWith("%") ? pattern.length() - 1 : pattern.length();
+        String body = pattern.substring(start, end);
+        if (isPlain(body)) {
+            if (start == 1 && end < pattern.length()) {
+                return TextP.containing(body);
+            } else if (start == 1) {
+                return TextP.endingWith(body);
+            }
+            return TextP.startingWith(body);
+        }
+        return TextP.regex(CriteriaPredicates.regex(pattern));
+    }
+
+    private static boolean isPlain(String pattern) {
+        return pattern.indexOf('%') < 0 && pattern.indexOf('_') < 0;
+    }
 }
@@ -17,9 +17,11 @@ package org.eclipse.jnosql.mapping.graph;
 import jakarta.data.exceptions.EmptyResultException;
 import jakarta.data.exceptions.NonUniqueResultException;
 import org.eclipse.jnosql.mapping.PreparedStatement;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -29,6 +31,7 @@ import org.eclipse.jnosql.communication.graph.CommunicationEntityConverter;
 import org.eclipse.jnosql.communication.graph.GraphDatabaseManager;
 import org.eclipse.jnosql.communication.graph.GraphTransactionUtil;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.semistructured.AbstractSemistructuredTemplate;
@@ -36,10 +39,14 @@ import org.eclipse.jnosql.mapping.semistructured.AbstractSemistructuredTemplate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -49,6 +56,7 @@ import java.util.stream.StreamSupport;
 import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
 import static org.apache.tinkerpop.gremlin.structure.T.id;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.GRAPH_EDGE_BATCH_SIZE;
 
 abstract class AbstractGraphTemplate extends AbstractSemistructuredTemplate implements GraphTemplate {
 
@@ -58,6 +66,7 @@ abstract class AbstractGraphTemplate extends AbstractSemistructuredTemplate impl
     private static final Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Edge>> INITIAL_EDGE =
             g -> (GraphTraversal<Vertex, Edge>) g;
 
+    private static final int DEFAULT_EDGE_BATCH_SIZE = 1_000;
 
     /**
      * Retrieves the {@link GraphDatabaseManager} associated with this graph template.
@@ -142,6 +151,31 @@ abstract class AbstractGraphTemplate extends AbstractSemistructuredTemplate impl
                 .orElseGet(() -> new DefaultEdgeEntity<>(getEdge(label, outVertex, inVertex), incoming, outgoing));
     }
 
+    @Override
+    public List<EdgeEntity> edges(Iterable<? extends EdgeDefinition<?, ?>> definitions) {
+        requireNonNull(definitions, "definitions is required");
+        int batchSize = edgeBatchSize();
+        List<EdgeEntity> entities = new ArrayList<>();
+        List<EdgeDefinition<?, ?>> chunk = new ArrayList<>(batchSize);
+        for (EdgeDefinition<?, ?> definition : definitions) {
+            chunk.add(requireNonNull(definition, "definition is required"));
+            if (chunk.size() == batchSize) {
+                entities.addAll(edgesChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            entities.addAll(edgesChunk(chunk));
+        }
+        return entities;
+    }
+
+    @Override
+    public GraphUnitOfWork unitOfWork() {
+        return new DefaultGraphUnitOfWork(converter(), entities(), eventManager(), traversal(), graph(),
+                this::invalidate);
+    }
+
     @Override
     public <K> Collection<EdgeEntity> edgesById(K id, Direction direction, String... labels) {
         requireNonNull(id, "id is required");
@@ -279,6 +313,125 @@ abstract class AbstractGraphTemplate extends AbstractSemistructuredTemplate impl
         return edge;
     }
 
+    private List<EdgeEntity> edgesChunk(List<EdgeDefinition<?, ?>> definitions) {
+        int size = definitions.size();
+        Object[] outgoingIds = new Object[size];
+        Object[] incomingIds = new Object[size];
+        Set<Object> ids = new LinkedHashSet<>();
+        for (int index = 0; index < size; index++) {
+            EdgeDefinition<?, ?> definition = definitions.get(index);
+            outgoingIds[index] = requiredId(definition.outgoing(), "outgoing Id field is required");
+            incomingIds[index] = requiredId(definition.incoming(), "incoming Id field is required");
+            ids.add(outgoingIds[index]);
+            ids.add(incomingIds[index]);
+        }
+
+        Map<Object, Vertex> vertices = verticesById(traversal(), graph(), ids);
+        Vertex[] outVertices = new Vertex[size];
+        Vertex[] inVertices = new Vertex[size];
+        for (int index = 0; index < size; index++) {
+            outVertices[index] = vertices.get(outgoingIds[index]);
+            inVertices[index] = vertices.get(incomingIds[index]);
+            if (outVertices[index] == null) {
+                throw new EmptyResultException("Outgoing entity does not found");
+            }
+            if (inVertices[index] == null) {
+                throw new EmptyResultException("Incoming entity does not found");
+            }
+        }
+
+        List<String> labels = definitions.stream().<String>map(EdgeDefinition::label).toList();
+        Map<EdgeKey, Edge> edges = existingEdges(traversal(), labels, outVertices, inVertices);
+        List<EdgeEntity> entities = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            EdgeDefinition<?, ?> definition = definitions.get(index);
+            Edge edge = edge(edges, definition, outVertices[index], inVertices[index]);
+            entities.add(new DefaultEdgeEntity<>(edge, definition.incoming(), definition.outgoing()));
+        }
+        GraphTransactionUtil.transaction(graph());
+        return entities;
+    }
+
+    /**
+     * Either finds the edge of the definition at the existing edges or creates it, then merges the properties: an
+     * edge that already exists keeps the values it has and receives only the properties it does not have yet.
+     */
+    static Edge edge(Map<EdgeKey, Edge> existing, EdgeDefinition<?, ?> definition, Vertex outVertex,
+                     Vertex inVertex) {
+        Edge edge = existing.computeIfAbsent(new EdgeKey(outVertex.id(), definition.label(), inVertex.id()),
+                k -> outVertex.addEdge(definition.label(), inVertex));
+        definition.properties().forEach((key, value) -> {
+            if (!edge.property(key).isPresent()) {
+                edge.property(key, value);
+            }
+        });
+        return edge;
+    }
+
+    /**
+     * Finds, with a single traversal, the edges that already exist between each pair of vertices with the label
+     * at the same position.
+     */
+    static Map<EdgeKey, Edge> existingEdges(GraphTraversalSource traversal, List<String> edgeLabels,
+                                            Vertex[] outVertices, Vertex[] inVertices) {
+        Set<EdgeKey> keys = new LinkedHashSet<>();
+        Set<Object> outIds = new LinkedHashSet<>();
+        Set<Object> inIds = new LinkedHashSet<>();
+        Set<String> labels = new LinkedHashSet<>();
+        for (int index = 0; index < outVertices.length; index++) {
+            String label = edgeLabels.get(index);
+            keys.add(new EdgeKey(outVertices[index].id(), label, inVertices[index].id()));
+            outIds.add(outVertices[index].id());
+            inIds.add(inVertices[index].id());
+            labels.add(label);
+        }
+        Map<EdgeKey, Edge> edges = new HashMap<>();
+        traversal.V(outIds.toArray())
+                .outE(labels.toArray(String[]::new))
+                .where(__.inV().hasId(P.within(inIds)))
+                .forEachRemaining(e -> {
+                    EdgeKey key = new EdgeKey(e.outVertex().id(), e.label(), e.inVertex().id());
+                    if (keys.contains(key)) {
+                        edges.putIfAbsent(key, e);
+                    }
+                });
+        return edges;
+    }
+
+    /**
+     * Finds the vertices by id with a single traversal, falling back to {@link Graph#vertices(Object...)} for the ids
+     * whose type differs from the vertex id type.
+     */
+    static Map<Object, Vertex> verticesById(GraphTraversalSource traversal, Graph graph, Set<Object> ids) {
+        Map<Object, Vertex> vertices = new HashMap<>();
+        traversal.V(ids.toArray()).forEachRemaining(v -> vertices.put(v.id(), v));
+        for (Object vertexId : ids) {
+            if (!vertices.containsKey(vertexId)) {
+                Iterator<Vertex> iterator = graph.vertices(vertexId);
+                if (iterator.hasNext()) {
+                    vertices.put(vertexId, iterator.next());
+                }
+            }
+        }
+        return vertices;
+    }
+
+    private <T> Object requiredId(T entity, String message) {
+        EntityMetadata entityMetadata = entities().get(entity.getClass());
+        FieldMetadata field = entityMetadata.id().orElseThrow(() -> IdNotFoundException.newInstance(entity.getClass()));
+        Object value = field.read(entity);
+        if (isNull(value)) {
+            throw new IllegalStateException(message);
+        }
+        return value;
+    }
+
+    private int edgeBatchSize() {
+        return MicroProfileSettings.INSTANCE.get(GRAPH_EDGE_BATCH_SIZE, Integer.class)
+                .filter(size -> size > 0)
+                .orElse(DEFAULT_EDGE_BATCH_SIZE);
+    }
+
     private void checkLabelsSupplier(Supplier<String>[] labels) {
         if (Stream.of(labels).anyMatch(Objects::isNull)) {
             throw new IllegalStateException("Item cannot be null");
@@ -322,4 +475,7 @@ abstract class AbstractGraphTemplate extends AbstractSemistructuredTemplate impl
         return gremlinExecutor;
     }
 
+    record EdgeKey(Object outgoing, String label, Object incoming) {
+    }
+
 }
@@ -0,0 +1,287 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import jakarta.data.exceptions.EmptyResultException;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.communication.graph.GraphTransactionUtil;
+import org.eclipse.jnosql.communication.graph.GraphVertexUtil;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+import org.eclipse.jnosql.mapping.semistructured.EventPersistManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@link GraphUnitOfWork} of the {@link AbstractGraphTemplate}, it writes the vertices and edges straight at the
+ * {@link Graph}, the same way as {@link org.eclipse.jnosql.communication.graph.DefaultGraphDatabaseManager}, and keeps
+ * an identity map from each buffered entity to its vertex.
+ */
+final class DefaultGraphUnitOfWork implements GraphUnitOfWork {
+
+    private final EntityConverter converter;
+
+    private final EntitiesMetadata entities;
+
+    private final EventPersistManager eventManager;
+
+    private final GraphTraversalSource traversal;
+
+    private final Graph graph;
+
+    private final Consumer<String> invalidate;
+
+    private final Set<Object> buffered = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final List<Object> inserts = new ArrayList<>();
+
+    private final List<Object> updates = new ArrayList<>();
+
+    private final List<EdgeDefinition<?, ?>> edges = new ArrayList<>();
+
+    private boolean closed;
+
+    DefaultGraphUnitOfWork(EntityConverter converter, EntitiesMetadata entities, EventPersistManager eventManager,
+                           GraphTraversalSource traversal, Graph graph, Consumer<String> invalidate) {
+        this.converter = converter;
+        this.entities = entities;
+        this.eventManager = eventManager;
+        this.traversal = traversal;
+        this.graph = graph;
+        this.invalidate = invalidate;
+    }
+
+    @Override
+    public <T> T insert(T entity) {
+        requireNonNull(entity, "entity is required");
+        checkOpen();
+        if (buffered.add(entity)) {
+            inserts.add(entity);
+        }
+        return entity;
+    }
+
+    @Override
+    public <T> T update(T entity) {
+        requireNonNull(entity, "entity is required");
+        checkOpen();
+        if (buffered.add(entity)) {
+            updates.add(entity);
+        }
+        return entity;
+    }
+
+    @Override
+    public void edge(EdgeDefinition<?, ?> definition) {
+        requireNonNull(definition, "definition is required");
+        checkOpen();
+        edges.add(definition);
+    }
+
+    @Override
+    public int size() {
+        return inserts.size() + updates.size() + edges.size();
+    }
+
+    @Override
+    public List<EdgeEntity> commit() {
+        checkOpen();
+        if (size() == 0) {
+            return Collections.emptyList();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        Transaction transaction = isTransactional() ? graph.tx() : null;
+        if (transaction != null) {
+            GraphTransactionUtil.lock(transaction);
+            if (!transaction.isOpen()) {
+                transaction.open();
+            }
+        }
+        try {
+            List<EdgeEntity> result = flush(names);
+            if (transaction != null) {
+                transaction.commit();
+            }
+            return result;
+        } catch (RuntimeException exception) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw exception;
+        } finally {
+            if (transaction != null) {
+                GraphTransactionUtil.unlock();
+            }
+            names.forEach(invalidate);
+            rollback();
+        }
+    }
+
+    @Override
+    public void rollback() {
+        buffered.clear();
+        inserts.clear();
+        updates.clear();
+        edges.clear();
+    }
+
+    @Override
+    public void close() {
+        rollback();
+        closed = true;
+    }
+
+    private List<EdgeEntity> flush(Set<String> names) {
+        inserts.forEach(eventManager::firePreEntity);
+        updates.forEach(eventManager::firePreEntity);
+        Map<Object, Vertex> identity = new IdentityHashMap<>();
+        Map<Object, Vertex> vertices = new HashMap<>();
+
+        for (Object entity : inserts) {
+            CommunicationEntity communication = converter.toCommunication(entity);
+            Vertex vertex = GraphVertexUtil.insert(graph, communication);
+            converter.toEntity(entity, communication);
+            identity.put(entity, vertex);
+            vertices.put(vertex.id(), vertex);
+            names.add(communication.name());
+        }
+
+        List<CommunicationEntity> communications = new ArrayList<>(updates.size());
+        Set<Object> ids = new LinkedHashSet<>();
+        for (Object entity : updates) {
+            CommunicationEntity communication = converter.toCommunication(entity);
+            communications.add(communication);
+            Object id = GraphVertexUtil.id(communication);
+            if (!vertices.containsKey(id)) {
+                ids.add(id);
+            }
+            names.add(communication.name());
+        }
+        load(vertices, ids);
+        for (int index = 0; index < communications.size(); index++) {
+            CommunicationEntity communication = communications.get(index);
+            Object entity = updates.get(index);
+            Object id = GraphVertexUtil.id(communication);
+            Vertex vertex = vertices.get(id);
+            if (vertex == null) {
+                throw new EmptyResultException("The entity does not exist with the id: " + id);
+            }
+            GraphVertexUtil.update(vertex, communication);
+            identity.put(entity, vertex);
+            converter.toEntity(entity, communication);
+        }
+
+        List<EdgeEntity> result = edges(identity, vertices);
+        inserts.forEach(eventManager::firePostEntity);
+        updates.forEach(eventManager::firePostEntity);
+        return result;
+    }
+
+    private List<EdgeEntity> edges(Map<Object, Vertex> identity, Map<Object, Vertex> vertices) {
+        int size = edges.size();
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        Object[] outgoingIds = new Object[size];
+        Object[] incomingIds = new Object[size];
+        Set<Object> ids = new LinkedHashSet<>();
+        for (int index = 0; index < size; index++) {
+            EdgeDefinition<?, ?> definition = edges.get(index);
+            outgoingIds[index] = vertexId(identity, definition.outgoing(), "outgoing Id field is required");
+            incomingIds[index] = vertexId(identity, definition.incoming(), "incoming Id field is required");
+            if (!vertices.containsKey(outgoingIds[index])) {
+                ids.add(outgoingIds[index]);
+            }
+            if (!vertices.containsKey(incomingIds[index])) {
+                ids.add(incomingIds[index]);
+            }
+        }
+        load(vertices, ids);
+
+        Vertex[] outVertices = new Vertex[size];
+        Vertex[] inVertices = new Vertex[size];
+        List<String> labels = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            outVertices[index] = vertices.get(outgoingIds[index]);
+            inVertices[index] = vertices.get(incomingIds[index]);
+            if (outVertices[index] == null) {
+                throw new EmptyResultException("Outgoing entity does not found");
+            }
+            if (inVertices[index] == null) {
+                throw new EmptyResultException("Incoming entity does not found");
+            }
+            labels.add(edges.get(index).label());
+        }
+
+        Map<AbstractGraphTemplate.EdgeKey, Edge> existing = AbstractGraphTemplate.existingEdges(traversal, labels,
+                outVertices, inVertices);
+        List<EdgeEntity> result = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            EdgeDefinition<?, ?> definition = edges.get(index);
+            Edge edge = AbstractGraphTemplate.edge(existing, definition, outVertices[index], inVertices[index]);
+            result.add(new DefaultEdgeEntity<>(edge, definition.incoming(), definition.outgoing()));
+        }
+        return result;
+    }
+
+    private Object vertexId(Map<Object, Vertex> identity, Object entity, String message) {
+        Vertex vertex = identity.get(entity);
+        if (vertex != null) {
+            return vertex.id();
+        }
+        FieldMetadata field = entities.get(entity.getClass()).id()
+                .orElseThrow(() -> IdNotFoundException.newInstance(entity.getClass()));
+        Object value = field.read(entity);
+        if (isNull(value)) {
+            throw new IllegalStateException(message);
+        }
+        return value;
+    }
+
+    private void load(Map<Object, Vertex> vertices, Set<Object> ids) {
+        if (!ids.isEmpty()) {
+            vertices.putAll(AbstractGraphTemplate.verticesById(traversal, graph, ids));
+        }
+    }
+
+    private boolean isTransactional() {
+        return graph.features().graph().supportsTransactions() && GraphTransactionUtil.isAutomatic()
+                && !GraphTransactionUtil.isLocked();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The unit of work is closed");
+        }
+    }
+}
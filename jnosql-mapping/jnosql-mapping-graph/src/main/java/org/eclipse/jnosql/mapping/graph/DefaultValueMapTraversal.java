@@ -18,12 +18,15 @@ import jakarta.data.exceptions.NonUniqueResultException;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
@@ -34,6 +37,8 @@ import static java.util.stream.Collectors.toList;
  */
 class DefaultValueMapTraversal implements ValueMapTraversal {
 
+    private static final Logger LOGGER = Logger.getLogger(DefaultValueMapTraversal.class.getName());
+
     private final Supplier<GraphTraversal<?, ?>> supplier;
     private final Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Map<Object, Object>>> flow;
 
@@ -46,35 +51,45 @@ class DefaultValueMapTraversal implements ValueMapTraversal {
 
     @Override
     public Stream<Map<String, Object>> stream() {
-        return flow.apply(supplier.get()).toList().stream().map(toMap());
+        return traversal().map(DefaultValueMapTraversal::toMap);
     }
 
+    @Override
+    public <T> Stream<T> stream(Class<T> type) {
+        Function<Map<?, ?>, T> projection = ValueMapProjection.of(type);
+        return traversal().map(projection);
+    }
 
     @Override
     public Stream<Map<String, Object>> next(int limit) {
-        return flow.apply(supplier.get()).next(limit).stream().map(toMap());
+        return flow.apply(supplier.get()).next(limit).stream().map(DefaultValueMapTraversal::toMap);
     }
 
     @Override
     public Map<String, Object> next() {
-        return flow.apply(supplier.get()).tryNext().map(toMap()).orElse(emptyMap());
+        return flow.apply(supplier.get()).tryNext().map(DefaultValueMapTraversal::toMap).orElse(emptyMap());
     }
 
     @Override
     public Optional<Map<String, Object>> singleResult() {
-        List<Map<String, Object>> result = resultList();
-        if (result.isEmpty()) {
-            return Optional.empty();
+        try (Stream<Map<String, Object>> stream = stream()) {
+            Iterator<Map<String, Object>> iterator = stream.iterator();
+            if (!iterator.hasNext()) {
+                return Optional.empty();
+            }
+            Map<String, Object> result = iterator.next();
+            if (iterator.hasNext()) {
+                throw new NonUniqueResultException("The Edge traversal query returns more than one result");
+            }
+            return Optional.of(result);
         }
-        if (result.size() == 1) {
-            return Optional.of(result.get(0));
-        }
-        throw new NonUniqueResultException("The Edge traversal query returns more than one result");
     }
 
     @Override
     public List<Map<String, Object>> resultList() {
-        return stream().collect(toList());
+        try (Stream<Map<String, Object>> stream = stream()) {
+            return stream.collect(toList());
+        }
     }
 
     @Override
@@ -82,10 +97,28 @@ class DefaultValueMapTraversal implements ValueMapTraversal {
         return flow.apply(supplier.get()).count().tryNext().orElse(0L);
     }
 
-    private Function<Map<?, ?>, Map<String, Object>> toMap() {
-        return map -> map
-                .entrySet()
-                .stream()
-                .collect(Collectors.toMap(k -> k.getKey().toString(), Map.Entry::getValue));
+    /**
+     * The stream reads the traversal on demand, and closing the stream closes the traversal.
+     */
+    private Stream<Map<Object, Object>> traversal() {
+        GraphTraversal<Vertex, Map<Object, Object>> traversal = flow.apply(supplier.get());
+        return traversal.toStream().onClose(() -> close(traversal));
+    }
+
+    private static void close(GraphTraversal<?, ?> traversal) {
+        try {
+            traversal.close();
+        } catch (Exception exception) {
+            LOGGER.log(Level.FINEST, "There is an issue to close the traversal", exception);
+        }
+    }
+
+    private static Map<String, Object> toMap(Map<?, ?> map) {
+        Map<String, Object> result = new HashMap<>((int) (map.size() / 0.75f) + 1);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object key = entry.getKey();
+            result.put(key instanceof String text ? text : key.toString(), entry.getValue());
+        }
+        return result;
     }
 }
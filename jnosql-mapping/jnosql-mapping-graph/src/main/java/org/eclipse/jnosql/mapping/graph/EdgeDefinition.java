@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Describes an Edge to be either found or created between two entities in a bulk operation,
+ * {@link GraphTemplate#edges(Iterable)}.
+ *
+ * <pre>outgoing ---label---&#62; incoming.</pre>
+ *
+ * @param outgoing   the outgoing entity
+ * @param label      the Edge label
+ * @param incoming   the incoming entity
+ * @param properties the properties to be set at the Edge, an existing Edge keeps the values it already has
+ * @param <O>        the outgoing type
+ * @param <I>        the incoming type
+ */
+public record EdgeDefinition<O, I>(O outgoing, String label, I incoming, Map<String, Object> properties) {
+
+    /**
+     * Creates an {@link EdgeDefinition} instance
+     *
+     * @throws NullPointerException when any parameter is null
+     */
+    public EdgeDefinition {
+        Objects.requireNonNull(outgoing, "outgoing is required");
+        Objects.requireNonNull(label, "label is required");
+        Objects.requireNonNull(incoming, "incoming is required");
+        Objects.requireNonNull(properties, "properties is required");
+        properties = Collections.unmodifiableMap(properties);
+    }
+
+    /**
+     * Creates an {@link EdgeDefinition} without properties
+     *
+     * @param outgoing the outgoing entity
+     * @param label    the Edge label
+     * @param incoming the incoming entity
+     * @param <O>      the outgoing type
+     * @param <I>      the incoming type
+     * @return an {@link EdgeDefinition} instance
+     * @throws NullPointerException when any parameter is null
+     */
+    public static <O, I> EdgeDefinition<O, I> of(O outgoing, String label, I incoming) {
+        return new EdgeDefinition<>(outgoing, label, incoming, Collections.emptyMap());
+    }
+
+    /**
+     * Creates an {@link EdgeDefinition} with properties
+     *
+     * @param outgoing   the outgoing entity
+     * @param label      the Edge label
+     * @param incoming   the incoming entity
+     * @param properties the properties to be set at the Edge
+     * @param <O>        the outgoing type
+     * @param <I>        the incoming type
+     * @return an {@link EdgeDefinition} instance
+     * @throws NullPointerException when any parameter is null
+     */
+    public static <O, I> EdgeDefinition<O, I> of(O outgoing, String label, I incoming, Map<String, Object> properties) {
+        return new EdgeDefinition<>(outgoing, label, incoming, properties);
+    }
+}
@@ -97,6 +97,35 @@ public interface GraphTemplate extends SemistructuredTemplate {
         return edge(outgoing, label.get(), incoming);
     }
 
+    /**
+     * Either find or create the Edges described by the {@link EdgeDefinition} instances in bulk.
+     * The definitions are written in chunks, defined by
+     * {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#GRAPH_EDGE_BATCH_SIZE}: in each chunk, the
+     * vertices are resolved by batched id lookups and the existing edges are checked with a single traversal.
+     * A created Edge receives the properties of its definition; an Edge that already exists keeps its values and
+     * receives only the properties it does not have yet.
+     * <p>
+     * Each chunk is committed on its own. The vertices of a chunk are checked before any of its edges is written, so
+     * a chunk that fails writes nothing, but the chunks before it stay committed. Use {@link #unitOfWork()} to write
+     * all the edges in a single transaction.
+     * </p>
+     *
+     * @param definitions the edges to either find or create
+     * @return the {@link EdgeEntity} instances in the same order of the definitions
+     * @throws NullPointerException                           when definitions is null
+     * @throws IllegalStateException                          when either the incoming or outgoing entity has no id
+     * @throws jakarta.data.exceptions.EmptyResultException when either the incoming or outgoing entity does not exist
+     */
+    List<EdgeEntity> edges(Iterable<? extends EdgeDefinition<?, ?>> definitions);
+
+    /**
+     * Creates a {@link GraphUnitOfWork} that buffers inserts, updates and edges and writes them together at commit,
+     * e.g.: to ingest a subgraph in a single transaction.
+     *
+     * @return a new {@link GraphUnitOfWork} instance
+     */
+    GraphUnitOfWork unitOfWork();
+
     /**
      * Find an entity given {@link org.apache.tinkerpop.gremlin.structure.T#label} and
      * {@link org.apache.tinkerpop.gremlin.structure.T#id}
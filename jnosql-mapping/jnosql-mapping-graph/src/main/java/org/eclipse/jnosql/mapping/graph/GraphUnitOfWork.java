@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import java.util.List;
+
+/**
+ * A unit of work of the {@link GraphTemplate}: it buffers inserts, updates and edges and writes them at
+ * {@link #commit()}, in dependency order: the inserted vertices, the updated vertices and then the edges. Within a
+ * unit, an entity is written once, with its state at commit, whatever the number of times it is inserted or
+ * updated; each vertex is looked up once, and the updated vertices and the edge vertices are looked up in batches.
+ * An edge can refer to an entity inserted in the same unit, before it has an id.
+ *
+ * <pre>{@code
+ * try (GraphUnitOfWork unit = template.unitOfWork()) {
+ *     Person poliana = unit.insert(new Person("Poliana"));
+ *     Book book = unit.insert(new Book("Effective Java"));
+ *     unit.edge(poliana, "reads", book);
+ *     unit.commit();
+ * }
+ * }</pre>
+ *
+ * <p>The commit runs in a single graph transaction when the graph supports transactions, the
+ * {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#GRAPH_TRANSACTION_AUTOMATIC} is active and
+ * there is no transaction from {@link Transactional}; otherwise, the caller's transaction commits the changes.
+ * A unit of work is not thread-safe.</p>
+ */
+public interface GraphUnitOfWork extends AutoCloseable {
+
+    /**
+     * Buffers the insert of the entity as a new vertex. The id is set at the entity at {@link #commit()}.
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the same entity
+     * @throws NullPointerException  when entity is null
+     * @throws IllegalStateException when the unit of work is closed
+     */
+    <T> T insert(T entity);
+
+    /**
+     * Buffers the update of the vertex of the entity.
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the same entity
+     * @throws NullPointerException  when entity is null
+     * @throws IllegalStateException when the unit of work is closed
+     */
+    <T> T update(T entity);
+
+    /**
+     * Buffers an edge to be either found or created, see {@link GraphTemplate#edge(Object, String, Object)}.
+     *
+     * @param outgoing the outgoing entity
+     * @param label    the Edge label
+     * @param incoming the incoming entity
+     * @param <O>      the outgoing type
+     * @param <I>      the incoming type
+     * @throws NullPointerException  when any parameter is null
+     * @throws IllegalStateException when the unit of work is closed
+     */
+    default <O, I> void edge(O outgoing, String label, I incoming) {
+        edge(EdgeDefinition.of(outgoing, label, incoming));
+    }
+
+    /**
+     * Buffers an edge to be either found or created, with the properties of the definition.
+     *
+     * @param definition the edge definition
+     * @throws NullPointerException  when definition is null
+     * @throws IllegalStateException when the unit of work is closed
+     */
+    void edge(EdgeDefinition<?, ?> definition);
+
+    /**
+     * Returns the number of buffered operations.
+     *
+     * @return the number of inserts, updates and edges not written yet
+     */
+    int size();
+
+    /**
+     * Writes the buffered operations and clears the buffer, so the unit of work can be reused.
+     *
+     * @return the {@link EdgeEntity} instances in the order the edges were buffered
+     * @throws IllegalStateException                        when the unit of work is closed, or when either the
+     *                                                      incoming or outgoing entity of an edge has no id
+     * @throws jakarta.data.exceptions.EmptyResultException when a vertex to update or to connect does not exist
+     */
+    List<EdgeEntity> commit();
+
+    /**
+     * Discards the buffered operations.
+     */
+    void rollback();
+
+    /**
+     * Discards the buffered operations that were not committed and closes the unit of work.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,204 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.eclipse.jnosql.communication.Value;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Projects the maps from {@link ValueMapTraversal} into either a record, an interface or a {@link Map}. A record
+ * component, or an interface accessor, reads the key of the same name; a {@link Map} keeps all the keys.
+ * The type is inspected once, so each map costs only the value conversion and the instance creation.
+ */
+final class ValueMapProjection {
+
+    private ValueMapProjection() {
+    }
+
+    /**
+     * Creates the projection to the type
+     *
+     * @param type either a record, an interface or {@link Map}
+     * @param <T>  the type
+     * @return the projection
+     * @throws NullPointerException     when type is null
+     * @throws IllegalArgumentException when type is neither a record, an interface nor {@link Map}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Function<Map<?, ?>, T> of(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        if (Map.class.equals(type)) {
+            return map -> (T) toMap(map);
+        }
+        if (type.isRecord()) {
+            return new RecordProjection<>(type);
+        }
+        if (type.isInterface()) {
+            return new InterfaceProjection<>(type);
+        }
+        throw new IllegalArgumentException("The type " + type.getName() + " must be either a record, an interface or Map");
+    }
+
+    /**
+     * A read-only {@link Map} where a list with a single value, because of the vertex property cardinality, is
+     * unwrapped to the value; a list with more values is kept.
+     */
+    private static Map<String, Object> toMap(Map<?, ?> map) {
+        Map<String, Object> result = new HashMap<>((int) (map.size() / 0.75f) + 1);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object key = entry.getKey();
+            Object value = entry.getValue();
+            result.put(key instanceof String text ? text : key.toString(),
+                    value instanceof List<?> list && list.size() == 1 ? list.get(0) : value);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * A vertex property comes as a list because of its cardinality, so a single value is unwrapped unless the
+     * type is a collection. A missing key becomes null, or the default value to a primitive type.
+     */
+    private static Object convert(Object value, Class<?> type) {
+        Object element = value;
+        if (element instanceof List<?> list && !type.isAssignableFrom(List.class)) {
+            element = list.isEmpty() ? null : list.get(0);
+        }
+        if (element == null) {
+            return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+        }
+        Class<?> wrapper = MethodType.methodType(type).wrap().returnType();
+        if (wrapper.isInstance(element)) {
+            return element;
+        }
+        return Value.of(element).get(wrapper);
+    }
+
+    private static final class RecordProjection<T> implements Function<Map<?, ?>, T> {
+
+        private final Class<T> type;
+
+        private final Constructor<T> constructor;
+
+        private final String[] names;
+
+        private final Class<?>[] types;
+
+        private RecordProjection(Class<T> type) {
+            this.type = type;
+            RecordComponent[] components = type.getRecordComponents();
+            this.names = Arrays.stream(components).map(RecordComponent::getName).toArray(String[]::new);
+            this.types = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+            try {
+                this.constructor = type.getDeclaredConstructor(types);
+                this.constructor.setAccessible(true);
+            } catch (NoSuchMethodException exception) {
+                throw new IllegalArgumentException("The record " + type.getName() + " does not have a canonical constructor", exception);
+            }
+        }
+
+        @Override
+        public T apply(Map<?, ?> map) {
+            Object[] values = new Object[names.length];
+            for (int index = 0; index < names.length; index++) {
+                values[index] = convert(map.get(names[index]), types[index]);
+            }
+            try {
+                return constructor.newInstance(values);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException exception) {
+                throw new IllegalStateException("There is an issue to create the record " + type.getName(), exception);
+            }
+        }
+    }
+
+    /**
+     * Each abstract method without parameters reads a key: either the method name, e.g.: name(), or the property
+     * of a getter, e.g.: getName() or isActive(). The values are converted when the proxy is created, so the
+     * projection does not keep the map.
+     */
+    private static final class InterfaceProjection<T> implements Function<Map<?, ?>, T> {
+
+        private final Class<T> type;
+
+        private final Map<Method, String> keys = new HashMap<>();
+
+        private InterfaceProjection(Class<T> type) {
+            this.type = type;
+            for (Method method : type.getMethods()) {
+                if (!Modifier.isAbstract(method.getModifiers())) {
+                    continue;
+                }
+                if (method.getParameterCount() > 0 || void.class.equals(method.getReturnType())) {
+                    throw new IllegalArgumentException("The interface " + type.getName() + " must have only accessors," +
+                            " the method " + method.getName() + " is not");
+                }
+                keys.put(method, key(method));
+            }
+        }
+
+        @Override
+        public T apply(Map<?, ?> map) {
+            Map<Method, Object> values = new HashMap<>((int) (keys.size() / 0.75f) + 1);
+            keys.forEach((method, key) -> values.put(method, convert(map.get(key), method.getReturnType())));
+            InvocationHandler handler = (proxy, method, args) -> {
+                if (values.containsKey(method)) {
+                    return values.get(method);
+                }
+                if (method.isDefault()) {
+                    return InvocationHandler.invokeDefault(proxy, method, args);
+                }
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> type.getSimpleName() + toString(values);
+                    default -> throw new UnsupportedOperationException("The method " + method.getName()
+                            + " is not supported at the projection " + type.getName());
+                };
+            };
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+
+        private String toString(Map<Method, Object> values) {
+            Map<String, Object> properties = new TreeMap<>();
+            values.forEach((method, value) -> properties.put(keys.get(method), value));
+            return properties.toString();
+        }
+
+        private static String key(Method method) {
+            String name = method.getName();
+            int prefix = name.startsWith("get") ? 3 : name.startsWith("is") ? 2 : 0;
+            if (prefix == 0 || name.length() == prefix || !Character.isUpperCase(name.charAt(prefix))) {
+                return name;
+            }
+            return Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1);
+        }
+    }
+}
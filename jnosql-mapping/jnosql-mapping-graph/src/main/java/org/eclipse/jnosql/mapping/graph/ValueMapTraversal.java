@@ -27,12 +27,40 @@ public interface ValueMapTraversal {
 
 
     /**
-     * Get all the result in the traversal as Stream
+     * Get all the result in the traversal as Stream.
+     * The stream reads the traversal on demand, thus it should be closed to release the traversal.
      *
      * @return the entity result as {@link Stream}
      */
     Stream<Map<String, Object>> stream();
 
+    /**
+     * Get all the result in the traversal as Stream, where each map is projected into the type, either a record, an
+     * interface or {@link Map}.
+     * Each record component, or interface accessor, reads the key of the same name, the accessor either without
+     * or with the get and is prefixes, e.g.: name() or getName(): a single value list is unwrapped unless the type
+     * is a collection, and a missing key becomes either null or the primitive default value. A {@link Map} keeps all
+     * the keys, and unwraps each single value list.
+     * The stream reads the traversal on demand, thus it should be closed to release the traversal.
+     *
+     * <pre>{@code
+     * record PersonName(String name, int age) {}
+     *
+     * try (Stream<PersonName> names = template.traversalVertex().hasLabel("Person")
+     *         .valueMap("name", "age").stream(PersonName.class)) {
+     *     names.forEach(writer::write);
+     * }
+     * }</pre>
+     *
+     * @param type either a record, an interface or {@link Map}
+     * @param <T>  the projection type
+     * @return the projections as {@link Stream}
+     * @throws NullPointerException     when type is null
+     * @throws IllegalArgumentException when type is neither a record, an interface with only accessors nor
+     *                                  {@link Map}
+     */
+    <T> Stream<T> stream(Class<T> type);
+
     /**
      * Get the next n-number of results from the traversal.
      *
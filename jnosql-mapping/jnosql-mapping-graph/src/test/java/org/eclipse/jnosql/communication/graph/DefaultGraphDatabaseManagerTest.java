@@ -279,6 +279,36 @@ class DefaultGraphDatabaseManagerTest {
         Assertions.assertThat(entityManager.select(query).toList()).containsAll(entities);
     }
 
+    @Test
+    void shouldFindDocumentLike() {
+        DeleteQuery deleteQuery = delete().from(COLLECTION_NAME).where("type").eq("V").build();
+        entityManager.delete(deleteQuery);
+        Iterable<CommunicationEntity> entitiesSaved = entityManager.insert(getEntitiesWithValues());
+        List<CommunicationEntity> entities = StreamSupport.stream(entitiesSaved.spliterator(), false).toList();
+
+        SelectQuery query = select().from(COLLECTION_NAME)
+                .where("name").like("Lu%")
+                .and("type").eq("V")
+                .build();
+
+        Assertions.assertThat(entityManager.select(query).toList())
+                .hasSize(2)
+                .contains(entities.get(0), entities.get(2));
+    }
+
+    @Test
+    void shouldFindDocumentLikeWithWildcardsInTheMiddle() {
+        DeleteQuery deleteQuery = delete().from(COLLECTION_NAME).where("type").eq("V").build();
+        entityManager.delete(deleteQuery);
+        entityManager.insert(getEntitiesWithValues());
+
+        SelectQuery contains = select().from(COLLECTION_NAME).where("name").like("%tav%").and("type").eq("V").build();
+        SelectQuery regex = select().from(COLLECTION_NAME).where("name").like("Lu_a").and("type").eq("V").build();
+
+        Assertions.assertThat(entityManager.select(contains).toList()).hasSize(1);
+        Assertions.assertThat(entityManager.select(regex).toList()).hasSize(1);
+    }
+
     @Test
     void shouldFindDocumentBetween() {
         DeleteQuery deleteQuery = delete().from(COLLECTION_NAME).where("type").eq("V").build();
@@ -37,6 +37,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
@@ -545,4 +546,80 @@ public abstract class AbstractGraphTemplateTest {
         assertNull(person.getName());
 
     }
+
+    @Test
+    void shouldCommitUnitOfWork() {
+        try (GraphUnitOfWork unit = getGraphTemplate().unitOfWork()) {
+            Person poliana = unit.insert(Person.builder().withAge().withName("Poliana").build());
+            Book book = unit.insert(Book.builder().withAge(2001).withName("Effective Java").build());
+            unit.edge(poliana, "reads", book);
+            unit.edge(EdgeDefinition.of(poliana, "reads", book, Map.of("where", "Brazil")));
+            assertEquals(4, unit.size());
+
+            List<EdgeEntity> edges = unit.commit();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(unit.size()).isZero();
+                soft.assertThat(book.getId()).isNotNull();
+                soft.assertThat(edges).hasSize(2);
+                soft.assertThat(edges.get(0).id()).isEqualTo(edges.get(1).id());
+                soft.assertThat(edges.get(1).get("where").map(v -> v.get(String.class))).contains("Brazil");
+                soft.assertThat(getGraphTemplate().edges(poliana, Direction.OUT)).hasSize(1);
+            });
+        }
+    }
+
+    @Test
+    void shouldCoalesceUnitOfWorkWrites() {
+        Person person = getGraphTemplate().insert(Person.builder().withAge().withName("Otavio").build());
+        try (GraphUnitOfWork unit = getGraphTemplate().unitOfWork()) {
+            unit.update(person);
+            unit.update(person);
+            Person poliana = Person.builder().withAge().withName("Poliana").build();
+            unit.insert(poliana);
+            unit.insert(poliana);
+            unit.update(poliana);
+            unit.edge(person, "knows", poliana);
+            assertEquals(3, unit.size());
+            unit.commit();
+        }
+        assertEquals(2L, getGraph().traversal().V().count().next());
+        assertEquals(1L, getGraph().traversal().E().count().next());
+    }
+
+    @Test
+    void shouldRollbackUnitOfWork() {
+        try (GraphUnitOfWork unit = getGraphTemplate().unitOfWork()) {
+            unit.insert(Person.builder().withAge().withName("Otavio").build());
+            unit.rollback();
+            assertThat(unit.commit()).isEmpty();
+        }
+        assertEquals(0L, getGraph().traversal().V().count().next());
+    }
+
+    @Test
+    void shouldReturnErrorWhenUnitOfWorkIsClosed() {
+        GraphUnitOfWork unit = getGraphTemplate().unitOfWork();
+        unit.close();
+        assertThrows(IllegalStateException.class, () -> unit.insert(Person.builder().withName("Otavio").build()));
+        assertThrows(IllegalStateException.class, unit::commit);
+    }
+
+    @Test
+    void shouldReturnErrorWhenUnitOfWorkUpdatesMissingVertex() {
+        try (GraphUnitOfWork unit = getGraphTemplate().unitOfWork()) {
+            unit.update(Person.builder().withId(-1L).withName("Otavio").build());
+            assertThrows(EmptyResultException.class, unit::commit);
+            assertEquals(0, unit.size());
+        }
+    }
+
+    @Test
+    void shouldReturnErrorWhenUnitOfWorkUpdatesWithoutId() {
+        try (GraphUnitOfWork unit = getGraphTemplate().unitOfWork()) {
+            unit.update(Person.builder().withName("Otavio").build());
+            assertThrows(EmptyResultException.class, unit::commit);
+        }
+        assertEquals(0L, getGraph().traversal().V().count().next());
+    }
 }
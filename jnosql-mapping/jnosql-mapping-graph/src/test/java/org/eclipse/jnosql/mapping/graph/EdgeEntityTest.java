@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.graph;
 
 import jakarta.data.exceptions.EmptyResultException;
 import jakarta.inject.Inject;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.mapping.core.Converters;
@@ -31,6 +32,8 @@ import org.jboss.weld.junit5.auto.EnableAutoWeld;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -357,4 +360,84 @@ class EdgeEntityTest {
         assertFalse(edgeEntity.isPresent());
     }
 
+    @Test
+    void shouldReturnErrorWhenEdgesDefinitionsIsNull() {
+        assertThrows(NullPointerException.class, () -> graphTemplate.edges(null));
+    }
+
+    @Test
+    void shouldCreateEdgesInBulk() {
+        Person poliana = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        Person nilzete = graphTemplate.insert(Person.builder().withName("Nilzete").withAge().build());
+        Book book = graphTemplate.insert(Book.builder().withAge(2007).withName("The Shack").build());
+
+        List<EdgeEntity> edges = graphTemplate.edges(List.of(EdgeDefinition.of(poliana, "reads", book),
+                EdgeDefinition.of(nilzete, "reads", book, Map.of("where", "Brazil"))));
+
+        assertThat(edges).hasSize(2);
+        EdgeEntity first = edges.get(0);
+        EdgeEntity second = edges.get(1);
+        assertEquals("reads", first.label());
+        assertEquals(poliana, first.outgoing());
+        assertEquals(book, first.incoming());
+        assertTrue(first.isEmpty());
+        assertEquals(nilzete, second.outgoing());
+        assertEquals("Brazil", second.get("where").map(Value::get).orElseThrow());
+        assertNotEquals(first.id(), second.id());
+    }
+
+    @Test
+    void shouldReuseExistingEdgesInBulk() {
+        Person person = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        Book book = graphTemplate.insert(Book.builder().withAge(2007).withName("The Shack").build());
+        EdgeEntity edge = graphTemplate.edge(person, "reads", book);
+
+        List<EdgeEntity> edges = graphTemplate.edges(List.of(EdgeDefinition.of(person, "reads", book),
+                EdgeDefinition.of(person, "reads", book)));
+
+        assertThat(edges).hasSize(2).allMatch(e -> edge.id().equals(e.id()));
+    }
+
+    @Test
+    void shouldMergeMissingPropertiesOfExistingEdgesInBulk() {
+        Person person = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        Book book = graphTemplate.insert(Book.builder().withAge(2007).withName("The Shack").build());
+        EdgeEntity edge = graphTemplate.edge(person, "reads", book);
+        edge.add("where", "Brazil");
+
+        List<EdgeEntity> edges = graphTemplate.edges(List.of(EdgeDefinition.of(person, "reads", book,
+                Map.of("where", "Portugal", "when", "2024"))));
+
+        assertThat(edges).hasSize(1);
+        assertEquals(edge.id(), edges.get(0).id());
+        assertEquals("Brazil", edges.get(0).get("where").map(Value::get).orElseThrow());
+        assertEquals("2024", edges.get(0).get("when").map(Value::get).orElseThrow());
+    }
+
+    @Test
+    void shouldWriteEdgesInBulkEagerly() {
+        Person person = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        Book book = graphTemplate.insert(Book.builder().withAge(2007).withName("The Shack").build());
+
+        graphTemplate.edges(List.of(EdgeDefinition.of(person, "reads", book)));
+
+        assertThat(graphTemplate.edges(person, Direction.OUT)).hasSize(1);
+    }
+
+    @Test
+    void shouldReturnErrorWhenEdgesEntityDoesNotExist() {
+        Person person = Person.builder().withId(-10L).withName("Poliana").withAge().build();
+        Book book = graphTemplate.insert(Book.builder().withAge(2007).withName("The Shack").build());
+        assertThrows(EmptyResultException.class,
+                () -> graphTemplate.edges(List.of(EdgeDefinition.of(person, "reads", book)));
+    }
+
+    @Test
+    void shouldReturnErrorWhenEdgesEntityIdIsNull() {
+        Person person = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        Book book = Book.builder().withAge(2007).withName("The Shack").build();
+        assertThrows(IllegalStateException.class,
+                () -> graphTemplate.edges(List.of(EdgeDefinition.of(person, "reads", book)));
+    }
+
 }
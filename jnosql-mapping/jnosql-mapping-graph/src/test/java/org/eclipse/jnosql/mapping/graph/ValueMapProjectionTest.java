@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.graph.entities.Person;
+import org.eclipse.jnosql.mapping.graph.spi.GraphExtension;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class, GraphTemplate.class})
+@AddPackages(GraphProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class, GraphExtension.class})
+class ValueMapProjectionTest extends AbstractTraversalTest {
+
+    @Test
+    void shouldReturnErrorWhenProjectionIsNotSupported() {
+        ValueMapTraversal traversal = graphTemplate.traversalVertex().hasLabel(Person.class).valueMap("name");
+        assertThrows(NullPointerException.class, () -> traversal.stream(null));
+        assertThrows(IllegalArgumentException.class, () -> traversal.stream(String.class));
+        assertThrows(IllegalArgumentException.class, () -> traversal.stream(Runnable.class));
+    }
+
+    @Test
+    void shouldProjectToRecord() {
+        try (Stream<PersonName> stream = graphTemplate.traversalVertex()
+                .hasLabel(Person.class).valueMap("name", "age")
+                .stream(PersonName.class)) {
+            assertThat(stream.toList()).containsExactlyInAnyOrder(new PersonName("Otavio", 27),
+                    new PersonName("Poliana", 26), new PersonName("Paulo", 50));
+        }
+    }
+
+    @Test
+    void shouldProjectMissingKeyToRecord() {
+        try (Stream<PersonPhones> stream = graphTemplate.traversalVertex()
+                .hasLabel(Person.class).has("name", "Otavio").valueMap("name")
+                .stream(PersonPhones.class)) {
+            assertThat(stream.toList()).containsExactly(new PersonPhones(List.of("Otavio"), 0L, null));
+        }
+    }
+
+    @Test
+    void shouldProjectEdgeToRecord() {
+        try (Stream<Reads> stream = graphTemplate.traversalEdge()
+                .has("language").valueMap("motivation", "language")
+                .stream(Reads.class)) {
+            assertThat(stream.toList()).containsExactly(new Reads("hobby", "Java"));
+        }
+    }
+
+    @Test
+    void shouldProjectToInterface() {
+        try (Stream<PersonView> stream = graphTemplate.traversalVertex()
+                .hasLabel(Person.class).has("name", "Otavio").valueMap("name", "age")
+                .stream(PersonView.class)) {
+            List<PersonView> people = stream.toList();
+            assertThat(people).hasSize(1);
+            PersonView person = people.get(0);
+            assertEquals("Otavio", person.getName());
+            assertEquals(27, person.age());
+            assertEquals("Otavio (27)", person.label());
+        }
+    }
+
+    @Test
+    void shouldProjectToMap() {
+        try (Stream<Map> stream = graphTemplate.traversalVertex()
+                .hasLabel(Person.class).has("name", "Otavio").valueMap("name", "age")
+                .stream(Map.class)) {
+            assertThat(stream.toList()).containsExactly(Map.of("name", "Otavio", "age", 27));
+        }
+    }
+
+    @Test
+    void shouldReadStreamLazily() {
+        try (Stream<Map<String, Object>> stream = graphTemplate.traversalVertex()
+                .hasLabel(Person.class).valueMap("name")
+                .stream()) {
+            assertThat(stream.limit(1)).hasSize(1);
+        }
+    }
+
+    record PersonName(String name, int age) {
+    }
+
+    record PersonPhones(List<String> name, long age, String phones) {
+    }
+
+    record Reads(String motivation, String language) {
+    }
+
+    public interface PersonView {
+
+        String getName();
+
+        int age();
+
+        default String label() {
+            return getName() + " (" + age() + ")";
+        }
+    }
+}
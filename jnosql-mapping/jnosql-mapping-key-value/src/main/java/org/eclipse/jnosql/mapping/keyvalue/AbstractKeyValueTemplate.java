@@ -21,6 +21,8 @@ import jakarta.nosql.QueryMapper;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.core.util.SingleFlight;
+import org.eclipse.jnosql.mapping.core.util.SingleFlightStatistics;
 
 import java.time.Duration;
 import java.util.Iterator;
@@ -40,6 +42,10 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
+    private final KeyValueIndex index = new KeyValueIndex();
+
+    private final SingleFlight<Object, Optional<Value>> flight = SingleFlight.of();
+
     protected abstract KeyValueEntityConverter getConverter();
 
     protected abstract BucketManager getManager();
@@ -49,14 +55,22 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     @Override
     public <T> T put(T entity) {
         requireNonNull(entity, "entity is required");
-        return persist(entity, (keyValueEntity) -> getManager().put(keyValueEntity));
+        return persist(entity, (keyValueEntity) -> {
+            getManager().put(keyValueEntity);
+            flight.forget(keyValueEntity.key());
+            index(entity, keyValueEntity, null);
+        });
     }
 
     @Override
     public <T> T put(T entity, Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl class is required");
-        return persist(entity, (keyValueEntity) -> getManager().put(keyValueEntity, ttl));
+        return persist(entity, (keyValueEntity) -> {
+            getManager().put(keyValueEntity, ttl);
+            flight.forget(keyValueEntity.key());
+            index(entity, keyValueEntity, ttl);
+        });
     }
 
     @Override
@@ -94,7 +108,7 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         requireNonNull(key, "key is required");
         requireNonNull(type, "entity class is required");
 
-        Optional<Value> value = getManager().get(key);
+        Optional<Value> value = read(key);
         return value.map(v -> getConverter().toEntity(type, KeyValueEntity.of(key, v)))
                 .filter(Objects::nonNull).map(e -> {
                     getEventManager().firePostEntity(e);
@@ -107,7 +121,7 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         requireNonNull(keys, "keys is required");
         requireNonNull(type, "type class is required");
         return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> getManager().get(k)
+                .map(k -> read(k)
                         .map(v -> KeyValueEntity.of(k, v)))
                 .filter(Optional::isPresent)
                 .map(e -> getConverter().toEntity(type, e.get()))
@@ -119,12 +133,16 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public <K> void delete(K key) {
         requireNonNull(key, "key is required");
         getManager().delete(key);
+        flight.forget(key);
+        index.delete(getManager(), key);
     }
 
     @Override
     public <K> void delete(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
         getManager().delete(keys);
+        keys.forEach(flight::forget);
+        keys.forEach(key -> index.delete(getManager(), key));
     }
 
     @Override
@@ -156,6 +174,7 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public void query(String query) {
         requireNonNull(query, "query is required");
         getManager().query(query);
+        flight.forget(key -> true);
     }
 
     @Override
@@ -172,7 +191,22 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
     @Override
     public <T, K> void delete(Class<T> type, K id) {
-        this.delete(id);
+        requireNonNull(id, "key is required");
+        getManager().delete(id);
+        flight.forget(id);
+        index.delete(getManager(), getConverter().getEntities().get(type), id);
+    }
+
+    @Override
+    public <T> Stream<T> findByIndex(Class<T> type, String attribute, Object value) {
+        requireNonNull(type, "type is required");
+        requireNonNull(attribute, "attribute is required");
+        return index.find(getManager(), getConverter().getEntities().get(type), attribute, value);
+    }
+
+    @Override
+    public SingleFlightStatistics singleFlightStatistics() {
+        return flight.statistics();
     }
 
     @Override
@@ -196,6 +230,14 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
                 .orElseThrow();
     }
 
+    private Optional<Value> read(Object key) {
+        return flight.execute(key, () -> getManager().get(key));
+    }
+
+    private void index(Object entity, KeyValueEntity keyValueEntity, Duration ttl) {
+        index.put(getManager(), getConverter().getEntities().get(entity.getClass()), keyValueEntity.key(), entity, ttl);
+    }
+
     private <T> UnaryOperator<T> toUnary(Consumer<T> consumer) {
         return t -> {
             consumer.accept(t);
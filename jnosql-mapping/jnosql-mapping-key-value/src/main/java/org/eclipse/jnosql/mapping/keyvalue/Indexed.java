@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines a secondary index to a {@link jakarta.nosql.Column} attribute of a key-value entity. The
+ * {@link KeyValueTemplate} keeps, at the same bucket, an index entry from each attribute value to the keys of the
+ * entities that have it, so the entities are found by the attribute without scanning the bucket.
+ *
+ * <pre>{@code
+ * @Entity
+ * public class User {
+ *
+ *     @Id
+ *     private String nickname;
+ *
+ *     @Column
+ *     @Indexed
+ *     private String city;
+ * }
+ *
+ * Stream<User> users = template.findByIndex(User.class, "city", "Salvador");
+ * }</pre>
+ *
+ * <p>The index entries are updated on {@link KeyValueTemplate#put(Object)} and
+ * {@link KeyValueTemplate#delete(Class, Object)}. The key-value databases do not have transactions, thus an index
+ * entry might point to an entity that does not match anymore, e.g.: after a delete by key only or an expired TTL;
+ * those entities are filtered out when the index is read, and the entry is fixed at the next put.</p>
+ * <p>When the attribute is a collection, each element is indexed.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Indexed {
+
+    /**
+     * The index name, which is part of the index entry keys.
+     *
+     * @return the index name, by default the field name
+     */
+    String value() default "";
+}
@@ -0,0 +1,260 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Maintains the {@link Indexed} attributes at the {@link BucketManager}. There are two kinds of entries:
+ * <ul>
+ *     <li>jnosql:index:entity:index:value, the keys of the entities that have the attribute value;</li>
+ *     <li>jnosql:index-key:key, the index entries that have the key, thus the previous values are removed
+ *     without reading the previous entity. A bucket key holds a single value, so a delete by key alone reads
+ *     this one entry whatever the entity type.</li>
+ * </ul>
+ * The bucket has no compare-and-set, so each entry is read, changed and put back while holding a lock of a striped
+ * set: the reverse entries with one set and the index entries with another, always in this order. Those locks live
+ * in this JVM only: the index is consistent only when a single application instance writes the bucket, concurrent
+ * writers in other processes may lose index updates. An index entry keeps every key with the value in one list, so
+ * a put reads and writes the whole list; index the selective attributes only.
+ * <p>
+ * The reverse entry takes the TTL of the entity. The index entries are shared by many keys, so they never expire;
+ * {@link #find(BucketManager, EntityMetadata, String, Object)} removes the keys that are no longer at the bucket.
+ */
+final class KeyValueIndex {
+
+    private static final String INDEX_PREFIX = "jnosql:index:";
+
+    private static final String KEY_PREFIX = "jnosql:index-key:";
+
+    private static final int STRIPES = 64;
+
+    private final Map<Class<?>, List<IndexField>> fields = new ConcurrentHashMap<>();
+
+    private final Object[] reverseLocks = locks();
+
+    private final Object[] entryLocks = locks();
+
+    /**
+     * Updates the index entries to the entity, that was just put at the bucket
+     *
+     * @param manager  the bucket manager
+     * @param metadata the entity metadata
+     * @param key      the entity key at the bucket
+     * @param entity   the entity
+     * @param ttl      the entity TTL, or null when the entity does not expire
+     */
+    void put(BucketManager manager, EntityMetadata metadata, Object key, Object entity, Duration ttl) {
+        List<IndexField> indexes = fields(metadata);
+        if (indexes.isEmpty()) {
+            return;
+        }
+        String reverseKey = reverseKey(key);
+        Set<String> current = indexes.stream()
+                .flatMap(index -> index.values(entity).map(value -> indexKey(metadata, index.name(), value)))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        synchronized (lock(reverseLocks, reverseKey)) {
+            Set<String> previous = strings(manager.get(reverseKey));
+            previous.stream().filter(entry -> !current.contains(entry)).forEach(entry -> remove(manager, entry, key));
+            current.stream().filter(entry -> !previous.contains(entry)).forEach(entry -> add(manager, entry, key));
+            if (current.isEmpty()) {
+                manager.delete(reverseKey);
+            } else if (ttl != null) {
+                manager.put(KeyValueEntity.of(reverseKey, new ArrayList<>(current)), ttl);
+            } else {
+                manager.put(reverseKey, new ArrayList<>(current));
+            }
+        }
+    }
+
+    /**
+     * Removes the entity key from its index entries
+     *
+     * @param manager  the bucket manager
+     * @param metadata the entity metadata
+     * @param key      the entity key at the bucket
+     */
+    void delete(BucketManager manager, EntityMetadata metadata, Object key) {
+        if (fields(metadata).isEmpty()) {
+            return;
+        }
+        delete(manager, key);
+    }
+
+    /**
+     * Removes the key from its index entries, when the entity type is unknown
+     *
+     * @param manager the bucket manager
+     * @param key     the entity key at the bucket
+     */
+    void delete(BucketManager manager, Object key) {
+        String reverseKey = reverseKey(key);
+        synchronized (lock(reverseLocks, reverseKey)) {
+            Set<String> entries = strings(manager.get(reverseKey));
+            if (entries.isEmpty()) {
+                return;
+            }
+            entries.forEach(entry -> remove(manager, entry, key));
+            manager.delete(reverseKey);
+        }
+    }
+
+    /**
+     * Finds the entities that have the attribute value, through the index entry and a multi-get. The keys that
+     * are no longer at the bucket, such as the expired ones, are removed from the index entry.
+     *
+     * @param manager   the bucket manager
+     * @param metadata  the entity metadata
+     * @param attribute the java field name
+     * @param value     the attribute value
+     * @param <T>       the entity type
+     * @return the entities that have the attribute value
+     * @throws UnsupportedOperationException when the attribute does not have the {@link Indexed} annotation
+     */
+    @SuppressWarnings("unchecked")
+    <T> Stream<T> find(BucketManager manager, EntityMetadata metadata, String attribute, Object value) {
+        IndexField index = fields(metadata).stream()
+                .filter(field -> field.field().fieldName().equals(attribute))
+                .findFirst()
+                .orElseThrow(() -> new UnsupportedOperationException("The attribute " + attribute + " from the entity "
+                        + metadata.name() + " is not indexed, it requires the " + Indexed.class.getName() + " annotation"));
+        String text = value == null ? null : value.toString();
+        String entry = indexKey(metadata, index.name(), text);
+        List<Object> keys = keys(metadata, manager.get(entry));
+        if (keys.isEmpty()) {
+            return Stream.empty();
+        }
+        List<Value> values = StreamSupport.stream(manager.get(keys).spliterator(), false).toList();
+        if (values.size() < keys.size()) {
+            keys.forEach(key -> prune(manager, entry, key));
+        }
+        Class<T> type = (Class<T>) metadata.type();
+        return values.stream()
+                .map(v -> v.get(type))
+                .filter(Objects::nonNull)
+                .filter(entity -> index.values(entity).anyMatch(v -> v.equals(text)));
+    }
+
+    private List<IndexField> fields(EntityMetadata metadata) {
+        return fields.computeIfAbsent(metadata.type(), k -> metadata.fields().stream()
+                .filter(field -> !field.isId())
+                .flatMap(field -> field.value(Indexed.class)
+                        .map(name -> new IndexField(name.isBlank() ? field.fieldName() : name, field)).stream())
+                .toList());
+    }
+
+    private void add(BucketManager manager, String entry, Object key) {
+        synchronized (lock(entryLocks, entry)) {
+            Set<String> keys = strings(manager.get(entry));
+            if (keys.add(key.toString())) {
+                manager.put(entry, new ArrayList<>(keys));
+            }
+        }
+    }
+
+    private void remove(BucketManager manager, String entry, Object key) {
+        synchronized (lock(entryLocks, entry)) {
+            Set<String> keys = strings(manager.get(entry));
+            if (keys.remove(key.toString())) {
+                if (keys.isEmpty()) {
+                    manager.delete(entry);
+                } else {
+                    manager.put(entry, new ArrayList<>(keys));
+                }
+            }
+        }
+    }
+
+    private void prune(BucketManager manager, String entry, Object key) {
+        String reverseKey = reverseKey(key);
+        synchronized (lock(reverseLocks, reverseKey)) {
+            if (manager.get(key).isEmpty()) {
+                remove(manager, entry, key);
+                delete(manager, key);
+            }
+        }
+    }
+
+    private static Object lock(Object[] locks, String key) {
+        return locks[Math.floorMod(key.hashCode(), locks.length)];
+    }
+
+    private static Object[] locks() {
+        Object[] locks = new Object[STRIPES];
+        for (int index = 0; index < locks.length; index++) {
+            locks[index] = new Object();
+        }
+        return locks;
+    }
+
+    /**
+     * The keys come back from the bucket as the database serialized them, so they are read again as the id type
+     * when the id does not have a converter.
+     */
+    private static List<Object> keys(EntityMetadata metadata, Optional<Value> value) {
+        Optional<FieldMetadata> id = metadata.id().filter(field -> field.converter().isEmpty());
+        return list(value).stream()
+                .map(key -> id.<Object>map(field -> Value.of(key).get(field.type())).orElse(key))
+                .toList();
+    }
+
+    private static Set<String> strings(Optional<Value> value) {
+        return list(value).stream().map(Object::toString).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static Collection<?> list(Optional<Value> value) {
+        return value.<Collection<?>>map(v -> v.get(List.class)).orElse(List.of());
+    }
+
+    private static String indexKey(EntityMetadata metadata, String index, String value) {
+        return INDEX_PREFIX + metadata.name() + ':' + index + ':' + value;
+    }
+
+    private static String reverseKey(Object key) {
+        return KEY_PREFIX + key;
+    }
+
+    private record IndexField(String name, FieldMetadata field) {
+
+        Stream<String> values(Object entity) {
+            Object value = field.read(entity);
+            if (value == null) {
+                return Stream.empty();
+            }
+            if (value instanceof Iterable<?> iterable) {
+                return StreamSupport.stream(iterable.spliterator(), false).filter(Objects::nonNull).map(Object::toString);
+            }
+            return Stream.of(value.toString());
+        }
+    }
+}
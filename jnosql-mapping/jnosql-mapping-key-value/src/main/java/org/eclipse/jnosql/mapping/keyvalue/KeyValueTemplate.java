@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.keyvalue;
 
 import jakarta.nosql.Template;
 import org.eclipse.jnosql.mapping.PreparedStatement;
+import org.eclipse.jnosql.mapping.core.util.SingleFlightStatistics;
 
 import java.time.Duration;
 import java.util.Objects;
@@ -191,4 +192,45 @@ public interface KeyValueTemplate extends Template {
      */
     <K> void delete(Iterable<K> keys);
 
-}
\ No newline at end of file
+    /**
+     * Finds the entities by an attribute with the {@link Indexed} annotation. It reads the keys from the index entry,
+     * then the entities with a single multi-get, without scanning the bucket.
+     *
+     * @param type      the entity class
+     * @param attribute the java field name
+     * @param value     the attribute value
+     * @param <T>       the entity type
+     * @return the entities that have the attribute value
+     * @throws NullPointerException          when either type or attribute is null
+     * @throws UnsupportedOperationException when the attribute does not have the {@link Indexed} annotation
+     */
+    <T> Stream<T> findByIndex(Class<T> type, String attribute, Object value);
+
+    /**
+     * Counts the entities by an attribute with the {@link Indexed} annotation.
+     *
+     * @param type      the entity class
+     * @param attribute the java field name
+     * @param value     the attribute value
+     * @param <T>       the entity type
+     * @return the number of entities that have the attribute value
+     * @throws NullPointerException          when either type or attribute is null
+     * @throws UnsupportedOperationException when the attribute does not have the {@link Indexed} annotation
+     * @see KeyValueTemplate#findByIndex(Class, String, Object)
+     */
+    default <T> long countByIndex(Class<T> type, String attribute, Object value) {
+        try (Stream<T> entities = findByIndex(type, attribute, value)) {
+            return entities.count();
+        }
+    }
+
+    /**
+     * Returns the statistics of the single-flight reads, where concurrent reads of the same key share a database call.
+     *
+     * @return the statistics or {@link SingleFlightStatistics#EMPTY} when the single-flight reads are not active
+     * @see org.eclipse.jnosql.mapping.core.config.MappingConfigurations#SINGLE_FLIGHT
+     */
+    default SingleFlightStatistics singleFlightStatistics() {
+        return SingleFlightStatistics.EMPTY;
+    }
+}
@@ -19,6 +19,8 @@ import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
+import org.eclipse.jnosql.communication.keyvalue.MetricsBucketManager;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
 import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 
@@ -33,6 +35,7 @@ import java.util.logging.Logger;
 
 import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_DATABASE;
 import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_PROVIDER;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.METRICS;
 
 @ApplicationScoped
 class BucketManagerSupplier implements Supplier<BucketManager> {
@@ -59,6 +62,9 @@ class BucketManagerSupplier implements Supplier<BucketManager> {
         String db = database.orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
                 + KEY_VALUE_DATABASE.get()));
         BucketManager manager = managerFactory.apply(db);
+        if (settings.get(METRICS, Boolean.class).orElse(false)) {
+            manager = MetricsBucketManager.of(manager, DatabaseMetrics.of("keyvalue." + db).register());
+        }
 
         LOGGER.log(Level.FINEST, "Starting  a BucketManager instance using Eclipse MicroProfile Config," +
                 " database name: " + db);
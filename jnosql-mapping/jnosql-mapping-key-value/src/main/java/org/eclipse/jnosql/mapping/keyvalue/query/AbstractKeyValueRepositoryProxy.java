@@ -17,8 +17,13 @@ package org.eclipse.jnosql.mapping.keyvalue.query;
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueTemplate;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepositoryProxy;
 import org.eclipse.jnosql.mapping.core.repository.DynamicQueryMethodReturn;
+import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
+import org.eclipse.jnosql.mapping.core.repository.RepositoryReflectionUtils;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public abstract class AbstractKeyValueRepositoryProxy<T, K> extends AbstractRepositoryProxy<T, K> {
 
@@ -54,22 +59,45 @@ public abstract class AbstractKeyValueRepositoryProxy<T, K> extends AbstractRepo
 
     @Override
     protected Object executeExistByQuery(Object instance, Method method, Object[] params) {
-        throw new UnsupportedOperationException("Key Value repository does not support query method");
+        IndexQuery query = IndexQuery.of(method, params, entityMetadata());
+        try (Stream<T> entities = template().findByIndex(type(), query.attribute(), query.value())) {
+            return entities.findAny().isPresent();
+        }
     }
 
     @Override
     protected Object executeCountByQuery(Object instance, Method method, Object[] params) {
-        throw new UnsupportedOperationException("Key Value repository does not support query method");
+        IndexQuery query = IndexQuery.of(method, params, entityMetadata());
+        return template().countByIndex(type(), query.attribute(), query.value());
     }
 
     @Override
     protected Object executeFindByQuery(Object instance, Method method, Object[] params) {
-        throw new UnsupportedOperationException("Key Value repository does not support query method");
+        IndexQuery query = IndexQuery.of(method, params, entityMetadata());
+        return executeFindByIndex(method, query.attribute(), query.value());
     }
 
     @Override
     protected Object executeParameterBased(Object instance, Method method, Object[] params) {
-        throw new UnsupportedOperationException("Key Value repository does not support query method");
+        Map<String, Object> parameters = RepositoryReflectionUtils.INSTANCE.getBy(method, params);
+        if (parameters.size() != 1) {
+            throw new UnsupportedOperationException("Key Value repository supports only one indexed attribute as parameter, method: " + method);
+        }
+        Map.Entry<String, Object> parameter = parameters.entrySet().iterator().next();
+        IndexQuery query = IndexQuery.of(parameter.getKey(), parameter.getValue(), entityMetadata());
+        return executeFindByIndex(method, query.attribute(), query.value());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object executeFindByIndex(Method method, String attribute, Object value) {
+        Supplier<Stream<?>> result = () -> template().findByIndex(type(), attribute, value);
+        DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
+                .withClassSource(type())
+                .withMethodSource(method)
+                .withResult(result)
+                .withSingleResult(DynamicReturn.toSingleResult(method).apply(result))
+                .build();
+        return dynamicReturn.execute();
     }
 
     @Override
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue.query;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.query.ParamQueryValue;
+import org.eclipse.jnosql.communication.query.QueryCondition;
+import org.eclipse.jnosql.communication.query.SelectQuery;
+import org.eclipse.jnosql.communication.query.Where;
+import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
+import org.eclipse.jnosql.mapping.keyvalue.Indexed;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.lang.reflect.Method;
+
+/**
+ * The attribute and value from a query method, such as findByName, countByName and existsByName, that the
+ * key-value repository resolves through an {@link Indexed} attribute.
+ * Only a single equals condition is supported.
+ *
+ * @param attribute the java field name
+ * @param value     the attribute value
+ */
+record IndexQuery(String attribute, Object value) {
+
+    static IndexQuery of(Method method, Object[] params, EntityMetadata metadata) {
+        SelectQuery query = SelectMethodProvider.INSTANCE.apply(method, metadata.name());
+        QueryCondition condition = query.where().map(Where::condition)
+                .filter(c -> Condition.EQUALS.equals(c.condition()))
+                .filter(c -> query.orderBy().isEmpty())
+                .orElseThrow(() -> new UnsupportedOperationException("Key Value repository supports only a single equals "
+                        + "condition on an indexed attribute without sorting, method: " + method));
+        if (condition.value() instanceof ParamQueryValue) {
+            if (params == null || params.length == 0) {
+                throw new UnsupportedOperationException("The method " + method + " requires the attribute value as parameter");
+            }
+            return of(condition.name(), params[0], metadata);
+        }
+        return of(condition.name(), condition.value().get(), metadata);
+    }
+
+    static IndexQuery of(String attribute, Object value, EntityMetadata metadata) {
+        boolean indexed = metadata.fieldMapping(attribute).flatMap(field -> field.value(Indexed.class)).isPresent();
+        if (!indexed) {
+            throw new UnsupportedOperationException("Key Value repository does not support query method on the attribute "
+                    + attribute + ", it requires the " + Indexed.class.getName() + " annotation");
+        }
+        return new IndexQuery(attribute, value);
+    }
+}
@@ -218,6 +218,17 @@ class DefaultKeyValueTemplateTest {
         assertEquals(user, userOptional.get());
     }
 
+    @Test
+    void shouldCountSingleFlightReads() {
+        User user = new User(KEY, "otavio", 27);
+        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(user)));
+        template.get(KEY, User.class);
+        template.find(User.class, KEY);
+
+        assertEquals(2L, template.singleFlightStatistics().executions());
+        assertEquals(0L, template.singleFlightStatistics().coalesced());
+    }
+
     @Test
     void shouldFindById() {
         User user = new User(KEY, "otavio", 27);
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import jakarta.enterprise.inject.Vetoed;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.StreamSupport;
+
+@Vetoed
+public class InMemoryBucketManager implements BucketManager {
+
+    private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+    private final Map<Object, Duration> ttls = new ConcurrentHashMap<>();
+
+    public Map<Object, Object> values() {
+        return values;
+    }
+
+    public Map<Object, Duration> ttls() {
+        return ttls;
+    }
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        values.put(key, value);
+        ttls.remove(key);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        values.put(entity.key(), entity.value());
+        ttls.remove(entity.key());
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        put(entity);
+        ttls.put(entity.key(), ttl);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        entities.forEach(this::put);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        entities.forEach(entity -> put(entity, ttl));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        return Optional.ofNullable(values.get(key)).map(Value::of);
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        return StreamSupport.stream(keys.spliterator(), false)
+                .map(this::get)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        values.remove(key);
+        ttls.remove(key);
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        keys.forEach(this::delete);
+    }
+
+    @Override
+    public void close() {
+    }
+}
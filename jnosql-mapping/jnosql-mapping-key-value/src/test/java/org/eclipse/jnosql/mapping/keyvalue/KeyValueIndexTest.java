@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Citizen;
+import org.eclipse.jnosql.mapping.keyvalue.entities.User;
+import org.eclipse.jnosql.mapping.keyvalue.spi.KeyValueExtension;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, KeyValueEntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class, KeyValueExtension.class})
+class KeyValueIndexTest {
+
+    @Inject
+    private KeyValueEntityConverter converter;
+
+    @Inject
+    private KeyValueEventPersistManager eventManager;
+
+    private InMemoryBucketManager manager;
+
+    private KeyValueTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        this.manager = new InMemoryBucketManager();
+        Instance<BucketManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        this.template = new DefaultKeyValueTemplate(converter, instance, eventManager);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> template.findByIndex(null, "city", "Salvador"));
+        assertThrows(NullPointerException.class, () -> template.findByIndex(Citizen.class, null, "Salvador"));
+    }
+
+    @Test
+    void shouldReturnErrorWhenAttributeIsNotIndexed() {
+        assertThrows(UnsupportedOperationException.class, () -> template.findByIndex(Citizen.class, "name", "Ada"));
+        assertThrows(UnsupportedOperationException.class, () -> template.findByIndex(User.class, "name", "Ada"));
+    }
+
+    @Test
+    void shouldFindByIndex() {
+        template.put(new Citizen("ada", "Ada", "London", List.of("English")));
+        template.put(new Citizen("otavio", "Otavio", "Salvador", List.of("Portuguese", "English")));
+        template.put(new Citizen("poliana", "Poliana", "Salvador", List.of("Portuguese")));
+
+        assertThat(template.findByIndex(Citizen.class, "city", "Salvador"))
+                .extracting(Citizen::getId).containsExactlyInAnyOrder("otavio", "poliana");
+        assertThat(template.findByIndex(Citizen.class, "languages", "English"))
+                .extracting(Citizen::getId).containsExactlyInAnyOrder("ada", "otavio");
+        assertThat(template.findByIndex(Citizen.class, "city", "Paris")).isEmpty();
+        assertThat(template.countByIndex(Citizen.class, "city", "Salvador")).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldUpdateIndexOnPut() {
+        Citizen citizen = new Citizen("otavio", "Otavio", "Salvador", List.of("Portuguese"));
+        template.put(citizen);
+        citizen.setCity("Lisbon");
+        template.put(citizen);
+
+        assertThat(template.findByIndex(Citizen.class, "city", "Salvador")).isEmpty();
+        assertThat(template.findByIndex(Citizen.class, "city", "Lisbon"))
+                .extracting(Citizen::getId).containsExactly("otavio");
+        assertThat(manager.values()).doesNotContainKey("jnosql:index:Citizen:city:Salvador");
+    }
+
+    @Test
+    void shouldRemoveIndexOnDelete() {
+        template.put(new Citizen("otavio", "Otavio", "Salvador", List.of("Portuguese")));
+        template.delete(Citizen.class, "otavio");
+
+        assertThat(template.findByIndex(Citizen.class, "city", "Salvador")).isEmpty();
+        assertThat(manager.values()).isEmpty();
+    }
+
+    @Test
+    void shouldRemoveIndexOnDeleteByKey() {
+        template.put(new Citizen("otavio", "Otavio", "Salvador", List.of("Portuguese")));
+        template.put(new Citizen("ada", "Ada", "London", List.of("English")));
+        template.delete("otavio");
+
+        assertThat(manager.values()).doesNotContainKeys("jnosql:index:Citizen:city:Salvador",
+                "jnosql:index-key:otavio");
+        assertThat(template.findByIndex(Citizen.class, "city", "London"))
+                .extracting(Citizen::getId).containsExactly("ada");
+    }
+
+    @Test
+    void shouldKeepIndexOnConcurrentPuts() {
+        List<Citizen> citizens = IntStream.range(0, 200)
+                .mapToObj(index -> new Citizen("citizen-" + index, "Citizen", "Salvador", List.of("Portuguese")))
+                .toList();
+        citizens.parallelStream().forEach(template::put);
+
+        assertThat(template.countByIndex(Citizen.class, "city", "Salvador")).isEqualTo(200L);
+    }
+
+    @Test
+    void shouldIgnoreStaleEntries() {
+        template.put(new Citizen("otavio", "Otavio", "Salvador", List.of("Portuguese")));
+        template.delete("otavio");
+
+        try (Stream<Citizen> citizens = template.findByIndex(Citizen.class, "city", "Salvador")) {
+            assertThat(citizens).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldPruneMissingKeysOnFind() {
+        template.put(new Citizen("otavio", "Otavio", "Salvador", List.of("Portuguese")));
+        template.put(new Citizen("poliana", "Poliana", "Salvador", List.of("Portuguese")));
+        manager.delete("otavio");
+
+        assertThat(template.findByIndex(Citizen.class, "city", "Salvador"))
+                .extracting(Citizen::getId).containsExactly("poliana");
+        assertThat(manager.values().get("jnosql:index:Citizen:city:Salvador")).isEqualTo(List.of("poliana"));
+        assertThat(manager.values().get("jnosql:index:Citizen:language:Portuguese")).isEqualTo(List.of("poliana"));
+        assertThat(manager.values()).doesNotContainKey("jnosql:index-key:otavio");
+    }
+
+    @Test
+    void shouldGiveReverseEntryTheEntityTTL() {
+        Duration ttl = Duration.ofMinutes(5);
+        template.put(new Citizen("otavio", "Otavio", "Salvador", List.of("Portuguese")), ttl);
+
+        assertThat(manager.ttls()).containsEntry("otavio", ttl)
+                .containsEntry("jnosql:index-key:otavio", ttl)
+                .doesNotContainKey("jnosql:index:Citizen:city:Salvador");
+    }
+
+    @Test
+    void shouldReadOnlyTheReverseEntryOnDeleteByKey() {
+        template.put(new Citizen("otavio", "Otavio", "Salvador", List.of("Portuguese")));
+        BucketManager spy = Mockito.spy(manager);
+        Instance<BucketManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(spy);
+        new DefaultKeyValueTemplate(converter, instance, eventManager).delete("ada");
+
+        Mockito.verify(spy).get("jnosql:index-key:ada");
+        Mockito.verify(spy, Mockito.times(1)).get(Mockito.anyString());
+    }
+
+    @Test
+    void shouldNotIndexEntityWithoutIndexedAttribute() {
+        template.put(new User("ada", "Ada", 10));
+        assertThat(manager.values()).containsOnlyKeys("ada");
+    }
+}
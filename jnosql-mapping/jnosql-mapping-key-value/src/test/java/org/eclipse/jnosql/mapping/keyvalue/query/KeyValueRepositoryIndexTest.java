@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue.query;
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.keyvalue.InMemoryBucketManager;
+import org.eclipse.jnosql.mapping.keyvalue.KeyValueEntityConverter;
+import org.eclipse.jnosql.mapping.keyvalue.KeyValueTemplate;
+import org.eclipse.jnosql.mapping.keyvalue.KeyValueTemplateProducer;
+import org.eclipse.jnosql.mapping.keyvalue.MockProducer;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Citizen;
+import org.eclipse.jnosql.mapping.keyvalue.entities.CitizenRepository;
+import org.eclipse.jnosql.mapping.keyvalue.spi.KeyValueExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, KeyValueEntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class, KeyValueExtension.class})
+class KeyValueRepositoryIndexTest {
+
+    @Inject
+    private KeyValueTemplateProducer producer;
+
+    @Inject
+    private EntitiesMetadata entitiesMetadata;
+
+    private CitizenRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        KeyValueTemplate template = producer.apply(new InMemoryBucketManager());
+        KeyValueRepositoryProxy<Citizen, String> handler = new KeyValueRepositoryProxy<>(CitizenRepository.class,
+                entitiesMetadata, template);
+        repository = (CitizenRepository) Proxy.newProxyInstance(CitizenRepository.class.getClassLoader(),
+                new Class[]{CitizenRepository.class}, handler);
+        repository.save(new Citizen("ada", "Ada", "London", List.of("English")));
+        repository.save(new Citizen("otavio", "Otavio", "Salvador", List.of("Portuguese", "English")));
+        repository.save(new Citizen("poliana", "Poliana", "Salvador", List.of("Portuguese")));
+    }
+
+    @Test
+    void shouldFindByIndex() {
+        assertThat(repository.findByCity("Salvador")).extracting(Citizen::getId)
+                .containsExactlyInAnyOrder("otavio", "poliana");
+        assertThat(repository.findByLanguages("English")).extracting(Citizen::getId)
+                .containsExactlyInAnyOrder("ada", "otavio");
+        assertThat(repository.findByCity("Paris")).isEmpty();
+    }
+
+    @Test
+    void shouldCountByIndex() {
+        assertThat(repository.countByCity("Salvador")).isEqualTo(2L);
+        assertThat(repository.countByCity("Paris")).isZero();
+    }
+
+    @Test
+    void shouldExistsByIndex() {
+        assertThat(repository.existsByCity("London")).isTrue();
+        assertThat(repository.existsByCity("Paris")).isFalse();
+    }
+
+    @Test
+    void shouldFindByParameter() {
+        assertThat(repository.city("London")).extracting(Citizen::getId).containsExactly("ada");
+    }
+
+    @Test
+    void shouldReturnErrorWhenAttributeIsNotIndexed() {
+        assertThrows(UnsupportedOperationException.class, () -> repository.findByName("Ada"));
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Id;
+import org.eclipse.jnosql.mapping.metadata.EntityAccessor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Generates the {@link EntityAccessor} source of a type. The fields annotated with either {@link Id} or
+ * {@link Column} are accessed through {@link java.lang.invoke.VarHandle}, and the instance is created through
+ * the non-arg constructor reference when it is reachable from the type package.
+ */
+final class EntityAccessorGenerator {
+
+    static final String SUFFIX = "_JNoSQLAccessor";
+
+    private final ProcessingEnvironment environment;
+
+    EntityAccessorGenerator(ProcessingEnvironment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Generates the accessor source of the type
+     *
+     * @param type the entity, embeddable or mapped superclass
+     * @return the binary name of the generated accessor otherwise {@link Optional#empty()} when the type
+     * cannot be reached from its package
+     */
+    Optional<String> generate(TypeElement type) {
+        PackageElement packageElement = environment.getElementUtils().getPackageOf(type);
+        if (type.getKind() == ElementKind.INTERFACE) {
+            return Optional.empty();
+        }
+        if (!isAccessible(type, packageElement)) {
+            environment.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "The accessor is not generated to the type that is not reachable from its package, " +
+                            "so it will use reflection", type);
+            return Optional.empty();
+        }
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = environment.getElementUtils().getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                + SUFFIX;
+        String accessorName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        List<VariableElement> fields = ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+                .filter(f -> !f.getModifiers().contains(Modifier.STATIC))
+                .filter(this::isMapped)
+                .filter(f -> isAccessible(f.asType(), packageElement))
+                .toList();
+
+        try {
+            JavaFileObject file = environment.getFiler().createSourceFile(accessorName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source(type, packageName, simpleName, fields));
+            }
+        } catch (IOException exception) {
+            environment.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to generate the accessor " + accessorName + ": " + exception.getMessage(), type);
+            return Optional.empty();
+        }
+        return Optional.of(accessorName);
+    }
+
+    private String source(TypeElement type, String packageName, String simpleName, List<VariableElement> fields) {
+        String typeName = type.getQualifiedName().toString();
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(MappingProcessor.class.getName()).append("\")\n");
+        if (!type.getTypeParameters().isEmpty()) {
+            source.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+        }
+        source.append("public final class ").append(simpleName).append(" implements ")
+                .append(EntityAccessor.class.getName()).append(" {\n\n");
+
+        for (int index = 0; index < fields.size(); index++) {
+            source.append("    private static final java.lang.invoke.VarHandle FIELD_").append(index).append(";\n");
+        }
+        if (!fields.isEmpty()) {
+            source.append("\n    static {\n")
+                    .append("        try {\n")
+                    .append("            java.lang.invoke.MethodHandles.Lookup lookup = java.lang.invoke.MethodHandles")
+                    .append(".privateLookupIn(").append(typeName).append(".class, java.lang.invoke.MethodHandles.lookup());\n");
+            for (int index = 0; index < fields.size(); index++) {
+                VariableElement field = fields.get(index);
+                source.append("            FIELD_").append(index).append(" = lookup.findVarHandle(")
+                        .append(typeName).append(".class, \"").append(field.getSimpleName()).append("\", ")
+                        .append(classLiteral(field.asType())).append(");\n");
+            }
+            source.append("        } catch (ReflectiveOperationException exception) {\n")
+                    .append("            throw new ExceptionInInitializerError(exception);\n")
+                    .append("        }\n")
+                    .append("    }\n");
+        }
+
+        source.append("\n    @Override\n")
+                .append("    public Class<?> type() {\n")
+                .append("        return ").append(typeName).append(".class;\n")
+                .append("    }\n");
+
+        source.append("\n    @Override\n")
+                .append("    public java.util.Optional<java.util.function.Supplier<Object>> instanceSupplier() {\n");
+        if (hasReachableConstructor(type)) {
+            source.append("        return java.util.Optional.of(").append(typeName).append("::new);\n");
+        } else {
+            source.append("        return java.util.Optional.empty();\n");
+        }
+        source.append("    }\n");
+
+        source.append("\n    @Override\n")
+                .append("    public java.util.Optional<java.util.function.Function<Object, Object>> reader(String field) {\n")
+                .append("        java.util.Objects.requireNonNull(field, \"field is required\");\n")
+                .append("        return switch (field) {\n");
+        for (int index = 0; index < fields.size(); index++) {
+            source.append("            case \"").append(fields.get(index).getSimpleName())
+                    .append("\" -> java.util.Optional.of(bean -> FIELD_").append(index)
+                    .append(".get((").append(typeName).append(") bean));\n");
+        }
+        source.append("            default -> java.util.Optional.empty();\n")
+                .append("        };\n")
+                .append("    }\n");
+
+        source.append("\n    @Override\n")
+                .append("    public java.util.Optional<java.util.function.BiConsumer<Object, Object>> writer(String field) {\n")
+                .append("        java.util.Objects.requireNonNull(field, \"field is required\");\n")
+                .append("        return switch (field) {\n");
+        for (int index = 0; index < fields.size(); index++) {
+            VariableElement field = fields.get(index);
+            if (!field.getModifiers().contains(Modifier.FINAL)) {
+                source.append("            case \"").append(field.getSimpleName())
+                        .append("\" -> java.util.Optional.of((bean, value) -> FIELD_").append(index)
+                        .append(".set((").append(typeName).append(") bean, value));\n");
+            }
+        }
+        source.append("            default -> java.util.Optional.empty();\n")
+                .append("        };\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private boolean isMapped(VariableElement field) {
+        return field.getAnnotationMirrors().stream()
+                .map(a -> ((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().toString())
+                .anyMatch(name -> Id.class.getName().equals(name) || Column.class.getName().equals(name));
+    }
+
+    private boolean hasReachableConstructor(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(c -> c.getParameters().isEmpty())
+                .map(ExecutableElement::getModifiers)
+                .anyMatch(modifiers -> !modifiers.contains(Modifier.PRIVATE));
+    }
+
+    private boolean isAccessible(TypeMirror mirror, PackageElement packageElement) {
+        TypeMirror erased = environment.getTypeUtils().erasure(mirror);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) erased).getComponentType(), packageElement);
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            return isAccessible((TypeElement) ((DeclaredType) erased).asElement(), packageElement);
+        }
+        return erased.getKind().isPrimitive();
+    }
+
+    private boolean isAccessible(TypeElement type, PackageElement packageElement) {
+        boolean samePackage = environment.getElementUtils().getPackageOf(type).equals(packageElement);
+        Element element = type;
+        while (element instanceof TypeElement current) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!samePackage && !current.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            if (current.getNestingKind() == NestingKind.LOCAL || current.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            element = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private String classLiteral(TypeMirror mirror) {
+        TypeMirror erased = environment.getTypeUtils().erasure(mirror);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            String component = classLiteral(((ArrayType) erased).getComponentType());
+            return component.substring(0, component.length() - ".class".length()) + "[].class";
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName() + ".class";
+        }
+        return erased.getKind().name().toLowerCase(Locale.US) + ".class";
+    }
+}
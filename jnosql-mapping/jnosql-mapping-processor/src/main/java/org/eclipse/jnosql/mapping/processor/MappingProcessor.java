@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import jakarta.data.repository.Repository;
+import jakarta.nosql.Embeddable;
+import jakarta.nosql.Entity;
+import jakarta.nosql.MappedSuperclass;
+import org.eclipse.jnosql.mapping.metadata.ClassIndex;
+import org.eclipse.jnosql.mapping.metadata.EntityAccessor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An annotation processor that generates, at compile time, the resources of {@link ClassIndex} with the classes
+ * annotated with {@link Entity}, {@link Embeddable} and the interfaces annotated with {@link Repository}.
+ * It also generates an {@link EntityAccessor} implementation to each entity, embeddable and mapped superclass,
+ * registered at {@code META-INF/services}.
+ * It is optional: without it, the classes are found by scanning the classpath and read by reflection.
+ *
+ * <p>The processor must be applied to every module that declares entities, embeddables or repositories,
+ * since once an index is found, the classpath is not scanned.</p>
+ */
+public final class MappingProcessor extends AbstractProcessor {
+
+    static final String ACCESSOR_SERVICE = "META-INF/services/" + EntityAccessor.class.getName();
+
+    private final Set<String> entities = new TreeSet<>();
+    private final Set<String> embeddables = new TreeSet<>();
+    private final Set<String> repositories = new TreeSet<>();
+    private final Set<String> accessors = new TreeSet<>();
+
+    private EntityAccessorGenerator generator;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.generator = new EntityAccessorGenerator(processingEnv);
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(Entity.class.getName(), Embeddable.class.getName(), MappedSuperclass.class.getName(),
+                Repository.class.getName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (TypeElement annotation : annotations) {
+            String name = annotation.getQualifiedName().toString();
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type) {
+                    register(name, type);
+                }
+            }
+        }
+        if (round.processingOver()) {
+            write(ClassIndex.ENTITIES, entities);
+            write(ClassIndex.EMBEDDABLES, embeddables);
+            write(ClassIndex.REPOSITORIES, repositories);
+            write(ACCESSOR_SERVICE, accessors);
+        }
+        return false;
+    }
+
+    private void register(String annotation, TypeElement type) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        if (Repository.class.getName().equals(annotation)) {
+            if (type.getKind() == ElementKind.INTERFACE) {
+                repositories.add(binaryName);
+            }
+            return;
+        }
+        if (Entity.class.getName().equals(annotation)) {
+            entities.add(binaryName);
+        } else if (Embeddable.class.getName().equals(annotation)) {
+            embeddables.add(binaryName);
+        }
+        if (!accessors.contains(binaryName + EntityAccessorGenerator.SUFFIX)) {
+            generator.generate(type).ifPresent(accessors::add);
+        }
+    }
+
+    private void write(String resource, Set<String> classes) {
+        if (classes.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", resource);
+            try (Writer writer = file.openWriter()) {
+                for (String name : classes) {
+                    writer.write(name);
+                    writer.write(System.lineSeparator());
+                }
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write the resource " + resource + ": " + exception.getMessage());
+        }
+    }
+}
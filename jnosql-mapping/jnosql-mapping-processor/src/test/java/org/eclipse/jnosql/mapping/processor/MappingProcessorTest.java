@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import org.eclipse.jnosql.mapping.metadata.ClassIndex;
+import org.eclipse.jnosql.mapping.metadata.EntityAccessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappingProcessorTest {
+
+    private static final String PERSON = """
+            package org.acme;
+
+            import jakarta.nosql.Column;
+            import jakarta.nosql.Entity;
+            import jakarta.nosql.Id;
+
+            @Entity
+            public class Person {
+                @Id
+                private long id;
+                @Column
+                private String name;
+                @Column
+                private final String code = "code";
+                private String ignored;
+
+                public String getName() {
+                    return name;
+                }
+            }
+            """;
+
+    private static final String ADDRESS = """
+            package org.acme;
+
+            import jakarta.nosql.Column;
+            import jakarta.nosql.Embeddable;
+
+            @Embeddable
+            public class Address {
+                @Column
+                private String street;
+
+                private Address() {
+                }
+            }
+            """;
+
+    private static final String REPOSITORY = """
+            package org.acme;
+
+            import jakarta.data.repository.DataRepository;
+            import jakarta.data.repository.Repository;
+
+            @Repository
+            public interface PersonRepository extends DataRepository<Person, Long> {
+            }
+            """;
+
+    @TempDir
+    private Path directory;
+
+    private Path output;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path sources = Files.createDirectories(directory.resolve("src/org/acme"));
+        Files.writeString(sources.resolve("Person.java"), PERSON);
+        Files.writeString(sources.resolve("Address.java"), ADDRESS);
+        Files.writeString(sources.resolve("PersonRepository.java"), REPOSITORY);
+        this.output = Files.createDirectories(directory.resolve("classes"));
+        Path generated = Files.createDirectories(directory.resolve("generated"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager manager = compiler.getStandardFileManager(null, null, null)) {
+            Iterable<? extends JavaFileObject> units = manager.getJavaFileObjects(
+                    sources.resolve("Person.java").toFile(),
+                    sources.resolve("Address.java").toFile(),
+                    sources.resolve("PersonRepository.java").toFile());
+            List<String> options = List.of("-classpath", System.getProperty("java.class.path"),
+                    "-d", output.toString(), "-s", generated.toString(), "-proc:only");
+            JavaCompiler.CompilationTask task = compiler.getTask(null, manager, null, options, null, units);
+            task.setProcessors(List.of(new MappingProcessor()));
+            assertTrue(task.call());
+        }
+    }
+
+    @Test
+    void shouldGenerateIndex() throws IOException {
+        assertThat(Files.readAllLines(output.resolve(ClassIndex.ENTITIES))).containsExactly("org.acme.Person");
+        assertThat(Files.readAllLines(output.resolve(ClassIndex.EMBEDDABLES))).containsExactly("org.acme.Address");
+        assertThat(Files.readAllLines(output.resolve(ClassIndex.REPOSITORIES))).containsExactly("org.acme.PersonRepository");
+    }
+
+    @Test
+    void shouldRegisterAccessors() throws IOException {
+        assertThat(Files.readAllLines(output.resolve(MappingProcessor.ACCESSOR_SERVICE)))
+                .containsExactly("org.acme.Address_JNoSQLAccessor", "org.acme.Person_JNoSQLAccessor");
+        assertThat(directory.resolve("generated/org/acme/Person_JNoSQLAccessor.java")).exists();
+    }
+
+    @Test
+    void shouldAccessFields() throws Exception {
+        compile();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()},
+                MappingProcessorTest.class.getClassLoader())) {
+            List<EntityAccessor> accessors = ServiceLoader.load(EntityAccessor.class, loader).stream()
+                    .map(ServiceLoader.Provider::get).toList();
+            EntityAccessor person = accessors.stream()
+                    .filter(a -> a.type().getName().equals("org.acme.Person")).findFirst().orElseThrow();
+            EntityAccessor address = accessors.stream()
+                    .filter(a -> a.type().getName().equals("org.acme.Address")).findFirst().orElseThrow();
+
+            Object entity = person.instanceSupplier().orElseThrow().get();
+            person.writer("name").orElseThrow().accept(entity, "Ada");
+            person.writer("id").orElseThrow().accept(entity, 10L);
+
+            assertThat(person.reader("name").orElseThrow().apply(entity)).isEqualTo("Ada");
+            assertThat(person.reader("id").orElseThrow().apply(entity)).isEqualTo(10L);
+            assertThat(person.reader("code").orElseThrow().apply(entity)).isEqualTo("code");
+            assertThat(person.writer("code")).isEmpty();
+            assertThat(person.reader("ignored")).isEmpty();
+            assertThat(address.instanceSupplier()).isEmpty();
+            assertThat(address.reader("street")).isPresent();
+        }
+    }
+
+    private void compile() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager manager = compiler.getStandardFileManager(null, null, null)) {
+            List<Path> files;
+            try (var paths = Files.walk(directory).filter(p -> p.toString().endsWith(".java"))) {
+                files = paths.toList();
+            }
+            Iterable<? extends JavaFileObject> units = manager.getJavaFileObjectsFromPaths(files);
+            List<String> options = List.of("-classpath", System.getProperty("java.class.path"),
+                    "-d", output.toString(), "-proc:none");
+            assertTrue(compiler.getTask(null, manager, null, options, null, units).call());
+        }
+    }
+}
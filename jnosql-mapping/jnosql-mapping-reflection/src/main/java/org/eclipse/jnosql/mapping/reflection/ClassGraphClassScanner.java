@@ -16,25 +16,19 @@ package org.eclipse.jnosql.mapping.reflection;
 
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
-import jakarta.data.repository.BasicRepository;
-import jakarta.data.repository.CrudRepository;
 import jakarta.data.repository.DataRepository;
 import jakarta.data.repository.Repository;
 import jakarta.nosql.Entity;
 import jakarta.nosql.Embeddable;
-import org.eclipse.jnosql.mapping.NoSQLRepository;
 import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+import org.eclipse.jnosql.mapping.metadata.StartupPhases;
 
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import static java.util.Collections.unmodifiableSet;
-import static java.util.stream.Collectors.toUnmodifiableSet;
 
 /**
  * Scanner classes that will load entities with both Entity and Embeddable
@@ -56,13 +50,13 @@ enum ClassGraphClassScanner implements ClassScanner {
         repositories = new HashSet<>();
 
         Logger logger = Logger.getLogger(ClassGraphClassScanner.class.getName());
-        logger.fine("Starting scan class to find entities, embeddable and repositories.");
-        try (ScanResult result = new ClassGraph().enableAllInfo().scan()) {
-            checkInvalidRepositories(loadInvalidRepositories(result));
-            this.entities.addAll(loadEntities(result));
-            this.embeddables.addAll(loadEmbeddable(result));
-            this.repositories.addAll(loadRepositories(result));
-        }
+        String[] packages = ScanPackages.load(IndexClassScanner.classLoader());
+        logger.fine("Starting scan class to find entities, embeddable and repositories at the packages: "
+                + (packages.length == 0 ? "all" : String.join(",", packages)));
+        StartupPhases.measure(StartupPhases.CLASSPATH_SCAN, () -> {
+            scan(classGraph(packages), entities, embeddables, repositories);
+            return null;
+        });
         logger.fine(String.format("Finished the class scan with entities %d, embeddables %d and repositories: %d"
                 , entities.size(), embeddables.size(), repositories.size()));
 
@@ -87,25 +81,48 @@ enum ClassGraphClassScanner implements ClassScanner {
 
     @Override
     public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
-        Objects.requireNonNull(filter, "filter is required");
-        return repositories.stream().filter(filter::isAssignableFrom)
-                .filter(c -> Arrays.asList(c.getInterfaces()).contains(filter))
-                .collect(toUnmodifiableSet());
+        return RepositoryClasses.filter(repositories, filter);
     }
 
 
     @Override
     public Set<Class<?>> repositoriesStandard() {
-        return repositories.stream()
-                .filter(c -> {
-                    List<Class<?>> interfaces = Arrays.asList(c.getInterfaces());
-                    return interfaces.contains(CrudRepository.class)
-                            || interfaces.contains(BasicRepository.class)
-                            || interfaces.contains(NoSQLRepository.class)
-                            || interfaces.contains(DataRepository.class);
-                }).collect(Collectors.toUnmodifiableSet());
+        return RepositoryClasses.standard(repositories);
+    }
+
+
+    /**
+     * Creates a {@link ClassGraph} that reads only the class and annotation information, the ones required to find
+     * the annotated classes, narrowed to the packages when there is any.
+     *
+     * @param packages the packages to scan, when empty the whole classpath
+     * @return a {@link ClassGraph} instance
+     */
+    static ClassGraph classGraph(String... packages) {
+        ClassGraph classGraph = new ClassGraph().enableClassInfo().enableAnnotationInfo();
+        if (packages.length > 0) {
+            classGraph.acceptPackages(packages);
+        }
+        return classGraph;
     }
 
+    /**
+     * Scans the classpath and adds the annotated classes it finds
+     *
+     * @param classGraph   the class graph to scan
+     * @param entities     the entities found
+     * @param embeddables  the embeddables found
+     * @param repositories the repositories found
+     */
+    static void scan(ClassGraph classGraph, Set<Class<?>> entities, Set<Class<?>> embeddables,
+                     Set<Class<?>> repositories) {
+        try (ScanResult result = classGraph.scan()) {
+            RepositoryClasses.checkInvalid(loadInvalidRepositories(result));
+            entities.addAll(loadEntities(result));
+            embeddables.addAll(loadEmbeddable(result));
+            repositories.addAll(loadRepositories(result));
+        }
+    }
 
     @SuppressWarnings("rawtypes")
     private static List<Class<DataRepository>> loadRepositories(ScanResult scan) {
@@ -116,20 +133,6 @@ enum ClassGraphClassScanner implements ClassScanner {
                 .toList();
     }
 
-    @SuppressWarnings("rawtypes")
-    private static void checkInvalidRepositories(List<Class<DataRepository>> classes) {
-        if (!classes.isEmpty()) {
-            Logger logger = Logger.getLogger(ClassGraphClassScanner.class.getName());
-            String repositories = classes.stream()
-                    .map(Class::getName)
-                    .collect(Collectors.joining(","));
-            logger.info("The following repositories cannot be implemented by the Jakarta Data Provider JNoSQL " +
-                "because the entities do not have the " + jakarta.nosql.Entity.class.getName() + " annotation: " +
-                repositories);
-        }
-    }
-
-
     @SuppressWarnings("rawtypes")
     private static List<Class<DataRepository>> loadInvalidRepositories(ScanResult scan) {
         return scan.getClassesWithAnnotation(Repository.class)
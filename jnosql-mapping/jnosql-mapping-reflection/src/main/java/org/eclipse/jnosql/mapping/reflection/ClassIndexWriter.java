@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import io.github.classgraph.ClassInfoList;
+import io.github.classgraph.ScanResult;
+import jakarta.data.repository.Repository;
+import jakarta.nosql.Embeddable;
+import jakarta.nosql.Entity;
+import org.eclipse.jnosql.mapping.metadata.ClassIndex;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Writes the class index, {@link ClassIndex}, from a classpath scan at build time, so the application reads it at
+ * startup instead of scanning the classpath. It is an alternative to the jnosql-mapping-processor annotation
+ * processor for the builds that cannot run it, e.g. with the exec-maven-plugin at the process-classes phase:
+ *
+ * <pre>{@code
+ * <mainClass>org.eclipse.jnosql.mapping.reflection.ClassIndexWriter</mainClass>
+ * <arguments>
+ *     <argument>${project.build.outputDirectory}</argument>
+ *     <argument>org.acme</argument>
+ * </arguments>
+ * }</pre>
+ *
+ * The first argument is the output directory, and the optional following ones are the packages to scan.
+ */
+public final class ClassIndexWriter {
+
+    private static final Logger LOGGER = Logger.getLogger(ClassIndexWriter.class.getName());
+
+    private ClassIndexWriter() {
+    }
+
+    /**
+     * Scans the classpath and writes the class index
+     *
+     * @param args the output directory followed by the packages to scan
+     * @throws IllegalArgumentException when there is no output directory
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("The output directory is required, e.g.: ClassIndexWriter target/classes org.acme");
+        }
+        write(Path.of(args[0]), Arrays.copyOfRange(args, 1, args.length));
+    }
+
+    /**
+     * Scans the classpath, narrowed to the packages when there is any, and writes the class index at the output
+     * directory. The classes are not loaded, so the scan does not run any static initializer.
+     *
+     * @param output   the output directory
+     * @param packages the packages to scan
+     * @throws NullPointerException when either output or packages is null
+     * @throws UncheckedIOException when the index cannot be written
+     */
+    static void write(Path output, String... packages) {
+        Objects.requireNonNull(output, "output is required");
+        Objects.requireNonNull(packages, "packages is required");
+        try (ScanResult result = ClassGraphClassScanner.classGraph(packages).scan()) {
+            List<String> entities = names(result.getClassesWithAnnotation(Entity.class));
+            List<String> embeddables = names(result.getClassesWithAnnotation(Embeddable.class));
+            List<String> repositories = names(result.getClassesWithAnnotation(Repository.class).getInterfaces());
+            write(output.resolve(ClassIndex.ENTITIES), entities);
+            write(output.resolve(ClassIndex.EMBEDDABLES), embeddables);
+            write(output.resolve(ClassIndex.REPOSITORIES), repositories);
+            LOGGER.info(String.format("Wrote the class index at %s with entities %d, embeddables %d and repositories: %d",
+                    output, entities.size(), embeddables.size(), repositories.size()));
+        }
+    }
+
+    private static List<String> names(ClassInfoList classes) {
+        return classes.getNames().stream().sorted().toList();
+    }
+
+    private static void write(Path file, List<String> names) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, names, StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -35,7 +35,8 @@ import java.util.stream.Collectors;
 
 /**
  * The default implementation of {@link EntityMetadata}.
- * It's storage the class information in a {@link ConcurrentHashMap}
+ * It's storage the class information in a {@link ConcurrentHashMap}.
+ * When several threads load the same class, the first registered {@link EntityMetadata} wins.
  */
 @ApplicationScoped
 class DefaultEntitiesMetadata implements EntitiesMetadata {
@@ -48,6 +49,7 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
 
     private final  Map<String, EntityMetadata> findByClassName;
 
+    private final  Map<String, EntityMetadata> findByName;
 
     private final ClassConverter converter;
 
@@ -59,6 +61,7 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         this.classes = new ConcurrentHashMap<>();
         this.findBySimpleName = new ConcurrentHashMap<>();
         this.findByClassName = new ConcurrentHashMap<>();
+        this.findByName = new ConcurrentHashMap<>();
         this.converter = new ReflectionClassConverter();
     }
 
@@ -74,12 +77,16 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
 
     EntityMetadata load(Class<?> type) {
         EntityMetadata metadata = converter.apply(type);
+        EntityMetadata current = this.classes.putIfAbsent(type, metadata);
+        if (current != null) {
+            return current;
+        }
         if (metadata.hasEntityName()) {
             mappings.put(type.getName().toUpperCase(Locale.US), metadata);
+            findByName.clear();
         }
         this.findBySimpleName.put(type.getSimpleName(), metadata);
         this.findByClassName.put(type.getName(), metadata);
-        this.classes.put(type, metadata);
         return metadata;
     }
 
@@ -104,9 +111,16 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
     @Override
     public EntityMetadata findByName(String name) {
         Objects.requireNonNull(name, "name is required");
-        return Optional.ofNullable(mappings.get(name.toUpperCase(Locale.US)))
+        EntityMetadata cached = findByName.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        EntityMetadata metadata = Optional.ofNullable(mappings.get(name.toUpperCase(Locale.US)))
                 .orElseThrow(() -> new ClassInformationNotFoundException("There is not entity found with the name: " + name));
-
+        if (name.equals(metadata.name())) {
+            findByName.put(name, metadata);
+        }
+        return metadata;
     }
 
     @Override
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.metadata.EntityAccessor;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Holds the {@link EntityAccessor} implementations generated at compile time and loaded by {@link ServiceLoader}.
+ * The failures while reading or writing a field follow the same behavior of {@link Reflections}:
+ * they are logged, and the operation is ignored.
+ */
+enum EntityAccessors {
+
+    INSTANCE;
+
+    private static final Logger LOGGER = Logger.getLogger(EntityAccessors.class.getName());
+
+    static {
+        LOGGER.fine(() -> "Loaded the generated entity accessors: " + INSTANCE.accessors.size());
+    }
+
+    private final Map<Class<?>, EntityAccessor> accessors;
+
+    EntityAccessors() {
+        Map<Class<?>, EntityAccessor> loaded = new HashMap<>();
+        ServiceLoader.load(EntityAccessor.class).forEach(accessor -> loaded.put(accessor.type(), accessor));
+        this.accessors = Map.copyOf(loaded);
+    }
+
+    Optional<InstanceSupplier> instanceSupplier(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        return Optional.ofNullable(accessors.get(type))
+                .flatMap(EntityAccessor::instanceSupplier)
+                .map(supplier -> (InstanceSupplier) supplier::get);
+    }
+
+    Optional<FieldReader> reader(Field field) {
+        Objects.requireNonNull(field, "field is required");
+        return Optional.ofNullable(accessors.get(field.getDeclaringClass()))
+                .flatMap(accessor -> accessor.reader(field.getName()))
+                .<FieldReader>map(reader -> bean -> {
+                    try {
+                        return reader.apply(bean);
+                    } catch (RuntimeException exception) {
+                        LOGGER.log(Level.FINEST, "There is an issue with returning value from this field.", exception);
+                        return null;
+                    }
+                });
+    }
+
+    Optional<FieldWriter> writer(Field field) {
+        Objects.requireNonNull(field, "field is required");
+        return Optional.ofNullable(accessors.get(field.getDeclaringClass()))
+                .flatMap(accessor -> accessor.writer(field.getName()))
+                .<FieldWriter>map(writer -> (bean, value) -> {
+                    try {
+                        writer.accept(bean, value);
+                    } catch (RuntimeException exception) {
+                        LOGGER.log(Level.FINEST, "There is an issue with setting value from this field.", exception);
+                    }
+                });
+    }
+}
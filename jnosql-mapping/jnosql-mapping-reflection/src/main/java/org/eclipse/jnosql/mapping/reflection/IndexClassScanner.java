@@ -0,0 +1,222 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.repository.DataRepository;
+import org.eclipse.jnosql.mapping.metadata.ClassIndex;
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+import org.eclipse.jnosql.mapping.metadata.MetadataException;
+import org.eclipse.jnosql.mapping.metadata.StartupPhases;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * A {@link ClassScanner} that reads the compile-time index, {@link ClassIndex}, instead of scanning the classpath.
+ * The index is available when at least one of its resources lists a class at the {@link ClassLoader}; it only covers
+ * the classpath roots, the directories or jars, that ship it.
+ */
+final class IndexClassScanner implements ClassScanner {
+
+    private static final Logger LOGGER = Logger.getLogger(IndexClassScanner.class.getName());
+
+    private final Set<Class<?>> entities;
+    private final Set<Class<?>> repositories;
+    private final Set<Class<?>> embeddables;
+    private final boolean available;
+    private final Set<String> roots;
+
+    private IndexClassScanner(ClassLoader loader) {
+        Set<String> entityNames = read(loader, ClassIndex.ENTITIES);
+        Set<String> embeddableNames = read(loader, ClassIndex.EMBEDDABLES);
+        Set<String> repositoryNames = read(loader, ClassIndex.REPOSITORIES);
+        this.available = !entityNames.isEmpty() || !embeddableNames.isEmpty() || !repositoryNames.isEmpty();
+        this.roots = roots(loader);
+        this.entities = load(loader, entityNames);
+        this.embeddables = load(loader, embeddableNames);
+        Set<Class<?>> interfaces = load(loader, repositoryNames);
+        interfaces.removeIf(c -> !DataRepository.class.isAssignableFrom(c));
+        RepositoryClasses.checkInvalid(interfaces.stream().filter(RepositoryFilter.INSTANCE::isInvalid).toList());
+        interfaces.removeIf(c -> !RepositoryFilter.INSTANCE.test(c));
+        this.repositories = interfaces;
+        if (available) {
+            LOGGER.fine(String.format("Loaded the class index with entities %d, embeddables %d and repositories: %d"
+                    , entities.size(), embeddables.size(), repositories.size()));
+        }
+    }
+
+    /**
+     * Checks if there is a compile-time index at the {@link ClassLoader}
+     *
+     * @return true when the index is available
+     */
+    boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Checks if the classpath root, a directory or a jar, ships an index, so its classes are already listed here
+     *
+     * @param element the classpath root
+     * @return true when the root has an index
+     */
+    boolean indexes(URL element) {
+        return roots.contains(root(element.toExternalForm()));
+    }
+
+    @Override
+    public Set<Class<?>> entities() {
+        return unmodifiableSet(entities);
+    }
+
+    @Override
+    public Set<Class<?>> repositories() {
+        return unmodifiableSet(repositories);
+    }
+
+    @Override
+    public Set<Class<?>> embeddables() {
+        return unmodifiableSet(embeddables);
+    }
+
+    @Override
+    public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
+        return RepositoryClasses.filter(repositories, filter);
+    }
+
+    @Override
+    public Set<Class<?>> repositoriesStandard() {
+        return RepositoryClasses.standard(repositories);
+    }
+
+    /**
+     * Returns the {@link IndexClassScanner} from the current context {@link ClassLoader}
+     *
+     * @return the {@link IndexClassScanner} instance
+     */
+    static IndexClassScanner instance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Creates a {@link IndexClassScanner} that reads the index from the {@link ClassLoader}
+     *
+     * @param loader the class loader
+     * @return a {@link IndexClassScanner} instance
+     * @throws NullPointerException when loader is null
+     */
+    static IndexClassScanner of(ClassLoader loader) {
+        Objects.requireNonNull(loader, "loader is required");
+        return new IndexClassScanner(loader);
+    }
+
+    static Set<String> read(ClassLoader loader, String resource) {
+        Set<String> names = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> urls = loader.getResources(resource);
+            while (urls.hasMoreElements()) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(urls.nextElement().openStream(),
+                        StandardCharsets.UTF_8))) {
+                    reader.lines().map(String::trim)
+                            .filter(StringUtils::isNotBlank)
+                            .filter(line -> !line.startsWith("#"))
+                            .forEach(names::add);
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return names;
+    }
+
+    private static Set<String> roots(ClassLoader loader) {
+        Set<String> roots = new HashSet<>();
+        for (String resource : List.of(ClassIndex.ENTITIES, ClassIndex.EMBEDDABLES, ClassIndex.REPOSITORIES)) {
+            try {
+                Enumeration<URL> urls = loader.getResources(resource);
+                while (urls.hasMoreElements()) {
+                    String url = urls.nextElement().toExternalForm();
+                    roots.add(root(url.substring(0, url.length() - resource.length())));
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * Normalizes the location of a classpath root, either from a resource at the {@link ClassLoader}, e.g.:
+     * jar:file:/app.jar!/, or from the classpath element, e.g.: file:/app.jar, to the same form.
+     */
+    static String root(String url) {
+        String root = url.startsWith("jar:") ? url.substring(4) : url;
+        if (root.endsWith("!/")) {
+            root = root.substring(0, root.length() - 2);
+        }
+        if (root.endsWith("/")) {
+            root = root.substring(0, root.length() - 1);
+        }
+        try {
+            URI uri = URI.create(root);
+            if ("file".equals(uri.getScheme())) {
+                return Paths.get(uri).normalize().toString();
+            }
+        } catch (IllegalArgumentException | FileSystemNotFoundException exception) {
+            LOGGER.finest(() -> "Keeping the classpath root as it is: " + url);
+        }
+        return root;
+    }
+
+    private static Set<Class<?>> load(ClassLoader loader, Set<String> names) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String name : names) {
+            try {
+                classes.add(Class.forName(name, false, loader));
+            } catch (ClassNotFoundException exception) {
+                throw new MetadataException("The class " + name + " from the class index was not found", exception);
+            }
+        }
+        return classes;
+    }
+
+    private static final class Holder {
+
+        private static final IndexClassScanner INSTANCE = StartupPhases.measure(StartupPhases.INDEX_SCAN,
+                () -> new IndexClassScanner(classLoader()));
+
+    }
+
+    static ClassLoader classLoader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader == null ? IndexClassScanner.class.getClassLoader() : loader;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import io.github.classgraph.ClassGraph;
+import jakarta.data.repository.DataRepository;
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+import org.eclipse.jnosql.mapping.metadata.StartupPhases;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * A {@link ClassScanner} that merges the compile-time index, {@link IndexClassScanner}, with a scan of the classpath
+ * roots that do not ship it. Thus, an index from a library does not hide the application classes, and the roots
+ * that have an index are not scanned again.
+ */
+final class IndexedClassScanner implements ClassScanner {
+
+    private static final Logger LOGGER = Logger.getLogger(IndexedClassScanner.class.getName());
+
+    private final Set<Class<?>> entities;
+    private final Set<Class<?>> repositories;
+    private final Set<Class<?>> embeddables;
+
+    private IndexedClassScanner(IndexClassScanner index, ClassGraph classGraph) {
+        this.entities = new HashSet<>(index.entities());
+        this.embeddables = new HashSet<>(index.embeddables());
+        this.repositories = new HashSet<>(index.repositories());
+        StartupPhases.measure(StartupPhases.CLASSPATH_SCAN, () -> {
+            ClassGraphClassScanner.scan(classGraph.filterClasspathElementsByURL(url -> !index.indexes(url)),
+                    entities, embeddables, repositories);
+            return null;
+        });
+        LOGGER.fine(String.format("Merged the class index and the scan with entities %d, embeddables %d and " +
+                "repositories: %d", entities.size(), embeddables.size(), repositories.size()));
+    }
+
+    @Override
+    public Set<Class<?>> entities() {
+        return unmodifiableSet(entities);
+    }
+
+    @Override
+    public Set<Class<?>> repositories() {
+        return unmodifiableSet(repositories);
+    }
+
+    @Override
+    public Set<Class<?>> embeddables() {
+        return unmodifiableSet(embeddables);
+    }
+
+    @Override
+    public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
+        return RepositoryClasses.filter(repositories, filter);
+    }
+
+    @Override
+    public Set<Class<?>> repositoriesStandard() {
+        return RepositoryClasses.standard(repositories);
+    }
+
+    /**
+     * Returns the {@link IndexedClassScanner} from the current context {@link ClassLoader}
+     *
+     * @return the {@link IndexedClassScanner} instance
+     */
+    static IndexedClassScanner instance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Creates a {@link IndexedClassScanner} that reads the index and scans the other classpath roots of the
+     * {@link ClassLoader}
+     *
+     * @param loader   the class loader
+     * @param packages the packages to scan, when empty the whole classpath
+     * @return a {@link IndexedClassScanner} instance
+     * @throws NullPointerException when loader is null
+     */
+    static IndexedClassScanner of(ClassLoader loader, String... packages) {
+        Objects.requireNonNull(loader, "loader is required");
+        return new IndexedClassScanner(IndexClassScanner.of(loader),
+                ClassGraphClassScanner.classGraph(packages).addClassLoader(loader));
+    }
+
+    private static final class Holder {
+
+        private static final IndexedClassScanner INSTANCE = new IndexedClassScanner(IndexClassScanner.instance(),
+                ClassGraphClassScanner.classGraph(ScanPackages.load(IndexClassScanner.classLoader())));
+
+    }
+}
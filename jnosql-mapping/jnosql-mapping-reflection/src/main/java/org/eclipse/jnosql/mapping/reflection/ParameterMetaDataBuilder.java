@@ -17,6 +17,7 @@ package org.eclipse.jnosql.mapping.reflection;
 import jakarta.nosql.Column;
 import jakarta.nosql.Id;
 import jakarta.nosql.Convert;
+import org.eclipse.jnosql.communication.NameDictionary;
 import org.eclipse.jnosql.mapping.metadata.MappingType;
 import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
@@ -45,6 +46,9 @@ class ParameterMetaDataBuilder {
                 && parameter.getDeclaringExecutable().getDeclaringClass().isRecord()) {
             name = parameter.getName();
         }
+        if (name != null) {
+            name = NameDictionary.intern(name);
+        }
         MappingType mappingType = MappingType.of(parameter.getType());
         return switch (mappingType) {
             case COLLECTION, MAP -> new DefaultGenericParameterMetaData(name, type,
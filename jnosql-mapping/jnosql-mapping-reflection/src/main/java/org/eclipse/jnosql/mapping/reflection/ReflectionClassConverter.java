@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.reflection;
 
 import jakarta.nosql.Convert;
+import org.eclipse.jnosql.communication.NameDictionary;
 import org.eclipse.jnosql.mapping.metadata.ClassConverter;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
@@ -28,6 +29,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -54,7 +56,7 @@ public final class ReflectionClassConverter implements ClassConverter {
     public EntityMetadata apply(Class<?> entity) {
 
         long start = System.currentTimeMillis();
-        String entityName = reflections.getEntityName(entity);
+        String entityName = NameDictionary.intern(reflections.getEntityName(entity));
 
         List<FieldMetadata> fields = reflections.getFields(entity)
                 .stream().map(this::to).collect(toList());
@@ -70,7 +72,7 @@ public final class ReflectionClassConverter implements ClassConverter {
 
 
         Constructor<?> constructor = Reflections.getConstructor(entity);
-        InstanceSupplier instanceSupplier = () -> Reflections.newInstance(constructor);
+        InstanceSupplier instanceSupplier = instanceSupplier(entity, constructor);
         InheritanceMetadata inheritance = reflections.getInheritance(entity).orElse(null);
         boolean hasInheritanceAnnotation = reflections.hasInheritanceAnnotation(entity);
 
@@ -91,6 +93,16 @@ public final class ReflectionClassConverter implements ClassConverter {
         return mapping;
     }
 
+    private InstanceSupplier instanceSupplier(Class<?> entity, Constructor<?> constructor) {
+        if (constructor.getParameterCount() == 0) {
+            Optional<InstanceSupplier> generated = EntityAccessors.INSTANCE.instanceSupplier(entity);
+            if (generated.isPresent()) {
+                return generated.get();
+            }
+        }
+        return () -> Reflections.newInstance(constructor);
+    }
+
     private Map<String, NativeMapping> getNativeFieldGroupByJavaField(List<FieldMetadata> fields,
                                                                       String javaField, String nativeField) {
 
@@ -174,12 +186,16 @@ public final class ReflectionClassConverter implements ClassConverter {
         reflections.makeAccessible(field);
         Convert convert = field.getAnnotation(Convert.class);
         boolean id = reflections.isIdField(field);
-        String columnName = id ? reflections.getIdName(field) : reflections.getColumnName(field);
+        String columnName = NameDictionary.intern(id ? reflections.getIdName(field) : reflections.getColumnName(field));
         String udt = reflections.getUDTName(field);
+        FieldReader reader = EntityAccessors.INSTANCE.reader(field)
+                .orElseGet(() -> bean -> reflections.getValue(bean, field));
+        FieldWriter writer = EntityAccessors.INSTANCE.writer(field)
+                .orElseGet(() -> (bean, value) -> reflections.setValue(bean, field, value));
         FieldMappingBuilder builder = new FieldMappingBuilder().name(columnName)
                 .field(field).type(mappingType).id(id).udt(udt)
-                .reader(bean -> reflections.getValue(bean, field))
-                .writer((bean, value) -> reflections.setValue(bean, field, value));
+                .reader(reader)
+                .writer(writer);
 
         if (nonNull(convert)) {
             builder.converter(convert.value());
@@ -22,31 +22,42 @@ import java.util.Set;
 /**
  * A class that implements the {@link ClassScanner} interface using the ClassGraph library for class scanning.
  * This class provides methods to scan for different types of classes such as entities, repositories, and embeddables.
+ * When the compile-time index, {@link org.eclipse.jnosql.mapping.metadata.ClassIndex}, is available, it is read
+ * instead of scanning the classpath roots that ship it; the other roots, e.g.: the application classes when only
+ * a library has an index, are still scanned.
  */
 public final class ReflectionClassScanner implements ClassScanner {
 
     @Override
     public Set<Class<?>> entities() {
-        return ClassGraphClassScanner.INSTANCE.entities();
+        return scanner().entities();
     }
 
     @Override
     public Set<Class<?>> repositories() {
-        return ClassGraphClassScanner.INSTANCE.repositories();
+        return scanner().repositories();
     }
 
     @Override
     public Set<Class<?>> embeddables() {
-        return ClassGraphClassScanner.INSTANCE.embeddables();
+        return scanner().embeddables();
     }
 
     @Override
     public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
-        return ClassGraphClassScanner.INSTANCE.repositories(filter);
+        return scanner().repositories(filter);
     }
 
     @Override
     public Set<Class<?>> repositoriesStandard() {
-        return ClassGraphClassScanner.INSTANCE.repositoriesStandard();
+        return scanner().repositoriesStandard();
+    }
+
+    private static ClassScanner scanner() {
+        IndexClassScanner index = IndexClassScanner.instance();
+        if (index.isAvailable()) {
+            return IndexedClassScanner.instance();
+        }
+        return ClassGraphClassScanner.INSTANCE;
     }
 }
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.repository.BasicRepository;
+import jakarta.data.repository.CrudRepository;
+import jakarta.data.repository.DataRepository;
+import org.eclipse.jnosql.mapping.NoSQLRepository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * The repository filters shared by the {@link org.eclipse.jnosql.mapping.metadata.ClassScanner} implementations.
+ */
+final class RepositoryClasses {
+
+    private RepositoryClasses() {
+    }
+
+    static <T extends DataRepository<?, ?>> Set<Class<?>> filter(Set<Class<?>> repositories, Class<T> filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        return repositories.stream().filter(filter::isAssignableFrom)
+                .filter(c -> Arrays.asList(c.getInterfaces()).contains(filter))
+                .collect(toUnmodifiableSet());
+    }
+
+    static Set<Class<?>> standard(Set<Class<?>> repositories) {
+        return repositories.stream()
+                .filter(c -> {
+                    List<Class<?>> interfaces = Arrays.asList(c.getInterfaces());
+                    return interfaces.contains(CrudRepository.class)
+                            || interfaces.contains(BasicRepository.class)
+                            || interfaces.contains(NoSQLRepository.class)
+                            || interfaces.contains(DataRepository.class);
+                }).collect(Collectors.toUnmodifiableSet());
+    }
+
+    static void checkInvalid(List<? extends Class<?>> classes) {
+        if (!classes.isEmpty()) {
+            Logger logger = Logger.getLogger(RepositoryClasses.class.getName());
+            String repositories = classes.stream()
+                    .map(Class::getName)
+                    .collect(Collectors.joining(","));
+            logger.info("The following repositories cannot be implemented by the Jakarta Data Provider JNoSQL " +
+                    "because the entities do not have the " + jakarta.nosql.Entity.class.getName() + " annotation: " +
+                    repositories);
+        }
+    }
+}
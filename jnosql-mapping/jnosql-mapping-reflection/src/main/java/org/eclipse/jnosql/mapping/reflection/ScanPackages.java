@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.metadata.ClassIndex;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+/**
+ * The packages a classpath scan is narrowed to. They come from both the {@link ScanPackages#PACKAGES} configuration,
+ * a comma-separated list, and the {@link ClassIndex#PACKAGES} marker resources. When there are none, the whole
+ * classpath is scanned.
+ */
+final class ScanPackages {
+
+    /**
+     * The configuration that defines the packages to scan, e.g.: jnosql.scan.packages=org.acme.entities,org.acme.repositories
+     */
+    static final String PACKAGES = "jnosql.scan.packages";
+
+    private static final Logger LOGGER = Logger.getLogger(ScanPackages.class.getName());
+
+    private ScanPackages() {
+    }
+
+    static String[] load(ClassLoader loader) {
+        Set<String> packages = new TreeSet<>(IndexClassScanner.read(loader, ClassIndex.PACKAGES));
+        configuration().ifPresent(value -> Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotBlank)
+                .forEach(packages::add));
+        return packages.toArray(String[]::new);
+    }
+
+    private static Optional<String> configuration() {
+        try {
+            return ConfigProvider.getConfig().getOptionalValue(PACKAGES, String.class);
+        } catch (IllegalStateException exception) {
+            LOGGER.fine("There is no MicroProfile Config implementation, ignoring the " + PACKAGES + " configuration");
+            return Optional.empty();
+        }
+    }
+}
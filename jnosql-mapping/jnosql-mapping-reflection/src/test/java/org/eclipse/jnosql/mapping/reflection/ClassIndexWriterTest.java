@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.metadata.ClassIndex;
+import org.eclipse.jnosql.mapping.reflection.entities.AnimalRepository;
+import org.eclipse.jnosql.mapping.reflection.entities.Contact;
+import org.eclipse.jnosql.mapping.reflection.entities.Job;
+import org.eclipse.jnosql.mapping.reflection.entities.MovieRepository;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.entities.PersonRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClassIndexWriterTest {
+
+    private static final String PACKAGE = Person.class.getPackageName();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldReturnErrorWhenThereIsNoOutput() {
+        assertThrows(IllegalArgumentException.class, () -> ClassIndexWriter.main(new String[0]));
+        assertThrows(NullPointerException.class, () -> ClassIndexWriter.write(null, PACKAGE));
+    }
+
+    @Test
+    void shouldWriteIndex() throws IOException {
+        ClassIndexWriter.main(new String[]{directory.toString(), PACKAGE});
+
+        assertThat(Files.readAllLines(directory.resolve(ClassIndex.ENTITIES)))
+                .hasSize(28).isSorted().contains(Person.class.getName());
+        assertThat(Files.readAllLines(directory.resolve(ClassIndex.EMBEDDABLES)))
+                .containsExactly(Contact.class.getName(), Job.class.getName());
+        assertThat(Files.readAllLines(directory.resolve(ClassIndex.REPOSITORIES)))
+                .containsExactly(AnimalRepository.class.getName(), MovieRepository.class.getName(), PersonRepository.class.getName());
+    }
+
+    @Test
+    void shouldReadWrittenIndex() throws IOException {
+        ClassIndexWriter.write(directory, PACKAGE);
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader())) {
+            IndexClassScanner scanner = IndexClassScanner.of(loader);
+            assertThat(scanner.entities()).hasSize(28).contains(Person.class);
+            assertThat(scanner.embeddables()).containsExactlyInAnyOrder(Job.class, Contact.class);
+            assertThat(scanner.repositories()).hasSize(3)
+                    .contains(AnimalRepository.class, PersonRepository.class, MovieRepository.class);
+        }
+    }
+
+    @Test
+    void shouldNarrowToPackages() throws IOException {
+        ClassIndexWriter.write(directory, "org.eclipse.jnosql.mapping.reflection.collection");
+        assertThat(Files.readAllLines(directory.resolve(ClassIndex.ENTITIES))).doesNotContain(Person.class.getName());
+        assertThat(Files.readAllLines(directory.resolve(ClassIndex.REPOSITORIES))).isEmpty();
+    }
+}
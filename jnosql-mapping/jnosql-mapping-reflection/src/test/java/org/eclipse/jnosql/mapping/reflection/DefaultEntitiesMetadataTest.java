@@ -64,6 +64,15 @@ class DefaultEntitiesMetadataTest {
         Assertions.assertNotNull(mapping);
         Assertions.assertEquals(Vendor.class, mapping.type());
     }
+    @Test
+    void shouldFindByNameIgnoringCase(){
+        this.mappings.load(Vendor.class);
+
+        EntityMetadata mapping = this.mappings.findByName("VENDORS");
+        Assertions.assertEquals(Vendor.class, mapping.type());
+        Assertions.assertSame(mapping, this.mappings.findByName("Vendors"));
+    }
+
     @Test
     void shouldFindBySimpleName(){
         this.mappings.load(Person.class);
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.NoSQLRepository;
+import org.eclipse.jnosql.mapping.metadata.ClassIndex;
+import org.eclipse.jnosql.mapping.metadata.MetadataException;
+import org.eclipse.jnosql.mapping.reflection.entities.AnimalRepository;
+import org.eclipse.jnosql.mapping.reflection.entities.Contact;
+import org.eclipse.jnosql.mapping.reflection.entities.Job;
+import org.eclipse.jnosql.mapping.reflection.entities.NoSQLVendor;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.entities.PersonRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexClassScannerTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldReturnErrorWhenLoaderIsNull() {
+        assertThrows(NullPointerException.class, () -> IndexClassScanner.of(null));
+    }
+
+    @Test
+    void shouldNotBeAvailableWithoutIndex() throws IOException {
+        try (URLClassLoader loader = loader()) {
+            IndexClassScanner scanner = IndexClassScanner.of(loader);
+            assertFalse(scanner.isAvailable());
+            assertThat(scanner.entities()).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldReadIndex() throws IOException {
+        write(ClassIndex.ENTITIES, Person.class.getName());
+        write(ClassIndex.EMBEDDABLES, "# embeddables", Job.class.getName(), Contact.class.getName());
+        write(ClassIndex.REPOSITORIES, PersonRepository.class.getName(), AnimalRepository.class.getName());
+        try (URLClassLoader loader = loader()) {
+            IndexClassScanner scanner = IndexClassScanner.of(loader);
+            assertTrue(scanner.isAvailable());
+            assertThat(scanner.entities()).containsExactly(Person.class);
+            assertThat(scanner.embeddables()).containsExactlyInAnyOrder(Job.class, Contact.class);
+            assertThat(scanner.repositories()).containsExactlyInAnyOrder(PersonRepository.class, AnimalRepository.class);
+            assertThat(scanner.repositories(NoSQLVendor.class)).containsExactly(AnimalRepository.class);
+            assertThat(scanner.repositories(NoSQLRepository.class)).containsExactly(PersonRepository.class);
+            assertThat(scanner.repositoriesStandard()).containsExactly(PersonRepository.class);
+        }
+    }
+
+    @Test
+    void shouldReturnErrorWhenClassDoesNotExist() throws IOException {
+        write(ClassIndex.ENTITIES, "org.eclipse.jnosql.NotFound");
+        try (URLClassLoader loader = loader()) {
+            assertThrows(MetadataException.class, () -> IndexClassScanner.of(loader));
+        }
+    }
+
+    @Test
+    void shouldCheckTheRootsWithIndex() throws IOException {
+        write(ClassIndex.ENTITIES, Person.class.getName());
+        try (URLClassLoader loader = loader()) {
+            IndexClassScanner scanner = IndexClassScanner.of(loader);
+            assertTrue(scanner.indexes(directory.toUri().toURL()));
+            assertFalse(scanner.indexes(directory.resolve("other").toUri().toURL()));
+        }
+    }
+
+    @Test
+    void shouldNormalizeRoot() {
+        String jar = directory.resolve("app.jar").toUri().toString();
+        assertThat(IndexClassScanner.root("jar:" + jar + "!/")).isEqualTo(IndexClassScanner.root(jar));
+        assertThat(IndexClassScanner.root(directory.toUri() + "/"))
+                .isEqualTo(directory.toString());
+    }
+
+    private void write(String resource, String... lines) throws IOException {
+        Path file = directory.resolve(resource);
+        Files.createDirectories(file.getParent());
+        Files.write(file, List.of(lines));
+    }
+
+    private URLClassLoader loader() throws IOException {
+        return new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.metadata.ClassIndex;
+import org.eclipse.jnosql.mapping.reflection.entities.Animal;
+import org.eclipse.jnosql.mapping.reflection.entities.Book;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IndexedClassScannerTest {
+
+    private static final String PACKAGE = "org.eclipse.jnosql.mapping.reflection.entities";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldReturnErrorWhenLoaderIsNull() {
+        assertThrows(NullPointerException.class, () -> IndexedClassScanner.of(null));
+    }
+
+    @Test
+    void shouldScanTheClassesOutsideTheIndex() throws IOException {
+        Path file = directory.resolve(ClassIndex.ENTITIES);
+        Files.createDirectories(file.getParent());
+        Files.write(file, List.of(Person.class.getName()));
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()},
+                getClass().getClassLoader())) {
+            IndexedClassScanner scanner = IndexedClassScanner.of(loader, PACKAGE);
+            assertThat(scanner.entities()).contains(Person.class, Book.class, Animal.class);
+            assertThat(scanner.entities()).isEqualTo(ClassGraphClassScanner.INSTANCE.entities().stream()
+                    .filter(c -> c.getPackageName().startsWith(PACKAGE))
+                    .collect(Collectors.toSet()));
+        }
+    }
+}
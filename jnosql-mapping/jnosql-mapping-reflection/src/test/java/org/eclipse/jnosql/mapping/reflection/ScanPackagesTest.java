@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.metadata.ClassIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScanPackagesTest {
+
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(ScanPackages.PACKAGES);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenThereIsNoPackage() throws IOException {
+        try (URLClassLoader loader = loader()) {
+            assertThat(ScanPackages.load(loader)).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldLoadFromMarker() throws IOException {
+        Path file = directory.resolve(ClassIndex.PACKAGES);
+        Files.createDirectories(file.getParent());
+        Files.write(file, List.of("# entities", "org.acme.entities", " ", "org.acme.repositories"));
+        try (URLClassLoader loader = loader()) {
+            assertThat(ScanPackages.load(loader)).containsExactly("org.acme.entities", "org.acme.repositories");
+        }
+    }
+
+    @Test
+    void shouldLoadFromConfiguration() throws IOException {
+        System.setProperty(ScanPackages.PACKAGES, "org.acme.entities, org.acme.repositories");
+        try (URLClassLoader loader = loader()) {
+            assertThat(ScanPackages.load(loader)).containsExactly("org.acme.entities", "org.acme.repositories");
+        }
+    }
+
+    private URLClassLoader loader() throws IOException {
+        return new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader());
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.semistructured;
 
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.CriteriaConditionBuilder;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
@@ -24,7 +25,6 @@ import java.util.List;
 import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
-import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
@@ -34,7 +34,7 @@ abstract class AbstractMapperQuery {
 
     protected boolean negate;
 
-    protected CriteriaCondition condition;
+    protected final CriteriaConditionBuilder condition = CriteriaCondition.builder();
 
     protected boolean and;
 
@@ -58,7 +58,7 @@ abstract class AbstractMapperQuery {
         this.template = template;
         mapping.inheritance().ifPresent(i -> {
             if(!i.parent().equals(mapping.type())){
-                this.condition = CriteriaCondition.eq(Element.of(i.discriminatorColumn(), i.discriminatorValue()));
+                this.condition.and(CriteriaCondition.eq(Element.of(i.discriminatorColumn(), i.discriminatorValue())));
                 this.and = true;
             }
         });
@@ -67,10 +67,10 @@ abstract class AbstractMapperQuery {
     protected void appendCondition(CriteriaCondition incomingCondition) {
         CriteriaCondition columnCondition = getCondition(incomingCondition);
 
-        if (nonNull(condition)) {
-            this.condition = and ? this.condition.and(columnCondition) : this.condition.or(columnCondition);
+        if (and) {
+            condition.and(columnCondition);
         } else {
-            this.condition = columnCondition;
+            condition.or(columnCondition);
         }
 
         this.negate = false;
@@ -21,23 +21,29 @@ import jakarta.data.page.PageRequest;
 import jakarta.data.page.impl.CursoredPageRecord;
 import jakarta.nosql.QueryMapper;
 
+import org.eclipse.jnosql.communication.semistructured.AggregateQuery;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.CommunicationObserverParser;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.NormalizedDatabaseManager;
 import org.eclipse.jnosql.communication.semistructured.QueryParser;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
+import org.eclipse.jnosql.mapping.core.util.SingleFlightStatistics;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 
 import java.time.Duration;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -48,6 +54,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.QUERY_NORMALIZE;
 
 /**
  * An abstract implementation of the {@link SemistructuredTemplate} interface providing
@@ -91,12 +98,16 @@ public abstract class AbstractSemistructuredTemplate implements SemistructuredTe
      */
     protected abstract Converters converters();
 
-    private final UnaryOperator<CommunicationEntity> insert = e -> manager().insert(e);
+    private final UnaryOperator<CommunicationEntity> insert = e -> writeThrough(e, database()::insert);
 
-    private final UnaryOperator<CommunicationEntity> update = e -> manager().update(e);
+    private final UnaryOperator<CommunicationEntity> update = e -> writeThrough(e, database()::update);
 
     private CommunicationObserverParser observer;
 
+    private final CursorPrefetch prefetch = CursorPrefetch.of();
+
+    private Database database;
+
 
     private CommunicationObserverParser getObserver() {
         if (Objects.isNull(observer)) {
@@ -105,6 +116,67 @@ public abstract class AbstractSemistructuredTemplate implements SemistructuredTe
         return observer;
     }
 
+    /**
+     * Returns the manager that the template uses: the {@link #manager()} itself, or its
+     * {@link NormalizedDatabaseManager}, {@link SingleFlightManager}, {@link EntityCacheManager} and
+     * {@link QueryCacheManager} decorators when they are active.
+     */
+    private DatabaseManager database() {
+        return getDatabase().manager();
+    }
+
+    private Database getDatabase() {
+        DatabaseManager manager = manager();
+        Database current = database;
+        if (Objects.isNull(current) || current.source() != manager) {
+            DatabaseManager single = SingleFlightManager.of(normalize(manager));
+            SingleFlightManager flight = single instanceof SingleFlightManager singleFlight ? singleFlight : null;
+            DatabaseManager cached = EntityCacheManager.of(single, entities());
+            EntityCacheManager cache = cached instanceof EntityCacheManager entityCache ? entityCache : null;
+            current = new Database(manager, flight, cache, QueryCacheManager.of(cached, entities()));
+            database = current;
+        }
+        return current;
+    }
+
+    private static DatabaseManager normalize(DatabaseManager manager) {
+        boolean enabled = MicroProfileSettings.INSTANCE.get(QUERY_NORMALIZE, Boolean.class).orElse(false);
+        return enabled ? NormalizedDatabaseManager.of(manager) : manager;
+    }
+
+    private record Database(DatabaseManager source, SingleFlightManager flight, EntityCacheManager cache,
+                            DatabaseManager manager) {
+    }
+
+    /**
+     * Discards what the template keeps about the entity, such as cached results and in-flight reads. Subclasses call it
+     * after writing entities without the {@link #manager()}, e.g.: straight at the database driver.
+     *
+     * @param entity the entity name
+     * @throws NullPointerException when entity is null
+     */
+    protected void invalidate(String entity) {
+        requireNonNull(entity, "entity is required");
+        Database current = getDatabase();
+        if (current.flight() != null) {
+            current.flight().forget(entity);
+        }
+        if (current.cache() != null) {
+            current.cache().clear(entity);
+        }
+        if (current.manager() instanceof QueryCacheManager queryCache) {
+            queryCache.invalidate(entity);
+        }
+    }
+
+    private CommunicationEntity writeThrough(CommunicationEntity entity, UnaryOperator<CommunicationEntity> write) {
+        EntityCacheManager cache = getDatabase().cache();
+        if (cache != null) {
+            return cache.writeThrough(entity, write);
+        }
+        return write.apply(entity);
+    }
+
     @Override
     public <T> T insert(T entity) {
         requireNonNull(entity, "entity is required");
@@ -116,7 +188,7 @@ public abstract class AbstractSemistructuredTemplate implements SemistructuredTe
     public <T> T insert(T entity, Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        return persist(entity, e -> manager().insert(e, ttl));
+        return persist(entity, e -> database().insert(e, ttl));
     }
 
 
@@ -152,7 +224,7 @@ public abstract class AbstractSemistructuredTemplate implements SemistructuredTe
     @Override
     public void delete(DeleteQuery query) {
         requireNonNull(query, "query is required");
-        manager().delete(query);
+        database().delete(query);
     }
 
 
@@ -164,17 +236,39 @@ public abstract class AbstractSemistructuredTemplate implements SemistructuredTe
 
     @Override
     public long count(SelectQuery query) {
-        return manager().count(query);
+        return database().count(query);
+    }
+
+    @Override
+    public Stream<Map<String, Object>> aggregate(AggregateQuery query) {
+        requireNonNull(query, "query is required");
+        return database().aggregate(query).map(CommunicationEntity::toMap);
+    }
+
+    @Override
+    public long update(UpdateQuery query) {
+        requireNonNull(query, "query is required");
+        if (query.key().isEmpty()) {
+            return database().update(getObserver().fireKey(query.name()).map(query::withKey).orElse(query));
+        }
+        return database().update(query);
     }
 
     @Override
     public boolean exists(SelectQuery query) {
-        return manager().exists(query);
+        return database().exists(query);
     }
 
     @Override
     public <T> Optional<T> singleResult(SelectQuery query) {
         requireNonNull(query, "query is required");
+        if (getDatabase().flight() != null) {
+            return database().singleResult(query).map(e -> {
+                T entity = converter().toEntity(e);
+                eventManager().firePostEntity(entity);
+                return entity;
+            });
+        }
         final Stream<T> select = select(query);
 
         final Iterator<T> iterator = select.iterator();
@@ -202,6 +296,14 @@ public abstract class AbstractSemistructuredTemplate implements SemistructuredTe
         SelectQuery query = SelectQuery.select().from(entityMetadata.name())
                 .where(idField.name()).eq(value).build();
 
+        EntityCacheManager cache = getDatabase().cache();
+        if (cache != null && cache.cacheable(entityMetadata.name())) {
+            return cache.find(query, value).map(c -> {
+                T entity = converter().toEntity(c);
+                eventManager().firePostEntity(entity);
+                return entity;
+            });
+        }
         return singleResult(query);
     }
 
@@ -217,14 +319,14 @@ public abstract class AbstractSemistructuredTemplate implements SemistructuredTe
 
         DeleteQuery query = DeleteQuery.delete().from(entityMetadata.name())
                 .where(idField.name()).eq(value).build();
-        manager().delete(query);
+        database().delete(query);
     }
 
 
     @Override
     public <T> Stream<T> query(String query) {
         requireNonNull(query, "query is required");
-        return PARSER.query(query, manager(), getObserver()).map(c -> converter().toEntity(c));
+        return prepare(query).result();
     }
 
     @Override
@@ -244,29 +346,46 @@ public abstract class AbstractSemistructuredTemplate implements SemistructuredTe
 
     @Override
     public org.eclipse.jnosql.mapping.PreparedStatement prepare(String query) {
-        return new PreparedStatement(PARSER.prepare(query, manager(), getObserver()), converter());
+        return new PreparedStatement(PARSER.prepare(query, database(), getObserver()), converter());
     }
 
 
     @Override
     public long count(String columnFamily) {
-        return manager().count(columnFamily);
+        return database().count(columnFamily);
     }
 
 
     @Override
     public <T> long count(Class<T> type) {
         requireNonNull(type, "entity class is required");
-        return manager().count(findAllQuery(type));
+        return database().count(findAllQuery(type));
     }
 
     private <T> Stream<T> executeQuery(SelectQuery query) {
         requireNonNull(query, "query is required");
-        Stream<CommunicationEntity> entities = manager().select(query);
+        Stream<CommunicationEntity> entities = database().select(query);
         Function<CommunicationEntity, T> function = e -> converter().toEntity(e);
         return entities.map(function).peek(eventManager()::firePostEntity);
     }
 
+    @Override
+    public EntityCacheStatistics cacheStatistics() {
+        EntityCacheManager cache = getDatabase().cache();
+        return cache == null ? EntityCacheStatistics.EMPTY : cache.statistics();
+    }
+
+    @Override
+    public SingleFlightStatistics singleFlightStatistics() {
+        SingleFlightManager flight = getDatabase().flight();
+        return flight == null ? SingleFlightStatistics.EMPTY : flight.statistics();
+    }
+
+    @Override
+    public EntityTransfer transfer() {
+        return new EntityTransfer(converter(), entities(), database(), this::findAllQuery);
+    }
+
     @Override
     public <T> QueryMapper.MapperFrom select(Class<T> type) {
         Objects.requireNonNull(type, "type is required");
@@ -294,13 +413,13 @@ public abstract class AbstractSemistructuredTemplate implements SemistructuredTe
         if(metadata.inheritance().isPresent()){
             InheritanceMetadata inheritanceMetadata = metadata.inheritance().orElseThrow();
             if(!inheritanceMetadata.parent().equals(metadata.type())){
-                manager().delete(DeleteQuery.delete().from(metadata.name())
+                database().delete(DeleteQuery.delete().from(metadata.name())
                         .where(inheritanceMetadata.discriminatorColumn())
                         .eq(inheritanceMetadata.discriminatorValue()).build());
                 return;
             }
         }
-        manager().delete(DeleteQuery.delete().from(metadata.name()).build());
+        database().delete(DeleteQuery.delete().from(metadata.name()).build());
     }
 
     @SuppressWarnings("unchecked")
@@ -308,7 +427,7 @@ public abstract class AbstractSemistructuredTemplate implements SemistructuredTe
     public <T> CursoredPage<T> selectCursor(SelectQuery query, PageRequest<T> pageRequest){
         Objects.requireNonNull(query, "query is required");
         Objects.requireNonNull(pageRequest, "pageRequest is required");
-        CursoredPage<CommunicationEntity> cursoredPage = this.manager().selectCursor(query, pageRequest);
+        CursoredPage<CommunicationEntity> cursoredPage = prefetch.select(database(), query, pageRequest);
         List<T> entities = cursoredPage.stream().<T>map(c -> converter().toEntity(c)).toList();
         PageRequest<T> nextPageRequest = cursoredPage.hasNext()? (PageRequest<T>) cursoredPage.nextPageRequest(): null;
         PageRequest<T> beforePageRequest = cursoredPage.hasPrevious()? (PageRequest<T>) cursoredPage.previousPageRequest(): null;
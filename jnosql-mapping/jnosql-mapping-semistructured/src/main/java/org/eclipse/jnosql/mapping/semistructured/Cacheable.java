@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the entity at the second-level cache of the {@link SemistructuredTemplate}, so
+ * {@link SemistructuredTemplate#find(Class, Object)} and the repository {@code findById} are answered without going
+ * to the database. The template writes through the cache on insert and update and evicts it on delete.
+ *
+ * <pre>{@code
+ * @Entity
+ * @Cacheable(ttl = 10, unit = TimeUnit.MINUTES)
+ * public class Product {
+ *
+ *     @Id
+ *     private String sku;
+ *
+ *     @Column
+ *     private String name;
+ * }
+ * }</pre>
+ *
+ * <p>The cache is active only when the {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#ENTITY_CACHE}
+ * configuration is true. Writes made outside the template, e.g.: by another application instance, are seen only after
+ * the TTL.</p>
+ *
+ * @see EntityCache
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cacheable {
+
+    /**
+     * How long an entity is kept.
+     *
+     * @return the time to live, by default 60
+     */
+    long ttl() default 60L;
+
+    /**
+     * The unit of {@link #ttl()}.
+     *
+     * @return the time unit, by default seconds
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
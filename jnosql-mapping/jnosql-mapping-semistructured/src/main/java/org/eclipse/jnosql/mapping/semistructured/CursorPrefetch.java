@@ -0,0 +1,196 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.CURSOR_PREFETCH;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.CURSOR_PREFETCH_PAGES;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.CURSOR_PREFETCH_THREADS;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.CURSOR_PREFETCH_TTL;
+
+/**
+ * Prefetches the next page of a cursor-based pagination: once a page with a next page is returned, the keyset
+ * query of the next page runs on a bounded executor, and the result waits, for at most the TTL, for the
+ * request of that page. Each prefetched page is used once; when the memory bound, the number of pages, is reached,
+ * or the executor is busy, the next page is not prefetched and it is read on demand as usual.
+ * <p>A prefetched page is a snapshot taken when the previous page was read, so it is an opt-in feature,
+ * see {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#CURSOR_PREFETCH}.</p>
+ */
+final class CursorPrefetch {
+
+    private static final Logger LOGGER = Logger.getLogger(CursorPrefetch.class.getName());
+
+    private static final CursorPrefetch DISABLED = new CursorPrefetch(0, Duration.ZERO, Runnable::run, System::nanoTime);
+
+    private static final int DEFAULT_PAGES = 64;
+
+    private static final long DEFAULT_TTL = 30L;
+
+    private static final int DEFAULT_THREADS = 2;
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private final int pages;
+
+    private final long ttl;
+
+    private final Executor executor;
+
+    private final LongSupplier clock;
+
+    private final Map<Key, Entry> prefetched = new ConcurrentHashMap<>();
+
+    CursorPrefetch(int pages, Duration ttl, Executor executor, LongSupplier clock) {
+        this.pages = pages;
+        this.ttl = ttl.toNanos();
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the page, either the prefetched one or read from the manager, and prefetches the next page.
+     *
+     * @param manager     the manager
+     * @param query       the query
+     * @param pageRequest the page request
+     * @return the page
+     */
+    CursoredPage<CommunicationEntity> select(DatabaseManager manager, SelectQuery query, PageRequest<?> pageRequest) {
+        if (pages == 0) {
+            return manager.selectCursor(query, pageRequest);
+        }
+        CursoredPage<CommunicationEntity> page = take(Key.of(query, pageRequest));
+        if (page == null) {
+            page = manager.selectCursor(query, pageRequest);
+        }
+        if (page.hasNext()) {
+            prefetch(manager, query, page.nextPageRequest());
+        }
+        return page;
+    }
+
+    int size() {
+        return prefetched.size();
+    }
+
+    private CursoredPage<CommunicationEntity> take(Key key) {
+        Entry entry = key == null ? null : prefetched.remove(key);
+        if (entry == null || entry.expired(clock.getAsLong())) {
+            return null;
+        }
+        try {
+            return entry.page().join();
+        } catch (CompletionException exception) {
+            LOGGER.log(Level.FINE, "The prefetched page failed, reading it again", exception.getCause());
+            return null;
+        }
+    }
+
+    private void prefetch(DatabaseManager manager, SelectQuery query, PageRequest<?> next) {
+        Key key = Key.of(query, next);
+        if (key == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        if (prefetched.size() >= pages) {
+            prefetched.values().removeIf(e -> e.expired(now));
+            if (prefetched.size() >= pages) {
+                return;
+            }
+        }
+        CompletableFuture<CursoredPage<CommunicationEntity>> future = new CompletableFuture<>();
+        if (prefetched.putIfAbsent(key, new Entry(future, now + ttl)) != null) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(manager.selectCursor(query, next));
+                } catch (RuntimeException exception) {
+                    future.completeExceptionally(exception);
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            prefetched.remove(key);
+            LOGGER.finest("The cursor prefetch executor is busy, skipping the prefetch");
+        }
+    }
+
+    /**
+     * Creates the {@link CursorPrefetch} from the configuration,
+     * it returns an instance that does not prefetch when the feature is not active.
+     *
+     * @return the {@link CursorPrefetch} instance
+     */
+    static CursorPrefetch of() {
+        var settings = MicroProfileSettings.INSTANCE;
+        boolean enabled = settings.get(CURSOR_PREFETCH, Boolean.class).orElse(false);
+        if (!enabled) {
+            return DISABLED;
+        }
+        int pages = settings.get(CURSOR_PREFETCH_PAGES, Integer.class).filter(p -> p > 0).orElse(DEFAULT_PAGES);
+        long ttl = settings.get(CURSOR_PREFETCH_TTL, Long.class).filter(t -> t > 0).orElse(DEFAULT_TTL);
+        int threads = settings.get(CURSOR_PREFETCH_THREADS, Integer.class).filter(t -> t > 0).orElse(DEFAULT_THREADS);
+        var executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(pages), runnable -> {
+            Thread thread = new Thread(runnable, "jnosql-cursor-prefetch-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return new CursorPrefetch(pages, Duration.ofSeconds(ttl), executor, System::nanoTime);
+    }
+
+    private record Key(SelectQuery query, PageRequest.Mode mode, int size, List<?> keys) {
+
+        static Key of(SelectQuery query, PageRequest<?> pageRequest) {
+            if (!PageRequest.Mode.CURSOR_NEXT.equals(pageRequest.mode())) {
+                return null;
+            }
+            return pageRequest.cursor()
+                    .map(cursor -> new Key(query, pageRequest.mode(), pageRequest.size(), cursor.elements()))
+                    .orElse(null);
+        }
+    }
+
+    private record Entry(CompletableFuture<CursoredPage<CommunicationEntity>> page, long expiresAt) {
+
+        boolean expired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The second-level cache of the entities annotated with {@link Cacheable}, keyed by the entity name and the id
+ * in the database format. It keeps the {@link CommunicationEntity} form, so each hit is converted to a new entity
+ * instance.
+ *
+ * <p>By default, the templates keep a local cache bounded by entries. An implementation registered through the
+ * {@link java.util.ServiceLoader}, e.g.: backed by a distributed cache, replaces it, and the template keeps a short-lived
+ * local near cache in front of it; see
+ * {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#ENTITY_CACHE_NEAR_TTL}.</p>
+ *
+ * <p>Implementations must be thread-safe.</p>
+ */
+public interface EntityCache {
+
+    /**
+     * Finds the entity
+     *
+     * @param entity the entity name
+     * @param id     the id in the database format
+     * @return the entity or {@link Optional#empty()} when it is not in the cache or it is expired
+     */
+    Optional<CommunicationEntity> get(String entity, Object id);
+
+    /**
+     * Keeps the entity, replacing any previous one with the same id
+     *
+     * @param entity        the entity name
+     * @param id            the id in the database format
+     * @param communication the entity
+     * @param ttl           how long the entity is kept
+     */
+    void put(String entity, Object id, CommunicationEntity communication, Duration ttl);
+
+    /**
+     * Removes the entity
+     *
+     * @param entity the entity name
+     * @param id     the id in the database format
+     */
+    void evict(String entity, Object id);
+
+    /**
+     * Removes all the entities with the name
+     *
+     * @param entity the entity name
+     */
+    void clear(String entity);
+
+    /**
+     * Returns the statistics of the cache
+     *
+     * @return the statistics
+     */
+    EntityCacheStatistics statistics();
+}
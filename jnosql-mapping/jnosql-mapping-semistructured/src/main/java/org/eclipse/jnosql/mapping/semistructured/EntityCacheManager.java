@@ -0,0 +1,376 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.semistructured.AggregateQuery;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.KeysetCondition;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.ENTITY_CACHE;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.ENTITY_CACHE_ENTRIES;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.ENTITY_CACHE_NEAR_TTL;
+
+/**
+ * A {@link DatabaseManager} decorator that keeps the {@link EntityCache} of the entities annotated with
+ * {@link Cacheable} consistent: every insert and update through this manager evicts the entity by its id, and
+ * every delete or conditional update evicts the id of the query or, when the query is not by id, all the entities
+ * with the same name.
+ * The template looks up the entities by id through {@link #find(SelectQuery, Object)} and writes through
+ * with {@link #writeThrough(CommunicationEntity, UnaryOperator)}. An entity read or written while another write on
+ * the same entity name happens is not kept, so a slower writer never replaces a newer entry.
+ */
+final class EntityCacheManager implements DatabaseManager {
+
+    private static final int DEFAULT_ENTRIES = 10_000;
+
+    private static final long DEFAULT_NEAR_TTL = 5L;
+
+    private final DatabaseManager manager;
+
+    private final EntityCache cache;
+
+    private final Function<String, Optional<Policy>> policy;
+
+    private final Map<String, Optional<Policy>> policies = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    EntityCacheManager(DatabaseManager manager, EntityCache cache, Function<String, Optional<Policy>> policy) {
+        this.manager = manager;
+        this.cache = cache;
+        this.policy = policy;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity) {
+        CommunicationEntity result = manager.insert(entity);
+        evict(entity);
+        return result;
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
+        CommunicationEntity result = manager.insert(entity, ttl);
+        evict(entity);
+        return result;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        List<CommunicationEntity> values = toList(entities);
+        Iterable<CommunicationEntity> result = manager.insert(values);
+        values.forEach(this::evict);
+        return result;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
+        List<CommunicationEntity> values = toList(entities);
+        Iterable<CommunicationEntity> result = manager.insert(values, ttl);
+        values.forEach(this::evict);
+        return result;
+    }
+
+    @Override
+    public CommunicationEntity update(CommunicationEntity entity) {
+        CommunicationEntity result = manager.update(entity);
+        evict(entity);
+        return result;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
+        List<CommunicationEntity> values = toList(entities);
+        Iterable<CommunicationEntity> result = manager.update(values);
+        values.forEach(this::evict);
+        return result;
+    }
+
+    @Override
+    public long update(UpdateQuery query) {
+        long result = manager.update(query);
+        evict(query.name(), query.condition());
+        return result;
+    }
+
+    @Override
+    public void delete(DeleteQuery query) {
+        manager.delete(query);
+        evict(query.name(), query.condition());
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query) {
+        return manager.select(query);
+    }
+
+    @Override
+    public Optional<CommunicationEntity> singleResult(SelectQuery query) {
+        return manager.singleResult(query);
+    }
+
+    @Override
+    public Stream<CommunicationEntity> aggregate(AggregateQuery query) {
+        return manager.aggregate(query);
+    }
+
+    @Override
+    public long count(SelectQuery query) {
+        return manager.count(query);
+    }
+
+    @Override
+    public boolean exists(SelectQuery query) {
+        return manager.exists(query);
+    }
+
+    @Override
+    public CursoredPage<CommunicationEntity> selectCursor(SelectQuery query, PageRequest<?> pageRequest) {
+        return manager.selectCursor(query, pageRequest);
+    }
+
+    @Override
+    public KeysetCondition keysetCondition() {
+        return manager.keysetCondition();
+    }
+
+    @Override
+    public long count(String entity) {
+        return manager.count(entity);
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    /**
+     * Checks if the entity is kept at the cache
+     *
+     * @param name the entity name
+     * @return true when the entity is annotated with {@link Cacheable}
+     */
+    boolean cacheable(String name) {
+        return policy(name).isPresent();
+    }
+
+    /**
+     * Finds the entity by id at the cache and, on a miss, executes the query and keeps its result
+     *
+     * @param query the query by id
+     * @param id    the id in the database format
+     * @return the entity
+     */
+    Optional<CommunicationEntity> find(SelectQuery query, Object id) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(id, "id is required");
+        String name = query.name();
+        Optional<Policy> current = policy(name);
+        if (current.isEmpty()) {
+            return manager.singleResult(query);
+        }
+        Optional<CommunicationEntity> cached = cache.get(name, id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        AtomicLong generation = generation(name);
+        long version = generation.get();
+        Optional<CommunicationEntity> entity = manager.singleResult(query);
+        entity.ifPresent(e -> keep(name, id, e, current.get().ttl(), generation, version));
+        return entity;
+    }
+
+    /**
+     * Executes the write, an insert or update through this manager, and keeps the complete entity it returns.
+     * The write evicts the entity once, so the entity is kept only when there was no other write on the same
+     * entity name meanwhile.
+     *
+     * @param entity the entity
+     * @param write  the insert or update of the entity
+     * @return the written entity
+     */
+    CommunicationEntity writeThrough(CommunicationEntity entity, UnaryOperator<CommunicationEntity> write) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(write, "write is required");
+        String name = entity.name();
+        Optional<Policy> current = policy(name);
+        if (current.isEmpty()) {
+            return write.apply(entity);
+        }
+        AtomicLong generation = generation(name);
+        long version = generation.get() + 1;
+        CommunicationEntity result = write.apply(entity);
+        Policy policy = current.get();
+        result.find(policy.id()).map(Element::get)
+                .ifPresent(id -> keep(name, id, result, policy.ttl(), generation, version));
+        return result;
+    }
+
+    /**
+     * Removes all the cached entities with the name, e.g.: after a write that did not go through this manager
+     *
+     * @param name the entity name
+     */
+    void clear(String name) {
+        if (cacheable(name)) {
+            generation(name).incrementAndGet();
+            cache.clear(name);
+        }
+    }
+
+    /**
+     * The statistics of the cache
+     *
+     * @return the statistics
+     */
+    EntityCacheStatistics statistics() {
+        return cache.statistics();
+    }
+
+    /**
+     * The decorated manager
+     *
+     * @return the decorated manager
+     */
+    DatabaseManager manager() {
+        return manager;
+    }
+
+    /**
+     * Decorates the manager with the entity cache when the
+     * {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#ENTITY_CACHE} is active,
+     * otherwise returns the manager itself. An {@link EntityCache} registered through the
+     * {@link ServiceLoader} is used with a near cache in front of it; otherwise, a {@link LocalEntityCache}.
+     *
+     * @param manager  the manager
+     * @param entities the entities metadata
+     * @return the manager or its entity cache decorator
+     */
+    static DatabaseManager of(DatabaseManager manager, EntitiesMetadata entities) {
+        var settings = MicroProfileSettings.INSTANCE;
+        boolean enabled = settings.get(ENTITY_CACHE, Boolean.class).orElse(false);
+        if (!enabled) {
+            return manager;
+        }
+        int maxEntries = settings.get(ENTITY_CACHE_ENTRIES, Integer.class).filter(e -> e > 0).orElse(DEFAULT_ENTRIES);
+        LocalEntityCache local = new LocalEntityCache(maxEntries, System::nanoTime);
+        EntityCache cache = ServiceLoader.load(EntityCache.class).findFirst()
+                .<EntityCache>map(remote -> {
+                    long seconds = settings.get(ENTITY_CACHE_NEAR_TTL, Long.class).filter(t -> t > 0)
+                            .orElse(DEFAULT_NEAR_TTL);
+                    return new NearEntityCache(local, remote, Duration.ofSeconds(seconds));
+                }).orElse(local);
+        return new EntityCacheManager(manager, cache, name -> policy(entities, name));
+    }
+
+    private static Optional<Policy> policy(EntitiesMetadata entities, String name) {
+        try {
+            EntityMetadata metadata = entities.findByName(name);
+            Optional<FieldMetadata> id = metadata.id();
+            return Optional.ofNullable(metadata.type().getAnnotation(Cacheable.class))
+                    .filter(cacheable -> id.isPresent())
+                    .map(cacheable -> Duration.of(cacheable.ttl(), cacheable.unit().toChronoUnit()))
+                    .filter(duration -> !duration.isNegative() && !duration.isZero())
+                    .map(duration -> new Policy(id.orElseThrow().name(), duration));
+        } catch (RuntimeException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Policy> policy(String name) {
+        return policies.computeIfAbsent(name, policy);
+    }
+
+    private void keep(String name, Object id, CommunicationEntity entity, Duration ttl, AtomicLong generation,
+                      long version) {
+        if (generation.get() == version) {
+            cache.put(name, id, entity.copy(), ttl);
+            if (generation.get() != version) {
+                cache.evict(name, id);
+            }
+        }
+    }
+
+    private AtomicLong generation(String name) {
+        return generations.computeIfAbsent(name, n -> new AtomicLong());
+    }
+
+    private void evict(CommunicationEntity entity) {
+        String name = entity.name();
+        policy(name).ifPresent(p -> {
+            generation(name).incrementAndGet();
+            entity.find(p.id()).map(Element::get)
+                    .ifPresentOrElse(id -> cache.evict(name, id), () -> cache.clear(name));
+        });
+    }
+
+    private void evict(String name, Optional<CriteriaCondition> condition) {
+        policy(name).ifPresent(p -> {
+            generation(name).incrementAndGet();
+            condition.filter(c -> Condition.EQUALS.equals(c.condition()))
+                    .map(CriteriaCondition::element)
+                    .filter(element -> element.name().equals(p.id()))
+                    .map(Element::get)
+                    .ifPresentOrElse(id -> cache.evict(name, id), () -> cache.clear(name));
+        });
+    }
+
+    private static List<CommunicationEntity> toList(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<CommunicationEntity> values = new ArrayList<>();
+        entities.forEach(values::add);
+        return values;
+    }
+
+    /**
+     * How an entity name is cached
+     *
+     * @param id  the id column name
+     * @param ttl how long an entity is kept
+     */
+    record Policy(String id, Duration ttl) {
+    }
+}
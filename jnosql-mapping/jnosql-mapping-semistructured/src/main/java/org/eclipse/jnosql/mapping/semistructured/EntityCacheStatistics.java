@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+/**
+ * The statistics of an {@link EntityCache}.
+ *
+ * @param hits      the number of lookups found at the cache
+ * @param misses    the number of lookups not found at the cache
+ * @param puts      the number of entities kept
+ * @param evictions the number of entities removed because of the size bound or the TTL
+ * @param size      the number of entities currently kept
+ */
+public record EntityCacheStatistics(long hits, long misses, long puts, long evictions, long size) {
+
+    /**
+     * The statistics of a cache that was never used.
+     */
+    public static final EntityCacheStatistics EMPTY = new EntityCacheStatistics(0L, 0L, 0L, 0L, 0L);
+
+    /**
+     * Returns the ratio of the lookups found at the cache
+     *
+     * @return the hit ratio between 0 and 1, or 0 when there is no lookup
+     */
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0L ? 0D : (double) hits / requests;
+    }
+}
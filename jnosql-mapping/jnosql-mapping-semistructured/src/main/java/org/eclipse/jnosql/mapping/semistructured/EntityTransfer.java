@@ -0,0 +1,401 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.JsonLines;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Imports and exports entities as newline-delimited JSON (NDJSON), one {@link JsonLines} object per line.
+ * It streams the lines, so it keeps at most one chunk of entities in memory whatever the file size: an import reads
+ * a chunk, writes it with a single {@link DatabaseManager#insert(Iterable)} call and only then reads the next one.
+ * The entities are written straight at the {@link DatabaseManager}, without the entity events.
+ *
+ * <pre>{@code
+ * TransferProgress progress = template.transfer()
+ *         .chunkSize(500)
+ *         .progress(p -> LOGGER.info(p.lines() + " lines at " + p.throughput() + " entities/s"))
+ *         .importFrom(Path.of("people.ndjson"), Person.class);
+ * }</pre>
+ *
+ * A failed transfer resumes from the {@link TransferProgress#lines()} of the last progress with {@link #skip(long)}.
+ * Instances are immutable, every option returns a new one.
+ */
+public final class EntityTransfer {
+
+    static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    private final EntityConverter converter;
+
+    private final EntitiesMetadata entities;
+
+    private final DatabaseManager manager;
+
+    private final Function<Class<?>, SelectQuery> findAll;
+
+    private final int chunkSize;
+
+    private final long skip;
+
+    private final Consumer<TransferProgress> listener;
+
+    EntityTransfer(EntityConverter converter, EntitiesMetadata entities, DatabaseManager manager,
+                   Function<Class<?>, SelectQuery> findAll) {
+        this(converter, entities, manager, findAll, DEFAULT_CHUNK_SIZE, 0L, progress -> {
+        });
+    }
+
+    private EntityTransfer(EntityConverter converter, EntitiesMetadata entities, DatabaseManager manager,
+                           Function<Class<?>, SelectQuery> findAll, int chunkSize, long skip,
+                           Consumer<TransferProgress> listener) {
+        this.converter = converter;
+        this.entities = entities;
+        this.manager = manager;
+        this.findAll = findAll;
+        this.chunkSize = chunkSize;
+        this.skip = skip;
+        this.listener = listener;
+    }
+
+    /**
+     * Defines how many entities go in each insert call and how often the progress is reported, the default is 1000.
+     *
+     * @param chunkSize the chunk size
+     * @return a new {@link EntityTransfer} instance
+     * @throws IllegalArgumentException when the chunk size is not positive
+     */
+    public EntityTransfer chunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        return new EntityTransfer(converter, entities, manager, findAll, chunkSize, skip, listener);
+    }
+
+    /**
+     * Skips the first lines: an import ignores them, and an export skips as many entities and appends to a file.
+     *
+     * @param lines the lines to skip
+     * @return a new {@link EntityTransfer} instance
+     * @throws IllegalArgumentException when lines is negative
+     */
+    public EntityTransfer skip(long lines) {
+        if (lines < 0) {
+            throw new IllegalArgumentException("lines cannot be negative: " + lines);
+        }
+        return new EntityTransfer(converter, entities, manager, findAll, chunkSize, lines, listener);
+    }
+
+    /**
+     * Defines the listener that receives the progress after each chunk and at the end.
+     *
+     * @param listener the listener
+     * @return a new {@link EntityTransfer} instance
+     * @throws NullPointerException when listener is null
+     */
+    public EntityTransfer progress(Consumer<TransferProgress> listener) {
+        Objects.requireNonNull(listener, "listener is required");
+        return new EntityTransfer(converter, entities, manager, findAll, chunkSize, skip, listener);
+    }
+
+    /**
+     * Imports the file lines as entities of the type, converting them through the entity mapping.
+     *
+     * @param path the NDJSON file
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the final progress
+     * @throws NullPointerException   when there is a null parameter
+     * @throws UncheckedIOException   when the file cannot be read
+     * @throws CommunicationException when a line is not a JSON object
+     */
+    public <T> TransferProgress importFrom(Path path, Class<T> type) {
+        Objects.requireNonNull(path, "path is required");
+        Objects.requireNonNull(type, "type is required");
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return read(reader, mapper(type));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Imports the stream lines as entities of the type, converting them through the entity mapping.
+     * The stream is not closed.
+     *
+     * @param input the NDJSON stream
+     * @param type  the entity type
+     * @param <T>   the entity type
+     * @return the final progress
+     * @throws NullPointerException   when there is a null parameter
+     * @throws UncheckedIOException   when the stream cannot be read
+     * @throws CommunicationException when a line is not a JSON object
+     */
+    public <T> TransferProgress importFrom(InputStream input, Class<T> type) {
+        Objects.requireNonNull(input, "input is required");
+        Objects.requireNonNull(type, "type is required");
+        return read(input, mapper(type));
+    }
+
+    /**
+     * Imports the file lines as {@link CommunicationEntity} of the entity name, as they are.
+     *
+     * @param path   the NDJSON file
+     * @param entity the entity name
+     * @return the final progress
+     * @throws NullPointerException   when there is a null parameter
+     * @throws UncheckedIOException   when the file cannot be read
+     * @throws CommunicationException when a line is not a JSON object
+     */
+    public TransferProgress importFrom(Path path, String entity) {
+        Objects.requireNonNull(path, "path is required");
+        Objects.requireNonNull(entity, "entity is required");
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return read(reader, line -> JsonLines.read(entity, line));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Imports the stream lines as {@link CommunicationEntity} of the entity name, as they are.
+     * The stream is not closed.
+     *
+     * @param input  the NDJSON stream
+     * @param entity the entity name
+     * @return the final progress
+     * @throws NullPointerException   when there is a null parameter
+     * @throws UncheckedIOException   when the stream cannot be read
+     * @throws CommunicationException when a line is not a JSON object
+     */
+    public TransferProgress importFrom(InputStream input, String entity) {
+        Objects.requireNonNull(input, "input is required");
+        Objects.requireNonNull(entity, "entity is required");
+        return read(input, line -> JsonLines.read(entity, line));
+    }
+
+    /**
+     * Exports all the entities of the type to the file.
+     *
+     * @param path the NDJSON file, it is truncated unless there are lines to skip, then it is appended
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the final progress
+     * @throws NullPointerException when there is a null parameter
+     * @throws UncheckedIOException when the file cannot be written
+     */
+    public <T> TransferProgress exportTo(Path path, Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        return exportTo(path, findAll.apply(type));
+    }
+
+    /**
+     * Exports all the entities of the type to the stream. The stream is flushed but not closed.
+     *
+     * @param output the NDJSON stream
+     * @param type   the entity type
+     * @param <T>    the entity type
+     * @return the final progress
+     * @throws NullPointerException when there is a null parameter
+     * @throws UncheckedIOException when the stream cannot be written
+     */
+    public <T> TransferProgress exportTo(OutputStream output, Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        return exportTo(output, findAll.apply(type));
+    }
+
+    /**
+     * Exports the query result to the file.
+     *
+     * @param path  the NDJSON file, it is truncated unless there are lines to skip, then it is appended
+     * @param query the query
+     * @return the final progress
+     * @throws NullPointerException when there is a null parameter
+     * @throws UncheckedIOException when the file cannot be written
+     */
+    public TransferProgress exportTo(Path path, SelectQuery query) {
+        Objects.requireNonNull(path, "path is required");
+        Objects.requireNonNull(query, "query is required");
+        OpenOption[] options = skip > 0 ? new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.APPEND}
+                : new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE};
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, options)) {
+            return write(writer, query);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Exports the query result to the stream. The stream is flushed but not closed.
+     *
+     * @param output the NDJSON stream
+     * @param query  the query
+     * @return the final progress
+     * @throws NullPointerException when there is a null parameter
+     * @throws UncheckedIOException when the stream cannot be written
+     */
+    public TransferProgress exportTo(OutputStream output, SelectQuery query) {
+        Objects.requireNonNull(output, "output is required");
+        Objects.requireNonNull(query, "query is required");
+        try {
+            return write(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)), query);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private Function<String, CommunicationEntity> mapper(Class<?> type) {
+        EntityMetadata metadata = entities.get(type);
+        return line -> converter.toCommunication(converter.toEntity(type, JsonLines.read(metadata.name(), line)));
+    }
+
+    private TransferProgress read(InputStream input, Function<String, CommunicationEntity> mapper) {
+        try {
+            return read(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), mapper);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private TransferProgress read(BufferedReader reader, Function<String, CommunicationEntity> mapper)
+            throws IOException {
+        long start = System.nanoTime();
+        long lines = 0;
+        long count = 0;
+        List<CommunicationEntity> chunk = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lines++;
+            if (lines <= skip || line.isBlank()) {
+                continue;
+            }
+            chunk.add(map(mapper, line, lines));
+            if (chunk.size() == chunkSize) {
+                manager.insert(chunk);
+                count += chunk.size();
+                chunk = new ArrayList<>();
+                listener.accept(progress(lines, count, start));
+            }
+        }
+        if (!chunk.isEmpty()) {
+            manager.insert(chunk);
+            count += chunk.size();
+        }
+        TransferProgress progress = progress(lines, count, start);
+        listener.accept(progress);
+        return progress;
+    }
+
+    private static CommunicationEntity map(Function<String, CommunicationEntity> mapper, String line, long number) {
+        try {
+            return mapper.apply(line);
+        } catch (CommunicationException exception) {
+            throw new CommunicationException("The line " + number + " cannot be imported", exception);
+        }
+    }
+
+    private TransferProgress write(BufferedWriter writer, SelectQuery query) throws IOException {
+        long start = System.nanoTime();
+        long count = 0;
+        if (query.limit() <= 0 || skip < query.limit()) {
+            try (Stream<CommunicationEntity> stream = manager.select(skip > 0 ? new SkipQuery(query, skip) : query)) {
+                Iterator<CommunicationEntity> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    writer.write(JsonLines.write(iterator.next()));
+                    writer.write('\n');
+                    count++;
+                    if (count % chunkSize == 0) {
+                        writer.flush();
+                        listener.accept(progress(skip + count, count, start));
+                    }
+                }
+            }
+        }
+        writer.flush();
+        TransferProgress progress = progress(skip + count, count, start);
+        listener.accept(progress);
+        return progress;
+    }
+
+    private static TransferProgress progress(long lines, long count, long start) {
+        return new TransferProgress(lines, count, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * The query that continues an export after the entities already written.
+     */
+    private record SkipQuery(SelectQuery query, long offset) implements SelectQuery {
+
+        @Override
+        public long limit() {
+            return query.limit() <= 0 ? query.limit() : query.limit() - offset;
+        }
+
+        @Override
+        public long skip() {
+            return query.skip() + offset;
+        }
+
+        @Override
+        public String name() {
+            return query.name();
+        }
+
+        @Override
+        public Optional<CriteriaCondition> condition() {
+            return query.condition();
+        }
+
+        @Override
+        public List<String> columns() {
+            return query.columns();
+        }
+
+        @Override
+        public List<Sort<?>> sorts() {
+            return query.sorts();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * The default {@link EntityCache}: a least recently used map in the application memory bounded by entries,
+ * where each entity expires after its TTL.
+ */
+final class LocalEntityCache implements EntityCache {
+
+    private final int maxEntries;
+
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<Key, Entry> entities = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder puts = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    LocalEntityCache(int maxEntries, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<CommunicationEntity> get(String entity, Object id) {
+        Key key = new Key(entity, id);
+        long now = clock.getAsLong();
+        synchronized (entities) {
+            Entry entry = entities.get(key);
+            if (entry != null && !entry.expired(now)) {
+                hits.increment();
+                return Optional.of(entry.communication());
+            }
+            if (entry != null) {
+                entities.remove(key);
+                evictions.increment();
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(String entity, Object id, CommunicationEntity communication, Duration ttl) {
+        Objects.requireNonNull(communication, "communication is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        Entry entry = new Entry(communication, clock.getAsLong() + ttl.toNanos());
+        synchronized (entities) {
+            entities.put(new Key(entity, id), entry);
+            Iterator<Entry> iterator = entities.values().iterator();
+            while (entities.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+        puts.increment();
+    }
+
+    @Override
+    public void evict(String entity, Object id) {
+        synchronized (entities) {
+            entities.remove(new Key(entity, id));
+        }
+    }
+
+    @Override
+    public void clear(String entity) {
+        synchronized (entities) {
+            entities.keySet().removeIf(key -> key.entity().equals(entity));
+        }
+    }
+
+    @Override
+    public EntityCacheStatistics statistics() {
+        return new EntityCacheStatistics(hits.sum(), misses.sum(), puts.sum(), evictions.sum(), size());
+    }
+
+    int size() {
+        synchronized (entities) {
+            return entities.size();
+        }
+    }
+
+    private record Key(String entity, Object id) {
+    }
+
+    private record Entry(CommunicationEntity communication, long expiresAt) {
+
+        boolean expired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
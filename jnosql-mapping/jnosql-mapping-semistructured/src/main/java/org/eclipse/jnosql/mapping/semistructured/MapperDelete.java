@@ -113,7 +113,7 @@ final class MapperDelete extends AbstractMapperQuery implements MapperDeleteFrom
 
 
     private DeleteQuery build() {
-        return new MappingDeleteQuery(entity, condition);
+        return new MappingDeleteQuery(entity, condition.build().orElse(null));
     }
 
     @Override
@@ -18,6 +18,7 @@ import org.eclipse.jnosql.communication.semistructured.CommunicationObserverPars
 import org.eclipse.jnosql.mapping.metadata.ClassInformationNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
 import java.util.Optional;
 
@@ -43,6 +44,11 @@ final class MapperObserver implements CommunicationObserverParser {
         return mapping.map(c -> c.columnField(field)).orElse(field);
     }
 
+    @Override
+    public Optional<String> fireKey(String entity) {
+        return getEntityMetadata(entity).flatMap(EntityMetadata::id).map(FieldMetadata::name);
+    }
+
     private Optional<EntityMetadata> getEntityMetadata(String entity) {
         try {
             return Optional.of(this.mappings.findByName(entity));
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * An {@link EntityCache} with a short-lived {@link LocalEntityCache} in front of another cache, usually a remote one.
+ * The lookups go to the remote cache only on a local miss, and the writes and evictions go to both.
+ */
+final class NearEntityCache implements EntityCache {
+
+    private final LocalEntityCache near;
+
+    private final EntityCache cache;
+
+    private final Duration ttl;
+
+    NearEntityCache(LocalEntityCache near, EntityCache cache, Duration ttl) {
+        this.near = near;
+        this.cache = cache;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<CommunicationEntity> get(String entity, Object id) {
+        Optional<CommunicationEntity> communication = near.get(entity, id);
+        if (communication.isPresent()) {
+            return communication;
+        }
+        communication = cache.get(entity, id);
+        communication.ifPresent(c -> near.put(entity, id, c, ttl));
+        return communication;
+    }
+
+    @Override
+    public void put(String entity, Object id, CommunicationEntity communication, Duration ttl) {
+        cache.put(entity, id, communication, ttl);
+        near.put(entity, id, communication, ttl.compareTo(this.ttl) < 0 ? ttl : this.ttl);
+    }
+
+    @Override
+    public void evict(String entity, Object id) {
+        near.evict(entity, id);
+        cache.evict(entity, id);
+    }
+
+    @Override
+    public void clear(String entity) {
+        near.clear(entity);
+        cache.clear(entity);
+    }
+
+    /**
+     * Returns the statistics where a hit is a lookup found at either cache and a miss is a lookup found at neither.
+     *
+     * @return the statistics
+     */
+    @Override
+    public EntityCacheStatistics statistics() {
+        EntityCacheStatistics local = near.statistics();
+        EntityCacheStatistics remote = cache.statistics();
+        return new EntityCacheStatistics(local.hits() + remote.hits(), remote.misses(), remote.puts(),
+                remote.evictions(), remote.size());
+    }
+}
@@ -39,12 +39,27 @@ final class PreparedStatement implements org.eclipse.jnosql.mapping.PreparedStat
 
     @Override
     public <T> Stream<T> result() {
+        if (preparedStatement.isAggregate() || preparedStatement.isBulkUpdate()) {
+            return preparedStatement.result().flatMap(PreparedStatement::row);
+        }
         return preparedStatement.result().map(converter::toEntity);
     }
 
     @Override
     public <T> Optional<T> singleResult() {
         Optional<CommunicationEntity> singleResult = preparedStatement.singleResult();
+        if (preparedStatement.isAggregate() || preparedStatement.isBulkUpdate()) {
+            return singleResult.flatMap(e -> PreparedStatement.<T>row(e).findFirst());
+        }
         return singleResult.map(converter::toEntity);
     }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Stream<T> row(CommunicationEntity entity) {
+        if (entity.size() == 1) {
+            Object value = entity.elements().get(0).get();
+            return value == null ? Stream.empty() : Stream.of((T) value);
+        }
+        return Stream.of((T) entity.toMap());
+    }
 }
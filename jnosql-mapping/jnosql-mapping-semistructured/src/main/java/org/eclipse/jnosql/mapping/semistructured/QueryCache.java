@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the query results of an entity at the {@link SemistructuredTemplate}, for read-heavy data that rarely
+ * changes, such as catalogs and configuration. The results are kept by the query: entity, condition, sorts, skip,
+ * limit and columns; any insert, update or delete of the same entity through the template invalidates them.
+ *
+ * <pre>{@code
+ * @Entity
+ * @QueryCache(ttl = 5, unit = TimeUnit.MINUTES)
+ * public class Country {
+ *
+ *     @Id
+ *     private String code;
+ *
+ *     @Column
+ *     private String name;
+ * }
+ * }</pre>
+ *
+ * <p>The cache is active only when the {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#QUERY_CACHE}
+ * configuration is true, and it is bounded by entries and estimated bytes. Writes made outside the template, e.g.: by
+ * another application instance, are seen only after the TTL.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface QueryCache {
+
+    /**
+     * How long a query result is kept.
+     *
+     * @return the time to live, by default 60
+     */
+    long ttl() default 60L;
+
+    /**
+     * The unit of {@link #ttl()}.
+     *
+     * @return the time unit, by default seconds
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
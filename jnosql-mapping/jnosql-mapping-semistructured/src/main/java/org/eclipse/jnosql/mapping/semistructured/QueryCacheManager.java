@@ -0,0 +1,436 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.semistructured.AggregateQuery;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.KeysetCondition;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.QUERY_CACHE;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.QUERY_CACHE_BYTES;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.QUERY_CACHE_ENTRIES;
+
+/**
+ * A {@link DatabaseManager} decorator that caches the {@link SelectQuery} results of the entities annotated with
+ * {@link QueryCache}. The results are kept in a least recently used map bounded by entries and estimated bytes,
+ * and every insert, update or delete through this manager invalidates the results of the same entity.
+ * The cache keeps its own copies of the entities and returns new copies, so a caller never changes a cached result.
+ * A result read while a write on the same entity happens is not kept. A miss buffers the result only up to the byte
+ * bound; a larger result is not kept, and the rest of it is streamed from the source.
+ */
+final class QueryCacheManager implements DatabaseManager {
+
+    private static final int DEFAULT_ENTRIES = 1_000;
+
+    private static final long DEFAULT_BYTES = 16L * 1024 * 1024;
+
+    private static final long LIST_WEIGHT = 16L;
+
+    private final DatabaseManager manager;
+
+    private final Function<String, Optional<Duration>> ttl;
+
+    private final int maxEntries;
+
+    private final long maxBytes;
+
+    private final LongSupplier clock;
+
+    private final Map<String, Optional<Duration>> ttls = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final LinkedHashMap<QueryKey, Entry> results = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Map<String, Set<QueryKey>> keys = new HashMap<>();
+
+    private long bytes;
+
+    QueryCacheManager(DatabaseManager manager, Function<String, Optional<Duration>> ttl, int maxEntries,
+                      long maxBytes, LongSupplier clock) {
+        this.manager = manager;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.clock = clock;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity) {
+        CommunicationEntity result = manager.insert(entity);
+        invalidate(entity.name());
+        return result;
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
+        CommunicationEntity result = manager.insert(entity, ttl);
+        invalidate(entity.name());
+        return result;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        List<CommunicationEntity> values = toList(entities);
+        Iterable<CommunicationEntity> result = manager.insert(values);
+        invalidate(values);
+        return result;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
+        List<CommunicationEntity> values = toList(entities);
+        Iterable<CommunicationEntity> result = manager.insert(values, ttl);
+        invalidate(values);
+        return result;
+    }
+
+    @Override
+    public CommunicationEntity update(CommunicationEntity entity) {
+        CommunicationEntity result = manager.update(entity);
+        invalidate(entity.name());
+        return result;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
+        List<CommunicationEntity> values = toList(entities);
+        Iterable<CommunicationEntity> result = manager.update(values);
+        invalidate(values);
+        return result;
+    }
+
+    @Override
+    public long update(UpdateQuery query) {
+        long result = manager.update(query);
+        invalidate(query.name());
+        return result;
+    }
+
+    @Override
+    public void delete(DeleteQuery query) {
+        manager.delete(query);
+        invalidate(query.name());
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        Optional<Duration> duration = ttl(query.name());
+        if (duration.isEmpty()) {
+            return manager.select(query);
+        }
+        QueryKey key = QueryKey.of(query);
+        long now = clock.getAsLong();
+        synchronized (results) {
+            Entry entry = results.get(key);
+            if (entry != null) {
+                if (!entry.expired(now)) {
+                    return entry.entities().stream().map(CommunicationEntity::copy);
+                }
+                remove(key);
+            }
+        }
+        AtomicLong generation = generation(query.name());
+        long version = generation.get();
+        Stream<CommunicationEntity> source = manager.select(query);
+        List<CommunicationEntity> entities = new ArrayList<>();
+        long weight = LIST_WEIGHT;
+        Iterator<CommunicationEntity> iterator;
+        try {
+            iterator = source.iterator();
+            while (weight <= maxBytes && iterator.hasNext()) {
+                CommunicationEntity entity = iterator.next();
+                entities.add(entity);
+                weight += weigh(entity);
+            }
+        } catch (RuntimeException exception) {
+            source.close();
+            throw exception;
+        }
+        if (weight > maxBytes) {
+            Stream<CommunicationEntity> rest = StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+            return Stream.concat(entities.stream(), rest).onClose(source::close);
+        }
+        source.close();
+        List<CommunicationEntity> copies = entities.stream().map(CommunicationEntity::copy).toList();
+        synchronized (results) {
+            if (generation.get() == version) {
+                remove(key);
+                results.put(key, new Entry(copies, weight, now + duration.orElseThrow().toNanos()));
+                keys.computeIfAbsent(key.name(), name -> new HashSet<>()).add(key);
+                bytes += weight;
+                evict();
+            }
+        }
+        return entities.stream();
+    }
+
+    @Override
+    public Optional<CommunicationEntity> singleResult(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        if (ttl(query.name()).isEmpty()) {
+            return manager.singleResult(query);
+        }
+        return DatabaseManager.super.singleResult(query);
+    }
+
+    @Override
+    public Stream<CommunicationEntity> aggregate(AggregateQuery query) {
+        return manager.aggregate(query);
+    }
+
+    @Override
+    public long count(SelectQuery query) {
+        return manager.count(query);
+    }
+
+    @Override
+    public boolean exists(SelectQuery query) {
+        return manager.exists(query);
+    }
+
+    @Override
+    public CursoredPage<CommunicationEntity> selectCursor(SelectQuery query, PageRequest<?> pageRequest) {
+        return manager.selectCursor(query, pageRequest);
+    }
+
+    @Override
+    public KeysetCondition keysetCondition() {
+        return manager.keysetCondition();
+    }
+
+    @Override
+    public long count(String entity) {
+        return manager.count(entity);
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    /**
+     * The decorated manager
+     *
+     * @return the decorated manager
+     */
+    DatabaseManager manager() {
+        return manager;
+    }
+
+    int size() {
+        synchronized (results) {
+            return results.size();
+        }
+    }
+
+    long bytes() {
+        synchronized (results) {
+            return bytes;
+        }
+    }
+
+    /**
+     * Decorates the manager with the query cache when the
+     * {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#QUERY_CACHE} is active,
+     * otherwise returns the manager itself.
+     *
+     * @param manager  the manager
+     * @param entities the entities metadata
+     * @return the manager or its query cache decorator
+     */
+    static DatabaseManager of(DatabaseManager manager, EntitiesMetadata entities) {
+        var settings = MicroProfileSettings.INSTANCE;
+        boolean enabled = settings.get(QUERY_CACHE, Boolean.class).orElse(false);
+        if (!enabled) {
+            return manager;
+        }
+        int maxEntries = settings.get(QUERY_CACHE_ENTRIES, Integer.class).filter(e -> e > 0).orElse(DEFAULT_ENTRIES);
+        long maxBytes = settings.get(QUERY_CACHE_BYTES, Long.class).filter(b -> b > 0).orElse(DEFAULT_BYTES);
+        return new QueryCacheManager(manager, name -> ttl(entities, name), maxEntries, maxBytes, System::nanoTime);
+    }
+
+    private static Optional<Duration> ttl(EntitiesMetadata entities, String name) {
+        try {
+            return Optional.ofNullable(entities.findByName(name).type().getAnnotation(QueryCache.class))
+                    .map(cache -> Duration.of(cache.ttl(), cache.unit().toChronoUnit()))
+                    .filter(duration -> !duration.isNegative() && !duration.isZero());
+        } catch (RuntimeException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Duration> ttl(String name) {
+        return ttls.computeIfAbsent(name, ttl);
+    }
+
+    private AtomicLong generation(String name) {
+        return generations.computeIfAbsent(name, n -> new AtomicLong());
+    }
+
+    private void invalidate(List<CommunicationEntity> entities) {
+        entities.stream().map(CommunicationEntity::name).distinct().forEach(this::invalidate);
+    }
+
+    /**
+     * Removes the cached results of the entity
+     *
+     * @param name the entity name
+     */
+    void invalidate(String name) {
+        if (ttl(name).isEmpty()) {
+            return;
+        }
+        generation(name).incrementAndGet();
+        synchronized (results) {
+            Set<QueryKey> entries = keys.remove(name);
+            if (entries != null) {
+                for (QueryKey key : entries) {
+                    bytes -= results.remove(key).weight();
+                }
+            }
+        }
+    }
+
+    private void remove(QueryKey key) {
+        Entry entry = results.remove(key);
+        if (entry != null) {
+            bytes -= entry.weight();
+            unlink(key);
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<QueryKey, Entry>> iterator = results.entrySet().iterator();
+        while ((results.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+            Map.Entry<QueryKey, Entry> entry = iterator.next();
+            bytes -= entry.getValue().weight();
+            iterator.remove();
+            unlink(entry.getKey());
+        }
+    }
+
+    private void unlink(QueryKey key) {
+        Set<QueryKey> entries = keys.get(key.name());
+        if (entries != null && entries.remove(key) && entries.isEmpty()) {
+            keys.remove(key.name());
+        }
+    }
+
+    private static List<CommunicationEntity> toList(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<CommunicationEntity> values = new ArrayList<>();
+        entities.forEach(values::add);
+        return values;
+    }
+
+    /**
+     * Estimates, roughly, the memory used by the entities.
+     *
+     * @param entities the entities
+     * @return the estimated size in bytes
+     */
+    static long weigh(List<CommunicationEntity> entities) {
+        long weight = LIST_WEIGHT;
+        for (CommunicationEntity entity : entities) {
+            weight += weigh(entity);
+        }
+        return weight;
+    }
+
+    private static long weigh(CommunicationEntity entity) {
+        long weight = 8L + 48L + weighText(entity.name());
+        for (Element element : entity.elements()) {
+            weight += weigh(element);
+        }
+        return weight;
+    }
+
+    private static long weigh(Element element) {
+        return 32L + weighText(element.name()) + weighValue(element.get());
+    }
+
+    private static long weighValue(Object value) {
+        if (value == null) {
+            return 0L;
+        } else if (value instanceof CharSequence text) {
+            return weighText(text);
+        } else if (value instanceof Element element) {
+            return weigh(element);
+        } else if (value instanceof Iterable<?> iterable) {
+            long weight = 24L;
+            for (Object item : iterable) {
+                weight += 8L + weighValue(item);
+            }
+            return weight;
+        } else if (value instanceof Map<?, ?> map) {
+            long weight = 48L;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                weight += 32L + weighValue(entry.getKey()) + weighValue(entry.getValue());
+            }
+            return weight;
+        } else if (value instanceof byte[] array) {
+            return 16L + array.length;
+        }
+        return 24L;
+    }
+
+    private static long weighText(CharSequence text) {
+        return text == null ? 0L : 40L + text.length();
+    }
+
+    private record Entry(List<CommunicationEntity> entities, long weight, long expiresAt) {
+
+        boolean expired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
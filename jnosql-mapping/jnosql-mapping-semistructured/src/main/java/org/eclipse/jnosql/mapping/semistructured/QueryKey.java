@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.util.List;
+
+/**
+ * Identifies a {@link SelectQuery} by its values, whatever its implementation, so two equal queries share
+ * a cached or an in-flight result.
+ */
+record QueryKey(String name, List<String> columns, List<Sort<?>> sorts, long skip, long limit,
+                CriteriaCondition condition) {
+
+    static QueryKey of(SelectQuery query) {
+        return new QueryKey(query.name(), query.columns(), query.sorts(), query.skip(), query.limit(),
+                query.condition().orElse(null));
+    }
+}
@@ -14,9 +14,13 @@ import jakarta.data.page.CursoredPage;
 import jakarta.data.page.PageRequest;
 import org.eclipse.jnosql.mapping.PreparedStatement;
 import jakarta.nosql.Template;
+import org.eclipse.jnosql.communication.semistructured.AggregateQuery;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
+import org.eclipse.jnosql.mapping.core.util.SingleFlightStatistics;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -122,6 +126,41 @@ public interface SemistructuredTemplate extends Template {
      */
     long count(SelectQuery query);
 
+    /**
+     * Summarizes the entities that match the query condition, returning a map per group with the grouped elements
+     * and the aggregates by {@link org.eclipse.jnosql.communication.Aggregate#alias()}, e.g.: {@code count(*)}.
+     * The database computes the aggregates when its driver supports it, so only the groups leave the database.
+     *
+     * <p>The text queries, e.g.: {@link #query(String)}, {@link #prepare(String)} and the repository methods
+     * annotated with {@link jakarta.data.repository.Query}, return an aggregate query such as
+     * {@code select city, count(*) from Person group by city} in the same way, except a query with a single
+     * element, e.g.: {@code select count(*) from Person}, which returns the value itself.</p>
+     *
+     * @param query the aggregate query
+     * @return a map per group
+     * @throws NullPointerException when query is null
+     * @see org.eclipse.jnosql.communication.semistructured.DatabaseManager#aggregate(AggregateQuery)
+     */
+    Stream<Map<String, Object>> aggregate(AggregateQuery query);
+
+    /**
+     * Changes every entity that matches the query condition in a single database call, when the driver supports it,
+     * without loading the entities in the application, e.g.:
+     * {@code UpdateQuery.builder("Order").set("status", "ARCHIVED").where(CriteriaCondition.lt(Element.of("created", date))).build()}.
+     * The element names are the database column names, and the update does not fire the entity events.
+     *
+     * <p>The text queries, e.g.: {@link #query(String)}, {@link #prepare(String)} and the repository methods
+     * annotated with {@link jakarta.data.repository.Query}, accept the same update such as
+     * {@code update Order set status = 'ARCHIVED', version += 1 where created < @date}, returning the number of
+     * updated entities.</p>
+     *
+     * @param query the update query
+     * @return the number of updated entities
+     * @throws NullPointerException when query is null
+     * @see org.eclipse.jnosql.communication.semistructured.DatabaseManager#update(UpdateQuery)
+     */
+    long update(UpdateQuery query);
+
     /**
      * Returns whether an entity that match a specified query.
      * @param query the query
@@ -178,4 +217,30 @@ public interface SemistructuredTemplate extends Template {
      * @throws IllegalStateException    if the cursor-based pagination is used without any order key specified
      */
     <T> CursoredPage<T> selectCursor(SelectQuery query, PageRequest<T> pageRequest);
+
+    /**
+     * Returns the statistics of the second-level cache of the entities annotated with {@link Cacheable}.
+     *
+     * @return the statistics or {@link EntityCacheStatistics#EMPTY} when the cache is not active
+     */
+    default EntityCacheStatistics cacheStatistics() {
+        return EntityCacheStatistics.EMPTY;
+    }
+
+    /**
+     * Returns the statistics of the single-flight reads, where concurrent identical queries share a database call.
+     *
+     * @return the statistics or {@link SingleFlightStatistics#EMPTY} when the single-flight reads are not active
+     * @see org.eclipse.jnosql.mapping.core.config.MappingConfigurations#SINGLE_FLIGHT
+     */
+    default SingleFlightStatistics singleFlightStatistics() {
+        return SingleFlightStatistics.EMPTY;
+    }
+
+    /**
+     * Returns the {@link EntityTransfer} to import and export the entities as newline-delimited JSON.
+     *
+     * @return the {@link EntityTransfer} instance
+     */
+    EntityTransfer transfer();
 }
@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.exceptions.NonUniqueResultException;
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.semistructured.AggregateQuery;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.KeysetCondition;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
+import org.eclipse.jnosql.mapping.core.util.SingleFlight;
+import org.eclipse.jnosql.mapping.core.util.SingleFlightStatistics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DatabaseManager} decorator where concurrent identical single result lookups, e.g.: the same find by id,
+ * and identical queries with a limit share a single database call through a {@link SingleFlight}. Only those bounded
+ * results are read into memory to be shared; a query without a limit streams straight from the database.
+ * Every insert, update or delete through this manager detaches the in-flight queries of the same entity, so a query
+ * that starts after a write does not get a result read before it.
+ */
+final class SingleFlightManager implements DatabaseManager {
+
+    private final DatabaseManager manager;
+
+    private final SingleFlight<QueryKey, List<CommunicationEntity>> flight;
+
+    SingleFlightManager(DatabaseManager manager, SingleFlight<QueryKey, List<CommunicationEntity>> flight) {
+        this.manager = manager;
+        this.flight = flight;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity) {
+        CommunicationEntity result = manager.insert(entity);
+        forget(entity.name());
+        return result;
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
+        CommunicationEntity result = manager.insert(entity, ttl);
+        forget(entity.name());
+        return result;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        List<CommunicationEntity> values = toList(entities);
+        Iterable<CommunicationEntity> result = manager.insert(values);
+        forget(values);
+        return result;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
+        List<CommunicationEntity> values = toList(entities);
+        Iterable<CommunicationEntity> result = manager.insert(values, ttl);
+        forget(values);
+        return result;
+    }
+
+    @Override
+    public CommunicationEntity update(CommunicationEntity entity) {
+        CommunicationEntity result = manager.update(entity);
+        forget(entity.name());
+        return result;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
+        List<CommunicationEntity> values = toList(entities);
+        Iterable<CommunicationEntity> result = manager.update(values);
+        forget(values);
+        return result;
+    }
+
+    @Override
+    public long update(UpdateQuery query) {
+        long result = manager.update(query);
+        forget(query.name());
+        return result;
+    }
+
+    @Override
+    public void delete(DeleteQuery query) {
+        manager.delete(query);
+        forget(query.name());
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        if (query.limit() <= 0) {
+            return manager.select(query);
+        }
+        return flight.execute(QueryKey.of(query), () -> manager.select(query).toList()).stream();
+    }
+
+    @Override
+    public Optional<CommunicationEntity> singleResult(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        List<CommunicationEntity> entities = query.limit() > 0 ? select(query).limit(2).toList()
+                : flight.execute(QueryKey.of(query), () -> manager.select(query).limit(2).toList());
+        if (entities.size() > 1) {
+            throw new NonUniqueResultException("More than one entity was returned by the query: " + query);
+        }
+        return entities.stream().findFirst();
+    }
+
+    @Override
+    public Stream<CommunicationEntity> aggregate(AggregateQuery query) {
+        return manager.aggregate(query);
+    }
+
+    @Override
+    public long count(SelectQuery query) {
+        return manager.count(query);
+    }
+
+    @Override
+    public boolean exists(SelectQuery query) {
+        return manager.exists(query);
+    }
+
+    @Override
+    public CursoredPage<CommunicationEntity> selectCursor(SelectQuery query, PageRequest<?> pageRequest) {
+        return manager.selectCursor(query, pageRequest);
+    }
+
+    @Override
+    public KeysetCondition keysetCondition() {
+        return manager.keysetCondition();
+    }
+
+    @Override
+    public long count(String entity) {
+        return manager.count(entity);
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    /**
+     * The statistics of the shared queries
+     *
+     * @return the statistics
+     */
+    SingleFlightStatistics statistics() {
+        return flight.statistics();
+    }
+
+    /**
+     * Decorates the manager with the single-flight queries when the
+     * {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#SINGLE_FLIGHT} is active,
+     * otherwise returns the manager itself.
+     *
+     * @param manager the manager
+     * @return the manager or its single-flight decorator
+     */
+    static DatabaseManager of(DatabaseManager manager) {
+        SingleFlight<QueryKey, List<CommunicationEntity>> flight = SingleFlight.of();
+        if (!flight.isEnabled()) {
+            return manager;
+        }
+        return new SingleFlightManager(manager, flight);
+    }
+
+    private void forget(List<CommunicationEntity> entities) {
+        entities.stream().map(CommunicationEntity::name).distinct().forEach(this::forget);
+    }
+
+    /**
+     * Detaches the in-flight queries of the entity
+     *
+     * @param name the entity name
+     */
+    void forget(String name) {
+        flight.forget(key -> key.name().equals(name));
+    }
+
+    private static List<CommunicationEntity> toList(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<CommunicationEntity> values = new ArrayList<>();
+        entities.forEach(values::add);
+        return values;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import java.time.Duration;
+
+/**
+ * The progress of an {@link EntityTransfer} import or export.
+ *
+ * @param lines    the lines read or written so far, including the skipped ones; it is the offset to resume from
+ * @param entities the entities transferred so far
+ * @param elapsed  the time spent so far
+ */
+public record TransferProgress(long lines, long entities, Duration elapsed) {
+
+    /**
+     * @return the entities transferred per second
+     */
+    public double throughput() {
+        long nanos = elapsed.toNanos();
+        if (nanos == 0L) {
+            return 0D;
+        }
+        return entities * 1_000_000_000D / nanos;
+    }
+}
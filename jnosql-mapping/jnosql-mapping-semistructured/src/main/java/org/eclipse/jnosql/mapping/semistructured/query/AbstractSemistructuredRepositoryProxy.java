@@ -14,21 +14,16 @@
  */
 package org.eclipse.jnosql.mapping.semistructured.query;
 
-import jakarta.data.Sort;
 import jakarta.data.page.PageRequest;
 import jakarta.data.repository.Find;
-import jakarta.data.repository.OrderBy;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.mapping.core.repository.DynamicQueryMethodReturn;
 import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
-import org.eclipse.jnosql.mapping.core.repository.RepositoryReflectionUtils;
 import org.eclipse.jnosql.mapping.core.repository.SpecialParameters;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Template method to Repository proxy on column
@@ -38,6 +33,8 @@ import java.util.stream.Stream;
  */
 public abstract class AbstractSemistructuredRepositoryProxy<T, K> extends BaseSemistructuredRepository<T, K> {
 
+    private final Map<Method, ParameterBasedQueryTemplate> parameterBasedQueries = new ConcurrentHashMap<>();
+
     @Override
     protected Object executeQuery(Object instance, Method method, Object[] params) {
         Class<?> type = entityMetadata().type();
@@ -54,14 +51,13 @@ public abstract class AbstractSemistructuredRepositoryProxy<T, K> extends BaseSe
     protected Object executeCursorPagination(Object instance, Method method, Object[] params) {
         if (method.getAnnotation(Find.class) == null) {
             var query = query(method, params);
-            SpecialParameters special = DynamicReturn.findSpecialParameters(params);
+            SpecialParameters special = DynamicReturn.findSpecialParameters(method, params);
             PageRequest<?> pageRequest = special.pageRequest()
                     .orElseThrow(() -> new IllegalArgumentException("Pageable is required in the method signature as parameter at " + method));
             return this.template().selectCursor(query, pageRequest);
         } else {
-            Map<String, Object> parameters = RepositoryReflectionUtils.INSTANCE.getBy(method, params);
-            var query = SemistructuredParameterBasedQuery.INSTANCE.toQuery(parameters, getSorts(method), entityMetadata());
-            SpecialParameters special = DynamicReturn.findSpecialParameters(params);
+            var query = parameterBasedQuery(method, params);
+            SpecialParameters special = DynamicReturn.findSpecialParameters(method, params);
             PageRequest<?> pageRequest = special.pageRequest()
                     .orElseThrow(() -> new IllegalArgumentException("Pageable is required in the method signature as parameter at " + method));
             return this.template().selectCursor(query, pageRequest);
@@ -80,7 +76,7 @@ public abstract class AbstractSemistructuredRepositoryProxy<T, K> extends BaseSe
     protected Object executeFindAll(Object instance, Method method, Object[] params) {
         Class<?> type = entityMetadata().type();
         var query = org.eclipse.jnosql.communication.semistructured.SelectQuery.select().from(entityMetadata().name()).build();
-        return executeFindByQuery(method, params, type, updateQueryDynamically(params, query));
+        return executeFindByQuery(method, params, type, updateQueryDynamically(method, params, query));
     }
 
     @Override
@@ -102,18 +98,17 @@ public abstract class AbstractSemistructuredRepositoryProxy<T, K> extends BaseSe
     @Override
     protected Object executeParameterBased(Object instance, Method method, Object[] params) {
         Class<?> type = entityMetadata().type();
-        Map<String, Object> parameters = RepositoryReflectionUtils.INSTANCE.getBy(method, params);
-        var query = SemistructuredParameterBasedQuery.INSTANCE.toQuery(parameters, getSorts(method), entityMetadata());
-        return executeFindByQuery(method, params, type, updateQueryDynamically(params, query));
+        var query = parameterBasedQuery(method, params);
+        return executeFindByQuery(method, params, type, updateQueryDynamically(method, params, query));
     }
 
-    private static List<Sort<?>> getSorts(Method method) {
-        List<Sort<?>> sorts = new ArrayList<>();
-        OrderBy[] orders = method.getAnnotationsByType(OrderBy.class);
-        Stream.of(orders)
-                .map(o -> (o.descending() ? Sort.desc(o.value()) : Sort.asc(o.value())))
-                .forEach(sorts::add);
-        return sorts;
+    private org.eclipse.jnosql.communication.semistructured.SelectQuery parameterBasedQuery(Method method, Object[] params) {
+        ParameterBasedQueryTemplate queryTemplate = parameterBasedQueries.get(method);
+        if (queryTemplate == null) {
+            queryTemplate = parameterBasedQueries.computeIfAbsent(method,
+                    m -> ParameterBasedQueryTemplate.of(m, entityMetadata()));
+        }
+        return queryTemplate.apply(params, converters());
     }
 
 }
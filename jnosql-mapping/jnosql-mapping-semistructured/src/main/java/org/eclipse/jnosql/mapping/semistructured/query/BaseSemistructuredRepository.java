@@ -95,7 +95,7 @@ public abstract class BaseSemistructuredRepository<T, K> extends AbstractReposit
         var query = queryParams.query();
         Params params = queryParams.params();
         paramsBinder().bind(params, args(args), method);
-        return updateQueryDynamically(args(args), query);
+        return updateQueryDynamically(method, args(args), query);
     }
 
     private static Object[] args(Object[] args) {
@@ -139,16 +139,19 @@ public abstract class BaseSemistructuredRepository<T, K> extends AbstractReposit
 
     @SuppressWarnings("unchecked")
     protected Object executeFindByQuery(Method method, Object[] args, Class<?> typeClass, org.eclipse.jnosql.communication.semistructured.SelectQuery query) {
-        DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
+        PageRequest<?> pageRequest = DynamicReturn.findPageRequest(method, args);
+        var builder = DynamicReturn.builder()
                 .withClassSource(typeClass)
                 .withMethodSource(method)
                 .withResult(() -> template().select(query))
-                .withSingleResult(() -> template().singleResult(query))
-                .withPagination(DynamicReturn.findPageRequest(args))
-                .withStreamPagination(streamPagination(query))
-                .withSingleResultPagination(getSingleResult(query))
-                .withPage(getPage(query))
-                .build();
+                .withSingleResult(() -> template().singleResult(query));
+        if (pageRequest != null) {
+            builder.withPagination(pageRequest)
+                    .withStreamPagination(streamPagination(query))
+                    .withSingleResultPagination(getSingleResult(query))
+                    .withPage(getPage(query));
+        }
+        DynamicReturn<?> dynamicReturn = builder.build();
         return dynamicReturn.execute();
     }
 
@@ -201,8 +204,17 @@ public abstract class BaseSemistructuredRepository<T, K> extends AbstractReposit
 
     protected org.eclipse.jnosql.communication.semistructured.SelectQuery updateQueryDynamically(Object[] args,
                                                                                                  org.eclipse.jnosql.communication.semistructured.SelectQuery query) {
+        return updateQueryDynamically(DynamicReturn.findSpecialParameters(args), query);
+    }
+
+    protected org.eclipse.jnosql.communication.semistructured.SelectQuery updateQueryDynamically(Method method, Object[] args,
+                                                                                                 org.eclipse.jnosql.communication.semistructured.SelectQuery query) {
+        return updateQueryDynamically(DynamicReturn.findSpecialParameters(method, args), query);
+    }
+
+    private org.eclipse.jnosql.communication.semistructured.SelectQuery updateQueryDynamically(SpecialParameters special,
+                                                                                               org.eclipse.jnosql.communication.semistructured.SelectQuery query) {
         var documentQuery = includeInheritance(query);
-        SpecialParameters special = DynamicReturn.findSpecialParameters(args);
 
         if (special.isEmpty()) {
             return documentQuery;
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured.query;
+
+import jakarta.data.Sort;
+import jakarta.data.repository.By;
+import jakarta.data.repository.OrderBy;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.semistructured.MappingQuery;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.eclipse.jnosql.mapping.core.util.ConverterUtil.getValue;
+
+/**
+ * A parameter-based repository method, the one with {@link jakarta.data.repository.Find} and {@link By}, compiled
+ * once: the column name and field of each {@link By} parameter, and the {@link OrderBy} sorts with their column names.
+ * Each call only binds the argument values.
+ */
+final class ParameterBasedQueryTemplate {
+
+    private final String entity;
+
+    private final List<Binding> bindings;
+
+    private final List<Sort<?>> sorts;
+
+    private ParameterBasedQueryTemplate(String entity, List<Binding> bindings, List<Sort<?>> sorts) {
+        this.entity = entity;
+        this.bindings = bindings;
+        this.sorts = sorts;
+    }
+
+    /**
+     * Creates a {@link SelectQuery} binding the method arguments.
+     *
+     * @param args       the method arguments
+     * @param converters the converters
+     * @return the {@link SelectQuery} instance
+     */
+    SelectQuery apply(Object[] args, Converters converters) {
+        CriteriaCondition condition = null;
+        if (bindings.size() == 1) {
+            condition = bindings.get(0).condition(args, converters);
+        } else if (!bindings.isEmpty()) {
+            CriteriaCondition[] conditions = new CriteriaCondition[bindings.size()];
+            for (int index = 0; index < conditions.length; index++) {
+                conditions[index] = bindings.get(index).condition(args, converters);
+            }
+            condition = CriteriaCondition.and(conditions);
+        }
+        return new MappingQuery(sorts, 0L, 0L, condition, entity);
+    }
+
+    /**
+     * Compiles the method to a {@link ParameterBasedQueryTemplate}
+     *
+     * @param method         the repository method
+     * @param entityMetadata the entity metadata
+     * @return the {@link ParameterBasedQueryTemplate} instance
+     * @throws NullPointerException when there is null parameters
+     */
+    static ParameterBasedQueryTemplate of(Method method, EntityMetadata entityMetadata) {
+        Objects.requireNonNull(method, "method is required");
+        Objects.requireNonNull(entityMetadata, "entityMetadata is required");
+        List<Binding> bindings = new ArrayList<>();
+        Parameter[] parameters = method.getParameters();
+        for (int index = 0; index < parameters.length; index++) {
+            By by = parameters[index].getAnnotation(By.class);
+            if (by != null) {
+                bindings.add(Binding.of(index, by.value(), entityMetadata));
+            }
+        }
+        List<Sort<?>> sorts = new ArrayList<>();
+        for (OrderBy order : method.getAnnotationsByType(OrderBy.class)) {
+            String name = name(order.value(), entityMetadata);
+            sorts.add(order.descending() ? Sort.desc(name) : Sort.asc(name));
+        }
+        return new ParameterBasedQueryTemplate(entityMetadata.name(), List.copyOf(bindings), List.copyOf(sorts));
+    }
+
+    private static String name(String attribute, EntityMetadata entityMetadata) {
+        return entityMetadata.fieldMapping(attribute)
+                .map(FieldMetadata::name)
+                .orElse(attribute);
+    }
+
+    private record Binding(int index, String name, FieldMetadata field) {
+
+        CriteriaCondition condition(Object[] args, Converters converters) {
+            Object value = args[index];
+            if (field != null) {
+                value = getValue(value, converters, field);
+            }
+            return CriteriaCondition.eq(name, value);
+        }
+
+        static Binding of(int index, String attribute, EntityMetadata entityMetadata) {
+            FieldMetadata field = entityMetadata.fieldMapping(attribute).orElse(null);
+            String name = field == null ? attribute : field.name();
+            return new Binding(index, name, field);
+        }
+    }
+}
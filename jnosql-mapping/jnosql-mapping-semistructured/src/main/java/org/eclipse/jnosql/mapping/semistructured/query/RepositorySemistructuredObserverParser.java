@@ -16,9 +16,11 @@ package org.eclipse.jnosql.mapping.semistructured.query;
 
 import org.eclipse.jnosql.communication.semistructured.CommunicationObserverParser;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.core.repository.RepositoryObserverParser;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * The {@link CommunicationObserverParser} to {@link RepositoryObserverParser}
@@ -27,8 +29,11 @@ public final class RepositorySemistructuredObserverParser implements Communicati
 
     private final RepositoryObserverParser parser;
 
+    private final EntityMetadata entityMetadata;
+
     RepositorySemistructuredObserverParser(EntityMetadata entityMetadata) {
         this.parser = RepositoryObserverParser.of(entityMetadata);
+        this.entityMetadata = entityMetadata;
     }
 
     @Override
@@ -41,6 +46,11 @@ public final class RepositorySemistructuredObserverParser implements Communicati
         return parser.field(field);
     }
 
+    @Override
+    public Optional<String> fireKey(String entity) {
+        return entityMetadata.id().map(FieldMetadata::name);
+    }
+
     /**
      * @return RepositoryColumnObserverParser
      * throws NullPointerException if entityMetadata is null
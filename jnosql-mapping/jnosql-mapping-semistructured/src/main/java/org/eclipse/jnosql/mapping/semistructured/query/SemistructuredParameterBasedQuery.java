@@ -50,7 +50,23 @@ public enum SemistructuredParameterBasedQuery {
     public org.eclipse.jnosql.communication.semistructured.SelectQuery toQuery(Map<String, Object> params,
                                                                                List<Sort<?>> sorts,
                                                                                EntityMetadata entityMetadata) {
-        var convert = CDI.current().select(Converters.class).get();
+        return toQuery(params, sorts, entityMetadata, CDI.current().select(Converters.class).get());
+    }
+
+    /**
+     * Constructs a ColumnQuery based on the provided parameters, PageRequest information, and entity metadata
+     * using the given converters instead of looking them up at CDI.
+     *
+     * @param params          The map of parameters used for filtering columns.
+     * @param sorts           The sorts to be applied.
+     * @param entityMetadata  Metadata describing the structure of the entity.
+     * @param convert         The converters
+     * @return                 A ColumnQuery instance tailored for the specified entity.
+     */
+    public org.eclipse.jnosql.communication.semistructured.SelectQuery toQuery(Map<String, Object> params,
+                                                                               List<Sort<?>> sorts,
+                                                                               EntityMetadata entityMetadata,
+                                                                               Converters convert) {
         List<CriteriaCondition> conditions = new ArrayList<>();
         for (Map.Entry<String, Object> entry : params.entrySet()) {
             conditions.add(condition(convert, entityMetadata, entry));
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import jakarta.data.page.impl.CursoredPageRecord;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CursorPrefetchTest {
+
+    private static final SelectQuery QUERY = SelectQuery.select().from("Person").orderBy("name").asc().build();
+
+    private static final PageRequest<?> FIRST = PageRequest.ofSize(1);
+
+    private static final PageRequest<CommunicationEntity> SECOND = PageRequest.<CommunicationEntity>ofSize(1)
+            .afterCursor(PageRequest.Cursor.forKey("Ada"));
+
+    private static final PageRequest<CommunicationEntity> THIRD = PageRequest.<CommunicationEntity>ofSize(1)
+            .afterCursor(PageRequest.Cursor.forKey("Otavio"));
+
+    private DatabaseManager manager;
+
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        this.manager = Mockito.mock(DatabaseManager.class);
+        this.clock = new AtomicLong();
+        when(manager.selectCursor(QUERY, FIRST)).thenReturn(page("Ada", SECOND));
+        when(manager.selectCursor(QUERY, SECOND)).thenReturn(page("Otavio", THIRD));
+        when(manager.selectCursor(QUERY, THIRD)).thenReturn(page("Poliana", null));
+    }
+
+    @Test
+    void shouldPrefetchNextPage() {
+        var prefetch = new CursorPrefetch(10, Duration.ofSeconds(30), Runnable::run, clock::get);
+
+        var first = prefetch.select(manager, QUERY, FIRST);
+        assertThat(prefetch.size()).isEqualTo(1);
+        verify(manager).selectCursor(QUERY, SECOND);
+
+        var second = prefetch.select(manager, QUERY, first.nextPageRequest());
+        verify(manager, times(1)).selectCursor(QUERY, SECOND);
+        assertThat(second.content()).extracting(CommunicationEntity::name).containsExactly("Otavio");
+
+        var third = prefetch.select(manager, QUERY, PageRequest.ofSize(1).afterKey("Otavio"));
+        verify(manager, times(1)).selectCursor(QUERY, THIRD);
+        assertThat(third.hasNext()).isFalse();
+        assertThat(prefetch.size()).isZero();
+    }
+
+    @Test
+    void shouldNotUseExpiredPage() {
+        var prefetch = new CursorPrefetch(10, Duration.ofSeconds(30), Runnable::run, clock::get);
+
+        var first = prefetch.select(manager, QUERY, FIRST);
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        prefetch.select(manager, QUERY, first.nextPageRequest());
+
+        verify(manager, times(2)).selectCursor(QUERY, SECOND);
+    }
+
+    @Test
+    void shouldRespectMemoryBound() {
+        var prefetch = new CursorPrefetch(1, Duration.ofSeconds(30), Runnable::run, clock::get);
+        SelectQuery other = SelectQuery.select().from("Person").orderBy("age").asc().build();
+        when(manager.selectCursor(other, FIRST)).thenReturn(page("Ada", SECOND));
+
+        prefetch.select(manager, QUERY, FIRST);
+        prefetch.select(manager, other, FIRST);
+
+        assertThat(prefetch.size()).isEqualTo(1);
+        verify(manager, never()).selectCursor(other, SECOND);
+    }
+
+    @Test
+    void shouldSkipWhenExecutorIsBusy() {
+        var prefetch = new CursorPrefetch(10, Duration.ofSeconds(30), runnable -> {
+            throw new RejectedExecutionException("busy");
+        }, clock::get);
+
+        var first = prefetch.select(manager, QUERY, FIRST);
+        assertThat(prefetch.size()).isZero();
+        prefetch.select(manager, QUERY, first.nextPageRequest());
+        verify(manager, times(1)).selectCursor(QUERY, SECOND);
+    }
+
+    @Test
+    void shouldReadAgainWhenPrefetchFails() {
+        var prefetch = new CursorPrefetch(10, Duration.ofSeconds(30), Runnable::run, clock::get);
+        when(manager.selectCursor(QUERY, SECOND)).thenThrow(new IllegalStateException("timeout"))
+                .thenReturn(page("Otavio", null));
+
+        var first = prefetch.select(manager, QUERY, FIRST);
+        var second = prefetch.select(manager, QUERY, first.nextPageRequest());
+
+        assertThat(second.content()).extracting(CommunicationEntity::name).containsExactly("Otavio");
+        verify(manager, times(2)).selectCursor(QUERY, SECOND);
+    }
+
+    @Test
+    void shouldNotPrefetchWhenItIsDisabled() {
+        var prefetch = new CursorPrefetch(0, Duration.ZERO, Runnable::run, clock::get);
+        prefetch.select(manager, QUERY, FIRST);
+        verify(manager, never()).selectCursor(QUERY, SECOND);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CursoredPage<CommunicationEntity> page(String name, PageRequest<CommunicationEntity> next) {
+        var entity = CommunicationEntity.of(name);
+        entity.add("name", name);
+        return new CursoredPageRecord<>(List.of(entity), List.of(PageRequest.Cursor.forKey(name)), -1,
+                (PageRequest<CommunicationEntity>) FIRST, next, null);
+    }
+}
@@ -22,12 +22,16 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.mapping.PreparedStatement;
 import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Aggregate;
+import org.eclipse.jnosql.communication.semistructured.AggregateQuery;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.ElementChange;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
 import org.eclipse.jnosql.mapping.semistructured.entities.Job;
@@ -48,10 +52,12 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.jnosql.communication.semistructured.DeleteQuery.delete;
 import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
 import static org.junit.jupiter.api.Assertions.*;
@@ -415,6 +421,60 @@ class DefaultColumnTemplateTest {
         assertEquals("Person", query.name());
     }
 
+    @Test
+    void shouldExecuteAggregateQuery() {
+        CommunicationEntity group = CommunicationEntity.of("Person");
+        group.add("count(*)", 4L);
+        Mockito.when(managerMock.aggregate(any(AggregateQuery.class))).thenReturn(Stream.of(group));
+
+        List<Object> result = template.query("select count(*) from Person where age > 10").toList();
+
+        assertThat(result).containsExactly(4L);
+        var queryCaptor = ArgumentCaptor.forClass(AggregateQuery.class);
+        verify(managerMock).aggregate(queryCaptor.capture());
+        assertThat(queryCaptor.getValue().aggregates()).containsExactly(Aggregate.count());
+        verify(managerMock, Mockito.never()).select(any());
+    }
+
+    @Test
+    void shouldAggregate() {
+        CommunicationEntity group = CommunicationEntity.of("Person");
+        group.add("city", "London");
+        group.add("count(*)", 4L);
+        Mockito.when(managerMock.aggregate(any(AggregateQuery.class))).thenReturn(Stream.of(group));
+
+        AggregateQuery query = new AggregateQuery(SelectQuery.select().from("Person").build(), List.of("city"),
+                List.of(Aggregate.count()));
+
+        assertThat(template.aggregate(query).toList()).containsExactly(Map.of("city", "London", "count(*)", 4L));
+    }
+
+    @Test
+    void shouldExecuteUpdateQuery() {
+        Mockito.when(managerMock.update(any(UpdateQuery.class))).thenReturn(3L);
+
+        List<Object> result = template.query("update Person set age += 1 where name = \"Ada\"").toList();
+
+        assertThat(result).containsExactly(3L);
+        var queryCaptor = ArgumentCaptor.forClass(UpdateQuery.class);
+        verify(managerMock).update(queryCaptor.capture());
+        assertThat(queryCaptor.getValue().changes()).containsExactly(ElementChange.increment("age", 1L));
+        verify(managerMock, Mockito.never()).select(any());
+    }
+
+    @Test
+    void shouldUpdateByCondition() {
+        UpdateQuery query = UpdateQuery.builder("Person").set("name", "Ada")
+                .where(CriteriaCondition.eq(Element.of("age", 10))).build();
+        Mockito.when(managerMock.update(any(UpdateQuery.class))).thenReturn(2L);
+
+        assertThat(template.update(query)).isEqualTo(2L);
+        var queryCaptor = ArgumentCaptor.forClass(UpdateQuery.class);
+        verify(managerMock).update(queryCaptor.capture());
+        assertThat(queryCaptor.getValue().key()).contains("_id");
+        assertThat(queryCaptor.getValue().changes()).isEqualTo(query.changes());
+    }
+
     @Test
     void shouldCount() {
         template.count("Person");
@@ -0,0 +1,208 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EntityCacheManagerTest {
+
+    private static final SelectQuery BY_ID = SelectQuery.select().from("Product").where("_id").eq("sku-1").build();
+
+    private DatabaseManager manager;
+
+    private AtomicLong clock;
+
+    private LocalEntityCache local;
+
+    private EntityCacheManager cache;
+
+    @BeforeEach
+    void setUp() {
+        this.manager = Mockito.mock(DatabaseManager.class);
+        this.clock = new AtomicLong();
+        this.local = new LocalEntityCache(10, clock::get);
+        this.cache = new EntityCacheManager(manager, local, this::policy);
+        when(manager.singleResult(any(SelectQuery.class))).thenAnswer(invocation -> Optional.of(product("sku-1", "Pen")));
+        when(manager.update(any(CommunicationEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void shouldCacheById() {
+        assertThat(cache.find(BY_ID, "sku-1")).isPresent();
+        assertThat(cache.find(BY_ID, "sku-1")).get().isEqualTo(product("sku-1", "Pen"));
+        verify(manager, times(1)).singleResult(BY_ID);
+        EntityCacheStatistics statistics = cache.statistics();
+        assertThat(statistics.hits()).isEqualTo(1L);
+        assertThat(statistics.misses()).isEqualTo(1L);
+        assertThat(statistics.size()).isEqualTo(1L);
+        assertThat(statistics.hitRatio()).isEqualTo(0.5D);
+    }
+
+    @Test
+    void shouldNotCacheEntityWithoutCacheable() {
+        SelectQuery query = SelectQuery.select().from("Person").where("_id").eq(1L).build();
+        assertThat(cache.cacheable("Person")).isFalse();
+        cache.find(query, 1L);
+        cache.find(query, 1L);
+        verify(manager, times(2)).singleResult(query);
+        assertThat(local.size()).isZero();
+    }
+
+    @Test
+    void shouldNotCacheMissingEntity() {
+        when(manager.singleResult(BY_ID)).thenReturn(Optional.empty());
+        assertThat(cache.find(BY_ID, "sku-1")).isEmpty();
+        assertThat(local.size()).isZero();
+    }
+
+    @Test
+    void shouldExpire() {
+        cache.find(BY_ID, "sku-1");
+        clock.addAndGet(Duration.ofSeconds(61).toNanos());
+        cache.find(BY_ID, "sku-1");
+        verify(manager, times(2)).singleResult(BY_ID);
+        assertThat(cache.statistics().evictions()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldWriteThrough() {
+        cache.writeThrough(product("sku-1", "Pencil"), cache::update);
+        assertThat(cache.find(BY_ID, "sku-1")).get().isEqualTo(product("sku-1", "Pencil"));
+        verify(manager, never()).singleResult(any(SelectQuery.class));
+    }
+
+    @Test
+    void shouldNotWriteThroughDuringAnotherWrite() {
+        CommunicationEntity written = cache.writeThrough(product("sku-1", "Pen"), entity -> {
+            CommunicationEntity result = cache.update(entity);
+            cache.update(product("sku-1", "Pencil"));
+            return result;
+        });
+        assertThat(written).isEqualTo(product("sku-1", "Pen"));
+        assertThat(local.size()).isZero();
+        cache.writeThrough(product("sku-1", "Pencil"), cache::update);
+        assertThat(cache.find(BY_ID, "sku-1")).get().isEqualTo(product("sku-1", "Pencil"));
+    }
+
+    @Test
+    void shouldNotWriteThroughWithoutEviction() {
+        cache.writeThrough(product("sku-1", "Pen"), entity -> entity);
+        assertThat(local.size()).isZero();
+    }
+
+    @Test
+    void shouldEvictOnUpdate() {
+        cache.find(BY_ID, "sku-1");
+        cache.update(List.of(product("sku-1", "Pencil")));
+        assertThat(local.size()).isZero();
+    }
+
+    @Test
+    void shouldEvictOnInsert() {
+        cache.find(BY_ID, "sku-1");
+        cache.insert(product("sku-1", "Pencil"), Duration.ofSeconds(1));
+        assertThat(local.size()).isZero();
+    }
+
+    @Test
+    void shouldEvictOnDeleteById() {
+        cache.writeThrough(product("sku-1", "Pen"), cache::update);
+        cache.writeThrough(product("sku-2", "Pencil"), cache::update);
+        cache.delete(DeleteQuery.delete().from("Product").where("_id").eq("sku-1").build());
+        assertThat(local.size()).isEqualTo(1);
+        verify(manager).delete(any(DeleteQuery.class));
+    }
+
+    @Test
+    void shouldClearOnDeleteByOtherCondition() {
+        cache.writeThrough(product("sku-1", "Pen"), cache::update);
+        cache.writeThrough(product("sku-2", "Pencil"), cache::update);
+        cache.delete(DeleteQuery.delete().from("Product").where("name").eq("Pen").build());
+        assertThat(local.size()).isZero();
+    }
+
+    @Test
+    void shouldNotKeepEntityReadDuringWrite() {
+        when(manager.singleResult(BY_ID)).thenAnswer(invocation -> {
+            cache.update(product("sku-1", "Pencil"));
+            return Optional.of(product("sku-1", "Pen"));
+        });
+        assertThat(cache.find(BY_ID, "sku-1")).isPresent();
+        assertThat(local.size()).isZero();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        var bounded = new LocalEntityCache(1, clock::get);
+        bounded.put("Product", "sku-1", product("sku-1", "Pen"), Duration.ofSeconds(10));
+        bounded.put("Product", "sku-2", product("sku-2", "Pencil"), Duration.ofSeconds(10));
+        assertThat(bounded.get("Product", "sku-1")).isEmpty();
+        assertThat(bounded.get("Product", "sku-2")).isPresent();
+        assertThat(bounded.statistics().evictions()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldUseNearCache() {
+        var remote = new LocalEntityCache(10, clock::get);
+        var near = new NearEntityCache(local, remote, Duration.ofSeconds(5));
+        remote.put("Product", "sku-1", product("sku-1", "Pen"), Duration.ofSeconds(60));
+        assertThat(near.get("Product", "sku-1")).isPresent();
+        assertThat(local.size()).isEqualTo(1);
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertThat(near.get("Product", "sku-1")).isPresent();
+        near.evict("Product", "sku-1");
+        assertThat(near.get("Product", "sku-1")).isEmpty();
+        assertThat(remote.size()).isZero();
+        EntityCacheStatistics statistics = near.statistics();
+        assertThat(statistics.hits()).isEqualTo(2L);
+        assertThat(statistics.misses()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldReturnManagerWhenItIsDisabled() {
+        assertThat(EntityCacheManager.of(manager, Mockito.mock(EntitiesMetadata.class))).isSameAs(manager);
+    }
+
+    private Optional<EntityCacheManager.Policy> policy(String name) {
+        return "Product".equals(name) ? Optional.of(new EntityCacheManager.Policy("_id", Duration.ofSeconds(60)))
+                : Optional.empty();
+    }
+
+    private static CommunicationEntity product(String sku, String name) {
+        var entity = CommunicationEntity.of("Product");
+        entity.add("_id", sku);
+        entity.add("name", name);
+        return entity;
+    }
+}
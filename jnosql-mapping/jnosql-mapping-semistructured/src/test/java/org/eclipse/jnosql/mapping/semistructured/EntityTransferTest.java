@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class})
+class EntityTransferTest {
+
+    private static final String LINES = """
+            {"_id":1,"name":"Ada","age":36}
+            {"_id":2,"name":"Grace","age":40}
+
+            {"_id":3,"name":"Margaret","age":33}
+            {"_id":4,"name":"Katherine","age":50}
+            {"_id":5,"name":"Mary","age":45}
+            """;
+
+    @Inject
+    private EntityConverter converter;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    @TempDir
+    private Path directory;
+
+    private DatabaseManager manager;
+
+    private DefaultSemistructuredTemplate template;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        manager = Mockito.mock(DatabaseManager.class);
+        Instance<DatabaseManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        this.template = new DefaultSemistructuredTemplate(converter, instance,
+                Mockito.mock(EventPersistManager.class), entities, converters);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldImportInChunks() {
+        List<TransferProgress> progress = new ArrayList<>();
+        TransferProgress result = template.transfer().chunkSize(2).progress(progress::add)
+                .importFrom(input(LINES), "Person");
+
+        ArgumentCaptor<Iterable<CommunicationEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(manager, times(3)).insert(captor.capture());
+        assertThat(captor.getAllValues()).extracting(chunk -> ((List<?>) chunk).size()).containsExactly(2, 2, 1);
+        assertThat(result.lines()).isEqualTo(6L);
+        assertThat(result.entities()).isEqualTo(5L);
+        assertThat(progress).extracting(TransferProgress::lines).containsExactly(2L, 5L, 6L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldImportThroughEntityMapping() {
+        template.transfer().importFrom(input(LINES), Person.class);
+
+        ArgumentCaptor<Iterable<CommunicationEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(manager).insert(captor.capture());
+        List<CommunicationEntity> chunk = (List<CommunicationEntity>) captor.getValue();
+        assertThat(chunk).hasSize(5);
+        CommunicationEntity ada = chunk.get(0);
+        assertThat(ada.name()).isEqualTo("Person");
+        assertThat(ada.find("_id").orElseThrow().get()).isEqualTo(1L);
+        assertThat(ada.find("age").orElseThrow().get()).isEqualTo(36);
+        assertThat(ada.find("name", String.class)).contains("Ada");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldResumeImport() {
+        TransferProgress result = template.transfer().skip(3).importFrom(input(LINES), "Person");
+
+        ArgumentCaptor<Iterable<CommunicationEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(manager).insert(captor.capture());
+        List<CommunicationEntity> chunk = (List<CommunicationEntity>) captor.getValue();
+        assertThat(chunk).extracting(e -> e.find("name", String.class).orElseThrow())
+                .containsExactly("Margaret", "Katherine", "Mary");
+        assertThat(result.entities()).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldReturnErrorWithLineNumber() {
+        assertThatThrownBy(() -> template.transfer().importFrom(input("{\"name\":\"Ada\"}\n{\"name\""), "Person"))
+                .isInstanceOf(CommunicationException.class)
+                .hasMessageContaining("line 2");
+    }
+
+    @Test
+    void shouldExport() {
+        when(manager.select(any(SelectQuery.class))).thenReturn(Stream.of(person(1L, "Ada"), person(2L, "Grace")));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        TransferProgress result = template.transfer().exportTo(output, Person.class);
+
+        String json = output.toString(StandardCharsets.UTF_8);
+        assertThat(json).endsWith("\n");
+        List<String> lines = json.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"_id\":1", "\"name\":\"Ada\"");
+        assertThat(lines.get(1)).contains("\"_id\":2", "\"name\":\"Grace\"");
+        assertThat(result.entities()).isEqualTo(2L);
+        assertThat(result.lines()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldResumeExport() {
+        when(manager.select(any(SelectQuery.class))).thenReturn(Stream.of(person(3L, "Mary")));
+        SelectQuery query = SelectQuery.select().from("Person").limit(10).build();
+
+        TransferProgress result = template.transfer().skip(2).exportTo(new ByteArrayOutputStream(), query);
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(manager).select(captor.capture());
+        assertThat(captor.getValue().skip()).isEqualTo(2L);
+        assertThat(captor.getValue().limit()).isEqualTo(8L);
+        assertThat(captor.getValue().name()).isEqualTo("Person");
+        assertThat(result.lines()).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldRoundTripFile() throws IOException {
+        Path file = directory.resolve("people.ndjson");
+        when(manager.select(any(SelectQuery.class))).thenReturn(Stream.of(person(1L, "Ada"), person(2L, "Grace")));
+
+        template.transfer().exportTo(file, Person.class);
+        assertThat(Files.readAllLines(file)).hasSize(2);
+
+        TransferProgress result = template.transfer().importFrom(file, Person.class);
+        assertThat(result.entities()).isEqualTo(2L);
+        verify(manager).insert(any(Iterable.class));
+    }
+
+    @Test
+    void shouldReturnErrorWhenOptionIsInvalid() {
+        EntityTransfer transfer = template.transfer();
+        assertThatThrownBy(() -> transfer.chunkSize(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> transfer.skip(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> transfer.progress(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    private static InputStream input(String lines) {
+        return new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static CommunicationEntity person(long id, String name) {
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        entity.add("_id", id);
+        entity.add("name", name);
+        return entity;
+    }
+}
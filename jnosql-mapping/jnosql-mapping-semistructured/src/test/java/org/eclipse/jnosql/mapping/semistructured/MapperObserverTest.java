@@ -30,6 +30,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
+
 
 @EnableAutoWeld
 @AddPackages(value = {Converters.class, EntityConverter.class})
@@ -90,4 +92,10 @@ class MapperObserverTest {
         Assertions.assertEquals("_id", field);
     }
 
+    @Test
+    void shouldFireKey(){
+        Assertions.assertEquals(Optional.of("_id"), parser.fireKey("vendors"));
+        Assertions.assertEquals(Optional.empty(), parser.fireKey("Unknown"));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,239 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QueryCacheManagerTest {
+
+    private static final SelectQuery COUNTRIES = SelectQuery.select().from("Country").orderBy("name").asc().build();
+
+    private static final SelectQuery BRAZIL = SelectQuery.select().from("Country").where("code").eq("BR").build();
+
+    private DatabaseManager manager;
+
+    private AtomicLong clock;
+
+    private QueryCacheManager cache;
+
+    @BeforeEach
+    void setUp() {
+        this.manager = Mockito.mock(DatabaseManager.class);
+        this.clock = new AtomicLong();
+        this.cache = new QueryCacheManager(manager, this::ttl, 10, 1024 * 1024, clock::get);
+        when(manager.select(any(SelectQuery.class))).thenAnswer(invocation -> Stream.of(country("BR", "Brazil")));
+    }
+
+    @Test
+    void shouldCacheResult() {
+        assertThat(cache.select(COUNTRIES).map(e -> e.find("code").orElseThrow().get())).containsExactly("BR");
+        assertThat(cache.select(SelectQuery.select().from("Country").orderBy("name").asc().build())).hasSize(1);
+        verify(manager, times(1)).select(COUNTRIES);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.bytes()).isPositive();
+    }
+
+    @Test
+    void shouldNotShareCachedEntities() {
+        CommunicationEntity first = cache.select(COUNTRIES).findFirst().orElseThrow();
+        first.add("name", "Changed");
+        CommunicationEntity second = cache.select(COUNTRIES).findFirst().orElseThrow();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.find("name").orElseThrow().get()).isEqualTo("Brazil");
+        assertThat(cache.select(COUNTRIES).findFirst().orElseThrow()).isNotSameAs(second);
+    }
+
+    @Test
+    void shouldKeepResultPerQuery() {
+        cache.select(COUNTRIES).toList();
+        cache.select(BRAZIL).toList();
+        cache.select(BRAZIL).toList();
+        verify(manager, times(1)).select(COUNTRIES);
+        verify(manager, times(1)).select(BRAZIL);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCacheEntityWithoutQueryCache() {
+        SelectQuery query = SelectQuery.select().from("Person").build();
+        cache.select(query).toList();
+        cache.select(query).toList();
+        verify(manager, times(2)).select(query);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldExpireResult() {
+        cache.select(COUNTRIES).toList();
+        clock.addAndGet(Duration.ofSeconds(61).toNanos());
+        cache.select(COUNTRIES).toList();
+        verify(manager, times(2)).select(COUNTRIES);
+    }
+
+    @Test
+    void shouldInvalidateOnInsert() {
+        cache.select(COUNTRIES).toList();
+        cache.insert(country("AR", "Argentina"));
+        assertThat(cache.size()).isZero();
+        cache.select(COUNTRIES).toList();
+        verify(manager, times(2)).select(COUNTRIES);
+    }
+
+    @Test
+    void shouldInvalidateOnUpdate() {
+        cache.select(COUNTRIES).toList();
+        cache.update(List.of(country("BR", "Brasil")));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldInvalidateOnDelete() {
+        cache.select(COUNTRIES).toList();
+        cache.delete(DeleteQuery.delete().from("Country").where("code").eq("BR").build());
+        assertThat(cache.size()).isZero();
+        verify(manager).delete(any(DeleteQuery.class));
+    }
+
+    @Test
+    void shouldNotInvalidateOtherEntity() {
+        cache.select(COUNTRIES).toList();
+        var person = CommunicationEntity.of("Person");
+        person.add("name", "Ada");
+        cache.insert(person);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotKeepResultReadDuringWrite() {
+        when(manager.select(BRAZIL)).thenAnswer(invocation -> {
+            cache.insert(country("AR", "Argentina"));
+            return Stream.of(country("BR", "Brazil"));
+        });
+        assertThat(cache.select(BRAZIL)).hasSize(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        var bounded = new QueryCacheManager(manager, this::ttl, 1, 1024 * 1024, clock::get);
+        bounded.select(COUNTRIES).toList();
+        bounded.select(BRAZIL).toList();
+        bounded.select(BRAZIL).toList();
+        bounded.select(COUNTRIES).toList();
+        verify(manager, times(2)).select(COUNTRIES);
+        verify(manager, times(1)).select(BRAZIL);
+        assertThat(bounded.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotKeepResultLargerThanBound() {
+        var bounded = new QueryCacheManager(manager, this::ttl, 10, 8, clock::get);
+        bounded.select(COUNTRIES).toList();
+        assertThat(bounded.size()).isZero();
+        assertThat(bounded.bytes()).isZero();
+    }
+
+    @Test
+    void shouldStreamTheRestOfResultLargerThanBound() {
+        var bounded = new QueryCacheManager(manager, this::ttl, 10, 512, clock::get);
+        AtomicInteger read = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(manager.select(COUNTRIES)).thenReturn(IntStream.range(0, 100)
+                .mapToObj(index -> country("C" + index, "Country " + index))
+                .peek(entity -> read.incrementAndGet())
+                .onClose(() -> closed.set(true)));
+
+        try (Stream<CommunicationEntity> entities = bounded.select(COUNTRIES)) {
+            assertThat(read.get()).isLessThan(100);
+            assertThat(entities).hasSize(100);
+        }
+        assertThat(closed).isTrue();
+        assertThat(bounded.size()).isZero();
+    }
+
+    @Test
+    void shouldCloseSourceOfCachedResult() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(manager.select(COUNTRIES)).thenReturn(Stream.of(country("BR", "Brazil")).onClose(() -> closed.set(true)));
+
+        assertThat(cache.select(COUNTRIES)).hasSize(1);
+        assertThat(closed).isTrue();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldInvalidateOnlyEntriesOfEntity() {
+        SelectQuery cities = SelectQuery.select().from("City").build();
+        var both = new QueryCacheManager(manager, name -> Optional.of(Duration.ofSeconds(60)), 10, 1024 * 1024,
+                clock::get);
+        both.select(COUNTRIES).toList();
+        both.select(BRAZIL).toList();
+        both.select(cities).toList();
+
+        both.invalidate("Country");
+        assertThat(both.size()).isEqualTo(1);
+        both.select(cities).toList();
+        verify(manager, times(1)).select(cities);
+        both.invalidate("City");
+        assertThat(both.size()).isZero();
+        assertThat(both.bytes()).isZero();
+    }
+
+    @Test
+    void shouldReturnManagerWhenItIsDisabled() {
+        assertThat(QueryCacheManager.of(manager, Mockito.mock(EntitiesMetadata.class))).isSameAs(manager);
+    }
+
+    @Test
+    void shouldWeigh() {
+        long one = QueryCacheManager.weigh(List.of(country("BR", "Brazil")));
+        long two = QueryCacheManager.weigh(List.of(country("BR", "Brazil"), country("AR", "Argentina")));
+        assertThat(two).isGreaterThan(one);
+    }
+
+    private Optional<Duration> ttl(String name) {
+        return "Country".equals(name) ? Optional.of(Duration.ofSeconds(60)) : Optional.empty();
+    }
+
+    private static CommunicationEntity country(String code, String name) {
+        var entity = CommunicationEntity.of("Country");
+        entity.add("code", code);
+        entity.add("name", name);
+        return entity;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.exceptions.NonUniqueResultException;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.util.SingleFlight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SingleFlightManagerTest {
+
+    private static final SelectQuery BY_ID = SelectQuery.select().from("Person").where("_id").eq(1L).build();
+
+    private DatabaseManager manager;
+
+    private SingleFlightManager flight;
+
+    @BeforeEach
+    void setUp() {
+        this.manager = Mockito.mock(DatabaseManager.class);
+        this.flight = new SingleFlightManager(manager, SingleFlight.of(true));
+    }
+
+    @Test
+    void shouldShareInFlightQuery() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        when(manager.select(any(SelectQuery.class))).thenAnswer(invocation -> {
+            latch.await(5, TimeUnit.SECONDS);
+            return Stream.of(person());
+        });
+        CompletableFuture<Optional<CommunicationEntity>> first = CompletableFuture.supplyAsync(() ->
+                flight.singleResult(BY_ID));
+        waitUntil(() -> flight.statistics().executions() == 1L);
+        CompletableFuture<Optional<CommunicationEntity>> second = CompletableFuture.supplyAsync(() ->
+                flight.singleResult(SelectQuery.select().from("Person").where("_id").eq(1L).build()));
+        waitUntil(() -> flight.statistics().coalesced() == 1L);
+        latch.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).contains(person());
+        assertThat(second.get(5, TimeUnit.SECONDS)).contains(person());
+        verify(manager, times(1)).select(any(SelectQuery.class));
+    }
+
+    @Test
+    void shouldNotShareFinishedQuery() {
+        when(manager.select(any(SelectQuery.class))).thenAnswer(invocation -> Stream.of(person()));
+        flight.singleResult(BY_ID);
+        flight.singleResult(BY_ID);
+        verify(manager, times(2)).select(BY_ID);
+        assertThat(flight.statistics().coalesced()).isZero();
+    }
+
+    @Test
+    void shouldDetachInFlightQueryOnWrite() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        when(manager.select(any(SelectQuery.class))).thenAnswer(invocation -> {
+            latch.await(5, TimeUnit.SECONDS);
+            return Stream.of(person());
+        });
+        CompletableFuture<Optional<CommunicationEntity>> first = CompletableFuture.supplyAsync(() ->
+                flight.singleResult(BY_ID));
+        waitUntil(() -> flight.statistics().executions() == 1L);
+        flight.update(person());
+        CompletableFuture<Optional<CommunicationEntity>> second = CompletableFuture.supplyAsync(() ->
+                flight.singleResult(BY_ID));
+        waitUntil(() -> flight.statistics().executions() == 2L);
+        latch.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isPresent();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isPresent();
+        assertThat(flight.statistics().coalesced()).isZero();
+    }
+
+    @Test
+    void shouldStreamQueryWithoutLimit() {
+        when(manager.select(any(SelectQuery.class))).thenAnswer(invocation -> Stream.of(person()));
+        assertThat(flight.select(BY_ID)).containsExactly(person());
+        assertThat(flight.statistics().executions()).isZero();
+    }
+
+    @Test
+    void shouldShareQueryWithLimit() {
+        SelectQuery query = SelectQuery.select().from("Person").limit(10).build();
+        when(manager.select(any(SelectQuery.class))).thenAnswer(invocation -> Stream.of(person()));
+        assertThat(flight.select(query)).containsExactly(person());
+        assertThat(flight.statistics().executions()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldReturnErrorWhenSingleResultIsNotUnique() {
+        when(manager.select(any(SelectQuery.class))).thenAnswer(invocation -> Stream.of(person(), person()));
+        assertThatThrownBy(() -> flight.singleResult(BY_ID)).isInstanceOf(NonUniqueResultException.class);
+    }
+
+    @Test
+    void shouldReturnManagerWhenItIsDisabled() {
+        assertThat(SingleFlightManager.of(manager)).isSameAs(manager);
+    }
+
+    private static CommunicationEntity person() {
+        var entity = CommunicationEntity.of("Person");
+        entity.add("_id", 1L);
+        entity.add("name", "Ada");
+        return entity;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1L);
+        }
+    }
+}
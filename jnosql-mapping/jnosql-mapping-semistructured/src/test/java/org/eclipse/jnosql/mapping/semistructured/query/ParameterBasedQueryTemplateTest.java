@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured.query;
+
+import jakarta.data.Sort;
+import jakarta.data.repository.By;
+import jakarta.data.repository.Find;
+import jakarta.data.repository.OrderBy;
+import jakarta.inject.Inject;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+import org.eclipse.jnosql.mapping.semistructured.MockProducer;
+import org.eclipse.jnosql.mapping.semistructured.entities.Money;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.eclipse.jnosql.mapping.semistructured.entities.Worker;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class})
+class ParameterBasedQueryTemplateTest {
+
+    @Inject
+    private EntitiesMetadata entitiesMetadata;
+
+    @Inject
+    private Converters converters;
+
+    @Test
+    void shouldReturnErrorWhenParametersAreNull() throws NoSuchMethodException {
+        Method method = Queries.class.getDeclaredMethod("findAll");
+        var metadata = entitiesMetadata.get(Person.class);
+        assertThatThrownBy(() -> ParameterBasedQueryTemplate.of(null, metadata))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ParameterBasedQueryTemplate.of(method, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldCreateQueryWithoutCondition() throws NoSuchMethodException {
+        Method method = Queries.class.getDeclaredMethod("findAll");
+        var template = ParameterBasedQueryTemplate.of(method, entitiesMetadata.get(Person.class));
+        var query = template.apply(null, converters);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(query.name()).isEqualTo("Person");
+            soft.assertThat(query.condition()).isEmpty();
+            soft.assertThat(query.sorts()).isEmpty();
+            soft.assertThat(query.limit()).isZero();
+            soft.assertThat(query.skip()).isZero();
+        });
+    }
+
+    @Test
+    void shouldBindArguments() throws NoSuchMethodException {
+        Method method = Queries.class.getDeclaredMethod("find", String.class, int.class);
+        var template = ParameterBasedQueryTemplate.of(method, entitiesMetadata.get(Person.class));
+
+        var ada = template.apply(new Object[]{"Ada", 10}, converters);
+        var otavio = template.apply(new Object[]{"Otavio", 20}, converters);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ada.sorts()).containsExactly(Sort.desc("age"));
+            var condition = ada.condition().orElseThrow();
+            soft.assertThat(condition.condition()).isEqualTo(Condition.AND);
+            soft.assertThat(condition.element().get(new TypeReference<List<CriteriaCondition>>() {
+            })).containsExactly(CriteriaCondition.eq(Element.of("name", "Ada")),
+                    CriteriaCondition.eq(Element.of("age", 10)));
+            soft.assertThat(otavio.condition().orElseThrow().element().get(new TypeReference<List<CriteriaCondition>>() {
+            })).containsExactly(CriteriaCondition.eq(Element.of("name", "Otavio")),
+                    CriteriaCondition.eq(Element.of("age", 20)));
+        });
+    }
+
+    @Test
+    void shouldUseColumnNameAndConverter() throws NoSuchMethodException {
+        Method method = Queries.class.getDeclaredMethod("salary", Money.class);
+        var template = ParameterBasedQueryTemplate.of(method, entitiesMetadata.get(Worker.class));
+        Money money = new Money("USD", BigDecimal.TEN);
+
+        var query = template.apply(new Object[]{money}, converters);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(query.name()).isEqualTo("Worker");
+            soft.assertThat(query.sorts()).containsExactly(Sort.asc("money"));
+            soft.assertThat(query.condition()).contains(CriteriaCondition.eq(Element.of("money", money.toString())));
+        });
+    }
+
+    private interface Queries {
+
+        @Find
+        List<Person> findAll();
+
+        @Find
+        @OrderBy(value = "age", descending = true)
+        List<Person> find(@By("name") String name, @By("age") int age);
+
+        @Find
+        @OrderBy("salary")
+        List<Worker> salary(@By("salary") Money salary);
+    }
+}